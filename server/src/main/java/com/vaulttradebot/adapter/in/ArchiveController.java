@@ -0,0 +1,38 @@
+package com.vaulttradebot.adapter.in;
+
+import com.vaulttradebot.application.port.in.CandleArchiveUseCase;
+import com.vaulttradebot.application.query.CandleArchiveImportSnapshot;
+import com.vaulttradebot.domain.common.vo.Market;
+import com.vaulttradebot.domain.common.vo.Timeframe;
+import java.time.Instant;
+import java.util.Locale;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/archive")
+public class ArchiveController {
+    private final CandleArchiveUseCase candleArchiveUseCase;
+
+    public ArchiveController(CandleArchiveUseCase candleArchiveUseCase) {
+        this.candleArchiveUseCase = candleArchiveUseCase;
+    }
+
+    @PostMapping("/{market}/{timeframe}/import")
+    public CandleArchiveImportSnapshot importCandles(
+            @PathVariable String market,
+            @PathVariable String timeframe,
+            @RequestParam Instant from,
+            @RequestParam Instant to
+    ) {
+        return candleArchiveUseCase.importCandles(
+                Market.of(market),
+                Timeframe.valueOf(timeframe.toUpperCase(Locale.ROOT)),
+                from,
+                to
+        );
+    }
+}
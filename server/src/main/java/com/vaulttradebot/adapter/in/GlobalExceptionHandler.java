@@ -3,6 +3,7 @@ package com.vaulttradebot.adapter.in;
 import com.vaulttradebot.application.idempotency.IdempotencyConflictException;
 import com.vaulttradebot.config.ApiTimeSupport;
 import com.vaulttradebot.domain.ops.KillSwitchActiveException;
+import com.vaulttradebot.domain.resilience.BulkheadFullException;
 import com.vaulttradebot.domain.resilience.CircuitBreakerBypassException;
 import com.vaulttradebot.domain.resilience.CircuitBreakerOpenException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -42,6 +43,18 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<ErrorResponse> handleBulkheadFull(
+            BulkheadFullException exception,
+            HttpServletRequest request
+    ) {
+        return buildResponse(
+                ErrorCode.BULKHEAD_FULL,
+                exception.getMessage(),
+                request
+        );
+    }
+
     @ExceptionHandler(KillSwitchActiveException.class)
     public ResponseEntity<ErrorResponse> handleKillSwitchActive(
             KillSwitchActiveException exception,
@@ -1,22 +1,182 @@
 package com.vaulttradebot.adapter.in;
 
 import com.vaulttradebot.application.port.in.BotQueryUseCase;
+import com.vaulttradebot.application.port.in.BulkheadQueryUseCase;
+import com.vaulttradebot.application.port.in.CycleDeadlineQueryUseCase;
+import com.vaulttradebot.application.port.in.HedgingQueryUseCase;
+import com.vaulttradebot.application.port.in.CircuitBreakerQueryUseCase;
+import com.vaulttradebot.application.port.in.ExitTriggerQueryUseCase;
+import com.vaulttradebot.application.port.in.HttpTransportQueryUseCase;
+import com.vaulttradebot.application.port.in.MassCancelQueryUseCase;
+import com.vaulttradebot.application.port.in.OrderBookQueryUseCase;
+import com.vaulttradebot.application.port.in.OrderLatencyQueryUseCase;
+import com.vaulttradebot.application.port.in.OrderSyncQueryUseCase;
+import com.vaulttradebot.application.port.in.OutboxRelayQueryUseCase;
+import com.vaulttradebot.application.port.in.ShadowQueryUseCase;
+import com.vaulttradebot.application.port.in.TickerCacheQueryUseCase;
+import com.vaulttradebot.application.port.in.TradeTapeQueryUseCase;
+import com.vaulttradebot.application.query.CycleDeadlineSnapshot;
+import com.vaulttradebot.application.query.ExitTriggerSnapshot;
+import com.vaulttradebot.application.query.HttpTransportSnapshot;
+import com.vaulttradebot.application.query.MassCancelSnapshot;
 import com.vaulttradebot.application.query.MetricsSnapshot;
+import com.vaulttradebot.application.query.OrderBookFeedSnapshot;
+import com.vaulttradebot.application.query.OrderLatencySnapshot;
+import com.vaulttradebot.application.query.OrderLatencyTrace;
+import com.vaulttradebot.application.query.OrderSyncSnapshot;
+import com.vaulttradebot.application.query.OutboxRelaySnapshot;
+import com.vaulttradebot.application.query.ShadowLaneSnapshot;
+import com.vaulttradebot.application.query.TickerCacheSnapshot;
+import com.vaulttradebot.application.query.TradeTapeSnapshot;
+import com.vaulttradebot.application.shadow.ShadowSignalRecord;
+import com.vaulttradebot.domain.resilience.BulkheadSnapshot;
+import com.vaulttradebot.domain.resilience.CircuitBreakerMetrics;
+import com.vaulttradebot.domain.resilience.HedgeSnapshot;
+import java.util.List;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequestMapping("/api/metrics")
 public class MetricsController {
     private final BotQueryUseCase botQueryUseCase;
+    private final ShadowQueryUseCase shadowQueryUseCase;
+    private final TickerCacheQueryUseCase tickerCacheQueryUseCase;
+    private final HttpTransportQueryUseCase httpTransportQueryUseCase;
+    private final OrderBookQueryUseCase orderBookQueryUseCase;
+    private final TradeTapeQueryUseCase tradeTapeQueryUseCase;
+    private final ExitTriggerQueryUseCase exitTriggerQueryUseCase;
+    private final OutboxRelayQueryUseCase outboxRelayQueryUseCase;
+    private final MassCancelQueryUseCase massCancelQueryUseCase;
+    private final OrderSyncQueryUseCase orderSyncQueryUseCase;
+    private final OrderLatencyQueryUseCase orderLatencyQueryUseCase;
+    private final CircuitBreakerQueryUseCase circuitBreakerQueryUseCase;
+    private final BulkheadQueryUseCase bulkheadQueryUseCase;
+    private final HedgingQueryUseCase hedgingQueryUseCase;
+    private final CycleDeadlineQueryUseCase cycleDeadlineQueryUseCase;
 
-    public MetricsController(BotQueryUseCase botQueryUseCase) {
+    public MetricsController(
+            BotQueryUseCase botQueryUseCase,
+            ShadowQueryUseCase shadowQueryUseCase,
+            TickerCacheQueryUseCase tickerCacheQueryUseCase,
+            HttpTransportQueryUseCase httpTransportQueryUseCase,
+            OrderBookQueryUseCase orderBookQueryUseCase,
+            TradeTapeQueryUseCase tradeTapeQueryUseCase,
+            ExitTriggerQueryUseCase exitTriggerQueryUseCase,
+            OutboxRelayQueryUseCase outboxRelayQueryUseCase,
+            MassCancelQueryUseCase massCancelQueryUseCase,
+            OrderSyncQueryUseCase orderSyncQueryUseCase,
+            OrderLatencyQueryUseCase orderLatencyQueryUseCase,
+            CircuitBreakerQueryUseCase circuitBreakerQueryUseCase,
+            BulkheadQueryUseCase bulkheadQueryUseCase,
+            HedgingQueryUseCase hedgingQueryUseCase,
+            CycleDeadlineQueryUseCase cycleDeadlineQueryUseCase
+    ) {
         this.botQueryUseCase = botQueryUseCase;
+        this.shadowQueryUseCase = shadowQueryUseCase;
+        this.tickerCacheQueryUseCase = tickerCacheQueryUseCase;
+        this.httpTransportQueryUseCase = httpTransportQueryUseCase;
+        this.orderBookQueryUseCase = orderBookQueryUseCase;
+        this.tradeTapeQueryUseCase = tradeTapeQueryUseCase;
+        this.exitTriggerQueryUseCase = exitTriggerQueryUseCase;
+        this.outboxRelayQueryUseCase = outboxRelayQueryUseCase;
+        this.massCancelQueryUseCase = massCancelQueryUseCase;
+        this.orderSyncQueryUseCase = orderSyncQueryUseCase;
+        this.orderLatencyQueryUseCase = orderLatencyQueryUseCase;
+        this.circuitBreakerQueryUseCase = circuitBreakerQueryUseCase;
+        this.bulkheadQueryUseCase = bulkheadQueryUseCase;
+        this.hedgingQueryUseCase = hedgingQueryUseCase;
+        this.cycleDeadlineQueryUseCase = cycleDeadlineQueryUseCase;
     }
 
     @GetMapping
     public MetricsSnapshot metrics() {
         return botQueryUseCase.getMetrics();
     }
+
+    @GetMapping("/market-data/ticker-cache")
+    public TickerCacheSnapshot tickerCache() {
+        return tickerCacheQueryUseCase.tickerCache();
+    }
+
+    @GetMapping("/market-data/order-book")
+    public OrderBookFeedSnapshot orderBook() {
+        return orderBookQueryUseCase.orderBookFeed();
+    }
+
+    @GetMapping("/market-data/trade-tape")
+    public TradeTapeSnapshot tradeTape() {
+        return tradeTapeQueryUseCase.tradeTape();
+    }
+
+    @GetMapping("/exit-triggers")
+    public ExitTriggerSnapshot exitTriggers() {
+        return exitTriggerQueryUseCase.exitTriggers();
+    }
+
+    @GetMapping("/outbox")
+    public OutboxRelaySnapshot outboxRelay() {
+        return outboxRelayQueryUseCase.outboxRelay();
+    }
+
+    @GetMapping("/mass-cancel")
+    public MassCancelSnapshot massCancel() {
+        return massCancelQueryUseCase.massCancel();
+    }
+
+    @GetMapping("/order-sync")
+    public OrderSyncSnapshot orderSync() {
+        return orderSyncQueryUseCase.orderSync();
+    }
+
+    @GetMapping("/order-latency")
+    public OrderLatencySnapshot orderLatency() {
+        return orderLatencyQueryUseCase.orderLatency();
+    }
+
+    @GetMapping("/order-latency/slowest")
+    public List<OrderLatencyTrace> slowestOrders(@RequestParam(defaultValue = "20") int limit) {
+        return orderLatencyQueryUseCase.slowestOrders(limit);
+    }
+
+    @GetMapping("/circuit-breakers")
+    public List<CircuitBreakerMetrics> circuitBreakers() {
+        return circuitBreakerQueryUseCase.circuitBreakers();
+    }
+
+    @GetMapping("/bulkheads")
+    public List<BulkheadSnapshot> bulkheads() {
+        return bulkheadQueryUseCase.bulkheads();
+    }
+
+    @GetMapping("/hedging")
+    public HedgeSnapshot hedging() {
+        return hedgingQueryUseCase.hedging();
+    }
+
+    @GetMapping("/cycle-deadline")
+    public CycleDeadlineSnapshot cycleDeadline() {
+        return cycleDeadlineQueryUseCase.cycleDeadline();
+    }
+
+    @GetMapping("/http-transport")
+    public HttpTransportSnapshot httpTransport() {
+        return httpTransportQueryUseCase.httpTransport();
+    }
+
+    @GetMapping("/shadow")
+    public ShadowLaneSnapshot shadow() {
+        return shadowQueryUseCase.shadowLane();
+    }
+
+    @GetMapping("/shadow/{candidateId}/signals")
+    public List<ShadowSignalRecord> shadowSignals(
+            @PathVariable String candidateId,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        return shadowQueryUseCase.recentShadowSignals(candidateId, limit);
+    }
 }
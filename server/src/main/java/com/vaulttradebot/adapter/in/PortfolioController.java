@@ -2,6 +2,7 @@ package com.vaulttradebot.adapter.in;
 
 import com.vaulttradebot.application.port.in.BotQueryUseCase;
 import com.vaulttradebot.application.query.PortfolioSnapshot;
+import com.vaulttradebot.application.query.PortfolioValuationSnapshot;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -19,4 +20,9 @@ public class PortfolioController {
     public PortfolioSnapshot snapshot() {
         return botQueryUseCase.getPortfolioSnapshot();
     }
+
+    @GetMapping("/valuation")
+    public PortfolioValuationSnapshot valuation() {
+        return botQueryUseCase.getPortfolioValuation();
+    }
 }
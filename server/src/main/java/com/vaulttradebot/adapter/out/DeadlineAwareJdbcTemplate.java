@@ -0,0 +1,54 @@
+package com.vaulttradebot.adapter.out;
+
+import com.vaulttradebot.domain.resilience.Deadline;
+import com.vaulttradebot.domain.resilience.DeadlineExceededException;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.Optional;
+import javax.sql.DataSource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Shortens each statement's query timeout to the calling thread's remaining deadline and refuses to start one
+ * after it has passed. JDBC timeouts are whole seconds, so a statement may overrun the deadline by under one.
+ * A timeout hit once the deadline has passed is reported as {@link DeadlineExceededException}, not as a failure.
+ */
+class DeadlineAwareJdbcTemplate extends JdbcTemplate {
+    // PostgreSQL reports a cancelled statement as SQLSTATE 57014 rather than an SQLTimeoutException.
+    private static final String QUERY_CANCELED = "57014";
+
+    DeadlineAwareJdbcTemplate(DataSource dataSource) {
+        super(dataSource);
+    }
+
+    @Override
+    protected void applyStatementSettings(Statement stmt) throws SQLException {
+        super.applyStatementSettings(stmt);
+        Optional<Deadline> deadline = Deadline.current();
+        if (deadline.isEmpty()) {
+            return;
+        }
+        deadline.get().check("jdbc statement");
+        int remainingSeconds = (int) Math.max(1L, (deadline.get().remaining().toMillis() + 999L) / 1000L);
+        int configured = stmt.getQueryTimeout();
+        if (configured == 0 || remainingSeconds < configured) {
+            stmt.setQueryTimeout(remainingSeconds);
+        }
+    }
+
+    @Override
+    protected DataAccessException translateException(String task, String sql, SQLException ex) {
+        DataAccessException translated = super.translateException(task, sql, ex);
+        Optional<Deadline> deadline = Deadline.current();
+        boolean timedOut = translated instanceof QueryTimeoutException
+                || ex instanceof SQLTimeoutException
+                || QUERY_CANCELED.equals(ex.getSQLState());
+        if (timedOut && deadline.isPresent() && deadline.get().isExpired()) {
+            throw new DeadlineExceededException("jdbc " + task, translated);
+        }
+        return translated;
+    }
+}
@@ -0,0 +1,131 @@
+package com.vaulttradebot.adapter.out;
+
+import com.vaulttradebot.application.port.out.StrategyCheckpointStore;
+import com.vaulttradebot.config.VaultStrategyProperties;
+import com.vaulttradebot.domain.common.vo.Timeframe;
+import com.vaulttradebot.domain.trading.model.strategy.snapshot.StrategyCheckpoint;
+import com.vaulttradebot.domain.trading.model.strategy.snapshot.StrategyStateSnapshot;
+import com.vaulttradebot.domain.trading.vo.SignalAction;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class FileStrategyCheckpointStore implements StrategyCheckpointStore {
+    private static final Logger log = LoggerFactory.getLogger(FileStrategyCheckpointStore.class);
+    private static final int MAGIC = 0x56534350; // "VSCP"
+    private static final short FORMAT_VERSION = 1;
+
+    private final Path path;
+
+    public FileStrategyCheckpointStore(VaultStrategyProperties properties) {
+        this.path = Path.of(properties.getCheckpoint().getPath());
+    }
+
+    @Override
+    public void save(StrategyCheckpoint checkpoint) {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                write(out, checkpoint);
+            }
+            // Readers only ever see a complete old or complete new file.
+            try {
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException unsupported) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("strategy checkpoint write failed: " + path, e);
+        }
+    }
+
+    @Override
+    public Optional<StrategyCheckpoint> load() {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            return Optional.of(read(in));
+        } catch (IOException | RuntimeException e) {
+            // A corrupt or foreign file means a cold start, never a failed boot.
+            log.warn("strategy checkpoint ignored path={} error={}", path, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void write(DataOutputStream out, StrategyCheckpoint checkpoint) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        out.writeUTF(checkpoint.strategyId());
+        out.writeLong(checkpoint.savedAt().toEpochMilli());
+        out.writeInt(checkpoint.states().size());
+        for (StrategyStateSnapshot state : checkpoint.states()) {
+            out.writeUTF(state.ownerId());
+            out.writeUTF(state.symbol());
+            // Enum names, not ordinals, so adding a timeframe or action keeps old files readable.
+            out.writeUTF(state.timeframe().name());
+            out.writeUTF(state.lastSignal().name());
+            out.writeBoolean(state.cooldownUntil() != null);
+            if (state.cooldownUntil() != null) {
+                out.writeLong(state.cooldownUntil().toEpochMilli());
+            }
+            out.writeLong(state.lastClosedOpenTime().toEpochMilli());
+            out.writeUTF(state.lastClosedPrice().toPlainString());
+        }
+    }
+
+    private StrategyCheckpoint read(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("not a strategy checkpoint");
+        }
+        short version = in.readShort();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("unsupported checkpoint version " + version);
+        }
+        String strategyId = in.readUTF();
+        Instant savedAt = Instant.ofEpochMilli(in.readLong());
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("negative checkpoint entry count");
+        }
+        List<StrategyStateSnapshot> states = new ArrayList<>(Math.min(count, 1024));
+        for (int i = 0; i < count; i++) {
+            String ownerId = in.readUTF();
+            String symbol = in.readUTF();
+            Timeframe timeframe = Timeframe.valueOf(in.readUTF());
+            SignalAction lastSignal = SignalAction.valueOf(in.readUTF());
+            Instant cooldownUntil = in.readBoolean() ? Instant.ofEpochMilli(in.readLong()) : null;
+            Instant lastClosedOpenTime = Instant.ofEpochMilli(in.readLong());
+            BigDecimal lastClosedPrice = new BigDecimal(in.readUTF());
+            states.add(new StrategyStateSnapshot(
+                    ownerId,
+                    symbol,
+                    timeframe,
+                    lastSignal,
+                    cooldownUntil,
+                    lastClosedOpenTime,
+                    lastClosedPrice
+            ));
+        }
+        return new StrategyCheckpoint(strategyId, savedAt, states);
+    }
+}
@@ -1,9 +1,11 @@
 package com.vaulttradebot.adapter.out;
 
 import com.vaulttradebot.application.outbox.OutboxMessage;
+import com.vaulttradebot.application.outbox.OutboxPriority;
 import com.vaulttradebot.application.port.out.OutboxRepository;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -32,9 +34,19 @@ public class InMemoryOutboxRepository implements OutboxRepository {
     public List<OutboxMessage> findReadyToPublish(int limit, Instant now) {
         synchronized (messages) {
             return messages.stream()
-                    .filter(message -> !message.isPublished())
-                    .filter(message -> !message.isDeadLettered())
-                    .filter(message -> message.nextAttemptAt() == null || !message.nextAttemptAt().isAfter(now))
+                    .filter(message -> isReady(message, now))
+                    .sorted(Comparator.comparingInt(message -> message.priority().rank()))
+                    .limit(Math.max(0, limit))
+                    .toList();
+        }
+    }
+
+    @Override
+    public List<OutboxMessage> findReadyToPublish(OutboxPriority priority, int limit, Instant now) {
+        synchronized (messages) {
+            return messages.stream()
+                    .filter(message -> message.priority() == priority)
+                    .filter(message -> isReady(message, now))
                     .limit(Math.max(0, limit))
                     .toList();
         }
@@ -55,6 +67,24 @@ public class InMemoryOutboxRepository implements OutboxRepository {
         updateMessage(messageId, current -> current.withDeadLetter(deadLetteredAt, lastError));
     }
 
+    @Override
+    public List<OutboxMessage> findPendingByEventType(String eventType, int limit) {
+        synchronized (messages) {
+            return messages.stream()
+                    .filter(message -> message.eventType().equals(eventType))
+                    .filter(message -> !message.isPublished())
+                    .filter(message -> !message.isDeadLettered())
+                    .filter(message -> !message.isDropped())
+                    .limit(Math.max(0, limit))
+                    .toList();
+        }
+    }
+
+    @Override
+    public void markDropped(String messageId, Instant droppedAt, String dropReason) {
+        updateMessage(messageId, current -> current.isPublished() ? current : current.withDropped(droppedAt, dropReason));
+    }
+
     @Override
     public List<OutboxMessage> findDeadLettered(int limit) {
         synchronized (messages) {
@@ -80,7 +110,10 @@ public class InMemoryOutboxRepository implements OutboxRepository {
                 0,
                 null,
                 nextAttemptAt,
-                null
+                null,
+                null,
+                null,
+                current.priority()
         ));
     }
 
@@ -108,6 +141,13 @@ public class InMemoryOutboxRepository implements OutboxRepository {
         }
     }
 
+    private boolean isReady(OutboxMessage message, Instant now) {
+        return !message.isPublished()
+                && !message.isDeadLettered()
+                && !message.isDropped()
+                && (message.nextAttemptAt() == null || !message.nextAttemptAt().isAfter(now));
+    }
+
     private void updateMessage(String messageId, java.util.function.Function<OutboxMessage, OutboxMessage> updater) {
         synchronized (messages) {
             for (int i = 0; i < messages.size(); i++) {
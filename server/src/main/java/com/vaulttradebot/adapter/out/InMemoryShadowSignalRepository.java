@@ -0,0 +1,54 @@
+package com.vaulttradebot.adapter.out;
+
+import com.vaulttradebot.application.port.out.ShadowSignalRepository;
+import com.vaulttradebot.application.shadow.ShadowSignalRecord;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "vault.persistence.mode", havingValue = "memory", matchIfMissing = true)
+public class InMemoryShadowSignalRepository implements ShadowSignalRepository {
+    // Shadow runs last for days; cap history per candidate so memory mode stays bounded.
+    private static final int MAX_RECORDS_PER_CANDIDATE = 10_000;
+
+    private final ConcurrentHashMap<String, Deque<ShadowSignalRecord>> records = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(ShadowSignalRecord record) {
+        Deque<ShadowSignalRecord> history = records.computeIfAbsent(record.candidateId(), ignored -> new ArrayDeque<>());
+        synchronized (history) {
+            // Same candidate and candle is recorded once, matching the JDBC primary key.
+            ShadowSignalRecord last = history.peekLast();
+            if (last != null && last.dataTimestamp().equals(record.dataTimestamp())
+                    && last.pair().equals(record.pair()) && last.timeframe().equals(record.timeframe())) {
+                return;
+            }
+            history.addLast(record);
+            if (history.size() > MAX_RECORDS_PER_CANDIDATE) {
+                history.removeFirst();
+            }
+        }
+    }
+
+    @Override
+    public List<ShadowSignalRecord> findRecent(String candidateId, int limit) {
+        Deque<ShadowSignalRecord> history = records.get(candidateId);
+        if (history == null) {
+            return List.of();
+        }
+        List<ShadowSignalRecord> recent = new ArrayList<>(Math.min(limit, MAX_RECORDS_PER_CANDIDATE));
+        synchronized (history) {
+            Iterator<ShadowSignalRecord> newestFirst = history.descendingIterator();
+            while (newestFirst.hasNext() && recent.size() < limit) {
+                recent.add(newestFirst.next());
+            }
+        }
+        return recent;
+    }
+}
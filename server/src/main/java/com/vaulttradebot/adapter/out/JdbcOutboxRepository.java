@@ -1,6 +1,7 @@
 package com.vaulttradebot.adapter.out;
 
 import com.vaulttradebot.application.outbox.OutboxMessage;
+import com.vaulttradebot.application.outbox.OutboxPriority;
 import com.vaulttradebot.application.port.out.OutboxRepository;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -26,8 +27,9 @@ public class JdbcOutboxRepository implements OutboxRepository {
                 """
                 INSERT INTO outbox(
                     id, aggregate_type, aggregate_id, event_type, payload, payload_version,
-                    occurred_at, created_at, published_at, attempt_count, last_error, next_attempt_at, dead_lettered_at
-                ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                    occurred_at, created_at, published_at, attempt_count, last_error, next_attempt_at, dead_lettered_at,
+                    dropped_at, drop_reason, priority
+                ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
                 """,
                 message.id(),
                 message.aggregateType(),
@@ -41,7 +43,10 @@ public class JdbcOutboxRepository implements OutboxRepository {
                 message.attemptCount(),
                 message.lastError(),
                 message.nextAttemptAt() == null ? null : Timestamp.from(message.nextAttemptAt()),
-                message.deadLetteredAt() == null ? null : Timestamp.from(message.deadLetteredAt())
+                message.deadLetteredAt() == null ? null : Timestamp.from(message.deadLetteredAt()),
+                message.droppedAt() == null ? null : Timestamp.from(message.droppedAt()),
+                message.dropReason(),
+                message.priority().rank()
         );
     }
 
@@ -52,11 +57,32 @@ public class JdbcOutboxRepository implements OutboxRepository {
                 SELECT * FROM outbox
                 WHERE published_at IS NULL
                   AND dead_lettered_at IS NULL
+                  AND dropped_at IS NULL
+                  AND (next_attempt_at IS NULL OR next_attempt_at <= ?)
+                ORDER BY priority ASC, created_at ASC
+                LIMIT ?
+                """,
+                this::mapMessage,
+                Timestamp.from(now),
+                Math.max(0, limit)
+        );
+    }
+
+    @Override
+    public List<OutboxMessage> findReadyToPublish(OutboxPriority priority, int limit, Instant now) {
+        return jdbcTemplate.query(
+                """
+                SELECT * FROM outbox
+                WHERE priority = ?
+                  AND published_at IS NULL
+                  AND dead_lettered_at IS NULL
+                  AND dropped_at IS NULL
                   AND (next_attempt_at IS NULL OR next_attempt_at <= ?)
                 ORDER BY created_at ASC
                 LIMIT ?
                 """,
                 this::mapMessage,
+                priority.rank(),
                 Timestamp.from(now),
                 Math.max(0, limit)
         );
@@ -96,6 +122,38 @@ public class JdbcOutboxRepository implements OutboxRepository {
         );
     }
 
+    @Override
+    public List<OutboxMessage> findPendingByEventType(String eventType, int limit) {
+        return jdbcTemplate.query(
+                """
+                SELECT * FROM outbox
+                WHERE event_type = ?
+                  AND published_at IS NULL
+                  AND dead_lettered_at IS NULL
+                  AND dropped_at IS NULL
+                ORDER BY created_at ASC
+                LIMIT ?
+                """,
+                this::mapMessage,
+                eventType,
+                Math.max(0, limit)
+        );
+    }
+
+    @Override
+    public void markDropped(String messageId, Instant droppedAt, String dropReason) {
+        jdbcTemplate.update(
+                """
+                UPDATE outbox
+                SET dropped_at=?, drop_reason=?, next_attempt_at=NULL
+                WHERE id=? AND published_at IS NULL
+                """,
+                Timestamp.from(droppedAt),
+                dropReason,
+                messageId
+        );
+    }
+
     @Override
     public List<OutboxMessage> findDeadLettered(int limit) {
         return jdbcTemplate.query(
@@ -142,7 +200,10 @@ public class JdbcOutboxRepository implements OutboxRepository {
                 rs.getInt("attempt_count"),
                 rs.getString("last_error"),
                 toInstant(rs.getTimestamp("next_attempt_at")),
-                toInstant(rs.getTimestamp("dead_lettered_at"))
+                toInstant(rs.getTimestamp("dead_lettered_at")),
+                toInstant(rs.getTimestamp("dropped_at")),
+                rs.getString("drop_reason"),
+                OutboxPriority.fromRank(rs.getInt("priority"))
         );
     }
 
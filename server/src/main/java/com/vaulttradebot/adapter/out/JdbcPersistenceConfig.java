@@ -1,8 +1,10 @@
 package com.vaulttradebot.adapter.out;
 
+import javax.sql.DataSource;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
@@ -14,4 +16,10 @@ public class JdbcPersistenceConfig {
     TransactionTemplate transactionTemplate(PlatformTransactionManager transactionManager) {
         return new TransactionTemplate(transactionManager);
     }
+
+    // Replaces the auto-configured template so repository queries honour the trading cycle's deadline.
+    @Bean
+    JdbcTemplate jdbcTemplate(DataSource dataSource) {
+        return new DeadlineAwareJdbcTemplate(dataSource);
+    }
 }
@@ -0,0 +1,74 @@
+package com.vaulttradebot.adapter.out;
+
+import com.vaulttradebot.application.port.out.ShadowSignalRepository;
+import com.vaulttradebot.application.shadow.ShadowSignalRecord;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "vault.persistence.mode", havingValue = "jdbc")
+public class JdbcShadowSignalRepository implements ShadowSignalRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcShadowSignalRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void save(ShadowSignalRecord record) {
+        try {
+            jdbcTemplate.update(
+                    """
+                    INSERT INTO shadow_signal(
+                        candidate_id, pair, timeframe, data_timestamp,
+                        signal_action, confidence, signal_reason,
+                        fill_side, fill_price, recorded_at
+                    ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                    """,
+                    record.candidateId(),
+                    record.pair(),
+                    record.timeframe(),
+                    Timestamp.from(record.dataTimestamp()),
+                    record.signalAction(),
+                    record.confidence(),
+                    record.signalReason(),
+                    record.fillSide(),
+                    record.fillPrice(),
+                    Timestamp.from(record.recordedAt())
+            );
+        } catch (DuplicateKeyException ignored) {
+            // Same candidate and candle already recorded; replayed cycles stay idempotent.
+        }
+    }
+
+    @Override
+    public List<ShadowSignalRecord> findRecent(String candidateId, int limit) {
+        return jdbcTemplate.query(
+                "SELECT * FROM shadow_signal WHERE candidate_id=? ORDER BY data_timestamp DESC LIMIT ?",
+                this::mapRecord,
+                candidateId,
+                limit
+        );
+    }
+
+    private ShadowSignalRecord mapRecord(ResultSet rs, int rowNum) throws SQLException {
+        return new ShadowSignalRecord(
+                rs.getString("candidate_id"),
+                rs.getString("pair"),
+                rs.getString("timeframe"),
+                rs.getTimestamp("data_timestamp").toInstant(),
+                rs.getString("signal_action"),
+                rs.getDouble("confidence"),
+                rs.getString("signal_reason"),
+                rs.getString("fill_side"),
+                rs.getBigDecimal("fill_price"),
+                rs.getTimestamp("recorded_at").toInstant()
+        );
+    }
+}
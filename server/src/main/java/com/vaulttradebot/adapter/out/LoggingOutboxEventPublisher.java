@@ -2,30 +2,25 @@ package com.vaulttradebot.adapter.out;
 
 import com.vaulttradebot.application.outbox.OutboxMessage;
 import com.vaulttradebot.application.port.out.OutboxEventPublisher;
-import com.vaulttradebot.application.usecase.OrderCommandExecutionService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+/** Domain event subscriber; order commands are routed to the exchange executor and never reach it. */
 @Component("loggingOutboxEventPublisher")
 public class LoggingOutboxEventPublisher implements OutboxEventPublisher {
     private static final Logger log = LoggerFactory.getLogger(LoggingOutboxEventPublisher.class);
-    private final OrderCommandExecutionService orderCommandExecutionService;
-
-    public LoggingOutboxEventPublisher(OrderCommandExecutionService orderCommandExecutionService) {
-        this.orderCommandExecutionService = orderCommandExecutionService;
-    }
 
     @Override
     public void publish(OutboxMessage message) {
-        orderCommandExecutionService.execute(message);
         log.info(
-                "outbox_publish messageId={} aggregateType={} aggregateId={} eventType={} payload={}",
+                "outbox_publish messageId={} aggregateType={} aggregateId={} eventType={}",
                 message.id(),
                 message.aggregateType(),
                 message.aggregateId(),
-                message.eventType(),
-                message.payload()
+                message.eventType()
         );
+        // Payloads can be large and are rarely needed, so they only appear when debugging.
+        log.debug("outbox_publish_payload messageId={} payload={}", message.id(), message.payload());
     }
 }
@@ -0,0 +1,325 @@
+package com.vaulttradebot.adapter.out;
+
+import com.vaulttradebot.application.port.out.CandleArchivePort;
+import com.vaulttradebot.config.VaultMarketDataProperties;
+import com.vaulttradebot.domain.common.CandleBuffer;
+import com.vaulttradebot.domain.common.vo.Candle;
+import com.vaulttradebot.domain.common.vo.Market;
+import com.vaulttradebot.domain.common.vo.Timeframe;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MappedCandleArchive implements CandleArchivePort {
+    private static final Logger log = LoggerFactory.getLogger(MappedCandleArchive.class);
+    private static final int MAGIC = 0x56434E44; // "VCND"
+    private static final int FORMAT_VERSION = 1;
+    // Header is padded to 16 bytes so every record starts 8-byte aligned inside the mapping.
+    private static final int HEADER_BYTES = 16;
+    private static final int RECORD_BYTES = CandleBuffer.FIELDS * Long.BYTES;
+    private static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+    private static final long MAX_MAPPED_RECORDS = (Integer.MAX_VALUE - HEADER_BYTES) / RECORD_BYTES;
+
+    private final Path root;
+    private final ConcurrentHashMap<String, Partition> partitions = new ConcurrentHashMap<>();
+
+    public MappedCandleArchive(VaultMarketDataProperties properties) {
+        this.root = Path.of(properties.getArchive().getPath());
+    }
+
+    @Override
+    public int append(Market market, Timeframe timeframe, List<Candle> candles) {
+        if (candles == null || candles.isEmpty()) {
+            return 0;
+        }
+        return partition(market, timeframe).append(candles);
+    }
+
+    @Override
+    public int append(Market market, Timeframe timeframe, CandleBuffer rows) {
+        if (rows == null || rows.size() == 0) {
+            return 0;
+        }
+        return partition(market, timeframe).append(rows);
+    }
+
+    @Override
+    public int scan(Market market, Timeframe timeframe, Instant from, Instant to, CandleBuffer into) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            return 0;
+        }
+        Partition partition = existingPartition(market, timeframe);
+        return partition == null ? 0 : partition.scan(from.getEpochSecond(), to.getEpochSecond(), into);
+    }
+
+    @Override
+    public List<Candle> read(Market market, Timeframe timeframe, Instant from, Instant to) {
+        CandleBuffer buffer = new CandleBuffer(0);
+        scan(market, timeframe, from, to, buffer);
+        return buffer.toCandles(market.quote());
+    }
+
+    @Override
+    public Optional<Instant> lastOpenTime(Market market, Timeframe timeframe) {
+        Partition partition = existingPartition(market, timeframe);
+        if (partition == null) {
+            return Optional.empty();
+        }
+        long last = partition.lastOpenEpochSecond();
+        return last == Long.MIN_VALUE ? Optional.empty() : Optional.of(Instant.ofEpochSecond(last));
+    }
+
+    @Override
+    public long count(Market market, Timeframe timeframe) {
+        Partition partition = existingPartition(market, timeframe);
+        return partition == null ? 0 : partition.records();
+    }
+
+    @PreDestroy
+    public void close() {
+        for (Partition partition : partitions.values()) {
+            partition.close();
+        }
+        partitions.clear();
+    }
+
+    Path partitionPath(Market market, Timeframe timeframe) {
+        return root.resolve(market.value()).resolve(timeframe.name() + ".cndl");
+    }
+
+    private Partition existingPartition(Market market, Timeframe timeframe) {
+        Partition open = partitions.get(key(market, timeframe));
+        if (open != null) {
+            return open;
+        }
+        // Reads never create files; a missing partition is just an empty range.
+        return Files.isRegularFile(partitionPath(market, timeframe)) ? partition(market, timeframe) : null;
+    }
+
+    private Partition partition(Market market, Timeframe timeframe) {
+        return partitions.computeIfAbsent(key(market, timeframe), ignored -> Partition.open(partitionPath(market, timeframe)));
+    }
+
+    private static String key(Market market, Timeframe timeframe) {
+        return market.value() + "/" + timeframe.name();
+    }
+
+    private static final class Partition {
+        private final Path path;
+        private final FileChannel channel;
+        private long records;
+        private long lastOpenEpochSecond;
+        // Read view over the first mappedRecords records; replaced, never mutated, when the file grows.
+        private volatile MappedView view;
+
+        private Partition(Path path, FileChannel channel, long records, long lastOpenEpochSecond) {
+            this.path = path;
+            this.channel = channel;
+            this.records = records;
+            this.lastOpenEpochSecond = lastOpenEpochSecond;
+        }
+
+        static Partition open(Path path) {
+            FileChannel channel = null;
+            try {
+                Files.createDirectories(path.getParent());
+                channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                long size = channel.size();
+                if (size == 0) {
+                    ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ORDER);
+                    header.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(RECORD_BYTES).flip();
+                    channel.write(header, 0);
+                    return new Partition(path, channel, 0, Long.MIN_VALUE);
+                }
+                verifyHeader(channel, path);
+                long records = (size - HEADER_BYTES) / RECORD_BYTES;
+                long intact = HEADER_BYTES + records * RECORD_BYTES;
+                if (intact != size) {
+                    // A crash mid-append leaves a partial record; appends are ordered, so dropping it is safe.
+                    log.warn("candle archive truncating torn tail path={} bytes={}", path, size - intact);
+                    channel.truncate(intact);
+                }
+                long last = Long.MIN_VALUE;
+                if (records > 0) {
+                    ByteBuffer time = ByteBuffer.allocate(Long.BYTES).order(ORDER);
+                    channel.read(time, HEADER_BYTES + (records - 1) * RECORD_BYTES);
+                    last = time.flip().getLong();
+                }
+                return new Partition(path, channel, records, last);
+            } catch (IOException e) {
+                closeQuietly(channel);
+                throw new UncheckedIOException("candle archive open failed: " + path, e);
+            }
+        }
+
+        synchronized int append(List<Candle> candles) {
+            ByteBuffer out = ByteBuffer.allocate(candles.size() * RECORD_BYTES).order(ORDER);
+            long last = lastOpenEpochSecond;
+            int written = 0;
+            for (Candle candle : candles) {
+                long openTime = candle.openTime().getEpochSecond();
+                if (openTime <= last) {
+                    // Strictly increasing open times keep the file its own time index.
+                    continue;
+                }
+                out.putLong(openTime)
+                        .putLong(CandleBuffer.toScaled(candle.open().value()))
+                        .putLong(CandleBuffer.toScaled(candle.high().value()))
+                        .putLong(CandleBuffer.toScaled(candle.low().value()))
+                        .putLong(CandleBuffer.toScaled(candle.close().value()))
+                        .putLong(CandleBuffer.toScaled(candle.volume()));
+                last = openTime;
+                written++;
+            }
+            return write(out, written, last);
+        }
+
+        synchronized int append(CandleBuffer rows) {
+            ByteBuffer out = ByteBuffer.allocate(rows.size() * RECORD_BYTES).order(ORDER);
+            long last = lastOpenEpochSecond;
+            int written = 0;
+            for (int i = 0; i < rows.size(); i++) {
+                long openTime = rows.openEpochSecond(i);
+                if (openTime <= last) {
+                    continue;
+                }
+                out.putLong(openTime)
+                        .putLong(rows.open(i))
+                        .putLong(rows.high(i))
+                        .putLong(rows.low(i))
+                        .putLong(rows.close(i))
+                        .putLong(rows.volume(i));
+                last = openTime;
+                written++;
+            }
+            return write(out, written, last);
+        }
+
+        private int write(ByteBuffer out, int written, long last) {
+            if (written == 0) {
+                return 0;
+            }
+            if (records + written > MAX_MAPPED_RECORDS) {
+                throw new IllegalStateException("candle archive partition is full: " + path);
+            }
+            out.flip();
+            long position = HEADER_BYTES + records * RECORD_BYTES;
+            try {
+                while (out.hasRemaining()) {
+                    position += channel.write(out, position);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("candle archive append failed: " + path, e);
+            }
+            records += written;
+            lastOpenEpochSecond = last;
+            return written;
+        }
+
+        int scan(long fromSecond, long toSecond, CandleBuffer into) {
+            MappedView snapshot = currentView();
+            LongBuffer longs = snapshot.longs();
+            int start = lowerBound(longs, snapshot.records(), fromSecond);
+            int end = lowerBound(longs, snapshot.records(), toSecond);
+            int count = end - start;
+            if (count <= 0) {
+                return 0;
+            }
+            int offset = into.reserveRows(count);
+            // One bulk copy straight out of the page cache; no per-record objects on this path.
+            longs.get(start * CandleBuffer.FIELDS, into.rawRows(), offset, count * CandleBuffer.FIELDS);
+            into.commitRows(count);
+            return count;
+        }
+
+        synchronized long records() {
+            return records;
+        }
+
+        synchronized long lastOpenEpochSecond() {
+            return lastOpenEpochSecond;
+        }
+
+        synchronized void close() {
+            closeQuietly(channel);
+            view = null;
+        }
+
+        private synchronized MappedView currentView() {
+            MappedView current = view;
+            if (current != null && current.records() == records) {
+                return current;
+            }
+            try {
+                MappedByteBuffer mapped = channel.map(
+                        FileChannel.MapMode.READ_ONLY,
+                        HEADER_BYTES,
+                        records * RECORD_BYTES
+                );
+                LongBuffer longs = mapped.order(ORDER).asLongBuffer();
+                current = new MappedView(longs, (int) records);
+                view = current;
+                return current;
+            } catch (IOException e) {
+                throw new UncheckedIOException("candle archive map failed: " + path, e);
+            }
+        }
+
+        private static int lowerBound(LongBuffer longs, int records, long epochSecond) {
+            int low = 0;
+            int high = records;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (longs.get(mid * CandleBuffer.FIELDS) < epochSecond) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private static void verifyHeader(FileChannel channel, Path path) throws IOException {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ORDER);
+            channel.read(header, 0);
+            header.flip();
+            if (header.remaining() < HEADER_BYTES
+                    || header.getInt() != MAGIC
+                    || header.getInt() != FORMAT_VERSION
+                    || header.getLong() != RECORD_BYTES) {
+                // Never truncate or append to a file this adapter did not write.
+                throw new IOException("not a candle archive partition");
+            }
+        }
+
+        private static void closeQuietly(FileChannel channel) {
+            if (channel == null) {
+                return;
+            }
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // Nothing useful to do on shutdown.
+            }
+        }
+    }
+
+    private record MappedView(LongBuffer longs, int records) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.vaulttradebot.adapter.out;
+
+import com.vaulttradebot.application.port.in.OrderBookQueryUseCase;
+import com.vaulttradebot.application.port.out.OrderBookPort;
+import com.vaulttradebot.application.query.OrderBookFeedSnapshot;
+import com.vaulttradebot.domain.common.vo.Market;
+import com.vaulttradebot.domain.common.vo.TopOfBook;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+/** Order book stand-in for static and replay market data; decisions fall back to quoting at the last price. */
+@Component
+@ConditionalOnExpression("'${vault.market-data.provider:upbit}' != 'upbit'")
+public class NoOrderBookAdapter implements OrderBookPort, OrderBookQueryUseCase {
+
+    @Override
+    public Optional<TopOfBook> topOfBook(Market market) {
+        return Optional.empty();
+    }
+
+    @Override
+    public OrderBookFeedSnapshot orderBookFeed() {
+        return new OrderBookFeedSnapshot(false, false, List.of(), 0, 0, 0, 0, 0, 0);
+    }
+}
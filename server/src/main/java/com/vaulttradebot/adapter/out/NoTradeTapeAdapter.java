@@ -0,0 +1,40 @@
+package com.vaulttradebot.adapter.out;
+
+import com.vaulttradebot.application.port.in.TradeTapeQueryUseCase;
+import com.vaulttradebot.application.port.out.TradeBarPort;
+import com.vaulttradebot.application.query.TradeTapeSnapshot;
+import com.vaulttradebot.domain.common.vo.Candle;
+import com.vaulttradebot.domain.common.vo.Market;
+import com.vaulttradebot.domain.common.vo.Timeframe;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+/** Trade tape stand-in for static and replay market data, which have no trade stream to build bars from. */
+@Component
+@ConditionalOnExpression("'${vault.market-data.provider:upbit}' != 'upbit'")
+public class NoTradeTapeAdapter implements TradeBarPort, TradeTapeQueryUseCase {
+
+    @Override
+    public List<Candle> recentBars(Market market, Timeframe timeframe, int limit, Instant now) {
+        throw new IllegalStateException("no trade tape for this market data provider; no " + timeframe + " bars available");
+    }
+
+    @Override
+    public void track(Market market) {
+    }
+
+    @Override
+    public void addBarCloseListener(BarCloseListener listener) {
+    }
+
+    @Override
+    public void addTradeListener(TradeListener listener) {
+    }
+
+    @Override
+    public TradeTapeSnapshot tradeTape() {
+        return new TradeTapeSnapshot(false, false, List.of(), List.of(), 0, 0, 0, 0, 0, 0, 0);
+    }
+}
@@ -10,7 +10,10 @@ import com.vaulttradebot.domain.execution.vo.ExecutionTrade;
 import com.vaulttradebot.domain.execution.Order;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
@@ -18,6 +21,8 @@ import org.springframework.stereotype.Component;
 @ConditionalOnProperty(name = "vault.trading.provider", havingValue = "paper", matchIfMissing = true)
 public class PaperExchangeTradingAdapter implements ExchangeTradingPort {
     private static final BigDecimal BPS_DIVISOR = new BigDecimal("10000");
+    /** Mirrors the live batch cancel limit so paper runs report a realistic request count. */
+    private static final int CANCEL_BATCH_SIZE = 20;
 
     private final ClockPort clockPort;
     private final VaultTradingProperties tradingProperties;
@@ -62,6 +67,22 @@ public class PaperExchangeTradingAdapter implements ExchangeTradingPort {
         // No-op in local paper adapter.
     }
 
+    @Override
+    public ReplaceResult replaceOrder(Order existing, BigDecimal quantity, Function<BigDecimal, Order> replacement) {
+        // Paper orders only fill on placement or refresh, so no fill can race the cancel.
+        return new ReplaceResult(existing, placeOrder(replacement.apply(quantity)), null);
+    }
+
+    @Override
+    public MassCancelResult cancelOrders(List<String> orderIds, MassCancelListener listener) {
+        // Paper orders live only in our own store, so every cancel succeeds in batch-sized requests.
+        for (String orderId : orderIds) {
+            listener.onSettled(orderId, null);
+        }
+        int calls = (orderIds.size() + CANCEL_BATCH_SIZE - 1) / CANCEL_BATCH_SIZE;
+        return new MassCancelResult(orderIds, Map.of(), calls);
+    }
+
     private void bindPaperExchangeId(Order order) {
         if (order.exchangeOrderId() == null || order.exchangeOrderId().isBlank()) {
             order.bindExchangeOrderId("paper-" + UUID.randomUUID());
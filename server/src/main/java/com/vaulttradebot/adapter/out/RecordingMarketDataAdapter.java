@@ -0,0 +1,107 @@
+package com.vaulttradebot.adapter.out;
+
+import com.vaulttradebot.adapter.out.journal.MarketDataJournalWriter;
+import com.vaulttradebot.application.port.out.ClockPort;
+import com.vaulttradebot.application.port.out.MarketDataPort;
+import com.vaulttradebot.domain.common.vo.Candle;
+import com.vaulttradebot.domain.common.vo.Market;
+import com.vaulttradebot.domain.common.vo.Money;
+import com.vaulttradebot.domain.common.vo.Timeframe;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/** Decorates any market-data source and journals every response it returns, including failures. */
+public class RecordingMarketDataAdapter implements MarketDataPort {
+    private static final Logger log = LoggerFactory.getLogger(RecordingMarketDataAdapter.class);
+
+    private final MarketDataPort delegate;
+    private final MarketDataJournalWriter journal;
+    private final ClockPort clockPort;
+    private final AtomicLong journalFailures = new AtomicLong(0);
+
+    public RecordingMarketDataAdapter(MarketDataPort delegate, MarketDataJournalWriter journal, ClockPort clockPort) {
+        this.delegate = delegate;
+        this.journal = journal;
+        this.clockPort = clockPort;
+    }
+
+    @Override
+    public Money getLastPrice(Market market) {
+        // Stamp with the time the request started so replay can line it up with the cycle clock.
+        Instant recordedAt = clockPort.now();
+        Money lastPrice;
+        try {
+            lastPrice = delegate.getLastPrice(market);
+        } catch (RuntimeException e) {
+            record(() -> journal.recordTickerFailure(recordedAt, market, e.getMessage()));
+            throw e;
+        }
+        record(() -> journal.recordTicker(recordedAt, market, lastPrice));
+        return lastPrice;
+    }
+
+    @Override
+    public Map<Market, Money> getLastPrices(Collection<Market> markets) {
+        Instant recordedAt = clockPort.now();
+        Map<Market, Money> prices;
+        try {
+            prices = delegate.getLastPrices(markets);
+        } catch (RuntimeException e) {
+            for (Market market : markets) {
+                record(() -> journal.recordTickerFailure(recordedAt, market, e.getMessage()));
+            }
+            throw e;
+        }
+        // Journaled as individual tickers so replay serves single and batch lookups alike.
+        prices.forEach((market, price) -> record(() -> journal.recordTicker(recordedAt, market, price)));
+        return prices;
+    }
+
+    @Override
+    public List<Candle> getRecentCandles(Market market, Timeframe timeframe, int limit, Instant now) {
+        Instant recordedAt = clockPort.now();
+        List<Candle> candles;
+        try {
+            candles = delegate.getRecentCandles(market, timeframe, limit, now);
+        } catch (RuntimeException e) {
+            if (timeframe != null && now != null) {
+                record(() -> journal.recordCandlesFailure(recordedAt, market, timeframe, limit, now, e.getMessage()));
+            }
+            throw e;
+        }
+        if (timeframe != null && now != null && candles != null) {
+            record(() -> journal.recordCandles(recordedAt, market, timeframe, limit, now, candles));
+        }
+        return candles;
+    }
+
+    @Override
+    public List<Candle> getCandlesBetween(Market market, Timeframe timeframe, Instant from, Instant to) {
+        // Range reads are not journaled; replay answers them from the recorded windows.
+        return delegate.getCandlesBetween(market, timeframe, from, to);
+    }
+
+    public MarketDataPort delegate() {
+        return delegate;
+    }
+
+    public long journalFailures() {
+        return journalFailures.get();
+    }
+
+    private void record(Runnable write) {
+        try {
+            write.run();
+        } catch (RuntimeException e) {
+            // The journal is diagnostic; losing a record must never fail a trading cycle.
+            if (journalFailures.incrementAndGet() == 1) {
+                log.warn("market data journal write failed error={}", e.getMessage());
+            }
+        }
+    }
+}
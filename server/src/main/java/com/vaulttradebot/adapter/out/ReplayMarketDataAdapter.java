@@ -0,0 +1,99 @@
+package com.vaulttradebot.adapter.out;
+
+import com.vaulttradebot.adapter.out.journal.MarketDataJournalEntry;
+import com.vaulttradebot.adapter.out.journal.MarketDataJournalReader;
+import com.vaulttradebot.application.port.out.ClockPort;
+import com.vaulttradebot.application.port.out.MarketDataPort;
+import com.vaulttradebot.config.VaultMarketDataProperties;
+import com.vaulttradebot.domain.common.vo.Candle;
+import com.vaulttradebot.domain.common.vo.Market;
+import com.vaulttradebot.domain.common.vo.Money;
+import com.vaulttradebot.domain.common.vo.Timeframe;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/** Serves journaled market-data responses back by the requesting cycle's time. */
+@Component
+@ConditionalOnProperty(name = "vault.market-data.provider", havingValue = "replay")
+public class ReplayMarketDataAdapter implements MarketDataPort {
+    private final ClockPort clockPort;
+    private final Duration tickerLookahead;
+    private final Map<String, NavigableMap<Instant, MarketDataJournalEntry>> tickers = new HashMap<>();
+    private final Map<String, NavigableMap<Instant, MarketDataJournalEntry>> candles = new HashMap<>();
+
+    public ReplayMarketDataAdapter(VaultMarketDataProperties properties, ClockPort clockPort) {
+        this.clockPort = clockPort;
+        VaultMarketDataProperties.Journal journal = properties.getJournal();
+        this.tickerLookahead = Duration.ofMillis(journal.getReplayLookaheadMs());
+        for (MarketDataJournalEntry entry : MarketDataJournalReader.readAll(Path.of(journal.getPath()))) {
+            if (entry.isTicker()) {
+                tickers.computeIfAbsent(entry.market().value(), ignored -> new TreeMap<>())
+                        .put(entry.recordedAt(), entry);
+            } else {
+                candles.computeIfAbsent(seriesKey(entry.market(), entry.timeframe()), ignored -> new TreeMap<>())
+                        .put(entry.requestedAt(), entry);
+            }
+        }
+    }
+
+    @Override
+    public Money getLastPrice(Market market) {
+        // Tickers are stamped a little after the cycle clock was read, so look slightly ahead of it.
+        Instant at = clockPort.now().plus(tickerLookahead);
+        MarketDataJournalEntry entry = floor(tickers.get(market.value()), at);
+        if (entry == null) {
+            throw new IllegalStateException("no journaled ticker for market " + market.value() + " at " + at);
+        }
+        if (entry.isFailure()) {
+            throw new IllegalStateException(entry.failure());
+        }
+        return entry.lastPrice();
+    }
+
+    @Override
+    public List<Candle> getRecentCandles(Market market, Timeframe timeframe, int limit, Instant now) {
+        if (timeframe == null || limit <= 0 || now == null) {
+            return List.of();
+        }
+        // Candle requests carry the cycle time themselves, so they match it exactly.
+        MarketDataJournalEntry entry = floor(candles.get(seriesKey(market, timeframe)), now);
+        if (entry == null) {
+            return List.of();
+        }
+        if (entry.isFailure()) {
+            throw new IllegalStateException(entry.failure());
+        }
+        List<Candle> recorded = entry.candles();
+        return recorded.size() <= limit ? recorded : recorded.subList(recorded.size() - limit, recorded.size());
+    }
+
+    /** Cycle times with a journaled candle response, in order, for stepping a replay clock. */
+    public List<Instant> recordedCycleTimes() {
+        TreeSet<Instant> times = new TreeSet<>();
+        for (NavigableMap<Instant, MarketDataJournalEntry> series : candles.values()) {
+            times.addAll(series.keySet());
+        }
+        return List.copyOf(times);
+    }
+
+    private static MarketDataJournalEntry floor(NavigableMap<Instant, MarketDataJournalEntry> entries, Instant at) {
+        if (entries == null) {
+            return null;
+        }
+        Map.Entry<Instant, MarketDataJournalEntry> floor = entries.floorEntry(at);
+        return floor == null ? null : floor.getValue();
+    }
+
+    private static String seriesKey(Market market, Timeframe timeframe) {
+        return market.value() + "/" + timeframe.name();
+    }
+}
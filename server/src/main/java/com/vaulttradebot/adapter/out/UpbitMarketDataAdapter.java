@@ -1,19 +1,29 @@
 package com.vaulttradebot.adapter.out;
 
+import com.vaulttradebot.adapter.out.upbit.M1CandleSeries;
+import com.vaulttradebot.adapter.out.upbit.TickerCoalescer;
+import com.vaulttradebot.adapter.out.upbit.UpbitCandleRangeException;
 import com.vaulttradebot.adapter.out.upbit.UpbitQuotationClient;
-import com.vaulttradebot.adapter.out.upbit.dto.UpbitMinuteCandleResponse;
 import com.vaulttradebot.adapter.out.upbit.dto.UpbitTickerResponse;
+import com.vaulttradebot.adapter.out.upbit.mapper.UpbitCandleMapper;
 import com.vaulttradebot.application.port.out.MarketDataPort;
-import com.vaulttradebot.domain.common.vo.Asset;
+import com.vaulttradebot.application.port.out.TradeBarPort;
+import com.vaulttradebot.config.VaultMarketDataProperties;
+import com.vaulttradebot.domain.common.CandleBuffer;
 import com.vaulttradebot.domain.common.vo.Candle;
 import com.vaulttradebot.domain.common.vo.Market;
 import com.vaulttradebot.domain.common.vo.Money;
-import com.vaulttradebot.domain.common.vo.Price;
 import com.vaulttradebot.domain.common.vo.Timeframe;
-import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
@@ -22,21 +32,60 @@ import org.springframework.stereotype.Component;
 @Component
 @ConditionalOnProperty(name = "vault.market-data.provider", havingValue = "upbit", matchIfMissing = true)
 public class UpbitMarketDataAdapter implements MarketDataPort {
-    private static final Asset KRW = Asset.krw();
+    // Keeps the comma-separated market list comfortably inside URL length limits.
+    static final int MAX_TICKER_MARKETS_PER_REQUEST = 100;
+    private static final ThreadLocal<CandleBuffer> FETCH_BUFFER =
+            ThreadLocal.withInitial(() -> new CandleBuffer(M1CandleSeries.MAX_PAGE_SIZE));
 
     private final UpbitQuotationClient quotationClient;
+    private final TickerCoalescer tickerCoalescer;
+    private final TradeBarPort tradeBarPort;
+    private final VaultMarketDataProperties.Aggregation aggregation;
+    private final ConcurrentHashMap<String, M1CandleSeries> seriesByMarket = new ConcurrentHashMap<>();
 
-    public UpbitMarketDataAdapter(UpbitQuotationClient quotationClient) {
+    public UpbitMarketDataAdapter(
+            UpbitQuotationClient quotationClient,
+            TickerCoalescer tickerCoalescer,
+            TradeBarPort tradeBarPort,
+            VaultMarketDataProperties properties
+    ) {
         this.quotationClient = quotationClient;
+        this.tickerCoalescer = tickerCoalescer;
+        this.tradeBarPort = tradeBarPort;
+        this.aggregation = properties.getUpbit().getAggregation();
     }
 
     @Override
     public Money getLastPrice(Market market) {
-        UpbitTickerResponse ticker = quotationClient.getTicker(market.value());
-        if (ticker.tradePrice() == null) {
-            throw new IllegalStateException("upbit ticker trade price was missing for market " + market.value());
+        // Cycle and portfolio-snapshot callers for the same market share one in-flight ticker request.
+        return tickerCoalescer.lastPrice(market.value(), () -> fetchLastPrice(market));
+    }
+
+    @Override
+    public Map<Market, Money> getLastPrices(Collection<Market> markets) {
+        Map<Market, Money> prices = new LinkedHashMap<>();
+        List<Market> toFetch = new ArrayList<>();
+        for (Market market : new LinkedHashSet<>(markets)) {
+            tickerCoalescer.freshLastPrice(market.value()).ifPresentOrElse(
+                    price -> prices.put(market, price),
+                    () -> toFetch.add(market)
+            );
         }
-        return Money.krw(ticker.tradePrice());
+        for (int from = 0; from < toFetch.size(); from += MAX_TICKER_MARKETS_PER_REQUEST) {
+            List<Market> chunk = toFetch.subList(from, Math.min(toFetch.size(), from + MAX_TICKER_MARKETS_PER_REQUEST));
+            long requestedAt = System.nanoTime();
+            Map<String, Money> fetched = fetchLastPrices(chunk);
+            tickerCoalescer.storeAll(fetched, requestedAt);
+            for (Market market : chunk) {
+                prices.put(market, fetched.get(market.value()));
+            }
+        }
+        // Preserve the caller's order even when some prices came from the cache.
+        Map<Market, Money> ordered = new LinkedHashMap<>();
+        for (Market market : markets) {
+            ordered.putIfAbsent(market, prices.get(market));
+        }
+        return ordered;
     }
 
     @Override
@@ -44,52 +93,99 @@ public class UpbitMarketDataAdapter implements MarketDataPort {
         if (timeframe == null || limit <= 0 || now == null) {
             return List.of();
         }
+        if (timeframe.isSubMinute()) {
+            // Upbit has no sub-minute candles; these bars are folded locally from the trade stream.
+            return tradeBarPort.recentBars(market, timeframe, limit, now);
+        }
 
-        int unit = toUpbitMinuteUnit(timeframe);
         Instant alignedUpperBound = alignToFrame(now, timeframe);
+        if (aggregation.isEnabled()) {
+            // Every timeframe is served from one M1 series, so bars agree across timeframes.
+            M1CandleSeries series = seriesByMarket.computeIfAbsent(
+                    market.value(),
+                    ignored -> new M1CandleSeries(aggregation.getMaxRetainedMinutes(), aggregation.getMaxBackfillPages())
+            );
+            return series.recent(timeframe, limit, alignedUpperBound, (to, count) -> fetchCandles(market, 1, count, to));
+        }
+        return fetchCandles(market, UpbitCandleMapper.minuteUnit(timeframe), limit, alignedUpperBound);
+    }
 
-        return quotationClient.getMinuteCandles(market.value(), unit, limit, alignedUpperBound).stream()
-                .filter(this::hasRequiredFields)
-                .sorted(Comparator.comparing(response -> response.candleDateTimeUtc().toInstant()))
-                .map(this::toDomainCandle)
-                .toList();
+    @Override
+    public List<Candle> getCandlesBetween(Market market, Timeframe timeframe, Instant from, Instant to) {
+        if (timeframe == null || from == null || to == null || !from.isBefore(to)) {
+            return List.of();
+        }
+        if (timeframe.isSubMinute()) {
+            // The tape cannot backfill; whatever history it still holds for the range is all there is.
+            return tradeBarPort.recentBars(market, timeframe, Integer.MAX_VALUE, to).stream()
+                    .filter(candle -> !candle.openTime().isBefore(from) && candle.openTime().isBefore(to))
+                    .toList();
+        }
+        // Native buckets share the UTC boundaries of locally folded bars, so one call serves both modes.
+        Instant alignedTo = alignToFrame(to, timeframe);
+        long bars = Duration.between(from, alignedTo).dividedBy(timeframe.duration()) + 1;
+        int count = (int) Math.min(bars, M1CandleSeries.MAX_PAGE_SIZE);
+        if (count <= 0) {
+            return List.of();
+        }
+        int unit = UpbitCandleMapper.minuteUnit(timeframe);
+        try {
+            CandleBuffer rows = readCandles(market, unit, count, alignedTo);
+            rows.retainOpenTimes(from.getEpochSecond(), to.getEpochSecond());
+            return rows.toCandles(market.quote());
+        } catch (UpbitCandleRangeException ex) {
+            return quotationClient.getMinuteCandles(market.value(), unit, count, alignedTo, market.quote()).stream()
+                    .filter(candle -> !candle.openTime().isBefore(from) && candle.openTime().isBefore(to))
+                    .toList();
+        }
     }
 
-    private int toUpbitMinuteUnit(Timeframe timeframe) {
-        return switch (timeframe) {
-            case M1 -> 1;
-            case M5 -> 5;
-            case M15 -> 15;
-            case H1 -> 60;
-        };
+    private Money fetchLastPrice(Market market) {
+        UpbitTickerResponse ticker = quotationClient.getTicker(market.value());
+        if (ticker.tradePrice() == null) {
+            throw new IllegalStateException("upbit ticker trade price was missing for market " + market.value());
+        }
+        return Money.krw(ticker.tradePrice());
     }
 
-    private Instant alignToFrame(Instant now, Timeframe timeframe) {
-        long frameSeconds = timeframe.duration().toSeconds();
-        long alignedEpoch = (now.getEpochSecond() / frameSeconds) * frameSeconds;
-        return Instant.ofEpochSecond(alignedEpoch);
+    private Map<String, Money> fetchLastPrices(List<Market> chunk) {
+        List<String> codes = chunk.stream().map(Market::value).toList();
+        Map<String, Money> prices = new HashMap<>();
+        for (UpbitTickerResponse ticker : quotationClient.getTickers(codes)) {
+            if (ticker == null || ticker.market() == null || ticker.tradePrice() == null) {
+                throw new IllegalStateException("upbit ticker trade price was missing in batch for markets " + codes);
+            }
+            prices.put(ticker.market(), Money.krw(ticker.tradePrice()));
+        }
+        for (String code : codes) {
+            if (!prices.containsKey(code)) {
+                // A partial answer would silently price a position at nothing.
+                throw new IllegalStateException("upbit ticker batch response omitted market " + code);
+            }
+        }
+        return prices;
+    }
+
+    private List<Candle> fetchCandles(Market market, int unit, int count, Instant to) {
+        try {
+            return readCandles(market, unit, count, to).toCandles(market.quote());
+        } catch (UpbitCandleRangeException ex) {
+            // Volumes of very low-priced coins can outgrow the fixed-point buffer; that page is re-read exactly.
+            return quotationClient.getMinuteCandles(market.value(), unit, count, to, market.quote());
+        }
     }
 
-    private boolean hasRequiredFields(UpbitMinuteCandleResponse response) {
-        return response != null
-                && response.candleDateTimeUtc() != null
-                && response.openingPrice() != null
-                && response.highPrice() != null
-                && response.lowPrice() != null
-                && response.tradePrice() != null
-                && response.candleAccTradeVolume() != null;
+    private CandleBuffer readCandles(Market market, int unit, int count, Instant to) {
+        // Backfill fetches run on pool threads, so each thread decodes into its own reused buffer.
+        CandleBuffer rows = FETCH_BUFFER.get();
+        rows.clear();
+        quotationClient.readMinuteCandles(market.value(), unit, count, to, rows);
+        return rows;
     }
 
-    private Candle toDomainCandle(UpbitMinuteCandleResponse response) {
-        BigDecimal low = response.lowPrice().max(BigDecimal.ZERO);
-        BigDecimal close = response.tradePrice().max(BigDecimal.ZERO);
-        return new Candle(
-                response.candleDateTimeUtc().toInstant(),
-                Price.of(response.openingPrice(), KRW),
-                Price.of(response.highPrice(), KRW),
-                Price.of(low, KRW),
-                Price.of(close, KRW),
-                response.candleAccTradeVolume()
-        );
+    private Instant alignToFrame(Instant now, Timeframe timeframe) {
+        long frameSeconds = timeframe.duration().toSeconds();
+        long alignedEpoch = (now.getEpochSecond() / frameSeconds) * frameSeconds;
+        return Instant.ofEpochSecond(alignedEpoch);
     }
 }
@@ -1,24 +1,66 @@
 package com.vaulttradebot.adapter.out;
 
+import com.vaulttradebot.adapter.out.upbit.UpbitRequestPacer;
 import com.vaulttradebot.adapter.out.upbit.UpbitTradingClient;
+import com.vaulttradebot.adapter.out.upbit.dto.UpbitBatchCancelResponse;
+import com.vaulttradebot.adapter.out.upbit.dto.UpbitCancelAndNewRequest;
+import com.vaulttradebot.adapter.out.upbit.dto.UpbitCancelAndNewResponse;
 import com.vaulttradebot.adapter.out.upbit.dto.UpbitCreateOrderRequest;
 import com.vaulttradebot.adapter.out.upbit.dto.UpbitOrderResponse;
 import com.vaulttradebot.adapter.out.upbit.mapper.UpbitOrderMapper;
 import com.vaulttradebot.application.port.out.ExchangeTradingPort;
+import com.vaulttradebot.config.VaultTradingProperties;
 import com.vaulttradebot.domain.common.vo.Side;
 import com.vaulttradebot.domain.execution.Order;
+import com.vaulttradebot.domain.execution.vo.OrderStatus;
 import com.vaulttradebot.domain.execution.vo.OrderType;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 @Component
 @ConditionalOnProperty(name = "vault.trading.provider", havingValue = "upbit")
 public class UpbitTradingAdapter implements ExchangeTradingPort {
+    private static final int MAX_BATCH_SIZE = 20;
+    private static final String REMAIN_ONLY = "remain_only";
+
     private final UpbitTradingClient tradingClient;
+    private final int cancelBatchSize;
+    private final UpbitRequestPacer pacer;
+    private final ExecutorService cancelExecutor;
 
-    public UpbitTradingAdapter(UpbitTradingClient tradingClient) {
+    public UpbitTradingAdapter(UpbitTradingClient tradingClient, VaultTradingProperties tradingProperties) {
+        VaultTradingProperties.MassCancel massCancel = tradingProperties.getUpbit().getMassCancel();
+        if (massCancel.getBatchSize() < 1 || massCancel.getBatchSize() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("vault.trading.upbit.mass-cancel.batch-size must be between 1 and " + MAX_BATCH_SIZE);
+        }
+        if (massCancel.getParallelism() < 1 || massCancel.getRequestsPerSecond() < 1) {
+            throw new IllegalArgumentException("vault.trading.upbit.mass-cancel parallelism and requests-per-second must be >= 1");
+        }
         this.tradingClient = tradingClient;
+        this.cancelBatchSize = massCancel.getBatchSize();
+        this.pacer = new UpbitRequestPacer("upbit mass cancel", massCancel.getRequestsPerSecond());
+        AtomicInteger threads = new AtomicInteger(0);
+        this.cancelExecutor = Executors.newFixedThreadPool(massCancel.getParallelism(), runnable -> {
+            Thread thread = new Thread(runnable, "upbit-cancel-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     @Override
@@ -74,10 +116,208 @@ public class UpbitTradingAdapter implements ExchangeTradingPort {
         }
     }
 
+    /**
+     * Re-prices through cancel_and_new when the replacement keeps the old order's remaining size. Upbit then sizes
+     * the new order from whatever is left after the cancel, so fills that race the cancel are absorbed by the
+     * exchange itself. Any other size goes through the generic cancel, refresh and place path. The new order
+     * carries the provisional order's idempotency key as its identifier, so a call whose response was lost can still
+     * find and adopt the order it may have placed.
+     */
+    @Override
+    public ReplaceResult replaceOrder(Order existing, BigDecimal quantity, Function<BigDecimal, Order> replacement) {
+        BigDecimal filledBefore = existing.executedQuantity().value();
+        BigDecimal remaining = existing.originalQuantity().value().subtract(filledBefore);
+        if (quantity.compareTo(remaining) != 0) {
+            return ExchangeTradingPort.super.replaceOrder(existing, quantity, replacement);
+        }
+
+        Order provisional = replacement.apply(quantity);
+        String identifier = provisional.idempotencyKey().value();
+        String newOrderUuid;
+        UpbitOrderResponse adopted = null;
+        try {
+            UpbitCancelAndNewResponse response = tradingClient.cancelAndNew(new UpbitCancelAndNewRequest(
+                    existing.exchangeOrderId(),
+                    "limit",
+                    REMAIN_ONLY,
+                    provisional.price().amount().toPlainString(),
+                    identifier
+            ));
+            if (response == null || response.newOrderUuid() == null || response.newOrderUuid().isBlank()) {
+                throw new IllegalStateException("upbit cancel-and-new response was empty");
+            }
+            newOrderUuid = response.newOrderUuid();
+        } catch (RuntimeException replaceError) {
+            // The call may have landed with only its response lost; an order under our identifier means it did.
+            adopted = findReplacement(identifier, replaceError);
+            if (adopted == null) {
+                // Upbit refuses to cancel a finished order; a fill that beat the replace leaves nothing to move.
+                Order settled = refreshOrder(existing);
+                if (settled.status() != OrderStatus.FILLED) {
+                    throw replaceError;
+                }
+                return new ReplaceResult(settled, null, null);
+            }
+            newOrderUuid = adopted.uuid();
+        }
+
+        // The new order is already on the book; re-reading the old one only tells us how much it filled meanwhile.
+        Order settled = refreshOrder(existing);
+        BigDecimal placedQuantity = quantity.subtract(settled.executedQuantity().value().subtract(filledBefore));
+        if (placedQuantity.signum() <= 0) {
+            // Fills used up the whole quantity, so whatever Upbit left on the book is not wanted; cancel it only.
+            try {
+                cancelOrder(newOrderUuid);
+            } catch (RuntimeException cancelError) {
+                return new ReplaceResult(settled, null, new IllegalStateException(
+                        "failed to cancel empty upbit replacement order " + newOrderUuid, cancelError));
+            }
+            return new ReplaceResult(settled, null, null);
+        }
+        Order placed = placedQuantity.compareTo(quantity) == 0 ? provisional : replacement.apply(placedQuantity);
+        if (adopted != null) {
+            // An adopted order may already have traded, so it takes the exchange's view rather than a fresh OPEN.
+            UpbitOrderMapper.applyExchangeState(placed, adopted, Instant.now());
+        } else {
+            placed.bindExchangeOrderId(newOrderUuid);
+            placed.acceptByExchange();
+        }
+        return new ReplaceResult(settled, placed, null);
+    }
+
+    private UpbitOrderResponse findReplacement(String identifier, RuntimeException replaceError) {
+        try {
+            UpbitOrderResponse found = tradingClient.findOrderByIdentifier(identifier);
+            return found == null || found.uuid() == null || found.uuid().isBlank() ? null : found;
+        } catch (RuntimeException lookupError) {
+            // Without the lookup the outcome stays unknown, so the original failure is what the caller sees.
+            replaceError.addSuppressed(lookupError);
+            return null;
+        }
+    }
+
+    /**
+     * Cancels through the uuid batch endpoint first and falls back to single cancels for any batch that could not
+     * be sent. Both phases run in parallel but share one request pacer, so the whole run stays inside the order
+     * endpoint rate limit. The open-orders endpoint is deliberately not used: it would also cancel orders placed
+     * outside this bot.
+     */
+    @Override
+    public MassCancelResult cancelOrders(List<String> orderIds, MassCancelListener listener) {
+        Settlement settlement = new Settlement(listener);
+        List<List<String>> batches = new ArrayList<>();
+        for (int from = 0; from < orderIds.size(); from += cancelBatchSize) {
+            batches.add(List.copyOf(orderIds.subList(from, Math.min(orderIds.size(), from + cancelBatchSize))));
+        }
+        List<String> fallback = Collections.synchronizedList(new ArrayList<>());
+        runAll(batches.stream().<Runnable>map(batch -> () -> cancelBatch(batch, settlement, fallback)).toList());
+        runAll(List.copyOf(fallback).stream().<Runnable>map(orderId -> () -> cancelSingle(orderId, settlement)).toList());
+        return settlement.result();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        cancelExecutor.shutdownNow();
+    }
+
+    private void cancelBatch(List<String> batch, Settlement settlement, List<String> fallback) {
+        UpbitBatchCancelResponse response;
+        try {
+            pacer.acquire();
+            settlement.countCall();
+            response = tradingClient.cancelOrders(batch);
+        } catch (RuntimeException batchError) {
+            // An unavailable batch endpoint must not strand the orders; retry them one by one instead.
+            fallback.addAll(batch);
+            return;
+        }
+        Set<String> succeeded = uuids(response == null ? null : response.success());
+        Set<String> rejected = uuids(response == null ? null : response.failed());
+        for (String orderId : batch) {
+            if (succeeded.contains(orderId)) {
+                settlement.canceled(orderId);
+            } else if (rejected.contains(orderId)) {
+                settlement.failed(orderId, "rejected by upbit batch cancel");
+            } else {
+                fallback.add(orderId);
+            }
+        }
+    }
+
+    private void cancelSingle(String orderId, Settlement settlement) {
+        try {
+            pacer.acquire();
+            settlement.countCall();
+            cancelOrder(orderId);
+            settlement.canceled(orderId);
+        } catch (RuntimeException error) {
+            settlement.failed(orderId, String.valueOf(error.getMessage()));
+        }
+    }
+
+    private void runAll(List<Runnable> tasks) {
+        List<Future<?>> futures = new ArrayList<>(tasks.size());
+        for (Runnable task : tasks) {
+            futures.add(cancelExecutor.submit(task));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("interrupted while cancelling upbit orders", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("upbit mass cancel task failed", e.getCause());
+            }
+        }
+    }
+
+    private Set<String> uuids(UpbitBatchCancelResponse.Outcome outcome) {
+        Set<String> uuids = new HashSet<>();
+        if (outcome != null && outcome.orders() != null) {
+            outcome.orders().forEach(order -> uuids.add(order.uuid()));
+        }
+        return uuids;
+    }
+
     private String toUpbitSide(Side side) {
         return switch (side) {
             case BUY -> "bid";
             case SELL -> "ask";
         };
     }
+
+    /** Collects outcomes from the cancel threads and forwards each one to the caller's listener. */
+    private static final class Settlement {
+        private final MassCancelListener listener;
+        private final List<String> canceled = new ArrayList<>();
+        private final Map<String, String> failed = new LinkedHashMap<>();
+        private final AtomicInteger calls = new AtomicInteger(0);
+
+        private Settlement(MassCancelListener listener) {
+            this.listener = listener;
+        }
+
+        private void countCall() {
+            calls.incrementAndGet();
+        }
+
+        private void canceled(String orderId) {
+            synchronized (this) {
+                canceled.add(orderId);
+            }
+            listener.onSettled(orderId, null);
+        }
+
+        private void failed(String orderId, String error) {
+            synchronized (this) {
+                failed.put(orderId, error);
+            }
+            listener.onSettled(orderId, error);
+        }
+
+        private synchronized MassCancelResult result() {
+            return new MassCancelResult(canceled, failed, calls.get());
+        }
+    }
 }
@@ -0,0 +1,36 @@
+package com.vaulttradebot.adapter.out.journal;
+
+import com.vaulttradebot.domain.common.vo.Candle;
+import com.vaulttradebot.domain.common.vo.Market;
+import com.vaulttradebot.domain.common.vo.Money;
+import com.vaulttradebot.domain.common.vo.Timeframe;
+import java.time.Instant;
+import java.util.List;
+
+/** One recorded market-data response; exactly one of lastPrice, candles or failure is meaningful. */
+public record MarketDataJournalEntry(
+        Kind kind,
+        Instant recordedAt,
+        Market market,
+        Timeframe timeframe,
+        int limit,
+        Instant requestedAt,
+        Money lastPrice,
+        List<Candle> candles,
+        String failure
+) {
+    public enum Kind {
+        TICKER,
+        CANDLES,
+        TICKER_FAILURE,
+        CANDLES_FAILURE
+    }
+
+    public boolean isTicker() {
+        return kind == Kind.TICKER || kind == Kind.TICKER_FAILURE;
+    }
+
+    public boolean isFailure() {
+        return kind == Kind.TICKER_FAILURE || kind == Kind.CANDLES_FAILURE;
+    }
+}
@@ -0,0 +1,52 @@
+package com.vaulttradebot.adapter.out.journal;
+
+import com.vaulttradebot.domain.common.CandleBuffer;
+import com.vaulttradebot.domain.common.vo.Candle;
+import com.vaulttradebot.domain.common.vo.Market;
+import com.vaulttradebot.domain.common.vo.Price;
+import com.vaulttradebot.domain.common.vo.Timeframe;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+
+final class MarketDataJournalFormat {
+    static final int MAGIC = 0x564D444A; // "VMDJ"
+    static final short FORMAT_VERSION = 1;
+    static final long NO_TIME = Long.MIN_VALUE;
+
+    private MarketDataJournalFormat() {
+    }
+
+    /** Candle series are delta-coded per market and timeframe, so one key identifies the previous response. */
+    static String seriesKey(Market market, Timeframe timeframe) {
+        return market.value() + "/" + timeframe.name();
+    }
+
+    static void writeCandle(DataOutputStream out, Candle candle) throws IOException {
+        out.writeLong(candle.openTime().getEpochSecond());
+        out.writeLong(CandleBuffer.toScaled(candle.open().value()));
+        out.writeLong(CandleBuffer.toScaled(candle.high().value()));
+        out.writeLong(CandleBuffer.toScaled(candle.low().value()));
+        out.writeLong(CandleBuffer.toScaled(candle.close().value()));
+        out.writeLong(CandleBuffer.toScaled(candle.volume()));
+    }
+
+    static Candle readCandle(DataInputStream in, Market market) throws IOException {
+        Instant openTime = Instant.ofEpochSecond(in.readLong());
+        Price open = Price.of(CandleBuffer.fromScaled(in.readLong()), market.quote());
+        Price high = Price.of(CandleBuffer.fromScaled(in.readLong()), market.quote());
+        Price low = Price.of(CandleBuffer.fromScaled(in.readLong()), market.quote());
+        Price close = Price.of(CandleBuffer.fromScaled(in.readLong()), market.quote());
+        return new Candle(openTime, open, high, low, close, CandleBuffer.fromScaled(in.readLong()));
+    }
+
+    static void writeInstant(DataOutputStream out, Instant instant) throws IOException {
+        out.writeLong(instant == null ? NO_TIME : instant.toEpochMilli());
+    }
+
+    static Instant readInstant(DataInputStream in) throws IOException {
+        long millis = in.readLong();
+        return millis == NO_TIME ? null : Instant.ofEpochMilli(millis);
+    }
+}
@@ -0,0 +1,161 @@
+package com.vaulttradebot.adapter.out.journal;
+
+import com.vaulttradebot.domain.common.CandleBuffer;
+import com.vaulttradebot.domain.common.vo.Candle;
+import com.vaulttradebot.domain.common.vo.Market;
+import com.vaulttradebot.domain.common.vo.Money;
+import com.vaulttradebot.domain.common.vo.Timeframe;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/** Reads a market-data journal front to back, rebuilding delta-coded candle responses. */
+public final class MarketDataJournalReader {
+    private static final Logger log = LoggerFactory.getLogger(MarketDataJournalReader.class);
+    private static final MarketDataJournalEntry.Kind[] KINDS = MarketDataJournalEntry.Kind.values();
+
+    private MarketDataJournalReader() {
+    }
+
+    public static List<MarketDataJournalEntry> readAll(Path path) {
+        return scan(path).entries();
+    }
+
+    /** Returns the byte length of the complete records, so a writer can cut off a torn tail before appending. */
+    public static long intactLength(Path path) {
+        return scan(path).intactBytes();
+    }
+
+    private static ScanResult scan(Path path) {
+        List<MarketDataJournalEntry> entries = new ArrayList<>();
+        Map<String, List<Candle>> lastCandles = new HashMap<>();
+        try (CountingInputStream counting = new CountingInputStream(
+                new BufferedInputStream(Files.newInputStream(path), 64 * 1024));
+             DataInputStream in = new DataInputStream(counting)) {
+            if (in.readInt() != MarketDataJournalFormat.MAGIC || in.readShort() != MarketDataJournalFormat.FORMAT_VERSION) {
+                throw new IllegalStateException("not a market data journal: " + path);
+            }
+            long intactBytes = counting.count();
+            while (true) {
+                int kind = in.read();
+                if (kind < 0) {
+                    break;
+                }
+                try {
+                    entries.add(readEntry(in, kind, lastCandles));
+                    intactBytes = counting.count();
+                } catch (EOFException torn) {
+                    // The writer died mid-record; everything before it is still a faithful recording.
+                    log.warn("market data journal ends with a partial record path={} entries={}", path, entries.size());
+                    break;
+                }
+            }
+            return new ScanResult(entries, intactBytes);
+        } catch (EOFException e) {
+            throw new IllegalStateException("market data journal header is incomplete: " + path, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("market data journal read failed: " + path, e);
+        }
+    }
+
+    private static MarketDataJournalEntry readEntry(
+            DataInputStream in,
+            int kindOrdinal,
+            Map<String, List<Candle>> lastCandles
+    ) throws IOException {
+        if (kindOrdinal >= KINDS.length) {
+            throw new IllegalStateException("unknown market data journal record kind " + kindOrdinal);
+        }
+        MarketDataJournalEntry.Kind kind = KINDS[kindOrdinal];
+        Instant recordedAt = MarketDataJournalFormat.readInstant(in);
+        Market market = Market.of(in.readUTF());
+        return switch (kind) {
+            case TICKER -> new MarketDataJournalEntry(kind, recordedAt, market, null, 0, null,
+                    Money.of(CandleBuffer.fromScaled(in.readLong()), market.quote()), List.of(), null);
+            case TICKER_FAILURE -> new MarketDataJournalEntry(kind, recordedAt, market, null, 0, null,
+                    null, List.of(), in.readUTF());
+            case CANDLES -> readCandles(in, recordedAt, market, lastCandles);
+            case CANDLES_FAILURE -> {
+                Timeframe timeframe = Timeframe.valueOf(in.readUTF());
+                int limit = in.readInt();
+                Instant requestedAt = MarketDataJournalFormat.readInstant(in);
+                yield new MarketDataJournalEntry(kind, recordedAt, market, timeframe, limit, requestedAt,
+                        null, List.of(), in.readUTF());
+            }
+        };
+    }
+
+    private static MarketDataJournalEntry readCandles(
+            DataInputStream in,
+            Instant recordedAt,
+            Market market,
+            Map<String, List<Candle>> lastCandles
+    ) throws IOException {
+        Timeframe timeframe = Timeframe.valueOf(in.readUTF());
+        int limit = in.readInt();
+        Instant requestedAt = MarketDataJournalFormat.readInstant(in);
+        int reuseFrom = in.readInt();
+        int reuseCount = in.readInt();
+        int freshCount = in.readInt();
+        String key = MarketDataJournalFormat.seriesKey(market, timeframe);
+        List<Candle> previous = lastCandles.getOrDefault(key, List.of());
+        if (reuseCount < 0 || freshCount < 0 || reuseFrom < 0 || reuseFrom + reuseCount > previous.size()) {
+            throw new IllegalStateException("market data journal candle delta does not match previous response");
+        }
+        List<Candle> candles = new ArrayList<>(reuseCount + freshCount);
+        candles.addAll(previous.subList(reuseFrom, reuseFrom + reuseCount));
+        for (int i = 0; i < freshCount; i++) {
+            candles.add(MarketDataJournalFormat.readCandle(in, market));
+        }
+        List<Candle> response = List.copyOf(candles);
+        lastCandles.put(key, response);
+        return new MarketDataJournalEntry(MarketDataJournalEntry.Kind.CANDLES, recordedAt, market, timeframe, limit,
+                requestedAt, null, response, null);
+    }
+
+    private record ScanResult(List<MarketDataJournalEntry> entries, long intactBytes) {
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        long count() {
+            return count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                count++;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.vaulttradebot.adapter.out.journal;
+
+import com.vaulttradebot.domain.common.CandleBuffer;
+import com.vaulttradebot.domain.common.vo.Candle;
+import com.vaulttradebot.domain.common.vo.Market;
+import com.vaulttradebot.domain.common.vo.Money;
+import com.vaulttradebot.domain.common.vo.Timeframe;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Appends market-data responses to a sequential binary journal; buffered, flushed on an interval and on close. */
+public class MarketDataJournalWriter implements Closeable {
+    private static final int BUFFER_BYTES = 64 * 1024;
+    private static final int MAX_FAILURE_CHARS = 512;
+
+    private final Path path;
+    private final DataOutputStream out;
+    private final long flushIntervalNanos;
+    // Last candles written per series; the next response only stores what changed.
+    private final Map<String, List<Candle>> lastCandles = new HashMap<>();
+    private long lastFlushNanos = System.nanoTime();
+    private boolean closed;
+
+    public MarketDataJournalWriter(Path path, long flushIntervalMs) {
+        this.path = path;
+        this.flushIntervalNanos = Math.max(0, flushIntervalMs) * 1_000_000L;
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            boolean fresh = !Files.exists(path) || Files.size(path) == 0;
+            if (!fresh) {
+                truncateTornTail(path);
+            }
+            this.out = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND),
+                    BUFFER_BYTES
+            ));
+            if (fresh) {
+                out.writeInt(MarketDataJournalFormat.MAGIC);
+                out.writeShort(MarketDataJournalFormat.FORMAT_VERSION);
+                out.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("market data journal open failed: " + path, e);
+        }
+    }
+
+    public synchronized void recordTicker(Instant recordedAt, Market market, Money lastPrice) {
+        write(() -> {
+            writePrefix(MarketDataJournalEntry.Kind.TICKER, recordedAt, market);
+            out.writeLong(CandleBuffer.toScaled(lastPrice.amount()));
+        });
+    }
+
+    public synchronized void recordCandles(
+            Instant recordedAt,
+            Market market,
+            Timeframe timeframe,
+            int limit,
+            Instant requestedAt,
+            List<Candle> candles
+    ) {
+        write(() -> {
+            writePrefix(MarketDataJournalEntry.Kind.CANDLES, recordedAt, market);
+            writeRequest(timeframe, limit, requestedAt);
+            String key = MarketDataJournalFormat.seriesKey(market, timeframe);
+            List<Candle> previous = lastCandles.getOrDefault(key, List.of());
+            int reuseFrom = indexOfOpenTime(previous, candles);
+            int reuseCount = 0;
+            if (reuseFrom >= 0) {
+                while (reuseCount < candles.size()
+                        && reuseFrom + reuseCount < previous.size()
+                        && previous.get(reuseFrom + reuseCount).equals(candles.get(reuseCount))) {
+                    reuseCount++;
+                }
+            }
+            // Consecutive cycles overlap by all but the newest bar, so most responses shrink to one candle.
+            out.writeInt(Math.max(reuseFrom, 0));
+            out.writeInt(reuseCount);
+            out.writeInt(candles.size() - reuseCount);
+            for (int i = reuseCount; i < candles.size(); i++) {
+                MarketDataJournalFormat.writeCandle(out, candles.get(i));
+            }
+            lastCandles.put(key, List.copyOf(candles));
+        });
+    }
+
+    public synchronized void recordTickerFailure(Instant recordedAt, Market market, String failure) {
+        write(() -> {
+            writePrefix(MarketDataJournalEntry.Kind.TICKER_FAILURE, recordedAt, market);
+            out.writeUTF(truncate(failure));
+        });
+    }
+
+    public synchronized void recordCandlesFailure(
+            Instant recordedAt,
+            Market market,
+            Timeframe timeframe,
+            int limit,
+            Instant requestedAt,
+            String failure
+    ) {
+        write(() -> {
+            writePrefix(MarketDataJournalEntry.Kind.CANDLES_FAILURE, recordedAt, market);
+            writeRequest(timeframe, limit, requestedAt);
+            out.writeUTF(truncate(failure));
+        });
+    }
+
+    public synchronized void flush() {
+        if (closed) {
+            return;
+        }
+        try {
+            out.flush();
+            lastFlushNanos = System.nanoTime();
+        } catch (IOException e) {
+            throw new UncheckedIOException("market data journal flush failed: " + path, e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            out.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("market data journal close failed: " + path, e);
+        }
+    }
+
+    private void write(JournalWrite write) {
+        if (closed) {
+            throw new IllegalStateException("market data journal is closed: " + path);
+        }
+        try {
+            write.run();
+            if (System.nanoTime() - lastFlushNanos >= flushIntervalNanos) {
+                out.flush();
+                lastFlushNanos = System.nanoTime();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("market data journal write failed: " + path, e);
+        }
+    }
+
+    private void writePrefix(MarketDataJournalEntry.Kind kind, Instant recordedAt, Market market) throws IOException {
+        // Kind is stored by ordinal to keep records small; new kinds must only be appended.
+        out.writeByte(kind.ordinal());
+        MarketDataJournalFormat.writeInstant(out, recordedAt);
+        out.writeUTF(market.value());
+    }
+
+    private void writeRequest(Timeframe timeframe, int limit, Instant requestedAt) throws IOException {
+        out.writeUTF(timeframe.name());
+        out.writeInt(limit);
+        MarketDataJournalFormat.writeInstant(out, requestedAt);
+    }
+
+    private static int indexOfOpenTime(List<Candle> previous, List<Candle> candles) {
+        if (previous.isEmpty() || candles.isEmpty()) {
+            return -1;
+        }
+        Instant first = candles.get(0).openTime();
+        for (int i = 0; i < previous.size(); i++) {
+            if (previous.get(i).openTime().equals(first)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String truncate(String failure) {
+        if (failure == null) {
+            return "";
+        }
+        return failure.length() <= MAX_FAILURE_CHARS ? failure : failure.substring(0, MAX_FAILURE_CHARS);
+    }
+
+    private static void truncateTornTail(Path path) throws IOException {
+        // Also rejects foreign files: appending to them would make both unreadable.
+        long intact = MarketDataJournalReader.intactLength(path);
+        if (intact < Files.size(path)) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(intact);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface JournalWrite {
+        void run() throws IOException;
+    }
+}
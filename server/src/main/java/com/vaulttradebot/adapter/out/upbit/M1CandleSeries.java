@@ -0,0 +1,186 @@
+package com.vaulttradebot.adapter.out.upbit;
+
+import com.vaulttradebot.domain.common.CandleAggregator;
+import com.vaulttradebot.domain.common.vo.Candle;
+import com.vaulttradebot.domain.common.vo.Timeframe;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/** Rolling per-market M1 store that keeps M5/M15/H1 bars folded incrementally from the same minutes. */
+public class M1CandleSeries {
+    /** Upbit caps one minute-candle request at 200 rows. */
+    public static final int MAX_PAGE_SIZE = 200;
+    private static final Duration MINUTE = Timeframe.M1.duration();
+
+    /** Fetches up to {@code count} M1 candles that open strictly before {@code to}. */
+    @FunctionalInterface
+    public interface PageFetcher {
+        List<Candle> fetch(Instant to, int count);
+    }
+
+    private final int maxRetainedMinutes;
+    private final int maxPagesPerSync;
+    private final NavigableMap<Instant, Candle> minutes = new TreeMap<>();
+    private final Map<Timeframe, NavigableMap<Instant, Candle>> bars = new EnumMap<>(Timeframe.class);
+
+    // Half-open range [coveredFrom, coveredTo) already fetched; Upbit omits minutes without trades,
+    // so coverage is tracked separately from the candles actually present.
+    private Instant coveredFrom;
+    private Instant coveredTo;
+
+    public M1CandleSeries(int maxRetainedMinutes, int maxPagesPerSync) {
+        if (maxRetainedMinutes < MAX_PAGE_SIZE || maxPagesPerSync <= 0) {
+            throw new IllegalArgumentException("series retention and page limits must be positive");
+        }
+        this.maxRetainedMinutes = maxRetainedMinutes;
+        this.maxPagesPerSync = maxPagesPerSync;
+        for (Timeframe timeframe : Timeframe.values()) {
+            if (timeframe.duration().compareTo(MINUTE) > 0) {
+                bars.put(timeframe, new TreeMap<>());
+            }
+        }
+    }
+
+    /** Returns up to {@code limit} closed bars before {@code alignedTo}, fetching only missing minutes. */
+    public synchronized List<Candle> recent(Timeframe timeframe, int limit, Instant alignedTo, PageFetcher fetcher) {
+        if (timeframe.isSubMinute()) {
+            throw new IllegalArgumentException("minute series cannot serve sub-minute timeframe " + timeframe);
+        }
+        Duration frame = timeframe.duration();
+        long retainableBars = maxRetainedMinutes / frame.toMinutes();
+        int bounded = (int) Math.min(limit, retainableBars);
+        Instant from = alignedTo.minus(frame.multipliedBy(bounded));
+        sync(from, alignedTo, fetcher);
+
+        NavigableMap<Instant, Candle> source = timeframe == Timeframe.M1 ? minutes : bars.get(timeframe);
+        List<Candle> window = new ArrayList<>(bounded);
+        for (Candle candle : source.subMap(from, true, alignedTo, false).values()) {
+            // Only buckets whose every minute lies inside fetched coverage are complete bars.
+            if (!candle.openTime().isBefore(coveredFrom) && !candle.openTime().plus(frame).isAfter(coveredTo)) {
+                window.add(candle);
+            }
+        }
+        return List.copyOf(window.size() <= limit ? window : window.subList(window.size() - limit, window.size()));
+    }
+
+    synchronized int retainedMinutes() {
+        return minutes.size();
+    }
+
+    private void sync(Instant from, Instant to, PageFetcher fetcher) {
+        long fetchBudgetMinutes = (long) MAX_PAGE_SIZE * maxPagesPerSync;
+        if (coveredTo == null || from.isAfter(coveredTo) || to.isBefore(coveredFrom)
+                || Duration.between(coveredTo, to).toMinutes() > fetchBudgetMinutes) {
+            // Disjoint or unreachable request: drop old history rather than track multiple islands.
+            reset();
+            fetchSegment(from, to, fetcher);
+            return;
+        }
+        if (to.isAfter(coveredTo)) {
+            fetchSegment(coveredTo, to, fetcher);
+        }
+        if (from.isBefore(coveredFrom)) {
+            fetchSegment(from, coveredFrom, fetcher);
+        }
+        trim();
+    }
+
+    private void fetchSegment(Instant from, Instant to, PageFetcher fetcher) {
+        Instant cursor = to;
+        int pages = 0;
+        while (cursor.isAfter(from) && pages < maxPagesPerSync) {
+            int count = (int) Math.min(MAX_PAGE_SIZE, Duration.between(from, cursor).toMinutes());
+            if (count <= 0) {
+                break;
+            }
+            List<Candle> page = fetcher.fetch(cursor, count);
+            pages++;
+            Instant earliest = cursor;
+            List<Candle> inSegment = new ArrayList<>(page.size());
+            for (Candle candle : page) {
+                if (!candle.openTime().isBefore(from) && candle.openTime().isBefore(to)) {
+                    inSegment.add(candle);
+                }
+                if (candle.openTime().isBefore(earliest)) {
+                    earliest = candle.openTime();
+                }
+            }
+            merge(inSegment);
+            // A short page means the exchange has nothing older; the whole segment is covered.
+            cursor = page.size() < count ? from : earliest;
+        }
+        Instant segmentFrom = cursor.isAfter(from) ? cursor : from;
+        extendCoverage(segmentFrom, to);
+    }
+
+    private void extendCoverage(Instant from, Instant to) {
+        if (coveredTo == null) {
+            coveredFrom = from;
+            coveredTo = to;
+            return;
+        }
+        if (to.isAfter(coveredTo) && !from.isAfter(coveredTo)) {
+            coveredTo = to;
+        }
+        if (from.isBefore(coveredFrom) && !to.isBefore(coveredFrom)) {
+            coveredFrom = from;
+        }
+    }
+
+    private void merge(List<Candle> page) {
+        if (page.isEmpty()) {
+            return;
+        }
+        for (Candle minute : page) {
+            minutes.put(minute.openTime(), minute);
+        }
+        // Refold only the buckets this page touched, once each, instead of rebuilding whole series.
+        for (Map.Entry<Timeframe, NavigableMap<Instant, Candle>> entry : bars.entrySet()) {
+            Set<Instant> touched = new HashSet<>();
+            for (Candle minute : page) {
+                touched.add(CandleAggregator.bucketStart(minute.openTime(), entry.getKey()));
+            }
+            for (Instant bucketOpen : touched) {
+                refold(entry.getKey(), entry.getValue(), bucketOpen);
+            }
+        }
+    }
+
+    private void refold(Timeframe timeframe, NavigableMap<Instant, Candle> target, Instant bucketOpen) {
+        Collection<Candle> members = minutes.subMap(bucketOpen, true, bucketOpen.plus(timeframe.duration()), false)
+                .values();
+        target.put(bucketOpen, CandleAggregator.fold(bucketOpen, members));
+    }
+
+    private void trim() {
+        if (coveredTo == null) {
+            return;
+        }
+        Instant retainFrom = coveredTo.minus(MINUTE.multipliedBy(maxRetainedMinutes));
+        if (!coveredFrom.isBefore(retainFrom)) {
+            return;
+        }
+        minutes.headMap(retainFrom, false).clear();
+        coveredFrom = retainFrom;
+        // The boundary bucket may now be partial; recent() already skips buckets opening before coverage.
+        for (Map.Entry<Timeframe, NavigableMap<Instant, Candle>> entry : bars.entrySet()) {
+            entry.getValue().headMap(CandleAggregator.bucketStart(retainFrom, entry.getKey()), false).clear();
+        }
+    }
+
+    private void reset() {
+        minutes.clear();
+        bars.values().forEach(Map::clear);
+        coveredFrom = null;
+        coveredTo = null;
+    }
+}
@@ -0,0 +1,141 @@
+package com.vaulttradebot.adapter.out.upbit;
+
+import com.vaulttradebot.application.port.in.TickerCacheQueryUseCase;
+import com.vaulttradebot.application.query.TickerCacheSnapshot;
+import com.vaulttradebot.config.VaultMarketDataProperties;
+import com.vaulttradebot.domain.common.vo.Money;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/** Single-flight ticker lookups: one request per market in flight, results reused for a short freshness window. */
+@Component
+public class TickerCoalescer implements TickerCacheQueryUseCase {
+    private final boolean enabled;
+    private final long freshnessMs;
+    private final long freshnessNanos;
+    private final ConcurrentHashMap<String, CachedPrice> cache = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, CompletableFuture<Money>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong(0);
+    private final AtomicLong misses = new AtomicLong(0);
+    private final AtomicLong coalesced = new AtomicLong(0);
+    private final AtomicLong failures = new AtomicLong(0);
+
+    public TickerCoalescer(VaultMarketDataProperties properties) {
+        VaultMarketDataProperties.TickerCache tickerCache = properties.getUpbit().getTickerCache();
+        this.enabled = tickerCache.isEnabled();
+        this.freshnessMs = tickerCache.getFreshnessMs();
+        this.freshnessNanos = tickerCache.getFreshnessMs() * 1_000_000L;
+    }
+
+    public Money lastPrice(String market, Supplier<Money> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        Money fresh = freshPrice(market);
+        if (fresh != null) {
+            hits.incrementAndGet();
+            return fresh;
+        }
+        CompletableFuture<Money> flight = new CompletableFuture<>();
+        CompletableFuture<Money> leader = inFlight.putIfAbsent(market, flight);
+        if (leader != null) {
+            coalesced.incrementAndGet();
+            return await(leader);
+        }
+        try {
+            // Another leader may have finished between the cache check and claiming the flight.
+            fresh = freshPrice(market);
+            if (fresh != null) {
+                hits.incrementAndGet();
+                flight.complete(fresh);
+                return fresh;
+            }
+            misses.incrementAndGet();
+            // Age counts from the request start, so a slow response is never treated as fresher than it is.
+            long requestedAt = System.nanoTime();
+            Money price = loader.get();
+            cache.put(market, new CachedPrice(price, requestedAt));
+            flight.complete(price);
+            return price;
+        } catch (Throwable e) {
+            // Errors too: followers parked on the flight would otherwise wait on it forever.
+            failures.incrementAndGet();
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(market, flight);
+        }
+    }
+
+    /** Returns a cached price that is still inside the freshness window, counting it as a hit. */
+    public Optional<Money> freshLastPrice(String market) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Money fresh = freshPrice(market);
+        if (fresh != null) {
+            hits.incrementAndGet();
+        }
+        return Optional.ofNullable(fresh);
+    }
+
+    /** Records prices fetched outside {@link #lastPrice} (e.g. a batch call) that was issued at {@code requestedAtNanos}. */
+    public void storeAll(Map<String, Money> prices, long requestedAtNanos) {
+        if (!enabled) {
+            return;
+        }
+        misses.addAndGet(prices.size());
+        prices.forEach((market, price) -> cache.merge(
+                market,
+                new CachedPrice(price, requestedAtNanos),
+                // Keep whichever price was requested later.
+                (current, incoming) -> incoming.requestedAtNanos() - current.requestedAtNanos() >= 0 ? incoming : current
+        ));
+    }
+
+    @Override
+    public TickerCacheSnapshot tickerCache() {
+        return new TickerCacheSnapshot(
+                enabled,
+                freshnessMs,
+                hits.get(),
+                misses.get(),
+                coalesced.get(),
+                failures.get(),
+                inFlight.size()
+        );
+    }
+
+    private Money freshPrice(String market) {
+        CachedPrice cached = cache.get(market);
+        if (cached == null || System.nanoTime() - cached.requestedAtNanos() > freshnessNanos) {
+            return null;
+        }
+        return cached.price();
+    }
+
+    private Money await(CompletableFuture<Money> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            // Followers see the leader's failure as if they had made the call themselves.
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private record CachedPrice(Money price, long requestedAtNanos) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.vaulttradebot.adapter.out.upbit;
+
+import com.vaulttradebot.application.port.in.BulkheadQueryUseCase;
+import com.vaulttradebot.config.VaultBulkheadProperties;
+import com.vaulttradebot.domain.resilience.Bulkhead;
+import com.vaulttradebot.domain.resilience.BulkheadSnapshot;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * One bulkhead per Upbit traffic group so a slow group only exhausts its own permits. Bulkheads sit outside the
+ * circuit breakers: a rejected call never reaches the exchange and therefore never counts as an upstream failure.
+ */
+@Component
+public class UpbitBulkheads implements BulkheadQueryUseCase {
+    private final boolean enabled;
+    private final Map<Group, Bulkhead> bulkheads = new EnumMap<>(Group.class);
+
+    public UpbitBulkheads(VaultBulkheadProperties properties) {
+        this.enabled = properties.isEnabled();
+        bulkheads.put(Group.QUOTATION, bulkhead("upbit-quotation", properties.getQuotation()));
+        bulkheads.put(Group.TRADING, bulkhead("upbit-trading", properties.getTrading()));
+        bulkheads.put(Group.LOOKUP, bulkhead("upbit-lookup", properties.getLookup()));
+    }
+
+    public <T> T execute(Group group, Supplier<T> action) {
+        if (!enabled) {
+            return action.get();
+        }
+        return bulkheads.get(group).execute(action);
+    }
+
+    @Override
+    public List<BulkheadSnapshot> bulkheads() {
+        return bulkheads.values().stream().map(Bulkhead::snapshot).toList();
+    }
+
+    private Bulkhead bulkhead(String name, VaultBulkheadProperties.Group group) {
+        return new Bulkhead(name, group.getMaxConcurrentCalls(), group.getMaxQueuedCalls(), Duration.ofMillis(group.getMaxWaitMs()));
+    }
+
+    public enum Group {
+        QUOTATION,
+        TRADING,
+        LOOKUP
+    }
+}
@@ -0,0 +1,98 @@
+package com.vaulttradebot.adapter.out.upbit;
+
+import com.vaulttradebot.adapter.out.upbit.mapper.UpbitCandleMapper;
+import com.vaulttradebot.application.port.in.CandleArchiveUseCase;
+import com.vaulttradebot.application.port.out.CandleArchivePort;
+import com.vaulttradebot.application.port.out.ClockPort;
+import com.vaulttradebot.application.query.CandleArchiveImportSnapshot;
+import com.vaulttradebot.config.VaultMarketDataProperties;
+import com.vaulttradebot.domain.common.CandleAggregator;
+import com.vaulttradebot.domain.common.CandleBuffer;
+import com.vaulttradebot.domain.common.vo.Market;
+import com.vaulttradebot.domain.common.vo.Timeframe;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UpbitCandleArchiveImporter implements CandleArchiveUseCase {
+    private static final Logger log = LoggerFactory.getLogger(UpbitCandleArchiveImporter.class);
+
+    private final UpbitQuotationClient quotationClient;
+    private final CandleArchivePort candleArchive;
+    private final ClockPort clockPort;
+    private final int maxImportPages;
+
+    public UpbitCandleArchiveImporter(
+            UpbitQuotationClient quotationClient,
+            CandleArchivePort candleArchive,
+            ClockPort clockPort,
+            VaultMarketDataProperties properties
+    ) {
+        this.quotationClient = quotationClient;
+        this.candleArchive = candleArchive;
+        this.clockPort = clockPort;
+        this.maxImportPages = properties.getArchive().getMaxImportPages();
+    }
+
+    @Override
+    public CandleArchiveImportSnapshot importCandles(Market market, Timeframe timeframe, Instant from, Instant to) {
+        if (market == null || timeframe == null || from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("archive import requires market, timeframe and from < to");
+        }
+        Duration frame = timeframe.duration();
+        // The archive is append-only, so a still-forming bar must never be written.
+        Instant lastClosedBound = CandleAggregator.bucketStart(clockPort.now(), timeframe);
+        Instant end = CandleAggregator.bucketStart(to.isBefore(lastClosedBound) ? to : lastClosedBound, timeframe);
+        Instant cursor = CandleAggregator.bucketStart(from, timeframe);
+        Optional<Instant> archivedUntil = candleArchive.lastOpenTime(market, timeframe);
+        if (archivedUntil.isPresent() && !archivedUntil.get().isBefore(cursor)) {
+            // Resume after the last stored bar; earlier history cannot be inserted into an append-only file.
+            cursor = archivedUntil.get().plus(frame);
+        }
+
+        int unit = UpbitCandleMapper.minuteUnit(timeframe);
+        Duration window = frame.multipliedBy(M1CandleSeries.MAX_PAGE_SIZE);
+        int pages = 0;
+        long imported = 0;
+        // One buffer serves every page; rows go from the response stream to the file without candle objects.
+        CandleBuffer page = new CandleBuffer(M1CandleSeries.MAX_PAGE_SIZE);
+        while (cursor.isBefore(end) && pages < maxImportPages) {
+            Instant windowEnd = cursor.plus(window).isBefore(end) ? cursor.plus(window) : end;
+            int count = (int) Duration.between(cursor, windowEnd).dividedBy(frame);
+            page.clear();
+            try {
+                quotationClient.readMinuteCandles(market.value(), unit, count, windowEnd, page);
+            } catch (UpbitCandleRangeException ex) {
+                // The archive stores the same fixed point as the buffer, so such a page cannot be archived at all.
+                throw new IllegalStateException(
+                        "archive import for %s stopped at %s: candle values exceed the archive's fixed-point range"
+                                .formatted(market.value(), cursor),
+                        ex
+                );
+            }
+            pages++;
+            page.retainOpenTimes(cursor.getEpochSecond(), windowEnd.getEpochSecond());
+            imported += candleArchive.append(market, timeframe, page);
+            cursor = windowEnd;
+        }
+
+        boolean complete = !cursor.isBefore(end);
+        log.info("candle archive import market={} timeframe={} pages={} imported={} complete={}",
+                market.value(), timeframe, pages, imported, complete);
+        return new CandleArchiveImportSnapshot(
+                market.value(),
+                timeframe.name(),
+                from,
+                to,
+                pages,
+                imported,
+                candleArchive.count(market, timeframe),
+                candleArchive.lastOpenTime(market, timeframe).orElse(null),
+                complete
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package com.vaulttradebot.adapter.out.upbit;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * A candle page held a value the fixed-point buffer cannot represent. Not a transport failure, so it is neither
+ * retried nor counted by the breaker; callers that can use exact decimals re-read the page that way.
+ */
+public class UpbitCandleRangeException extends RestClientException {
+    public UpbitCandleRangeException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
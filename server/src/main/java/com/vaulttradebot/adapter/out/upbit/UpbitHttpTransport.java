@@ -0,0 +1,259 @@
+package com.vaulttradebot.adapter.out.upbit;
+
+import com.vaulttradebot.application.port.in.HttpTransportQueryUseCase;
+import com.vaulttradebot.application.query.HttpEndpointSnapshot;
+import com.vaulttradebot.application.query.HttpTransportSnapshot;
+import com.vaulttradebot.config.VaultHttpTransportProperties;
+import com.vaulttradebot.domain.resilience.Deadline;
+import com.vaulttradebot.domain.resilience.DeadlineExceededException;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+/** Pooled JDK HTTP clients for Upbit endpoints, kept warm by idle pings and instrumented per endpoint. */
+@Component
+public class UpbitHttpTransport implements HttpTransportQueryUseCase {
+    private static final Logger log = LoggerFactory.getLogger(UpbitHttpTransport.class);
+    private static final int LATENCY_SAMPLES = 1_024;
+
+    private final boolean http2;
+    private final long warmWindowNanos;
+    private final boolean keepAliveEnabled;
+    private final long keepAliveIntervalMs;
+    private final String keepAlivePath;
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    public UpbitHttpTransport(VaultHttpTransportProperties properties) {
+        this.http2 = properties.isHttp2();
+        this.warmWindowNanos = Duration.ofMillis(properties.getWarmWindowMs()).toNanos();
+        this.keepAliveEnabled = properties.getKeepAlive().isEnabled();
+        this.keepAliveIntervalMs = properties.getKeepAlive().getIntervalMs();
+        this.keepAlivePath = properties.getKeepAlive().getPath();
+    }
+
+    /** Builds a client whose connections live in a pool owned by {@code name}, separate from other endpoints. */
+    public RestClient restClient(
+            String name,
+            String baseUrl,
+            VaultHttpTransportProperties.Endpoint timeouts,
+            RestClient.Builder builder
+    ) {
+        Endpoint endpoint = new Endpoint(name, baseUrl, timeouts, http2);
+        if (endpoints.putIfAbsent(name, endpoint) != null) {
+            endpoint.client.close();
+            throw new IllegalStateException("http endpoint already registered: " + name);
+        }
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(endpoint.client);
+        requestFactory.setReadTimeout(endpoint.readTimeout);
+        return builder
+                .baseUrl(baseUrl)
+                .requestFactory(endpoint.deadlineBound(requestFactory))
+                .requestInterceptor(endpoint.interceptor())
+                .build();
+    }
+
+    @Scheduled(fixedDelayString = "${vault.http-transport.keep-alive.interval-ms:15000}")
+    public void scheduledKeepAlive() {
+        keepAlive();
+    }
+
+    /** Pings endpoints idle for at least the keep-alive interval; the first run after startup pre-warms them all. */
+    public int keepAlive() {
+        if (!keepAliveEnabled) {
+            return 0;
+        }
+        long idleNanos = Duration.ofMillis(keepAliveIntervalMs).toNanos();
+        int pinged = 0;
+        for (Endpoint endpoint : endpoints.values()) {
+            if (endpoint.idleNanos(System.nanoTime()) >= idleNanos) {
+                endpoint.ping(keepAlivePath);
+                pinged++;
+            }
+        }
+        return pinged;
+    }
+
+    @Override
+    public HttpTransportSnapshot httpTransport() {
+        List<HttpEndpointSnapshot> snapshots = new ArrayList<>(endpoints.size());
+        for (Endpoint endpoint : endpoints.values()) {
+            snapshots.add(endpoint.snapshot());
+        }
+        snapshots.sort((left, right) -> left.name().compareTo(right.name()));
+        return new HttpTransportSnapshot(http2, keepAliveEnabled, keepAliveIntervalMs, List.copyOf(snapshots));
+    }
+
+    @PreDestroy
+    public void close() {
+        endpoints.values().forEach(endpoint -> endpoint.client.shutdownNow());
+    }
+
+    private final class Endpoint {
+        private final String name;
+        private final String baseUrl;
+        private final Duration connectTimeout;
+        private final Duration readTimeout;
+        private final HttpClient client;
+
+        // Zero means no exchange has completed yet, so the pool holds no connection for this endpoint.
+        private final AtomicLong lastExchangeNanos = new AtomicLong(0);
+        private final AtomicLong requests = new AtomicLong(0);
+        private final AtomicLong failures = new AtomicLong(0);
+        private final AtomicLong warmRequests = new AtomicLong(0);
+        private final AtomicLong keepAlivePings = new AtomicLong(0);
+        private final AtomicLong keepAliveFailures = new AtomicLong(0);
+        private final AtomicLong maxLatencyNanos = new AtomicLong(0);
+        private final AtomicLongArray latencySamples = new AtomicLongArray(LATENCY_SAMPLES);
+        private final AtomicLong sampleCursor = new AtomicLong(0);
+
+        private Endpoint(String name, String baseUrl, VaultHttpTransportProperties.Endpoint timeouts, boolean http2) {
+            this.name = name;
+            this.baseUrl = baseUrl;
+            this.connectTimeout = Duration.ofMillis(timeouts.getConnectTimeoutMs());
+            this.readTimeout = Duration.ofMillis(timeouts.getReadTimeoutMs());
+            // The JDK client pools and reuses connections on its own; one client per endpoint keeps
+            // slow quotation traffic from sharing a multiplexed connection with order placement.
+            this.client = HttpClient.newBuilder()
+                    .version(http2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(connectTimeout)
+                    .followRedirects(HttpClient.Redirect.NEVER)
+                    .build();
+        }
+
+        /**
+         * Caps the read timeout at what is left of the calling thread's deadline and refuses to start a request
+         * once it has passed; threads without a deadline keep the endpoint's configured timeout.
+         */
+        private ClientHttpRequestFactory deadlineBound(JdkClientHttpRequestFactory unbounded) {
+            return (uri, method) -> {
+                Optional<Deadline> deadline = Deadline.current();
+                if (deadline.isEmpty()) {
+                    return unbounded.createRequest(uri, method);
+                }
+                deadline.get().check(name + " " + method + " " + uri.getPath());
+                Duration remaining = deadline.get().remaining();
+                if (remaining.compareTo(readTimeout) >= 0) {
+                    return unbounded.createRequest(uri, method);
+                }
+                JdkClientHttpRequestFactory bounded = new JdkClientHttpRequestFactory(client);
+                bounded.setReadTimeout(remaining);
+                return bounded.createRequest(uri, method);
+            };
+        }
+
+        private ClientHttpRequestInterceptor interceptor() {
+            return (request, body, execution) -> {
+                long startedAt = System.nanoTime();
+                requests.incrementAndGet();
+                // The JDK client does not expose pool hits, so a request is counted as reusing a
+                // connection when the previous exchange finished inside the pool's idle window.
+                if (idleNanos(startedAt) < warmWindowNanos) {
+                    warmRequests.incrementAndGet();
+                }
+                try {
+                    ClientHttpResponse response = execution.execute(request, body);
+                    recordExchange(startedAt);
+                    return response;
+                } catch (IOException ex) {
+                    Optional<Deadline> deadline = Deadline.current();
+                    if (deadline.isPresent() && deadline.get().isExpired()) {
+                        // The read timeout was cut to the caller's deadline: a stop we imposed, not an Upbit failure,
+                        // so it must reach neither the retry loop nor the breaker as a transport error.
+                        throw new DeadlineExceededException(
+                                name + " " + request.getMethod() + " " + request.getURI().getPath(), ex);
+                    }
+                    failures.incrementAndGet();
+                    throw ex;
+                }
+            };
+        }
+
+        private void ping(String path) {
+            keepAlivePings.incrementAndGet();
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(readTimeout)
+                    .GET()
+                    .build();
+            try {
+                client.send(request, HttpResponse.BodyHandlers.discarding());
+                // Any status proves the connection is open; only transport errors leave the pool cold.
+                lastExchangeNanos.set(System.nanoTime());
+            } catch (IOException ex) {
+                keepAliveFailures.incrementAndGet();
+                log.debug("http keep-alive failed endpoint={} error={}", name, ex.getMessage());
+            } catch (InterruptedException ex) {
+                keepAliveFailures.incrementAndGet();
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private long idleNanos(long now) {
+            long last = lastExchangeNanos.get();
+            return last == 0 ? Long.MAX_VALUE : now - last;
+        }
+
+        private void recordExchange(long startedAt) {
+            long finishedAt = System.nanoTime();
+            long latency = finishedAt - startedAt;
+            lastExchangeNanos.set(finishedAt);
+            latencySamples.set((int) (sampleCursor.getAndIncrement() % LATENCY_SAMPLES), latency);
+            maxLatencyNanos.accumulateAndGet(latency, Math::max);
+        }
+
+        private HttpEndpointSnapshot snapshot() {
+            int filled = (int) Math.min(sampleCursor.get(), LATENCY_SAMPLES);
+            long[] samples = new long[filled];
+            for (int i = 0; i < filled; i++) {
+                samples[i] = latencySamples.get(i);
+            }
+            Arrays.sort(samples);
+            long total = requests.get();
+            long warm = warmRequests.get();
+            return new HttpEndpointSnapshot(
+                    name,
+                    baseUrl,
+                    connectTimeout.toMillis(),
+                    readTimeout.toMillis(),
+                    total,
+                    failures.get(),
+                    warm,
+                    total - warm,
+                    total == 0 ? 0.0d : (double) warm / total,
+                    percentileMs(samples, 0.50d),
+                    percentileMs(samples, 0.99d),
+                    Duration.ofNanos(maxLatencyNanos.get()).toMillis(),
+                    keepAlivePings.get(),
+                    keepAliveFailures.get()
+            );
+        }
+
+        private long percentileMs(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0L;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return Duration.ofNanos(sorted[Math.max(0, index)]).toMillis();
+        }
+    }
+}
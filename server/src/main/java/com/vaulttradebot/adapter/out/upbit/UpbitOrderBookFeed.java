@@ -0,0 +1,172 @@
+package com.vaulttradebot.adapter.out.upbit;
+
+import com.vaulttradebot.adapter.out.upbit.mapper.UpbitOrderBookDecoder;
+import com.vaulttradebot.application.port.in.OrderBookQueryUseCase;
+import com.vaulttradebot.application.port.out.ClockPort;
+import com.vaulttradebot.application.port.out.OrderBookPort;
+import com.vaulttradebot.application.query.OrderBookFeedSnapshot;
+import com.vaulttradebot.config.VaultMarketDataProperties;
+import com.vaulttradebot.domain.common.L2OrderBook;
+import com.vaulttradebot.domain.common.vo.Market;
+import com.vaulttradebot.domain.common.vo.TopOfBook;
+import jakarta.annotation.PreDestroy;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/** Keeps a local top-of-book per market from the Upbit orderbook stream, seeded and repaired over REST. */
+@Component
+@ConditionalOnProperty(name = "vault.market-data.provider", havingValue = "upbit", matchIfMissing = true)
+public class UpbitOrderBookFeed implements OrderBookPort, OrderBookQueryUseCase {
+    private static final Logger log = LoggerFactory.getLogger(UpbitOrderBookFeed.class);
+
+    private final UpbitQuotationClient quotationClient;
+    private final ClockPort clockPort;
+    private final boolean enabled;
+    private final int levels;
+    private final long staleAfterMs;
+
+    private final Set<String> markets = ConcurrentHashMap.newKeySet();
+    private final Map<String, L2OrderBook> books = new ConcurrentHashMap<>();
+    private final Map<String, Published> published = new ConcurrentHashMap<>();
+    private final UpbitStreamSession session;
+    private final AtomicLong restSnapshots = new AtomicLong(0);
+    private final AtomicLong freshReads = new AtomicLong(0);
+    private final AtomicLong staleReads = new AtomicLong(0);
+
+    public UpbitOrderBookFeed(
+            UpbitQuotationClient quotationClient,
+            ClockPort clockPort,
+            VaultMarketDataProperties properties
+    ) {
+        VaultMarketDataProperties.OrderBook orderBook = properties.getOrderBook();
+        this.quotationClient = quotationClient;
+        this.clockPort = clockPort;
+        this.enabled = orderBook.isEnabled();
+        this.levels = orderBook.getLevels();
+        this.staleAfterMs = orderBook.getStaleAfterMs();
+        // The session decodes on one thread at a time, so its frame is reused across messages.
+        UpbitOrderBookDecoder.Frame streamFrame = new UpbitOrderBookDecoder.Frame(levels);
+        this.session = new UpbitStreamSession(
+                "orderbook",
+                URI.create(orderBook.getWebsocketUrl()),
+                message -> UpbitOrderBookDecoder.decode(message, streamFrame, this::apply) > 0
+        );
+        for (String market : orderBook.getMarkets()) {
+            markets.add(Market.of(market).value());
+        }
+    }
+
+    @Override
+    public Optional<TopOfBook> topOfBook(Market market) {
+        if (!enabled || market == null) {
+            return Optional.empty();
+        }
+        String code = market.value();
+        // First read for this market: the next maintain run subscribes it and seeds it over REST.
+        markets.add(code);
+        Published book = published.get(code);
+        if (book == null || isStale(book, clockPort.now())) {
+            staleReads.incrementAndGet();
+            return Optional.empty();
+        }
+        freshReads.incrementAndGet();
+        return Optional.of(book.topOfBook());
+    }
+
+    @Scheduled(fixedDelayString = "${vault.market-data.order-book.maintain-interval-ms:1000}")
+    public void maintain() {
+        if (!enabled || markets.isEmpty()) {
+            return;
+        }
+        session.maintain(markets);
+        seedStale();
+    }
+
+    /** Fetches a REST snapshot for every tracked market whose streamed book is missing or stale. */
+    int seedStale() {
+        Instant now = clockPort.now();
+        List<String> toSeed = new ArrayList<>();
+        for (String market : markets) {
+            Published book = published.get(market);
+            if (book == null || isStale(book, now)) {
+                toSeed.add(market);
+            }
+        }
+        if (toSeed.isEmpty()) {
+            return 0;
+        }
+        try {
+            int seeded = quotationClient.readOrderBooks(toSeed, new UpbitOrderBookDecoder.Frame(levels), this::apply);
+            restSnapshots.addAndGet(seeded);
+            return seeded;
+        } catch (IllegalStateException ex) {
+            log.warn("orderbook rest seed failed markets={} error={}", toSeed, ex.getMessage());
+            return 0;
+        }
+    }
+
+    @Override
+    public OrderBookFeedSnapshot orderBookFeed() {
+        List<String> tracked = new ArrayList<>(markets);
+        tracked.sort(String::compareTo);
+        return new OrderBookFeedSnapshot(
+                enabled,
+                session.connected(),
+                List.copyOf(tracked),
+                session.messages(),
+                restSnapshots.get(),
+                session.reconnects(),
+                session.decodeFailures(),
+                freshReads.get(),
+                staleReads.get()
+        );
+    }
+
+    @PreDestroy
+    public void close() {
+        session.close();
+    }
+
+    /** Applies one decoded snapshot to the market's book and republishes its top; Upbit always sends full top-N levels. */
+    void apply(UpbitOrderBookDecoder.Frame frame) {
+        String code = frame.market();
+        if (!markets.contains(code)) {
+            return;
+        }
+        L2OrderBook book = books.computeIfAbsent(code, key -> new L2OrderBook(Market.of(key), levels));
+        Optional<TopOfBook> top;
+        synchronized (book) {
+            // Stream and REST seed may land concurrently; both carry whole snapshots, so the last writer wins.
+            book.replaceBids(frame.bidPrices(), frame.bidSizes(), frame.levels());
+            book.replaceAsks(frame.askPrices(), frame.askSizes(), frame.levels());
+            Instant asOf = frame.timestampMillis() > 0 ? Instant.ofEpochMilli(frame.timestampMillis()) : clockPort.now();
+            top = book.topOfBook(asOf);
+        }
+        Instant receivedAt = clockPort.now();
+        top.ifPresentOrElse(
+                value -> published.put(code, new Published(value, receivedAt)),
+                // A one-sided or crossed book is not usable for pricing, so stop serving the previous top.
+                () -> published.remove(code)
+        );
+    }
+
+    private boolean isStale(Published book, Instant now) {
+        return Duration.between(book.receivedAt(), now).toMillis() > staleAfterMs;
+    }
+
+    private record Published(TopOfBook topOfBook, Instant receivedAt) {
+    }
+}
@@ -1,39 +1,70 @@
 package com.vaulttradebot.adapter.out.upbit;
 
-import com.vaulttradebot.adapter.out.upbit.dto.UpbitMinuteCandleResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.vaulttradebot.adapter.out.upbit.dto.UpbitTickerResponse;
+import com.vaulttradebot.adapter.out.upbit.mapper.UpbitCandleStreamDecoder;
+import com.vaulttradebot.adapter.out.upbit.mapper.UpbitOrderBookDecoder;
+import com.vaulttradebot.application.port.in.HedgingQueryUseCase;
 import com.vaulttradebot.config.VaultMarketDataProperties;
 import com.vaulttradebot.config.VaultCircuitBreakerProperties;
+import com.vaulttradebot.config.VaultHttpTransportProperties;
+import com.vaulttradebot.domain.common.CandleBuffer;
+import com.vaulttradebot.domain.common.vo.Asset;
+import com.vaulttradebot.domain.common.vo.Candle;
 import com.vaulttradebot.domain.resilience.CircuitBreaker;
 import com.vaulttradebot.domain.resilience.CircuitBreakerBypassException;
+import com.vaulttradebot.domain.resilience.HedgeSnapshot;
+import com.vaulttradebot.domain.resilience.RequestHedger;
+import jakarta.annotation.PreDestroy;
+import java.net.URI;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.DefaultResponseErrorHandler;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
+import org.springframework.web.util.UriBuilder;
 
 @Component
-public class UpbitQuotationClient {
+public class UpbitQuotationClient implements HedgingQueryUseCase {
     private static final DateTimeFormatter UPBIT_TO_FORMAT = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
     private static final String BREAKER_NAME = "upbit-quotation";
+    private static final DefaultResponseErrorHandler ERROR_HANDLER = new DefaultResponseErrorHandler();
 
     private final RestClient restClient;
     private final UpbitRetryExecutor retryExecutor;
     private final CircuitBreaker circuitBreaker;
     private final VaultCircuitBreakerProperties circuitBreakerProperties;
+    private final UpbitBulkheads bulkheads;
+    private final UpbitRequestPacer pacer;
+    private final boolean hedgingEnabled;
+    private final ExecutorService hedgeExecutor;
+    private final RequestHedger hedger;
 
     public UpbitQuotationClient(
             RestClient.Builder restClientBuilder,
             VaultMarketDataProperties properties,
+            UpbitHttpTransport httpTransport,
+            VaultHttpTransportProperties transportProperties,
             CircuitBreaker circuitBreaker,
-            VaultCircuitBreakerProperties circuitBreakerProperties
+            VaultCircuitBreakerProperties circuitBreakerProperties,
+            UpbitBulkheads bulkheads
     ) {
         VaultMarketDataProperties.Retry retry = properties.getUpbit().getRetry();
-        this.restClient = restClientBuilder
-                .baseUrl(properties.getUpbit().getBaseUrl())
-                .build();
+        this.restClient = httpTransport.restClient(
+                BREAKER_NAME,
+                properties.getUpbit().getBaseUrl(),
+                transportProperties.getQuotation(),
+                restClientBuilder
+        );
         this.retryExecutor = new UpbitRetryExecutor(
                 "upbit-quotation",
                 retry.getMaxAttempts(),
@@ -43,11 +74,36 @@ public class UpbitQuotationClient {
         );
         this.circuitBreaker = circuitBreaker;
         this.circuitBreakerProperties = circuitBreakerProperties;
+        this.bulkheads = bulkheads;
+        this.pacer = new UpbitRequestPacer(BREAKER_NAME, properties.getUpbit().getRequestsPerSecond());
+
+        VaultMarketDataProperties.Hedge hedge = properties.getUpbit().getHedge();
+        if (hedge.getMaxDelayMs() < hedge.getMinDelayMs()) {
+            throw new IllegalArgumentException("vault.market-data.upbit.hedge.max-delay-ms must be >= min-delay-ms");
+        }
+        this.hedgingEnabled = hedge.isEnabled();
+        AtomicInteger threads = new AtomicInteger(0);
+        // Threads are created on demand and idle ones expire, so a disabled hedger costs nothing.
+        this.hedgeExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "upbit-quotation-hedge-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.hedger = new RequestHedger(
+                BREAKER_NAME,
+                hedgeExecutor,
+                hedge.getDelayPercentile(),
+                Duration.ofMillis(hedge.getMinDelayMs()),
+                Duration.ofMillis(hedge.getMaxDelayMs()),
+                hedge.getMinSamples(),
+                hedge.getBudgetPercent(),
+                hedge.getBudgetBurst()
+        );
     }
 
     public UpbitTickerResponse getTicker(String market) {
         try {
-            UpbitTickerResponse[] body = executeProtected("getTicker", () -> restClient.get()
+            UpbitTickerResponse[] body = executeHedged("getTicker", () -> restClient.get()
                     .uri(uriBuilder -> uriBuilder
                             .path("/v1/ticker")
                             .queryParam("markets", market)
@@ -63,21 +119,84 @@ public class UpbitQuotationClient {
         }
     }
 
-    public List<UpbitMinuteCandleResponse> getMinuteCandles(String market, int unit, int count, Instant to) {
+    /** Fetches tickers for several markets in one request; Upbit accepts a comma-separated market list. */
+    public List<UpbitTickerResponse> getTickers(Collection<String> markets) {
+        if (markets == null || markets.isEmpty()) {
+            return List.of();
+        }
+        String joined = String.join(",", markets);
         try {
-            UpbitMinuteCandleResponse[] body = executeProtected("getMinuteCandles", () -> restClient.get()
+            UpbitTickerResponse[] body = executeHedged("getTickers", () -> restClient.get()
                     .uri(uriBuilder -> uriBuilder
-                            .path("/v1/candles/minutes/{unit}")
-                            .queryParam("market", market)
-                            .queryParam("count", count)
-                            .queryParam("to", UPBIT_TO_FORMAT.format(to.atOffset(ZoneOffset.UTC)))
-                            .build(unit))
+                            .path("/v1/ticker")
+                            .queryParam("markets", joined)
+                            .build())
                     .retrieve()
-                    .body(UpbitMinuteCandleResponse[].class));
-            if (body == null) {
-                return List.of();
+                    .body(UpbitTickerResponse[].class));
+            if (body == null || body.length == 0) {
+                throw new IllegalStateException("upbit ticker response was empty for markets " + joined);
             }
             return List.of(body);
+        } catch (RestClientException ex) {
+            throw new IllegalStateException("failed to fetch upbit tickers for markets " + joined, ex);
+        }
+    }
+
+    /** Streams minute candles into {@code into} in ascending open-time order and returns the rows appended. */
+    public int readMinuteCandles(String market, int unit, int count, Instant to, CandleBuffer into) {
+        int start = into.size();
+        try {
+            if (!hedgingEnabled) {
+                return executeProtected("getMinuteCandles", () -> {
+                    // A retried attempt must not keep rows from an earlier attempt that failed part way.
+                    into.truncate(start);
+                    return fetchMinuteCandles(market, unit, count, to, into);
+                });
+            }
+            // Racing attempts cannot share the caller's buffer, so each decodes into its own and the winner is copied.
+            CandleBuffer fetched = executeProtected("getMinuteCandles", () -> hedger.execute(() -> {
+                CandleBuffer own = new CandleBuffer(count);
+                fetchMinuteCandles(market, unit, count, to, own);
+                return own;
+            }));
+            for (int i = 0; i < fetched.size(); i++) {
+                into.add(
+                        fetched.openEpochSecond(i),
+                        fetched.open(i),
+                        fetched.high(i),
+                        fetched.low(i),
+                        fetched.close(i),
+                        fetched.volume(i)
+                );
+            }
+            return fetched.size();
+        } catch (UpbitCandleRangeException ex) {
+            into.truncate(start);
+            throw ex;
+        } catch (RestClientException ex) {
+            into.truncate(start);
+            throw new IllegalStateException(
+                    "failed to fetch upbit minute candles for market %s and unit %d".formatted(market, unit),
+                    ex
+            );
+        }
+    }
+
+    /** Reads minute candles with exact decimals; the slower path for pages the fixed-point buffer cannot hold. */
+    public List<Candle> getMinuteCandles(String market, int unit, int count, Instant to, Asset currency) {
+        try {
+            return executeHedged("getMinuteCandles", () -> restClient.get()
+                    .uri(uriBuilder -> minuteCandlesUri(uriBuilder, market, unit, count, to))
+                    .exchange((request, response) -> {
+                        if (ERROR_HANDLER.hasError(response)) {
+                            ERROR_HANDLER.handleError(response);
+                        }
+                        try {
+                            return UpbitCandleStreamDecoder.decodeCandles(response.getBody(), currency);
+                        } catch (JsonProcessingException ex) {
+                            throw new RestClientException("malformed upbit candle response", ex);
+                        }
+                    }));
         } catch (RestClientException ex) {
             throw new IllegalStateException(
                     "failed to fetch upbit minute candles for market %s and unit %d".formatted(market, unit),
@@ -86,7 +205,92 @@ public class UpbitQuotationClient {
         }
     }
 
+    private int fetchMinuteCandles(String market, int unit, int count, Instant to, CandleBuffer into) {
+        return restClient.get()
+                .uri(uriBuilder -> minuteCandlesUri(uriBuilder, market, unit, count, to))
+                .exchange((request, response) -> {
+                    if (ERROR_HANDLER.hasError(response)) {
+                        ERROR_HANDLER.handleError(response);
+                    }
+                    try {
+                        return UpbitCandleStreamDecoder.decode(response.getBody(), into);
+                    } catch (UpbitCandleStreamDecoder.OutOfRangeException ex) {
+                        throw new UpbitCandleRangeException("upbit candle value exceeds fixed-point range for " + market, ex);
+                    } catch (JsonProcessingException ex) {
+                        // Malformed payloads are not transport failures and must not be retried.
+                        throw new RestClientException("malformed upbit candle response", ex);
+                    }
+                });
+    }
+
+    private static URI minuteCandlesUri(UriBuilder uriBuilder, String market, int unit, int count, Instant to) {
+        return uriBuilder
+                .path("/v1/candles/minutes/{unit}")
+                .queryParam("market", market)
+                .queryParam("count", count)
+                .queryParam("to", UPBIT_TO_FORMAT.format(to.atOffset(ZoneOffset.UTC)))
+                .build(unit);
+    }
+
+    /**
+     * Fetches orderbook snapshots for several markets and decodes each market into {@code frame} for {@code sink}.
+     * Not hedged: the sink sees each market while the body is still being decoded, so two racing attempts would
+     * both reach it.
+     */
+    public int readOrderBooks(Collection<String> markets, UpbitOrderBookDecoder.Frame frame, Consumer<UpbitOrderBookDecoder.Frame> sink) {
+        if (markets == null || markets.isEmpty()) {
+            return 0;
+        }
+        String joined = String.join(",", markets);
+        try {
+            return executeProtected("getOrderBooks", () -> restClient.get()
+                    .uri(uriBuilder -> uriBuilder
+                            .path("/v1/orderbook")
+                            .queryParam("markets", joined)
+                            .build())
+                    .exchange((request, response) -> {
+                        if (ERROR_HANDLER.hasError(response)) {
+                            ERROR_HANDLER.handleError(response);
+                        }
+                        try {
+                            return UpbitOrderBookDecoder.decode(response.getBody(), frame, sink);
+                        } catch (JsonProcessingException ex) {
+                            throw new RestClientException("malformed upbit orderbook response", ex);
+                        }
+                    }));
+        } catch (RestClientException ex) {
+            throw new IllegalStateException("failed to fetch upbit orderbooks for markets " + joined, ex);
+        }
+    }
+
+    @Override
+    public HedgeSnapshot hedging() {
+        return hedger.snapshot();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hedgeExecutor.shutdownNow();
+    }
+
+    /** For idempotent GETs only: each retry attempt may race a second request once it outlives the hedge delay. */
+    private <T> T executeHedged(String operationName, java.util.function.Supplier<T> action) {
+        if (!hedgingEnabled) {
+            return executeProtected(operationName, action);
+        }
+        return executeProtected(operationName, () -> hedger.execute(action));
+    }
+
     private <T> T executeProtected(String operationName, java.util.function.Supplier<T> action) {
+        // Quotation bursts queue and fail inside their own bulkhead, leaving trading permits untouched;
+        // each attempt, retries included, also takes a slot from the shared request pacer.
+        return bulkheads.execute(UpbitBulkheads.Group.QUOTATION, () -> executeGuarded(operationName, () -> {
+            pacer.acquire();
+            return action.get();
+        }));
+    }
+
+    private <T> T executeGuarded(String operationName, java.util.function.Supplier<T> action) {
         if (!circuitBreakerProperties.isEnabled()) {
             return retryExecutor.execute(operationName, action);
         }
@@ -0,0 +1,45 @@
+package com.vaulttradebot.adapter.out.upbit;
+
+import com.vaulttradebot.domain.resilience.Deadline;
+import com.vaulttradebot.domain.resilience.DeadlineExceededException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/** Spaces requests evenly so no one-second window carries more than the configured number of calls. */
+public final class UpbitRequestPacer {
+    private final String name;
+    private final long intervalNanos;
+    private long nextSlotNanos = System.nanoTime();
+
+    public UpbitRequestPacer(String name, int requestsPerSecond) {
+        if (requestsPerSecond < 1) {
+            throw new IllegalArgumentException(name + " requests-per-second must be >= 1");
+        }
+        this.name = name;
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / requestsPerSecond;
+    }
+
+    /** Waits for the next free slot; a slot past the caller's deadline is not taken and fails at once. */
+    public void acquire() {
+        Optional<Deadline> deadline = Deadline.current();
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long slot = Math.max(nextSlotNanos, now);
+            waitNanos = slot - now;
+            if (waitNanos > 0 && deadline.isPresent() && deadline.get().remaining().toNanos() <= waitNanos) {
+                throw new DeadlineExceededException(name + " pacing");
+            }
+            nextSlotNanos = slot + intervalNanos;
+        }
+        if (waitNanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while pacing " + name, e);
+        }
+    }
+}
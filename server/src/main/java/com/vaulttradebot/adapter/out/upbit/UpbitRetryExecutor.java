@@ -1,8 +1,10 @@
 package com.vaulttradebot.adapter.out.upbit;
 
+import com.vaulttradebot.domain.resilience.Deadline;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZonedDateTime;
+import java.util.Optional;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.DoubleSupplier;
 import java.util.function.LongConsumer;
@@ -77,6 +79,9 @@ final class UpbitRetryExecutor {
                     throw ex;
                 }
                 long delayMs = resolveDelay(ex, attempt);
+                if (!fitsDeadline(operationName, delayMs)) {
+                    throw ex;
+                }
                 log.warn(
                         "Retrying {} {} after HTTP {} on attempt {} in {} ms",
                         clientName,
@@ -92,6 +97,9 @@ final class UpbitRetryExecutor {
                     throw ex;
                 }
                 long delayMs = computeBackoffDelay(attempt);
+                if (!fitsDeadline(operationName, delayMs)) {
+                    throw ex;
+                }
                 log.warn(
                         "Retrying {} {} after transport failure on attempt {} in {} ms",
                         clientName,
@@ -105,6 +113,16 @@ final class UpbitRetryExecutor {
         }
     }
 
+    // A back-off that ends past the caller's deadline cannot help it, so the last failure is returned at once.
+    private boolean fitsDeadline(String operationName, long delayMs) {
+        Optional<Deadline> deadline = Deadline.current();
+        if (deadline.isEmpty() || deadline.get().remaining().toMillis() > delayMs) {
+            return true;
+        }
+        log.warn("Not retrying {} {}: {} ms back-off exceeds the remaining deadline", clientName, operationName, delayMs);
+        return false;
+    }
+
     // Only infrastructure-style failures should contribute to circuit-breaker state changes.
     boolean shouldTripCircuitBreaker(RuntimeException error) {
         if (error instanceof ResourceAccessException) {
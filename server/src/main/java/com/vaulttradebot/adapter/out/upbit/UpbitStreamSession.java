@@ -0,0 +1,205 @@
+package com.vaulttradebot.adapter.out.upbit;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/** One Upbit WebSocket subscription of a single type, reconnected on demand and decoded message by message. */
+final class UpbitStreamSession {
+    private static final Logger log = LoggerFactory.getLogger(UpbitStreamSession.class);
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+
+    /** Decodes one complete message; returns whether it carried data rather than a status frame. */
+    @FunctionalInterface
+    interface MessageHandler {
+        boolean onMessage(InputStream message) throws IOException;
+    }
+
+    private final String type;
+    private final URI uri;
+    private final MessageHandler handler;
+    private final AtomicBoolean connecting = new AtomicBoolean(false);
+    private final AtomicLong messages = new AtomicLong(0);
+    private final AtomicLong reconnects = new AtomicLong(0);
+    private final AtomicLong decodeFailures = new AtomicLong(0);
+
+    private volatile HttpClient httpClient;
+    private volatile WebSocket webSocket;
+    private volatile List<String> subscribed = List.of();
+
+    UpbitStreamSession(String type, URI uri, MessageHandler handler) {
+        this.type = type;
+        this.uri = uri;
+        this.handler = handler;
+    }
+
+    /** Connects when down and reconnects when the code set changed; never blocks on the handshake. */
+    void maintain(Collection<String> codes) {
+        if (codes.isEmpty()) {
+            return;
+        }
+        List<String> wanted = codes.stream().sorted().toList();
+        WebSocket current = webSocket;
+        if (current != null && !wanted.equals(subscribed)) {
+            // Reconnecting is the simplest way to swap the code list; markets are added rarely.
+            current.abort();
+            webSocket = null;
+            current = null;
+        }
+        if (current == null || current.isInputClosed() || current.isOutputClosed()) {
+            connect(wanted);
+        }
+    }
+
+    boolean connected() {
+        WebSocket current = webSocket;
+        return current != null && !current.isInputClosed();
+    }
+
+    long messages() {
+        return messages.get();
+    }
+
+    long reconnects() {
+        return reconnects.get();
+    }
+
+    long decodeFailures() {
+        return decodeFailures.get();
+    }
+
+    void close() {
+        WebSocket current = webSocket;
+        webSocket = null;
+        if (current != null) {
+            current.abort();
+        }
+        HttpClient client = httpClient;
+        if (client != null) {
+            client.shutdownNow();
+        }
+    }
+
+    private void connect(List<String> codes) {
+        if (!connecting.compareAndSet(false, true)) {
+            return;
+        }
+        HttpClient client = httpClient;
+        if (client == null) {
+            client = HttpClient.newBuilder().connectTimeout(CONNECT_TIMEOUT).build();
+            httpClient = client;
+        }
+        client.newWebSocketBuilder()
+                .connectTimeout(CONNECT_TIMEOUT)
+                .buildAsync(uri, new Listener())
+                .whenComplete((socket, error) -> {
+                    connecting.set(false);
+                    if (error != null) {
+                        log.warn("{} stream connect failed url={} error={}", type, uri, error.getMessage());
+                        return;
+                    }
+                    reconnects.incrementAndGet();
+                    subscribed = codes;
+                    webSocket = socket;
+                    socket.sendText(subscription(codes), true);
+                    log.info("{} stream subscribed markets={}", type, codes);
+                });
+    }
+
+    private String subscription(List<String> codes) {
+        StringBuilder json = new StringBuilder("[{\"ticket\":\"")
+                .append(UUID.randomUUID())
+                .append("\"},{\"type\":\"")
+                .append(type)
+                .append("\",\"codes\":[");
+        for (int i = 0; i < codes.size(); i++) {
+            json.append(i == 0 ? "" : ",").append('"').append(codes.get(i)).append('"');
+        }
+        return json.append("]}]").toString();
+    }
+
+    private final class Listener implements WebSocket.Listener {
+        // Callbacks on one socket are serialized by request(1), so the listener owns its buffer.
+        private byte[] message = new byte[8_192];
+        private int length;
+
+        @Override
+        public void onOpen(WebSocket webSocket) {
+            webSocket.request(1);
+        }
+
+        @Override
+        public CompletionStage<?> onBinary(WebSocket webSocket, ByteBuffer data, boolean last) {
+            append(data);
+            return complete(webSocket, last);
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+            append(StandardCharsets.UTF_8.encode(CharBuffer.wrap(data)));
+            return complete(webSocket, last);
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+            log.info("{} stream closed status={} reason={}", type, statusCode, reason);
+            disconnected(webSocket);
+            return null;
+        }
+
+        @Override
+        public void onError(WebSocket webSocket, Throwable error) {
+            log.warn("{} stream failed error={}", type, error.getMessage());
+            disconnected(webSocket);
+        }
+
+        private void append(ByteBuffer data) {
+            int needed = length + data.remaining();
+            if (needed > message.length) {
+                message = Arrays.copyOf(message, Math.max(needed, message.length * 2));
+            }
+            data.get(message, length, data.remaining());
+            length = needed;
+        }
+
+        private CompletionStage<?> complete(WebSocket webSocket, boolean last) {
+            if (last) {
+                try {
+                    if (handler.onMessage(new ByteArrayInputStream(message, 0, length))) {
+                        messages.incrementAndGet();
+                    }
+                } catch (IOException | RuntimeException ex) {
+                    decodeFailures.incrementAndGet();
+                    log.debug("{} stream message dropped error={}", type, ex.getMessage());
+                } finally {
+                    length = 0;
+                }
+            }
+            webSocket.request(1);
+            return null;
+        }
+
+        private void disconnected(WebSocket socket) {
+            // Only clear the field if a newer connection has not already replaced this one.
+            if (UpbitStreamSession.this.webSocket == socket) {
+                UpbitStreamSession.this.webSocket = null;
+            }
+        }
+    }
+}
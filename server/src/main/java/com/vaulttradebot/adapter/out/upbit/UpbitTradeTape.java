@@ -0,0 +1,221 @@
+package com.vaulttradebot.adapter.out.upbit;
+
+import com.vaulttradebot.adapter.out.upbit.mapper.UpbitTradeDecoder;
+import com.vaulttradebot.application.port.in.TradeTapeQueryUseCase;
+import com.vaulttradebot.application.port.out.ClockPort;
+import com.vaulttradebot.application.port.out.TradeBarPort;
+import com.vaulttradebot.application.query.TradeTapeSnapshot;
+import com.vaulttradebot.config.VaultMarketDataProperties;
+import com.vaulttradebot.domain.common.TradeBarAggregator;
+import com.vaulttradebot.domain.common.TradeBarRing;
+import com.vaulttradebot.domain.common.vo.Candle;
+import com.vaulttradebot.domain.common.vo.Market;
+import com.vaulttradebot.domain.common.vo.Timeframe;
+import jakarta.annotation.PreDestroy;
+import java.net.URI;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/** Folds the Upbit trade stream into sub-minute bars per market, kept in bounded lock-free histories. */
+@Component
+@ConditionalOnProperty(name = "vault.market-data.provider", havingValue = "upbit", matchIfMissing = true)
+public class UpbitTradeTape implements TradeBarPort, TradeTapeQueryUseCase {
+    private static final Logger log = LoggerFactory.getLogger(UpbitTradeTape.class);
+
+    private final ClockPort clockPort;
+    private final boolean enabled;
+    private final Set<Timeframe> timeframes;
+    private final int historyBars;
+    private final long closeGraceMs;
+
+    private final Map<String, MarketTape> tapes = new ConcurrentHashMap<>();
+    private final List<BarCloseListener> listeners = new CopyOnWriteArrayList<>();
+    private final List<TradeListener> tradeListeners = new CopyOnWriteArrayList<>();
+    private final UpbitStreamSession session;
+    private final AtomicLong trades = new AtomicLong(0);
+    private final AtomicLong lateTrades = new AtomicLong(0);
+    private final AtomicLong barsClosed = new AtomicLong(0);
+    private final AtomicLong listenerFailures = new AtomicLong(0);
+
+    public UpbitTradeTape(ClockPort clockPort, VaultMarketDataProperties properties) {
+        VaultMarketDataProperties.TradeTape tradeTape = properties.getTradeTape();
+        for (Timeframe timeframe : tradeTape.getTimeframes()) {
+            if (!timeframe.isSubMinute()) {
+                throw new IllegalArgumentException("trade tape only builds sub-minute bars, not " + timeframe);
+            }
+        }
+        this.clockPort = clockPort;
+        this.enabled = tradeTape.isEnabled();
+        this.timeframes = EnumSet.copyOf(tradeTape.getTimeframes());
+        this.historyBars = tradeTape.getHistoryBars();
+        this.closeGraceMs = tradeTape.getCloseGraceMs();
+        // The session decodes on one thread at a time, so its scratch trade is reused across messages.
+        UpbitTradeDecoder.Trade streamTrade = new UpbitTradeDecoder.Trade();
+        this.session = new UpbitStreamSession(
+                "trade",
+                URI.create(tradeTape.getWebsocketUrl()),
+                message -> UpbitTradeDecoder.decode(message, streamTrade, this::apply)
+        );
+        for (String market : tradeTape.getMarkets()) {
+            track(Market.of(market));
+        }
+    }
+
+    @Override
+    public List<Candle> recentBars(Market market, Timeframe timeframe, int limit, Instant now) {
+        if (!enabled) {
+            throw new IllegalStateException("trade tape is disabled; no " + timeframe + " bars available");
+        }
+        if (!timeframes.contains(timeframe)) {
+            throw new IllegalArgumentException("trade tape does not aggregate timeframe " + timeframe);
+        }
+        return tape(market).rings.get(timeframe).recent(limit, now, timeframe.duration());
+    }
+
+    @Override
+    public void track(Market market) {
+        if (enabled) {
+            tape(market);
+        }
+    }
+
+    @Override
+    public void addBarCloseListener(BarCloseListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void addTradeListener(TradeListener listener) {
+        tradeListeners.add(listener);
+    }
+
+    @Scheduled(fixedDelayString = "${vault.market-data.trade-tape.maintain-interval-ms:1000}")
+    public void maintain() {
+        if (enabled && !tapes.isEmpty()) {
+            session.maintain(tapes.keySet());
+        }
+    }
+
+    /** Closes bars whose interval ended more than the grace period ago, so quiet markets still produce bars. */
+    @Scheduled(fixedDelayString = "${vault.market-data.trade-tape.flush-interval-ms:250}")
+    public void flush() {
+        long closeBefore = clockPort.now().toEpochMilli() - closeGraceMs;
+        for (MarketTape tape : tapes.values()) {
+            tape.closeThrough(closeBefore);
+        }
+    }
+
+    @Override
+    public TradeTapeSnapshot tradeTape() {
+        List<String> tracked = new ArrayList<>(tapes.keySet());
+        tracked.sort(String::compareTo);
+        return new TradeTapeSnapshot(
+                enabled,
+                session.connected(),
+                List.copyOf(tracked),
+                timeframes.stream().map(Timeframe::name).toList(),
+                historyBars,
+                trades.get(),
+                lateTrades.get(),
+                barsClosed.get(),
+                listenerFailures.get(),
+                session.reconnects(),
+                session.decodeFailures()
+        );
+    }
+
+    @PreDestroy
+    public void close() {
+        session.close();
+    }
+
+    /** Applies one decoded trade to its market's bars; trades for untracked markets are ignored. */
+    void apply(UpbitTradeDecoder.Trade trade) {
+        MarketTape tape = tapes.get(trade.market());
+        if (tape == null) {
+            return;
+        }
+        trades.incrementAndGet();
+        for (TradeListener listener : tradeListeners) {
+            try {
+                listener.onTrade(tape.market, trade.price(), trade.timestampMillis());
+            } catch (RuntimeException ex) {
+                listenerFailures.incrementAndGet();
+                log.warn("trade listener failed market={} error={}", trade.market(), ex.getMessage());
+            }
+        }
+        if (!tape.onTrade(trade.timestampMillis(), trade.price(), trade.volume())) {
+            lateTrades.incrementAndGet();
+        }
+    }
+
+    private MarketTape tape(Market market) {
+        return tapes.computeIfAbsent(market.value(), ignored -> new MarketTape(market));
+    }
+
+    private void publish(Market market, Timeframe timeframe, Candle bar) {
+        barsClosed.incrementAndGet();
+        for (BarCloseListener listener : listeners) {
+            try {
+                listener.onBarClosed(market, timeframe, bar);
+            } catch (RuntimeException ex) {
+                // One faulty listener must not stop bars reaching the history or the other listeners.
+                listenerFailures.incrementAndGet();
+                log.warn("bar close listener failed market={} timeframe={} error={}", market.value(), timeframe, ex.getMessage());
+            }
+        }
+    }
+
+    private final class MarketTape {
+        private final Market market;
+        private final List<Series> series = new ArrayList<>();
+        private final Map<Timeframe, TradeBarRing> rings = new EnumMap<>(Timeframe.class);
+
+        private MarketTape(Market market) {
+            this.market = market;
+            for (Timeframe timeframe : timeframes) {
+                TradeBarRing ring = new TradeBarRing(historyBars);
+                rings.put(timeframe, ring);
+                series.add(new Series(
+                        new TradeBarAggregator(timeframe, market.quote(), historyBars),
+                        bar -> {
+                            ring.append(bar);
+                            publish(market, timeframe, bar);
+                        }
+                ));
+            }
+        }
+
+        // The stream thread and the flush scheduler both write; readers go straight to the rings.
+        private synchronized boolean onTrade(long epochMillis, long price, long volume) {
+            boolean accepted = true;
+            for (Series one : series) {
+                accepted &= one.aggregator.onTrade(epochMillis, price, volume, one.closed);
+            }
+            return accepted;
+        }
+
+        private synchronized void closeThrough(long epochMillis) {
+            for (Series one : series) {
+                one.aggregator.closeThrough(epochMillis, one.closed);
+            }
+        }
+    }
+
+    private record Series(TradeBarAggregator aggregator, Consumer<Candle> closed) {
+    }
+}
@@ -3,10 +3,14 @@ package com.vaulttradebot.adapter.out.upbit;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vaulttradebot.adapter.out.upbit.dto.UpbitBatchCancelResponse;
+import com.vaulttradebot.adapter.out.upbit.dto.UpbitCancelAndNewRequest;
+import com.vaulttradebot.adapter.out.upbit.dto.UpbitCancelAndNewResponse;
 import com.vaulttradebot.adapter.out.upbit.dto.UpbitCancelOrderRequest;
 import com.vaulttradebot.adapter.out.upbit.dto.UpbitCreateOrderRequest;
 import com.vaulttradebot.adapter.out.upbit.dto.UpbitOrderResponse;
 import com.vaulttradebot.config.VaultCircuitBreakerProperties;
+import com.vaulttradebot.config.VaultHttpTransportProperties;
 import com.vaulttradebot.config.VaultTradingProperties;
 import com.vaulttradebot.domain.resilience.CircuitBreaker;
 import com.vaulttradebot.domain.resilience.CircuitBreakerBypassException;
@@ -14,8 +18,11 @@ import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
+import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 import java.util.UUID;
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
@@ -24,6 +31,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
 
@@ -42,18 +50,25 @@ public class UpbitTradingClient {
     private final UpbitRetryExecutor retryExecutor;
     private final CircuitBreaker circuitBreaker;
     private final VaultCircuitBreakerProperties circuitBreakerProperties;
+    private final UpbitBulkheads bulkheads;
 
     public UpbitTradingClient(
             RestClient.Builder restClientBuilder,
             VaultTradingProperties properties,
+            UpbitHttpTransport httpTransport,
+            VaultHttpTransportProperties transportProperties,
             ObjectMapper objectMapper,
             CircuitBreaker circuitBreaker,
-            VaultCircuitBreakerProperties circuitBreakerProperties
+            VaultCircuitBreakerProperties circuitBreakerProperties,
+            UpbitBulkheads bulkheads
     ) {
         VaultTradingProperties.Upbit upbit = properties.getUpbit();
-        this.restClient = restClientBuilder
-                .baseUrl(upbit.getBaseUrl())
-                .build();
+        this.restClient = httpTransport.restClient(
+                BREAKER_NAME,
+                upbit.getBaseUrl(),
+                transportProperties.getTrading(),
+                restClientBuilder
+        );
         this.objectMapper = objectMapper;
         this.accessKey = requireText(upbit.getAccessKey(), "vault.trading.upbit.access-key");
         this.secretKey = requireText(upbit.getSecretKey(), "vault.trading.upbit.secret-key");
@@ -67,6 +82,7 @@ public class UpbitTradingClient {
         );
         this.circuitBreaker = circuitBreaker;
         this.circuitBreakerProperties = circuitBreakerProperties;
+        this.bulkheads = bulkheads;
     }
 
     public UpbitOrderResponse placeLimitOrder(UpbitCreateOrderRequest request) {
@@ -83,45 +99,90 @@ public class UpbitTradingClient {
         return post("/v1/orders", body);
     }
 
+    /** Cancels an order and places its successor in one request, so the book is never left without either. */
+    public UpbitCancelAndNewResponse cancelAndNew(UpbitCancelAndNewRequest request) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("prev_order_uuid", requireText(request.prevOrderUuid(), "previous order uuid"));
+        body.put("new_ord_type", request.newOrdType());
+        body.put("new_volume", request.newVolume());
+        body.put("new_price", request.newPrice());
+        if (StringUtils.hasText(request.newIdentifier())) {
+            body.put("new_identifier", request.newIdentifier());
+        }
+        return post("/v1/orders/cancel_and_new", body, UpbitCancelAndNewResponse.class);
+    }
+
     public UpbitOrderResponse cancelOrder(String uuid) {
         Map<String, Object> body = new LinkedHashMap<>();
         body.put("uuid", requireText(uuid, "order uuid"));
         return delete("/v1/order", body);
     }
 
+    /** Cancels up to 20 orders in one request; Upbit reports per-uuid success and failure in the response. */
+    public UpbitBatchCancelResponse cancelOrders(List<String> uuids) {
+        if (uuids == null || uuids.isEmpty() || uuids.size() > 20) {
+            throw new IllegalArgumentException("batch cancel needs between 1 and 20 order uuids");
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("uuids", List.copyOf(uuids));
+        return delete("/v1/orders/uuids", body, UpbitBatchCancelResponse.class);
+    }
+
     public UpbitOrderResponse getOrder(String uuid) {
         Map<String, Object> query = new LinkedHashMap<>();
         query.put("uuid", requireText(uuid, "order uuid"));
         return get("/v1/order", query);
     }
 
+    /** Looks an order up by the identifier it was placed with; null when Upbit has no order under it. */
+    public UpbitOrderResponse findOrderByIdentifier(String identifier) {
+        Map<String, Object> query = new LinkedHashMap<>();
+        query.put("identifier", requireText(identifier, "order identifier"));
+        try {
+            return get("/v1/order", query);
+        } catch (IllegalStateException ex) {
+            if (ex.getCause() instanceof HttpClientErrorException.NotFound) {
+                return null;
+            }
+            throw ex;
+        }
+    }
+
     public UpbitOrderResponse cancelOrder(UpbitCancelOrderRequest request) {
         return cancelOrder(request.uuid());
     }
 
     private UpbitOrderResponse post(String path, Map<String, Object> body) {
+        return post(path, body, UpbitOrderResponse.class);
+    }
+
+    private <T> T post(String path, Map<String, Object> body, Class<T> responseType) {
         try {
-            return executeProtected("POST " + path, () -> restClient.post()
+            return executeProtected(UpbitBulkheads.Group.TRADING, "POST " + path, () -> restClient.post()
                     .uri(path)
                     .header(HttpHeaders.AUTHORIZATION, "Bearer " + createJwt(body))
                     .contentType(MediaType.APPLICATION_JSON)
                     .body(body)
                     .retrieve()
-                    .body(UpbitOrderResponse.class));
+                    .body(responseType));
         } catch (RestClientException ex) {
             throw new IllegalStateException("failed to call upbit trading endpoint " + path, ex);
         }
     }
 
     private UpbitOrderResponse delete(String path, Map<String, Object> body) {
+        return delete(path, body, UpbitOrderResponse.class);
+    }
+
+    private <T> T delete(String path, Map<String, Object> body, Class<T> responseType) {
         try {
-            return executeProtected("DELETE " + path, () -> restClient.method(org.springframework.http.HttpMethod.DELETE)
+            return executeProtected(UpbitBulkheads.Group.TRADING, "DELETE " + path, () -> restClient.method(org.springframework.http.HttpMethod.DELETE)
                     .uri(path)
                     .header(HttpHeaders.AUTHORIZATION, "Bearer " + createJwt(body))
                     .contentType(MediaType.APPLICATION_JSON)
                     .body(body)
                     .retrieve()
-                    .body(UpbitOrderResponse.class));
+                    .body(responseType));
         } catch (RestClientException ex) {
             throw new IllegalStateException("failed to call upbit trading endpoint " + path, ex);
         }
@@ -129,7 +190,7 @@ public class UpbitTradingClient {
 
     private UpbitOrderResponse get(String path, Map<String, Object> query) {
         try {
-            return executeProtected("GET " + path, () -> restClient.get()
+            return executeProtected(UpbitBulkheads.Group.LOOKUP, "GET " + path, () -> restClient.get()
                     .uri(uriBuilder -> {
                         var builder = uriBuilder.path(path);
                         query.forEach(builder::queryParam);
@@ -143,7 +204,12 @@ public class UpbitTradingClient {
         }
     }
 
-    private <T> T executeProtected(String operationName, java.util.function.Supplier<T> action) {
+    private <T> T executeProtected(UpbitBulkheads.Group group, String operationName, java.util.function.Supplier<T> action) {
+        // Placement and cancels never wait behind order lookups; each group owns its permits and queue.
+        return bulkheads.execute(group, () -> executeGuarded(operationName, action));
+    }
+
+    private <T> T executeGuarded(String operationName, java.util.function.Supplier<T> action) {
         if (!circuitBreakerProperties.isEnabled()) {
             return retryExecutor.execute(operationName, action);
         }
@@ -200,7 +266,10 @@ public class UpbitTradingClient {
             // Preserve insertion order so the generated hash stays stable across runs.
             return converted.entrySet().stream()
                     .filter(entry -> entry.getValue() != null)
-                    .map(entry -> entry.getKey() + "=" + entry.getValue())
+                    .flatMap(entry -> entry.getValue() instanceof Collection<?> values
+                            // Array parameters are hashed the way Upbit reads them: key[]=a&key[]=b.
+                            ? values.stream().map(value -> entry.getKey() + "[]=" + value)
+                            : Stream.of(entry.getKey() + "=" + entry.getValue()))
                     .reduce((left, right) -> left + "&" + right)
                     .orElse("");
         } catch (IllegalArgumentException ex) {
@@ -0,0 +1,21 @@
+package com.vaulttradebot.adapter.out.upbit.dto;
+
+import java.util.List;
+
+public record UpbitBatchCancelResponse(
+        Outcome success,
+        Outcome failed
+) {
+    public record Outcome(
+            int count,
+            List<CanceledOrder> orders
+    ) {
+    }
+
+    public record CanceledOrder(
+            String uuid,
+            String market,
+            String identifier
+    ) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.vaulttradebot.adapter.out.upbit.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record UpbitCancelAndNewRequest(
+        @JsonProperty("prev_order_uuid")
+        String prevOrderUuid,
+        @JsonProperty("new_ord_type")
+        String newOrdType,
+        @JsonProperty("new_volume")
+        String newVolume,
+        @JsonProperty("new_price")
+        String newPrice,
+        @JsonProperty("new_identifier")
+        String newIdentifier
+) {
+}
@@ -0,0 +1,16 @@
+package com.vaulttradebot.adapter.out.upbit.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record UpbitCancelAndNewResponse(
+        String uuid,
+        String state,
+        String market,
+        @JsonProperty("executed_volume")
+        String executedVolume,
+        @JsonProperty("remaining_volume")
+        String remainingVolume,
+        @JsonProperty("new_order_uuid")
+        String newOrderUuid
+) {
+}
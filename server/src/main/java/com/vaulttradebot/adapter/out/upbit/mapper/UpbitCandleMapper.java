@@ -0,0 +1,19 @@
+package com.vaulttradebot.adapter.out.upbit.mapper;
+
+import com.vaulttradebot.domain.common.vo.Timeframe;
+
+public final class UpbitCandleMapper {
+    private UpbitCandleMapper() {
+    }
+
+    public static int minuteUnit(Timeframe timeframe) {
+        return switch (timeframe) {
+            case M1 -> 1;
+            case M5 -> 5;
+            case M15 -> 15;
+            case H1 -> 60;
+            case S1, S5, S15 -> throw new IllegalArgumentException(
+                    "upbit has no candle endpoint for " + timeframe + "; sub-minute bars come from the trade tape");
+        };
+    }
+}
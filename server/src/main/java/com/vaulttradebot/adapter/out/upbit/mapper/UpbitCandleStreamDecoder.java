@@ -0,0 +1,349 @@
+package com.vaulttradebot.adapter.out.upbit.mapper;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.vaulttradebot.domain.common.CandleBuffer;
+import com.vaulttradebot.domain.common.vo.Asset;
+import com.vaulttradebot.domain.common.vo.Candle;
+import com.vaulttradebot.domain.common.vo.Price;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.OffsetDateTime;
+import java.time.Year;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/** Decodes an Upbit candle array token by token into a {@link CandleBuffer}, without DTOs or BigDecimals. */
+public final class UpbitCandleStreamDecoder {
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L
+    };
+    // Ten integer digits times 10^8 still fits in a long; longer values take the BigDecimal path.
+    private static final int MAX_FAST_INTEGER_DIGITS = 10;
+    private static final long MAX_FAST_INTEGER = 10_000_000_000L;
+
+    private static final int OPEN_TIME = 1;
+    private static final int OPEN = 1 << 1;
+    private static final int HIGH = 1 << 2;
+    private static final int LOW = 1 << 3;
+    private static final int CLOSE = 1 << 4;
+    private static final int VOLUME = 1 << 5;
+    private static final int COMPLETE = OPEN_TIME | OPEN | HIGH | LOW | CLOSE | VOLUME;
+
+    private UpbitCandleStreamDecoder() {
+    }
+
+    /**
+     * A number that does not fit the 8-decimal fixed point, such as the twelve-digit volumes of very low-priced
+     * coins. It is a {@link JsonParseException} so callers treat it as a payload problem, never as a transport one.
+     */
+    public static final class OutOfRangeException extends JsonParseException {
+        private OutOfRangeException(JsonParser parser, String value) {
+            super(parser, "value out of fixed-point range: " + value);
+        }
+    }
+
+    /** Appends every complete candle in ascending open-time order and returns the number of rows added. */
+    public static int decode(InputStream body, CandleBuffer into) throws IOException {
+        int start = into.size();
+        try (JsonParser parser = JSON.createParser(body)) {
+            decode(parser, into);
+        } catch (IOException | RuntimeException ex) {
+            into.truncate(start);
+            throw ex;
+        }
+        // Upbit returns newest first; domain consumers expect ascending open times.
+        into.sortByOpenTime(start);
+        return into.size() - start;
+    }
+
+    /**
+     * Decodes the same payload into domain candles with exact decimals, in ascending open-time order. This is the
+     * path for pages the fixed-point decode rejected with {@link OutOfRangeException}.
+     */
+    public static List<Candle> decodeCandles(InputStream body, Asset currency) throws IOException {
+        List<Candle> candles = new ArrayList<>();
+        try (JsonParser parser = JSON.createParser(body)) {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.VALUE_NULL) {
+                return candles;
+            }
+            if (token != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "expected upbit candle array but found " + token);
+            }
+            while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+                decodeExactCandle(parser, currency, candles);
+            }
+            if (token != JsonToken.END_ARRAY) {
+                throw new JsonParseException(parser, "unexpected token in upbit candle array: " + token);
+            }
+        }
+        candles.sort(Comparator.comparing(Candle::openTime));
+        return candles;
+    }
+
+    private static void decode(JsonParser parser, CandleBuffer into) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null || token == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "expected upbit candle array but found " + token);
+        }
+        while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+            decodeCandle(parser, into);
+        }
+        if (token != JsonToken.END_ARRAY) {
+            throw new JsonParseException(parser, "unexpected token in upbit candle array: " + token);
+        }
+    }
+
+    private static void decodeCandle(JsonParser parser, CandleBuffer into) throws IOException {
+        long openTime = 0;
+        long open = 0;
+        long high = 0;
+        long low = 0;
+        long close = 0;
+        long volume = 0;
+        int present = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "candle_date_time_utc" -> {
+                    openTime = epochSecondUtc(parser);
+                    present |= OPEN_TIME;
+                }
+                case "opening_price" -> {
+                    open = scaled(parser, value);
+                    present |= OPEN;
+                }
+                case "high_price" -> {
+                    high = scaled(parser, value);
+                    present |= HIGH;
+                }
+                case "low_price" -> {
+                    low = scaled(parser, value);
+                    present |= LOW;
+                }
+                case "trade_price" -> {
+                    close = scaled(parser, value);
+                    present |= CLOSE;
+                }
+                case "candle_acc_trade_volume" -> {
+                    volume = scaled(parser, value);
+                    present |= VOLUME;
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        // Rows missing a required field are dropped, as the DTO mapping did; negative low/close are clamped.
+        if (present == COMPLETE) {
+            into.add(openTime, open, high, Math.max(0L, low), Math.max(0L, close), volume);
+        }
+    }
+
+    private static void decodeExactCandle(JsonParser parser, Asset currency, List<Candle> into) throws IOException {
+        long openTime = 0;
+        BigDecimal[] prices = new BigDecimal[4];
+        BigDecimal volume = null;
+        int present = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "candle_date_time_utc" -> {
+                    openTime = epochSecondUtc(parser);
+                    present |= OPEN_TIME;
+                }
+                case "opening_price" -> {
+                    prices[0] = decimal(parser, value);
+                    present |= OPEN;
+                }
+                case "high_price" -> {
+                    prices[1] = decimal(parser, value);
+                    present |= HIGH;
+                }
+                case "low_price" -> {
+                    prices[2] = decimal(parser, value).max(BigDecimal.ZERO);
+                    present |= LOW;
+                }
+                case "trade_price" -> {
+                    prices[3] = decimal(parser, value).max(BigDecimal.ZERO);
+                    present |= CLOSE;
+                }
+                case "candle_acc_trade_volume" -> {
+                    volume = decimal(parser, value);
+                    present |= VOLUME;
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        if (present == COMPLETE) {
+            into.add(new Candle(
+                    Instant.ofEpochSecond(openTime),
+                    Price.of(prices[0], currency),
+                    Price.of(prices[1], currency),
+                    Price.of(prices[2], currency),
+                    Price.of(prices[3], currency),
+                    volume
+            ));
+        }
+    }
+
+    private static BigDecimal decimal(JsonParser parser, JsonToken value) throws IOException {
+        if (value != JsonToken.VALUE_NUMBER_INT && value != JsonToken.VALUE_NUMBER_FLOAT) {
+            throw new JsonParseException(parser, "expected numeric candle field but found " + value);
+        }
+        return parser.getDecimalValue();
+    }
+
+    /**
+     * Scales a number to 8-decimal fixed point, throwing {@link OutOfRangeException} when it does not fit a long.
+     */
+    static long scaled(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+            long integer = parser.getLongValue();
+            if (Math.abs(integer) < MAX_FAST_INTEGER) {
+                return integer * POWERS_OF_TEN[CandleBuffer.SCALE];
+            }
+        }
+        if (value == JsonToken.VALUE_NUMBER_FLOAT) {
+            long fast = scaledFromText(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+            if (fast != Long.MIN_VALUE) {
+                return fast;
+            }
+        }
+        if (value != JsonToken.VALUE_NUMBER_INT && value != JsonToken.VALUE_NUMBER_FLOAT) {
+            throw new JsonParseException(parser, "expected numeric candle field but found " + value);
+        }
+        try {
+            return CandleBuffer.toScaled(parser.getDecimalValue());
+        } catch (ArithmeticException ex) {
+            throw new OutOfRangeException(parser, parser.getText());
+        }
+    }
+
+    /**
+     * Like {@link #scaled} but clamps a size beyond the fixed-point range to the largest one it can hold. For order
+     * book and trade sizes, where dropping the whole message would lose the prices that came with it.
+     */
+    static long saturated(JsonParser parser, JsonToken value) throws IOException {
+        try {
+            return scaled(parser, value);
+        } catch (OutOfRangeException ex) {
+            return parser.getDecimalValue().signum() < 0 ? -Long.MAX_VALUE : Long.MAX_VALUE;
+        }
+    }
+
+    /** Parses plain decimal text with half-up rounding at 8 places, or returns Long.MIN_VALUE to request the slow path. */
+    static long scaledFromText(char[] text, int offset, int length) {
+        int i = offset;
+        int end = offset + length;
+        boolean negative = i < end && text[i] == '-';
+        if (negative) {
+            i++;
+        }
+        long integer = 0;
+        int integerDigits = 0;
+        while (i < end && text[i] >= '0' && text[i] <= '9') {
+            integer = integer * 10 + (text[i++] - '0');
+            if (++integerDigits > MAX_FAST_INTEGER_DIGITS) {
+                return Long.MIN_VALUE;
+            }
+        }
+        long fraction = 0;
+        int fractionDigits = 0;
+        boolean roundUp = false;
+        if (i < end && text[i] == '.') {
+            i++;
+            while (i < end && text[i] >= '0' && text[i] <= '9') {
+                int digit = text[i++] - '0';
+                if (fractionDigits < CandleBuffer.SCALE) {
+                    fraction = fraction * 10 + digit;
+                    fractionDigits++;
+                } else if (fractionDigits++ == CandleBuffer.SCALE) {
+                    roundUp = digit >= 5;
+                }
+            }
+        }
+        if (i != end || integerDigits == 0 && fractionDigits == 0) {
+            // Exponents and anything unusual are left to BigDecimal.
+            return Long.MIN_VALUE;
+        }
+        int kept = Math.min(fractionDigits, CandleBuffer.SCALE);
+        long magnitude = integer * POWERS_OF_TEN[CandleBuffer.SCALE]
+                + fraction * POWERS_OF_TEN[CandleBuffer.SCALE - kept]
+                + (roundUp ? 1 : 0);
+        return negative ? -magnitude : magnitude;
+    }
+
+    private static long epochSecondUtc(JsonParser parser) throws IOException {
+        char[] text = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        int length = parser.getTextLength();
+        // Upbit sends "yyyy-MM-ddTHH:mm:ss" without an offset for the UTC field.
+        if ((length == 19 || length == 20 && text[offset + 19] == 'Z')
+                && text[offset + 4] == '-' && text[offset + 7] == '-' && text[offset + 10] == 'T'
+                && text[offset + 13] == ':' && text[offset + 16] == ':') {
+            int year = digits(text, offset, 4);
+            int month = digits(text, offset + 5, 2);
+            int day = digits(text, offset + 8, 2);
+            int hour = digits(text, offset + 11, 2);
+            int minute = digits(text, offset + 14, 2);
+            int second = digits(text, offset + 17, 2);
+            if (year >= 0 && month >= 1 && month <= 12 && day >= 1
+                    && day <= Month.of(month).length(Year.isLeap(year))
+                    && hour >= 0 && hour < 24 && minute >= 0 && minute < 60 && second >= 0 && second < 60) {
+                return epochDay(year, month, day) * 86_400L + hour * 3_600L + minute * 60L + second;
+            }
+        }
+        String value = parser.getText();
+        try {
+            boolean hasOffset = value.endsWith("Z") || value.indexOf('+', 10) > 0 || value.indexOf('-', 10) > 0;
+            return hasOffset
+                    ? OffsetDateTime.parse(value).toEpochSecond()
+                    : LocalDateTime.parse(value).toEpochSecond(ZoneOffset.UTC);
+        } catch (DateTimeParseException ex) {
+            throw new JsonParseException(parser, "invalid upbit candle time: " + value, ex);
+        }
+    }
+
+    private static int digits(char[] text, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            char c = text[i];
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static long epochDay(int year, int month, int day) {
+        // Days-from-civil for the proleptic Gregorian calendar, same result as LocalDate.toEpochDay.
+        int y = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097L + dayOfEra - 719_468L;
+    }
+}
@@ -0,0 +1,154 @@
+package com.vaulttradebot.adapter.out.upbit.mapper;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/** Token-level decoder for Upbit orderbook payloads, shared by the REST snapshot and the WebSocket stream. */
+public final class UpbitOrderBookDecoder {
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private UpbitOrderBookDecoder() {
+    }
+
+    /** Reusable scratch for one market's levels; valid only inside the sink callback. */
+    public static final class Frame {
+        private final long[] bidPrices;
+        private final long[] bidSizes;
+        private final long[] askPrices;
+        private final long[] askSizes;
+        private int levels;
+        private String market;
+        private long timestampMillis;
+
+        public Frame(int capacity) {
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("frame capacity must be positive");
+            }
+            this.bidPrices = new long[capacity];
+            this.bidSizes = new long[capacity];
+            this.askPrices = new long[capacity];
+            this.askSizes = new long[capacity];
+        }
+
+        public String market() {
+            return market;
+        }
+
+        public long timestampMillis() {
+            return timestampMillis;
+        }
+
+        public int levels() {
+            return levels;
+        }
+
+        public long[] bidPrices() {
+            return bidPrices;
+        }
+
+        public long[] bidSizes() {
+            return bidSizes;
+        }
+
+        public long[] askPrices() {
+            return askPrices;
+        }
+
+        public long[] askSizes() {
+            return askSizes;
+        }
+
+        private void reset() {
+            levels = 0;
+            market = null;
+            timestampMillis = 0;
+        }
+    }
+
+    /** Decodes a single orderbook object or an array of them, handing each complete market to {@code sink}. */
+    public static int decode(InputStream body, Frame frame, Consumer<Frame> sink) throws IOException {
+        try (JsonParser parser = JSON.createParser(body)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                return decodeObject(parser, frame, sink) ? 1 : 0;
+            }
+            if (token != JsonToken.START_ARRAY) {
+                return 0;
+            }
+            int decoded = 0;
+            while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+                if (decodeObject(parser, frame, sink)) {
+                    decoded++;
+                }
+            }
+            if (token != JsonToken.END_ARRAY) {
+                throw new JsonParseException(parser, "unexpected token in upbit orderbook array: " + token);
+            }
+            return decoded;
+        }
+    }
+
+    private static boolean decodeObject(JsonParser parser, Frame frame, Consumer<Frame> sink) throws IOException {
+        frame.reset();
+        boolean hasUnits = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                // REST names the market "market"; the stream names it "code" (or "cd" in the short format).
+                case "market", "code", "cd" -> frame.market = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                case "timestamp", "tms" -> frame.timestampMillis = value.isNumeric() ? parser.getLongValue() : 0L;
+                case "orderbook_units", "obu" -> hasUnits = decodeUnits(parser, value, frame);
+                default -> parser.skipChildren();
+            }
+        }
+        // Status and error messages on the stream carry no market or units and are ignored.
+        if (frame.market == null || !hasUnits) {
+            return false;
+        }
+        sink.accept(frame);
+        return true;
+    }
+
+    private static boolean decodeUnits(JsonParser parser, JsonToken value, Frame frame) throws IOException {
+        if (value != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return false;
+        }
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            long askPrice = 0;
+            long bidPrice = 0;
+            long askSize = 0;
+            long bidSize = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken number = parser.nextToken();
+                if (!number.isNumeric()) {
+                    parser.skipChildren();
+                    continue;
+                }
+                switch (field) {
+                    case "ask_price", "ap" -> askPrice = UpbitCandleStreamDecoder.scaled(parser, number);
+                    case "bid_price", "bp" -> bidPrice = UpbitCandleStreamDecoder.scaled(parser, number);
+                    case "ask_size", "as" -> askSize = UpbitCandleStreamDecoder.saturated(parser, number);
+                    case "bid_size", "bs" -> bidSize = UpbitCandleStreamDecoder.saturated(parser, number);
+                    default -> {
+                    }
+                }
+            }
+            if (frame.levels < frame.bidPrices.length) {
+                frame.askPrices[frame.levels] = askPrice;
+                frame.askSizes[frame.levels] = askSize;
+                frame.bidPrices[frame.levels] = bidPrice;
+                frame.bidSizes[frame.levels] = bidSize;
+                frame.levels++;
+            }
+        }
+        return true;
+    }
+}
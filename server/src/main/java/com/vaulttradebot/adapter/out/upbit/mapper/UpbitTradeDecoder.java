@@ -0,0 +1,75 @@
+package com.vaulttradebot.adapter.out.upbit.mapper;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/** Token-level decoder for Upbit trade stream messages into a reusable {@link Trade}. */
+public final class UpbitTradeDecoder {
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private UpbitTradeDecoder() {
+    }
+
+    /** Reusable scratch for one trade; price and volume use {@code CandleBuffer} fixed-point. Valid only inside the sink. */
+    public static final class Trade {
+        private String market;
+        private long timestampMillis;
+        private long price;
+        private long volume;
+
+        public String market() {
+            return market;
+        }
+
+        public long timestampMillis() {
+            return timestampMillis;
+        }
+
+        public long price() {
+            return price;
+        }
+
+        public long volume() {
+            return volume;
+        }
+
+        private void reset() {
+            market = null;
+            timestampMillis = 0;
+            price = 0;
+            volume = -1;
+        }
+    }
+
+    /** Decodes one stream message and hands a complete trade to {@code sink}; returns whether it was a trade. */
+    public static boolean decode(InputStream message, Trade trade, Consumer<Trade> sink) throws IOException {
+        try (JsonParser parser = JSON.createParser(message)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return false;
+            }
+            trade.reset();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    // "cd"/"tp"/"tv"/"ttms" are the stream's short-format names.
+                    case "code", "cd" -> trade.market = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                    case "trade_timestamp", "ttms" -> trade.timestampMillis = value.isNumeric() ? parser.getLongValue() : 0L;
+                    case "trade_price", "tp" -> trade.price = value.isNumeric() ? UpbitCandleStreamDecoder.scaled(parser, value) : 0L;
+                    case "trade_volume", "tv" -> trade.volume = value.isNumeric() ? UpbitCandleStreamDecoder.saturated(parser, value) : -1L;
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        // Status and error messages carry none of these fields and are ignored.
+        if (trade.market == null || trade.timestampMillis <= 0 || trade.price <= 0 || trade.volume < 0) {
+            return false;
+        }
+        sink.accept(trade);
+        return true;
+    }
+}
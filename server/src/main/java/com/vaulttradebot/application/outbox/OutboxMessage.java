@@ -18,7 +18,10 @@ public record OutboxMessage(
         int attemptCount,
         String lastError,
         Instant nextAttemptAt,
-        Instant deadLetteredAt
+        Instant deadLetteredAt,
+        Instant droppedAt,
+        String dropReason,
+        OutboxPriority priority
 ) {
     public OutboxMessage {
         if (id == null || id.isBlank() || aggregateType == null || aggregateType.isBlank()
@@ -26,6 +29,9 @@ public record OutboxMessage(
                 || payload == null || occurredAt == null || createdAt == null) {
             throw new IllegalArgumentException("outbox message fields must not be null or blank");
         }
+        if (priority == null) {
+            throw new IllegalArgumentException("priority must not be null");
+        }
         if (payloadVersion <= 0) {
             throw new IllegalArgumentException("payloadVersion must be positive");
         }
@@ -56,7 +62,10 @@ public record OutboxMessage(
                 0,
                 null,
                 now,
-                null
+                null,
+                null,
+                null,
+                OutboxPriority.EVENT
         );
     }
 
@@ -74,7 +83,10 @@ public record OutboxMessage(
                 attemptCount,
                 lastError,
                 nextAttemptAt,
-                deadLetteredAt
+                deadLetteredAt,
+                droppedAt,
+                dropReason,
+                priority
         );
     }
 
@@ -92,7 +104,10 @@ public record OutboxMessage(
                 nextAttemptCount,
                 lastError,
                 nextAttemptAt,
-                deadLetteredAt
+                deadLetteredAt,
+                droppedAt,
+                dropReason,
+                priority
         );
     }
 
@@ -110,7 +125,32 @@ public record OutboxMessage(
                 attemptCount,
                 lastError,
                 null,
-                deadLetteredAt
+                deadLetteredAt,
+                droppedAt,
+                dropReason,
+                priority
+        );
+    }
+
+    /** Marks a command that was superseded before it was sent; it is never published. */
+    public OutboxMessage withDropped(Instant droppedAt, String dropReason) {
+        return new OutboxMessage(
+                id,
+                aggregateType,
+                aggregateId,
+                eventType,
+                payload,
+                payloadVersion,
+                occurredAt,
+                createdAt,
+                publishedAt,
+                attemptCount,
+                lastError,
+                null,
+                deadLetteredAt,
+                droppedAt,
+                dropReason,
+                priority
         );
     }
 
@@ -121,4 +161,8 @@ public record OutboxMessage(
     public boolean isDeadLettered() {
         return deadLetteredAt != null;
     }
+
+    public boolean isDropped() {
+        return droppedAt != null;
+    }
 }
@@ -0,0 +1,33 @@
+package com.vaulttradebot.application.outbox;
+
+import com.vaulttradebot.domain.trading.vo.OrderCommandType;
+
+/** Relay lanes in scan order, so an emergency cancel never queues behind routine event notifications. */
+public enum OutboxPriority {
+    /** Order cancels, including the kill switch's. */
+    CRITICAL,
+    /** Order placement and replacement commands. */
+    COMMAND,
+    /** Informational domain events. */
+    EVENT;
+
+    /** Stored rank; lower ranks are relayed first. */
+    public int rank() {
+        return ordinal();
+    }
+
+    public static OutboxPriority fromRank(int rank) {
+        OutboxPriority[] values = values();
+        if (rank < 0 || rank >= values.length) {
+            throw new IllegalArgumentException("unknown outbox priority rank: " + rank);
+        }
+        return values[rank];
+    }
+
+    public static OutboxPriority forOrderCommand(OrderCommandType type) {
+        if (type == null) {
+            throw new IllegalArgumentException("type must not be null");
+        }
+        return type == OrderCommandType.CANCEL ? CRITICAL : COMMAND;
+    }
+}
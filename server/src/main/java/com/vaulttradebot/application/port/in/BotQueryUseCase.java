@@ -3,6 +3,7 @@ package com.vaulttradebot.application.port.in;
 import com.vaulttradebot.domain.execution.Order;
 import com.vaulttradebot.application.query.MetricsSnapshot;
 import com.vaulttradebot.application.query.PortfolioSnapshot;
+import com.vaulttradebot.application.query.PortfolioValuationSnapshot;
 import java.util.List;
 
 public interface BotQueryUseCase {
@@ -10,5 +11,7 @@ public interface BotQueryUseCase {
 
     PortfolioSnapshot getPortfolioSnapshot();
 
+    PortfolioValuationSnapshot getPortfolioValuation();
+
     MetricsSnapshot getMetrics();
 }
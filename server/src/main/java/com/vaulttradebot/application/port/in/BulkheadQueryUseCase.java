@@ -0,0 +1,8 @@
+package com.vaulttradebot.application.port.in;
+
+import com.vaulttradebot.domain.resilience.BulkheadSnapshot;
+import java.util.List;
+
+public interface BulkheadQueryUseCase {
+    List<BulkheadSnapshot> bulkheads();
+}
@@ -0,0 +1,10 @@
+package com.vaulttradebot.application.port.in;
+
+import com.vaulttradebot.application.query.CandleArchiveImportSnapshot;
+import com.vaulttradebot.domain.common.vo.Market;
+import com.vaulttradebot.domain.common.vo.Timeframe;
+import java.time.Instant;
+
+public interface CandleArchiveUseCase {
+    CandleArchiveImportSnapshot importCandles(Market market, Timeframe timeframe, Instant from, Instant to);
+}
@@ -0,0 +1,8 @@
+package com.vaulttradebot.application.port.in;
+
+import com.vaulttradebot.domain.resilience.CircuitBreakerMetrics;
+import java.util.List;
+
+public interface CircuitBreakerQueryUseCase {
+    List<CircuitBreakerMetrics> circuitBreakers();
+}
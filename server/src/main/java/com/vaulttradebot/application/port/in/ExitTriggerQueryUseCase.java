@@ -0,0 +1,7 @@
+package com.vaulttradebot.application.port.in;
+
+import com.vaulttradebot.application.query.ExitTriggerSnapshot;
+
+public interface ExitTriggerQueryUseCase {
+    ExitTriggerSnapshot exitTriggers();
+}
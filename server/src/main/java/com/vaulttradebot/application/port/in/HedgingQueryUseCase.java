@@ -0,0 +1,7 @@
+package com.vaulttradebot.application.port.in;
+
+import com.vaulttradebot.domain.resilience.HedgeSnapshot;
+
+public interface HedgingQueryUseCase {
+    HedgeSnapshot hedging();
+}
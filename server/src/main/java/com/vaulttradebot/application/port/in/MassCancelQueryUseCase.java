@@ -0,0 +1,7 @@
+package com.vaulttradebot.application.port.in;
+
+import com.vaulttradebot.application.query.MassCancelSnapshot;
+
+public interface MassCancelQueryUseCase {
+    MassCancelSnapshot massCancel();
+}
@@ -0,0 +1,11 @@
+package com.vaulttradebot.application.port.in;
+
+import com.vaulttradebot.application.query.OrderLatencySnapshot;
+import com.vaulttradebot.application.query.OrderLatencyTrace;
+import java.util.List;
+
+public interface OrderLatencyQueryUseCase {
+    OrderLatencySnapshot orderLatency();
+
+    List<OrderLatencyTrace> slowestOrders(int limit);
+}
@@ -0,0 +1,11 @@
+package com.vaulttradebot.application.port.in;
+
+import com.vaulttradebot.application.query.ShadowLaneSnapshot;
+import com.vaulttradebot.application.shadow.ShadowSignalRecord;
+import java.util.List;
+
+public interface ShadowQueryUseCase {
+    ShadowLaneSnapshot shadowLane();
+
+    List<ShadowSignalRecord> recentShadowSignals(String candidateId, int limit);
+}
@@ -0,0 +1,7 @@
+package com.vaulttradebot.application.port.in;
+
+import com.vaulttradebot.application.query.TickerCacheSnapshot;
+
+public interface TickerCacheQueryUseCase {
+    TickerCacheSnapshot tickerCache();
+}
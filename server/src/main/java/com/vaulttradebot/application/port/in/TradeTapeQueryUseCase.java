@@ -0,0 +1,7 @@
+package com.vaulttradebot.application.port.in;
+
+import com.vaulttradebot.application.query.TradeTapeSnapshot;
+
+public interface TradeTapeQueryUseCase {
+    TradeTapeSnapshot tradeTape();
+}
@@ -0,0 +1,26 @@
+package com.vaulttradebot.application.port.out;
+
+import com.vaulttradebot.domain.common.CandleBuffer;
+import com.vaulttradebot.domain.common.vo.Candle;
+import com.vaulttradebot.domain.common.vo.Market;
+import com.vaulttradebot.domain.common.vo.Timeframe;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface CandleArchivePort {
+    /** Appends ascending candles newer than the last archived one and returns how many were written. */
+    int append(Market market, Timeframe timeframe, List<Candle> candles);
+
+    /** Appends ascending buffered rows newer than the last archived one and returns how many were written. */
+    int append(Market market, Timeframe timeframe, CandleBuffer rows);
+
+    /** Appends archived candles opening in [from, to) to the buffer and returns the number of rows added. */
+    int scan(Market market, Timeframe timeframe, Instant from, Instant to, CandleBuffer into);
+
+    List<Candle> read(Market market, Timeframe timeframe, Instant from, Instant to);
+
+    Optional<Instant> lastOpenTime(Market market, Timeframe timeframe);
+
+    long count(Market market, Timeframe timeframe);
+}
@@ -1,6 +1,13 @@
 package com.vaulttradebot.application.port.out;
 
 import com.vaulttradebot.domain.execution.Order;
+import com.vaulttradebot.domain.execution.vo.OrderStatus;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 public interface ExchangeTradingPort {
     Order placeOrder(Order order);
@@ -8,4 +15,83 @@ public interface ExchangeTradingPort {
     Order refreshOrder(Order order);
 
     void cancelOrder(String orderId);
+
+    /**
+     * Cancels many exchange orders at once and reports each one to {@code listener} as soon as it settles.
+     * The default sends one cancel after another; adapters override it with batch endpoints or parallel calls.
+     */
+    default MassCancelResult cancelOrders(List<String> orderIds, MassCancelListener listener) {
+        List<String> canceled = new ArrayList<>();
+        Map<String, String> failed = new LinkedHashMap<>();
+        for (String orderId : orderIds) {
+            try {
+                cancelOrder(orderId);
+                canceled.add(orderId);
+                listener.onSettled(orderId, null);
+            } catch (RuntimeException error) {
+                String reason = String.valueOf(error.getMessage());
+                failed.put(orderId, reason);
+                listener.onSettled(orderId, reason);
+            }
+        }
+        return new MassCancelResult(canceled, failed, orderIds.size());
+    }
+
+    /**
+     * Moves a resting order: cancels {@code existing} and places {@code replacement} built for the quantity still
+     * wanted. Fills that reach {@code existing} before the cancel lands reduce that quantity, and nothing is placed
+     * once it is used up. The default cancels, re-reads the old order to pick up such fills and then places;
+     * adapters with an atomic cancel-and-new endpoint override it.
+     */
+    default ReplaceResult replaceOrder(Order existing, BigDecimal quantity, Function<BigDecimal, Order> replacement) {
+        BigDecimal filledBefore = existing.executedQuantity().value();
+        Order settled = null;
+        try {
+            cancelOrder(existing.exchangeOrderId());
+        } catch (RuntimeException cancelError) {
+            // A cancel usually fails because the order just filled, or it landed and only its response was lost;
+            // the re-read tells which, and anything still open means the cancel really failed.
+            settled = refreshOrder(existing);
+            if (settled.status() == OrderStatus.FILLED) {
+                return new ReplaceResult(settled, null, null);
+            }
+            if (settled.status() != OrderStatus.CANCELED) {
+                throw cancelError;
+            }
+        }
+        if (settled == null) {
+            settled = refreshOrder(existing);
+        }
+        BigDecimal remaining = quantity.subtract(settled.executedQuantity().value().subtract(filledBefore));
+        if (remaining.signum() <= 0) {
+            return new ReplaceResult(settled, null, null);
+        }
+        try {
+            return new ReplaceResult(settled, placeOrder(replacement.apply(remaining)), null);
+        } catch (RuntimeException placeError) {
+            return new ReplaceResult(settled, null, placeError);
+        }
+    }
+
+    /** Receives progress while a mass cancel runs; {@code error} is null when the order was canceled. */
+    @FunctionalInterface
+    interface MassCancelListener {
+        void onSettled(String orderId, String error);
+    }
+
+    /**
+     * Outcome of a replace. {@code replaced} is the old order as the exchange last reported it; {@code placed} is
+     * null when fills used up the quantity or when placement failed after the cancel, in which case
+     * {@code placeError} says why.
+     */
+    record ReplaceResult(Order replaced, Order placed, RuntimeException placeError) {
+    }
+
+    /** Final outcome of a mass cancel, keyed by exchange order id, with the number of exchange requests it took. */
+    record MassCancelResult(List<String> canceled, Map<String, String> failed, int exchangeCalls) {
+        public MassCancelResult {
+            canceled = List.copyOf(canceled);
+            failed = Map.copyOf(failed);
+        }
+    }
 }
@@ -4,13 +4,37 @@ import com.vaulttradebot.domain.common.vo.Candle;
 import com.vaulttradebot.domain.common.vo.Market;
 import com.vaulttradebot.domain.common.vo.Money;
 import com.vaulttradebot.domain.common.vo.Timeframe;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /** Provides normalized market prices/candles for application services. */
 public interface MarketDataPort {
     Money getLastPrice(Market market);
 
+    /** Returns last prices keyed by market in request order; sources with a batch endpoint should override this loop. */
+    default Map<Market, Money> getLastPrices(Collection<Market> markets) {
+        Map<Market, Money> prices = new LinkedHashMap<>();
+        for (Market market : markets) {
+            prices.computeIfAbsent(market, this::getLastPrice);
+        }
+        return prices;
+    }
+
     /** Returns candles aligned to timeframe and evaluation time for deterministic decisions. */
     List<Candle> getRecentCandles(Market market, Timeframe timeframe, int limit, Instant now);
+
+    /** Returns candles opening in [from, to); sources with a range endpoint should override this window-based fallback. */
+    default List<Candle> getCandlesBetween(Market market, Timeframe timeframe, Instant from, Instant to) {
+        if (timeframe == null || from == null || to == null || !from.isBefore(to)) {
+            return List.of();
+        }
+        int bars = (int) Math.min(Integer.MAX_VALUE, Duration.between(from, to).dividedBy(timeframe.duration()) + 1);
+        return getRecentCandles(market, timeframe, bars, to).stream()
+                .filter(candle -> !candle.openTime().isBefore(from) && candle.openTime().isBefore(to))
+                .toList();
+    }
 }
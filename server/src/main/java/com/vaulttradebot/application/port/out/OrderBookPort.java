@@ -0,0 +1,11 @@
+package com.vaulttradebot.application.port.out;
+
+import com.vaulttradebot.domain.common.vo.Market;
+import com.vaulttradebot.domain.common.vo.TopOfBook;
+import java.util.Optional;
+
+/** Serves the locally maintained top of book; reads never call the exchange. */
+public interface OrderBookPort {
+    /** Returns a fresh top of book, or empty while the market is not yet tracked or its book has gone stale. */
+    Optional<TopOfBook> topOfBook(Market market);
+}
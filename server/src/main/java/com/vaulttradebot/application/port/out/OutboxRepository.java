@@ -1,20 +1,30 @@
 package com.vaulttradebot.application.port.out;
 
 import com.vaulttradebot.application.outbox.OutboxMessage;
+import com.vaulttradebot.application.outbox.OutboxPriority;
 import java.time.Instant;
 import java.util.List;
 
 public interface OutboxRepository {
     void save(OutboxMessage message);
 
+    /** Ready messages in priority order, oldest first within a priority. */
     List<OutboxMessage> findReadyToPublish(int limit, Instant now);
 
+    /** Ready messages of one priority lane, oldest first. */
+    List<OutboxMessage> findReadyToPublish(OutboxPriority priority, int limit, Instant now);
+
     void markPublished(String messageId, Instant publishedAt);
 
     void markFailed(String messageId, int attemptCount, Instant nextAttemptAt, String lastError);
 
     void markDeadLettered(String messageId, Instant deadLetteredAt, String lastError);
 
+    /** Unsent messages of one type in creation order, including ones still waiting out a retry backoff. */
+    List<OutboxMessage> findPendingByEventType(String eventType, int limit);
+
+    void markDropped(String messageId, Instant droppedAt, String dropReason);
+
     List<OutboxMessage> findDeadLettered(int limit);
 
     void redriveDeadLetter(String messageId, Instant nextAttemptAt);
@@ -0,0 +1,10 @@
+package com.vaulttradebot.application.port.out;
+
+import com.vaulttradebot.application.shadow.ShadowSignalRecord;
+import java.util.List;
+
+public interface ShadowSignalRepository {
+    void save(ShadowSignalRecord record);
+
+    List<ShadowSignalRecord> findRecent(String candidateId, int limit);
+}
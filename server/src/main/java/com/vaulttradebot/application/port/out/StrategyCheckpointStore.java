@@ -0,0 +1,10 @@
+package com.vaulttradebot.application.port.out;
+
+import com.vaulttradebot.domain.trading.model.strategy.snapshot.StrategyCheckpoint;
+import java.util.Optional;
+
+public interface StrategyCheckpointStore {
+    void save(StrategyCheckpoint checkpoint);
+
+    Optional<StrategyCheckpoint> load();
+}
@@ -0,0 +1,33 @@
+package com.vaulttradebot.application.port.out;
+
+import com.vaulttradebot.domain.common.vo.Candle;
+import com.vaulttradebot.domain.common.vo.Market;
+import com.vaulttradebot.domain.common.vo.Timeframe;
+import java.time.Instant;
+import java.util.List;
+
+/** Serves sub-minute bars built locally from the exchange trade stream. */
+public interface TradeBarPort {
+    /** Returns up to {@code limit} bars closed by {@code now}, oldest first; the market is tracked from the first call. */
+    List<Candle> recentBars(Market market, Timeframe timeframe, int limit, Instant now);
+
+    /** Starts receiving trades for the market before anyone reads its bars. */
+    void track(Market market);
+
+    /** Registers a callback run once per closed bar, on the thread that closed it; it must not block. */
+    void addBarCloseListener(BarCloseListener listener);
+
+    /** Registers a callback run for every accepted trade of a tracked market, on the stream thread; it must not block. */
+    void addTradeListener(TradeListener listener);
+
+    @FunctionalInterface
+    interface BarCloseListener {
+        void onBarClosed(Market market, Timeframe timeframe, Candle bar);
+    }
+
+    /** Receives each trade price in {@code CandleBuffer} fixed-point, before any bar it closes is published. */
+    @FunctionalInterface
+    interface TradeListener {
+        void onTrade(Market market, long price, long epochMillis);
+    }
+}
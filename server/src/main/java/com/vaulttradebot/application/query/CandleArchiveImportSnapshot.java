@@ -0,0 +1,16 @@
+package com.vaulttradebot.application.query;
+
+import java.time.Instant;
+
+public record CandleArchiveImportSnapshot(
+        String market,
+        String timeframe,
+        Instant requestedFrom,
+        Instant requestedTo,
+        int pagesFetched,
+        long candlesImported,
+        long archivedCandles,
+        Instant archivedUntil,
+        boolean complete
+) {
+}
@@ -0,0 +1,15 @@
+package com.vaulttradebot.application.query;
+
+import java.time.Instant;
+import java.util.List;
+
+public record CycleDeadlineSnapshot(
+        boolean enabled,
+        long totalBudgetMs,
+        long cycles,
+        long deadlineHolds,
+        long maxCycleMs,
+        Instant lastOverrunAt,
+        List<CycleStageSnapshot> stages
+) {
+}
@@ -0,0 +1,10 @@
+package com.vaulttradebot.application.query;
+
+/** {@code overruns} counts cycles in which the stage exceeded its budget or was cut off by the cycle deadline. */
+public record CycleStageSnapshot(
+        String stage,
+        long budgetMs,
+        long overruns,
+        long maxMs
+) {
+}
@@ -0,0 +1,15 @@
+package com.vaulttradebot.application.query;
+
+import java.util.List;
+
+public record ExitTriggerSnapshot(
+        boolean enabled,
+        List<String> protectedMarkets,
+        int restingTriggers,
+        long priceUpdates,
+        long restPolls,
+        long fired,
+        long emitted,
+        long emitFailures
+) {
+}
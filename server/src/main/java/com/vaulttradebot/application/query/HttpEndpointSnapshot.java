@@ -0,0 +1,19 @@
+package com.vaulttradebot.application.query;
+
+public record HttpEndpointSnapshot(
+        String name,
+        String baseUrl,
+        long connectTimeoutMs,
+        long readTimeoutMs,
+        long requests,
+        long failures,
+        long warmRequests,
+        long coldRequests,
+        double warmRatio,
+        long p50LatencyMs,
+        long p99LatencyMs,
+        long maxLatencyMs,
+        long keepAlivePings,
+        long keepAliveFailures
+) {
+}
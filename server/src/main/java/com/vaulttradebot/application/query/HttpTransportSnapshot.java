@@ -0,0 +1,11 @@
+package com.vaulttradebot.application.query;
+
+import java.util.List;
+
+public record HttpTransportSnapshot(
+        boolean http2,
+        boolean keepAliveEnabled,
+        long keepAliveIntervalMs,
+        List<HttpEndpointSnapshot> endpoints
+) {
+}
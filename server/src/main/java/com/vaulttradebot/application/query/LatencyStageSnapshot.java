@@ -0,0 +1,14 @@
+package com.vaulttradebot.application.query;
+
+import java.util.Map;
+
+/** One latency stage; {@code buckets} counts samples per upper bound in ms, with "inf" for the overflow bucket. */
+public record LatencyStageSnapshot(
+        String stage,
+        long count,
+        long p50Ms,
+        long p99Ms,
+        long maxMs,
+        Map<String, Long> buckets
+) {
+}
@@ -0,0 +1,16 @@
+package com.vaulttradebot.application.query;
+
+import java.time.Instant;
+
+public record MassCancelSnapshot(
+        long runs,
+        String state,
+        int requested,
+        int canceled,
+        int failed,
+        int exchangeCalls,
+        Instant startedAt,
+        Instant completedAt,
+        long durationMs
+) {
+}
@@ -0,0 +1,16 @@
+package com.vaulttradebot.application.query;
+
+import java.util.List;
+
+public record OrderBookFeedSnapshot(
+        boolean enabled,
+        boolean connected,
+        List<String> markets,
+        long streamMessages,
+        long restSnapshots,
+        long reconnects,
+        long decodeFailures,
+        long freshReads,
+        long staleReads
+) {
+}
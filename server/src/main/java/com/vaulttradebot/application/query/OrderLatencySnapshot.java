@@ -0,0 +1,11 @@
+package com.vaulttradebot.application.query;
+
+import java.util.List;
+
+public record OrderLatencySnapshot(
+        int trackedOrders,
+        long acknowledgedOrders,
+        long filledOrders,
+        List<LatencyStageSnapshot> stages
+) {
+}
@@ -0,0 +1,22 @@
+package com.vaulttradebot.application.query;
+
+import java.time.Instant;
+
+/** Stage timestamps of one order from its signal to its first fill; stages not reached yet are null. */
+public record OrderLatencyTrace(
+        String orderId,
+        String cycleId,
+        String outboxMessageId,
+        String market,
+        Instant signalAt,
+        Instant enqueuedAt,
+        Instant publishedAt,
+        Instant acknowledgedAt,
+        Instant filledAt,
+        Long signalToEnqueueMs,
+        Long enqueueToPublishMs,
+        Long publishToAckMs,
+        Long ackToFillMs,
+        long totalMs
+) {
+}
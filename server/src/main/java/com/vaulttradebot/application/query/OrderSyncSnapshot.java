@@ -0,0 +1,15 @@
+package com.vaulttradebot.application.query;
+
+import java.time.Instant;
+
+public record OrderSyncSnapshot(
+        boolean adaptive,
+        long polls,
+        long refreshCalls,
+        long skippedChecks,
+        long fillsDetected,
+        long refreshFailures,
+        int trackedOrders,
+        Instant lastPollAt
+) {
+}
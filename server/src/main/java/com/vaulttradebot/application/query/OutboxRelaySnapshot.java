@@ -0,0 +1,11 @@
+package com.vaulttradebot.application.query;
+
+import java.util.List;
+
+public record OutboxRelaySnapshot(
+        List<OutboxRouteSnapshot> routes,
+        long droppedCommands,
+        int orderCommandConcurrency,
+        String orderCommandBreakerState
+) {
+}
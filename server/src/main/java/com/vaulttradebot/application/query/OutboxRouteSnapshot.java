@@ -0,0 +1,10 @@
+package com.vaulttradebot.application.query;
+
+public record OutboxRouteSnapshot(
+        String route,
+        long relayed,
+        long failed,
+        long busyMillis,
+        double messagesPerSecond
+) {
+}
@@ -0,0 +1,16 @@
+package com.vaulttradebot.application.query;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+public record PortfolioValuationSnapshot(
+        Instant valuedAt,
+        List<PortfolioSnapshot> positions,
+        BigDecimal totalInvestmentKrw,
+        BigDecimal marketValueKrw,
+        BigDecimal realizedPnlKrw,
+        BigDecimal unrealizedPnlKrw,
+        BigDecimal totalPnlKrw
+) {
+}
@@ -0,0 +1,19 @@
+package com.vaulttradebot.application.query;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public record ShadowCandidateSnapshot(
+        String candidateId,
+        long evaluations,
+        long failures,
+        long buySignals,
+        long sellSignals,
+        long holdSignals,
+        long fills,
+        boolean positionOpen,
+        BigDecimal entryPrice,
+        BigDecimal realizedReturnPct,
+        Instant lastSignalAt
+) {
+}
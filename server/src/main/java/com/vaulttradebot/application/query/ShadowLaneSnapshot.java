@@ -0,0 +1,15 @@
+package com.vaulttradebot.application.query;
+
+import java.util.List;
+
+public record ShadowLaneSnapshot(
+        boolean enabled,
+        int queueCapacity,
+        int queueDepth,
+        long submitted,
+        long dropped,
+        long completed,
+        long persistFailures,
+        List<ShadowCandidateSnapshot> candidates
+) {
+}
@@ -0,0 +1,12 @@
+package com.vaulttradebot.application.query;
+
+public record TickerCacheSnapshot(
+        boolean enabled,
+        long freshnessMs,
+        long hits,
+        long misses,
+        long coalesced,
+        long failures,
+        int inFlight
+) {
+}
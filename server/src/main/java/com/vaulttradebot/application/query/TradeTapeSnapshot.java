@@ -0,0 +1,18 @@
+package com.vaulttradebot.application.query;
+
+import java.util.List;
+
+public record TradeTapeSnapshot(
+        boolean enabled,
+        boolean connected,
+        List<String> markets,
+        List<String> timeframes,
+        int historyBars,
+        long trades,
+        long lateTrades,
+        long barsClosed,
+        long listenerFailures,
+        long reconnects,
+        long decodeFailures
+) {
+}
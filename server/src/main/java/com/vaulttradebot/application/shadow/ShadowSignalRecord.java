@@ -0,0 +1,36 @@
+package com.vaulttradebot.application.shadow;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public record ShadowSignalRecord(
+        String candidateId,
+        String pair,
+        String timeframe,
+        Instant dataTimestamp,
+        String signalAction,
+        double confidence,
+        String signalReason,
+        String fillSide,
+        BigDecimal fillPrice,
+        Instant recordedAt
+) {
+    public ShadowSignalRecord {
+        if (candidateId == null || candidateId.isBlank()
+                || pair == null || pair.isBlank()
+                || timeframe == null || timeframe.isBlank()
+                || dataTimestamp == null
+                || signalAction == null || signalAction.isBlank()
+                || signalReason == null || signalReason.isBlank()
+                || recordedAt == null) {
+            throw new IllegalArgumentException("shadow signal record required fields are missing");
+        }
+        if ((fillSide == null) != (fillPrice == null)) {
+            throw new IllegalArgumentException("fillSide and fillPrice must be set together");
+        }
+    }
+
+    public boolean filled() {
+        return fillSide != null;
+    }
+}
@@ -0,0 +1,265 @@
+package com.vaulttradebot.application.shadow;
+
+import com.vaulttradebot.application.port.in.ShadowQueryUseCase;
+import com.vaulttradebot.application.port.out.ClockPort;
+import com.vaulttradebot.application.port.out.ShadowSignalRepository;
+import com.vaulttradebot.application.query.ShadowCandidateSnapshot;
+import com.vaulttradebot.application.query.ShadowLaneSnapshot;
+import com.vaulttradebot.domain.common.vo.Candle;
+import com.vaulttradebot.domain.trading.model.strategy.StrategyEnsembleMember;
+import com.vaulttradebot.domain.trading.model.strategy.vo.SignalDecision;
+import com.vaulttradebot.domain.trading.model.strategy.vo.StrategyContext;
+import com.vaulttradebot.domain.trading.vo.SignalAction;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/** Replays live cycle inputs through candidate strategies on a bounded, low-priority worker. */
+public class ShadowStrategyLane implements ShadowQueryUseCase {
+    private static final Logger log = LoggerFactory.getLogger(ShadowStrategyLane.class);
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final List<CandidateLane> candidates;
+    private final ShadowSignalRepository shadowSignalRepository;
+    private final ClockPort clockPort;
+    private final int queueCapacity;
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicLong submitted = new AtomicLong(0);
+    private final AtomicLong dropped = new AtomicLong(0);
+    private final AtomicLong completed = new AtomicLong(0);
+    private final AtomicLong persistFailures = new AtomicLong(0);
+
+    public ShadowStrategyLane(
+            List<StrategyEnsembleMember> candidates,
+            ShadowSignalRepository shadowSignalRepository,
+            ClockPort clockPort,
+            int queueCapacity
+    ) {
+        if (candidates == null || shadowSignalRepository == null || clockPort == null) {
+            throw new IllegalArgumentException("shadow lane dependencies must not be null");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("queueCapacity must be positive");
+        }
+        this.candidates = candidates.stream().map(CandidateLane::new).toList();
+        this.shadowSignalRepository = shadowSignalRepository;
+        this.clockPort = clockPort;
+        this.queueCapacity = queueCapacity;
+        // A single worker keeps each candidate's cooldown state in cycle order without extra locking.
+        this.executor = new ThreadPoolExecutor(
+                1,
+                1,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "shadow-lane");
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /** Queues one live cycle input for shadow evaluation; drops it instead of blocking when the lane is full. */
+    public void offer(StrategyContext context) {
+        if (candidates.isEmpty() || context == null) {
+            return;
+        }
+        // Detach the candle window so the live path can reuse its list without racing the worker.
+        StrategyContext detached = new StrategyContext(
+                context.symbol(),
+                List.copyOf(context.marketDataWindow()),
+                context.timeframe(),
+                context.now(),
+                context.strategyPosition()
+        );
+        submitted.incrementAndGet();
+        try {
+            executor.execute(() -> evaluate(detached));
+        } catch (RejectedExecutionException overloaded) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    public boolean hasCandidates() {
+        return !candidates.isEmpty();
+    }
+
+    public List<StrategyEnsembleMember> candidates() {
+        return candidates.stream().map(CandidateLane::member).toList();
+    }
+
+    @Override
+    public ShadowLaneSnapshot shadowLane() {
+        return new ShadowLaneSnapshot(
+                hasCandidates(),
+                queueCapacity,
+                executor.getQueue().size(),
+                submitted.get(),
+                dropped.get(),
+                completed.get(),
+                persistFailures.get(),
+                candidates.stream().map(CandidateLane::snapshot).toList()
+        );
+    }
+
+    @Override
+    public List<ShadowSignalRecord> recentShadowSignals(String candidateId, int limit) {
+        if (candidateId == null || candidateId.isBlank()) {
+            throw new IllegalArgumentException("candidateId must not be blank");
+        }
+        return shadowSignalRepository.findRecent(candidateId, Math.max(1, Math.min(limit, 500)));
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    boolean awaitIdle(long timeoutMs) throws InterruptedException {
+        // Test hook: wait until every accepted context has been evaluated.
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        while (completed.get() + dropped.get() < submitted.get()) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(5L);
+        }
+        return true;
+    }
+
+    private void evaluate(StrategyContext context) {
+        try {
+            Optional<BigDecimal> fillPrice = lastClosedPrice(context);
+            for (CandidateLane candidate : candidates) {
+                SignalDecision decision;
+                try {
+                    decision = candidate.member().strategy().evaluate(context);
+                } catch (Exception candidateError) {
+                    candidate.failures.incrementAndGet();
+                    continue;
+                }
+                ShadowSignalRecord record = candidate.record(context, decision, fillPrice, clockPort.now());
+                try {
+                    shadowSignalRepository.save(record);
+                } catch (Exception persistError) {
+                    persistFailures.incrementAndGet();
+                    log.warn("shadow signal persist failed candidate={} error={}",
+                            candidate.member().memberId(), persistError.getMessage());
+                }
+            }
+        } finally {
+            completed.incrementAndGet();
+        }
+    }
+
+    private Optional<BigDecimal> lastClosedPrice(StrategyContext context) {
+        // Hypothetical fills use the close of the candle that pinned the live cycle.
+        return context.marketDataWindow().stream()
+                .filter(candle -> !candle.openTime().plus(context.timeframe().duration()).isAfter(context.now()))
+                .max(Comparator.comparing(Candle::openTime))
+                .map(candle -> candle.close().value());
+    }
+
+    private static final class CandidateLane {
+        private final StrategyEnsembleMember member;
+        private final AtomicLong evaluations = new AtomicLong(0);
+        private final AtomicLong failures = new AtomicLong(0);
+        private final AtomicLong buySignals = new AtomicLong(0);
+        private final AtomicLong sellSignals = new AtomicLong(0);
+        private final AtomicLong holdSignals = new AtomicLong(0);
+        private final AtomicLong fills = new AtomicLong(0);
+
+        // Simulated long-only position; written by the lane worker, read by metrics requests.
+        private BigDecimal entryPrice;
+        private BigDecimal realizedReturnPct = BigDecimal.ZERO;
+        private Instant lastSignalAt;
+
+        private CandidateLane(StrategyEnsembleMember member) {
+            this.member = member;
+        }
+
+        private StrategyEnsembleMember member() {
+            return member;
+        }
+
+        private synchronized ShadowSignalRecord record(
+                StrategyContext context,
+                SignalDecision decision,
+                Optional<BigDecimal> price,
+                Instant recordedAt
+        ) {
+            evaluations.incrementAndGet();
+            lastSignalAt = decision.signalAt();
+            String fillSide = null;
+            BigDecimal fillPrice = null;
+            switch (decision.action()) {
+                case BUY -> {
+                    buySignals.incrementAndGet();
+                    if (entryPrice == null && price.isPresent() && price.get().signum() > 0) {
+                        entryPrice = price.get();
+                        fillSide = SignalAction.BUY.name();
+                        fillPrice = entryPrice;
+                    }
+                }
+                case SELL -> {
+                    sellSignals.incrementAndGet();
+                    if (entryPrice != null && price.isPresent()) {
+                        BigDecimal exit = price.get();
+                        realizedReturnPct = realizedReturnPct.add(exit.subtract(entryPrice)
+                                .divide(entryPrice, MathContext.DECIMAL64)
+                                .multiply(HUNDRED));
+                        entryPrice = null;
+                        fillSide = SignalAction.SELL.name();
+                        fillPrice = exit;
+                    }
+                }
+                case HOLD -> holdSignals.incrementAndGet();
+            }
+            if (fillSide != null) {
+                fills.incrementAndGet();
+            }
+            return new ShadowSignalRecord(
+                    member.memberId(),
+                    context.symbol(),
+                    context.timeframe().name(),
+                    context.now(),
+                    decision.action().name(),
+                    decision.confidence(),
+                    decision.reason(),
+                    fillSide,
+                    fillPrice,
+                    recordedAt
+            );
+        }
+
+        private synchronized ShadowCandidateSnapshot snapshot() {
+            return new ShadowCandidateSnapshot(
+                    member.memberId(),
+                    evaluations.get(),
+                    failures.get(),
+                    buySignals.get(),
+                    sellSignals.get(),
+                    holdSignals.get(),
+                    fills.get(),
+                    entryPrice != null,
+                    entryPrice,
+                    realizedReturnPct.setScale(4, RoundingMode.HALF_UP),
+                    lastSignalAt
+            );
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.vaulttradebot.application.shadow;
+
+import com.vaulttradebot.domain.trading.model.strategy.StatefulStrategy;
+import com.vaulttradebot.domain.trading.model.strategy.Strategy;
+import com.vaulttradebot.domain.trading.model.strategy.StrategyEnsembleMember;
+import com.vaulttradebot.domain.trading.model.strategy.snapshot.StrategyStateSnapshot;
+import com.vaulttradebot.domain.trading.model.strategy.vo.SignalDecision;
+import com.vaulttradebot.domain.trading.model.strategy.vo.StrategyContext;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Live strategy decorator that forwards each evaluated context to the shadow lane. */
+public class ShadowTapStrategy implements Strategy, StatefulStrategy {
+    // Shadow candidates may reuse live config ids, so their checkpoint entries are namespaced.
+    private static final String SHADOW_OWNER_PREFIX = "shadow:";
+
+    private final Strategy delegate;
+    private final ShadowStrategyLane shadowLane;
+
+    public ShadowTapStrategy(Strategy delegate, ShadowStrategyLane shadowLane) {
+        if (delegate == null || shadowLane == null) {
+            throw new IllegalArgumentException("shadow tap dependencies must not be null");
+        }
+        this.delegate = delegate;
+        this.shadowLane = shadowLane;
+    }
+
+    @Override
+    public SignalDecision evaluate(StrategyContext context) {
+        try {
+            return delegate.evaluate(context);
+        } finally {
+            // Offer after the live decision so shadow candidates never delay it; offer itself never blocks.
+            shadowLane.offer(context);
+        }
+    }
+
+    @Override
+    public String strategyId() {
+        // Shadowing must not change live cycle ids or lock keys.
+        return delegate.strategyId();
+    }
+
+    public Strategy delegate() {
+        return delegate;
+    }
+
+    @Override
+    public List<StrategyStateSnapshot> exportState() {
+        List<StrategyStateSnapshot> exported = new ArrayList<>();
+        if (delegate instanceof StatefulStrategy stateful) {
+            exported.addAll(stateful.exportState());
+        }
+        for (StrategyEnsembleMember candidate : shadowLane.candidates()) {
+            if (candidate.strategy() instanceof StatefulStrategy stateful) {
+                stateful.exportState().forEach(state -> exported.add(state.withOwner(SHADOW_OWNER_PREFIX + state.ownerId())));
+            }
+        }
+        return exported;
+    }
+
+    @Override
+    public int restoreState(List<StrategyStateSnapshot> snapshots) {
+        List<StrategyStateSnapshot> live = new ArrayList<>();
+        List<StrategyStateSnapshot> shadow = new ArrayList<>();
+        for (StrategyStateSnapshot snapshot : snapshots) {
+            if (snapshot.ownerId().startsWith(SHADOW_OWNER_PREFIX)) {
+                shadow.add(snapshot.withOwner(snapshot.ownerId().substring(SHADOW_OWNER_PREFIX.length())));
+            } else {
+                live.add(snapshot);
+            }
+        }
+        int accepted = delegate instanceof StatefulStrategy stateful ? stateful.restoreState(live) : 0;
+        for (StrategyEnsembleMember candidate : shadowLane.candidates()) {
+            if (candidate.strategy() instanceof StatefulStrategy stateful) {
+                accepted += stateful.restoreState(shadow);
+            }
+        }
+        return accepted;
+    }
+}
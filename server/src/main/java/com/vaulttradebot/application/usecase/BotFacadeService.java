@@ -5,12 +5,14 @@ import com.vaulttradebot.application.port.in.BotControlUseCase;
 import com.vaulttradebot.application.port.in.BotQueryUseCase;
 import com.vaulttradebot.application.port.in.RunTradingCycleUseCase;
 import com.vaulttradebot.application.outbox.OutboxMessage;
+import com.vaulttradebot.application.outbox.OutboxPriority;
 import com.vaulttradebot.application.idempotency.IdempotencyHasher;
 import com.vaulttradebot.application.port.out.BotSettingsRepository;
 import com.vaulttradebot.application.port.out.ClockPort;
 import com.vaulttradebot.application.port.out.KillSwitchStateRepository;
 import com.vaulttradebot.application.port.out.MarketDataPort;
 import com.vaulttradebot.application.port.out.NotificationPort;
+import com.vaulttradebot.application.port.out.OrderBookPort;
 import com.vaulttradebot.application.port.out.OrderOutboxTransactionPort;
 import com.vaulttradebot.application.port.out.OrderRepository;
 import com.vaulttradebot.application.port.out.OutboxRepository;
@@ -20,12 +22,15 @@ import com.vaulttradebot.application.port.out.TradingCycleSnapshotRepository;
 import com.vaulttradebot.application.query.BotStatusSnapshot;
 import com.vaulttradebot.application.query.MetricsSnapshot;
 import com.vaulttradebot.application.query.PortfolioSnapshot;
+import com.vaulttradebot.application.query.PortfolioValuationSnapshot;
 import com.vaulttradebot.config.ApiTimeSupport;
+import com.vaulttradebot.config.VaultStrategyProperties;
 import com.vaulttradebot.domain.common.vo.Candle;
 import com.vaulttradebot.domain.common.vo.Market;
 import com.vaulttradebot.domain.common.vo.Money;
 import com.vaulttradebot.domain.common.vo.Side;
 import com.vaulttradebot.domain.common.vo.Timeframe;
+import com.vaulttradebot.domain.common.vo.TopOfBook;
 import com.vaulttradebot.domain.execution.Order;
 import com.vaulttradebot.domain.execution.vo.OrderStatus;
 import com.vaulttradebot.domain.ops.BotConfig;
@@ -33,6 +38,7 @@ import com.vaulttradebot.domain.ops.BotRunState;
 import com.vaulttradebot.domain.ops.KillSwitchActiveException;
 import com.vaulttradebot.domain.ops.KillSwitchState;
 import com.vaulttradebot.domain.portfolio.Position;
+import com.vaulttradebot.domain.resilience.DeadlineExceededException;
 import com.vaulttradebot.domain.risk.RiskDecision;
 import com.vaulttradebot.domain.risk.RiskEvaluationService;
 import com.vaulttradebot.domain.risk.RiskOrderRequest;
@@ -53,6 +59,7 @@ import com.vaulttradebot.domain.trading.snapshot.OpenOrderSnapshot;
 import com.vaulttradebot.domain.trading.vo.OrderDecision;
 import com.vaulttradebot.domain.trading.vo.OrderDecisionContext;
 import com.vaulttradebot.domain.trading.vo.OrderDecisionType;
+import com.vaulttradebot.domain.trading.vo.SignalAction;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Clock;
@@ -60,12 +67,15 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -93,6 +103,10 @@ public class BotFacadeService implements BotControlUseCase, BotConfigUseCase, Ru
     private final TradingCycleSnapshotRepository tradingCycleSnapshotRepository;
     private final TradingCycleLockPort tradingCycleLockPort;
     private final Strategy strategy;
+    private final CandleGapBackfillService candleGapBackfillService;
+    private final OrderBookPort orderBookPort;
+    private final Timeframe timeframe;
+    private final CycleDeadlineTracker cycleDeadlineTracker;
 
     private final AtomicReference<BotRunState> state = new AtomicReference<>(BotRunState.STOPPED);
     private final AtomicReference<Instant> lastCycleAt = new AtomicReference<>();
@@ -119,7 +133,11 @@ public class BotFacadeService implements BotControlUseCase, BotConfigUseCase, Ru
             OutboxRepository outboxRepository,
             TradingCycleSnapshotRepository tradingCycleSnapshotRepository,
             TradingCycleLockPort tradingCycleLockPort,
-            Strategy strategy
+            Strategy strategy,
+            CandleGapBackfillService candleGapBackfillService,
+            OrderBookPort orderBookPort,
+            VaultStrategyProperties strategyProperties,
+            CycleDeadlineTracker cycleDeadlineTracker
     ) {
         this.botSettingsRepository = botSettingsRepository;
         this.marketDataPort = marketDataPort;
@@ -135,6 +153,10 @@ public class BotFacadeService implements BotControlUseCase, BotConfigUseCase, Ru
         this.tradingCycleSnapshotRepository = tradingCycleSnapshotRepository;
         this.tradingCycleLockPort = tradingCycleLockPort;
         this.strategy = strategy;
+        this.candleGapBackfillService = candleGapBackfillService;
+        this.orderBookPort = orderBookPort;
+        this.timeframe = strategyProperties.getTimeframe();
+        this.cycleDeadlineTracker = cycleDeadlineTracker;
         restoreKillSwitchState();
     }
 
@@ -220,24 +242,29 @@ public class BotFacadeService implements BotControlUseCase, BotConfigUseCase, Ru
             return new CycleResult(false, false, "bot is not running");
         }
 
-        BotConfig config = botSettingsRepository.load();
-        Timeframe timeframe = Timeframe.M1;
-        String strategyId = strategy.getClass().getSimpleName();
-        String lockKey = config.marketSymbol() + "|" + strategyId;
-
-        // Step 3) Acquire per-(pair,strategy) lock to prevent concurrent duplicate cycles.
-        if (!tradingCycleLockPort.tryAcquire(lockKey)) {
-            lockSkippedCycles.incrementAndGet();
-            successfulCycles.incrementAndGet();
-            return new CycleResult(false, false, "cycle skipped: lock not acquired");
-        }
-
+        // The deadline starts before the first port call; settings and lock run under it, every stage inside it.
+        CycleDeadlineTracker.Cycle cycle = cycleDeadlineTracker.begin();
         try {
-            // Step 4) Run the locked orchestration flow with fixed boundaries.
-            return runLockedCycle(config, timeframe, strategyId, cycleStart);
+            BotConfig config = cycle.bounded(botSettingsRepository::load);
+            String strategyId = resolveStrategyId();
+            String lockKey = config.marketSymbol() + "|" + strategyId;
+
+            // Step 3) Acquire per-(pair,strategy) lock to prevent concurrent duplicate cycles.
+            if (!cycle.bounded(() -> tradingCycleLockPort.tryAcquire(lockKey))) {
+                lockSkippedCycles.incrementAndGet();
+                successfulCycles.incrementAndGet();
+                return new CycleResult(false, false, "cycle skipped: lock not acquired");
+            }
+
+            try {
+                // Step 4) Run the locked orchestration flow with fixed boundaries.
+                return runLockedCycle(config, timeframe, strategyId, cycleStart, cycle);
+            } finally {
+                // Step 5) Always release lock even if the cycle fails.
+                tradingCycleLockPort.release(lockKey);
+            }
         } finally {
-            // Step 5) Always release lock even if the cycle fails.
-            tradingCycleLockPort.release(lockKey);
+            cycle.finish();
         }
     }
 
@@ -266,7 +293,37 @@ public class BotFacadeService implements BotControlUseCase, BotConfigUseCase, Ru
             );
         }
 
-        Position position = positionOpt.get();
+        return toPortfolioSnapshot(config.marketSymbol(), positionOpt.get(), lastPrice);
+    }
+
+    @Override
+    public PortfolioValuationSnapshot getPortfolioValuation() {
+        List<Position> positions = portfolioRepository.findAll();
+        Instant valuedAt = clockPort.now();
+        // One batched ticker lookup prices every held market instead of one request per position.
+        Map<Market, Money> lastPrices = marketDataPort.getLastPrices(
+                positions.stream().map(Position::market).distinct().toList()
+        );
+        List<PortfolioSnapshot> snapshots = new ArrayList<>(positions.size());
+        for (Position position : positions) {
+            Money lastPrice = lastPrices.get(position.market());
+            if (lastPrice == null) {
+                throw new IllegalStateException("no last price for market " + position.market().value());
+            }
+            snapshots.add(toPortfolioSnapshot(position.market().value(), position, lastPrice));
+        }
+        return new PortfolioValuationSnapshot(
+                valuedAt,
+                List.copyOf(snapshots),
+                sum(snapshots, PortfolioSnapshot::totalInvestmentKrw),
+                sum(snapshots, PortfolioSnapshot::marketValueKrw),
+                sum(snapshots, PortfolioSnapshot::realizedPnlKrw),
+                sum(snapshots, PortfolioSnapshot::unrealizedPnlKrw),
+                sum(snapshots, PortfolioSnapshot::totalPnlKrw)
+        );
+    }
+
+    private PortfolioSnapshot toPortfolioSnapshot(String marketSymbol, Position position, Money lastPrice) {
         BigDecimal quantity = position.quantity();
         BigDecimal avg = position.avgPrice().value();
         BigDecimal invested = position.totalInvestment();
@@ -276,7 +333,7 @@ public class BotFacadeService implements BotControlUseCase, BotConfigUseCase, Ru
         BigDecimal totalPnl = realized.add(unrealized);
 
         return new PortfolioSnapshot(
-                config.marketSymbol(),
+                marketSymbol,
                 quantity,
                 avg,
                 invested,
@@ -287,6 +344,10 @@ public class BotFacadeService implements BotControlUseCase, BotConfigUseCase, Ru
         );
     }
 
+    private static BigDecimal sum(List<PortfolioSnapshot> snapshots, Function<PortfolioSnapshot, BigDecimal> field) {
+        return snapshots.stream().map(field).reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
     @Override
     public MetricsSnapshot getMetrics() {
         long success = successfulCycles.get();
@@ -311,14 +372,16 @@ public class BotFacadeService implements BotControlUseCase, BotConfigUseCase, Ru
             BotConfig config,
             Timeframe timeframe,
             String strategyId,
-            Instant cycleStart
+            Instant cycleStart,
+            CycleDeadlineTracker.Cycle cycle
     ) {
         Market market = toMarket(config.marketSymbol());
         List<Candle> candles;
-        try {
+        try (CycleDeadlineTracker.StageScope stage = cycle.open(CycleStage.MARKET_DATA)) {
             // Load market data window once so all downstream decisions use the same snapshot base.
             candles = marketDataPort.getRecentCandles(market, timeframe, 150, cycleStart);
         } catch (Exception marketError) {
+            // Includes running out of time: without a closed candle there is no cycle id to record a HOLD under.
             successfulCycles.incrementAndGet();
             consecutiveFailures.set(0);
             return new CycleResult(false, false, "cycle skipped: market data unavailable");
@@ -335,7 +398,48 @@ public class BotFacadeService implements BotControlUseCase, BotConfigUseCase, Ru
 
         // Use deterministic cycle id to guarantee idempotent re-entry behavior.
         String cycleId = buildCycleId(strategyId, market, timeframe, resolvedDataTimestamp);
-        Optional<TradingCycleSnapshot> existingCycle = tradingCycleSnapshotRepository.findByCycleId(cycleId);
+        try {
+            return runIdentifiedCycle(
+                    config,
+                    market,
+                    timeframe,
+                    candles,
+                    resolvedDataTimestamp,
+                    strategyId,
+                    cycleId,
+                    cycleStart,
+                    cycle
+            );
+        } catch (DeadlineExceededException deadlineError) {
+            return holdOnDeadline(
+                    cycle,
+                    cycleId,
+                    strategyId,
+                    timeframe,
+                    resolvedDataTimestamp,
+                    candles,
+                    config,
+                    deadlineError,
+                    cycleStart
+            );
+        }
+    }
+
+    private CycleResult runIdentifiedCycle(
+            BotConfig config,
+            Market market,
+            Timeframe timeframe,
+            List<Candle> candles,
+            Instant resolvedDataTimestamp,
+            String strategyId,
+            String cycleId,
+            Instant cycleStart,
+            CycleDeadlineTracker.Cycle cycle
+    ) {
+        Optional<TradingCycleSnapshot> existingCycle;
+        try (CycleDeadlineTracker.StageScope stage = cycle.open(CycleStage.MARKET_DATA)) {
+            existingCycle = tradingCycleSnapshotRepository.findByCycleId(cycleId);
+        }
         if (existingCycle.isPresent()) {
             successfulCycles.incrementAndGet();
             consecutiveFailures.set(0);
@@ -343,9 +447,20 @@ public class BotFacadeService implements BotControlUseCase, BotConfigUseCase, Ru
         }
 
         if (hasMaterialCandleGap(candles, timeframe, resolvedDataTimestamp)) {
-            Money lastPrice = marketDataPort.getLastPrice(market);
-            Optional<Position> positionAtCycle = portfolioRepository.findByMarket(config.marketSymbol());
+            // Repair only the missing ranges so this cycle can proceed instead of holding until the gap scrolls out.
+            try (CycleDeadlineTracker.StageScope stage = cycle.open(CycleStage.MARKET_DATA)) {
+                candles = candleGapBackfillService.backfill(market, timeframe, candles, resolvedDataTimestamp);
+            }
+        }
+        if (hasMaterialCandleGap(candles, timeframe, resolvedDataTimestamp)) {
+            Money lastPrice;
+            Optional<Position> positionAtCycle;
+            try (CycleDeadlineTracker.StageScope stage = cycle.open(CycleStage.MARKET_DATA)) {
+                lastPrice = marketDataPort.getLastPrice(market);
+                positionAtCycle = portfolioRepository.findByMarket(config.marketSymbol());
+            }
             return holdWithSnapshot(
+                    cycle,
                     cycleId,
                     strategyId,
                     timeframe,
@@ -369,8 +484,12 @@ public class BotFacadeService implements BotControlUseCase, BotConfigUseCase, Ru
                     resolvedDataTimestamp,
                     strategyId,
                     cycleId,
-                    cycleStart
+                    cycleStart,
+                    cycle
             );
+        } catch (DeadlineExceededException deadlineError) {
+            // Running out of time is not a cycle failure; the caller closes the cycle with a deadline HOLD.
+            throw deadlineError;
         } catch (Exception e) {
             int failures = consecutiveFailures.incrementAndGet();
             failedCycles.incrementAndGet();
@@ -391,19 +510,33 @@ public class BotFacadeService implements BotControlUseCase, BotConfigUseCase, Ru
             Instant dataTimestamp,
             String strategyId,
             String cycleId,
-            Instant cycleStart
+            Instant cycleStart,
+            CycleDeadlineTracker.Cycle cycle
     ) {
         // Build immutable input snapshot used by strategy/risk/decision layers.
-        Money lastPrice = marketDataPort.getLastPrice(market);
-        Optional<OpenOrderSnapshot> openOrder = findLatestOpenOrder(market);
-        Optional<Position> positionAtCycle = portfolioRepository.findByMarket(config.marketSymbol());
+        Money lastPrice;
+        Optional<TopOfBook> topOfBook;
+        Optional<OpenOrderSnapshot> openOrder;
+        Optional<Position> positionAtCycle;
+        try (CycleDeadlineTracker.StageScope stage = cycle.open(CycleStage.MARKET_DATA)) {
+            lastPrice = marketDataPort.getLastPrice(market);
+            topOfBook = orderBookPort.topOfBook(market);
+            openOrder = findLatestOpenOrder(market);
+            positionAtCycle = portfolioRepository.findByMarket(config.marketSymbol());
+        }
+        // Without a fresh local book, bid and ask fall back to the last traded price as before.
+        Money bestBid = topOfBook.map(TopOfBook::bestBid).orElse(lastPrice);
+        Money bestAsk = topOfBook.map(TopOfBook::bestAsk).orElse(lastPrice);
 
         SignalDecision signal;
-        try {
+        try (CycleDeadlineTracker.StageScope stage = cycle.open(CycleStage.STRATEGY)) {
             // Evaluate strategy with fixed evaluation timestamp to avoid repaint issues.
             signal = determineSignal(config, dataTimestamp, candles, timeframe);
+        } catch (DeadlineExceededException deadlineError) {
+            throw deadlineError;
         } catch (Exception strategyError) {
             return holdWithSnapshot(
+                    cycle,
                     cycleId,
                     strategyId,
                     timeframe,
@@ -422,7 +555,7 @@ public class BotFacadeService implements BotControlUseCase, BotConfigUseCase, Ru
         String riskReason = "RISK_SKIPPED";
         BigDecimal approvedOrderKrw = config.maxOrderKrw();
 
-        try {
+        try (CycleDeadlineTracker.StageScope stage = cycle.open(CycleStage.RISK)) {
             // Evaluate risk before building final order action decision.
             Optional<OrderDecision> riskCandidate = orderDecisionService.decide(
                     signal,
@@ -431,7 +564,14 @@ public class BotFacadeService implements BotControlUseCase, BotConfigUseCase, Ru
                     config.maxOrderKrw()
             );
             if (riskCandidate.isPresent()) {
-                RiskContext riskContext = buildRiskContext(config, riskCandidate.get(), lastPrice, dataTimestamp);
+                RiskContext riskContext = buildRiskContext(
+                        config,
+                        riskCandidate.get(),
+                        lastPrice,
+                        bestBid,
+                        bestAsk,
+                        dataTimestamp
+                );
                 RiskDecision riskDecision = riskEvaluationService.approveAndReserve(riskContext);
                 riskAllowed = riskDecision.isAllowed();
                 riskReason = riskDecision.reasonCode();
@@ -439,8 +579,11 @@ public class BotFacadeService implements BotControlUseCase, BotConfigUseCase, Ru
                     approvedOrderKrw = riskDecision.approvedOrderKrw();
                 }
             }
+        } catch (DeadlineExceededException deadlineError) {
+            throw deadlineError;
         } catch (Exception riskError) {
             return holdWithSnapshot(
+                    cycle,
                     cycleId,
                     strategyId,
                     timeframe,
@@ -455,33 +598,36 @@ public class BotFacadeService implements BotControlUseCase, BotConfigUseCase, Ru
             );
         }
 
-        OrderActionDecision actionDecision = orderDecisionService.decide(
-                new OrderDecisionContext(
-                        signal,
-                        market,
-                        lastPrice,
-                        lastPrice,
-                        lastPrice,
-                        dataTimestamp,
-                        cycleStart,
-                        approvedOrderKrw,
-                        resolveMaxPositionQty(config, lastPrice),
-                        resolveAvailableQuoteKrw(config, lastPrice, positionAtCycle),
-                        positionAtCycle.map(Position::quantity).orElse(BigDecimal.ZERO),
-                        resolveReservedQuoteKrw(openOrder),
-                        resolveReservedBaseQty(openOrder),
-                        positionAtCycle.map(Position::quantity).orElse(BigDecimal.ZERO),
-                        new BigDecimal("0.0005"),
-                        new BigDecimal("0.0020"),
-                        openOrder.map(OpenOrderSnapshot::quantity).orElse(BigDecimal.ZERO),
-                        riskAllowed,
-                        riskReason,
-                        openOrder,
-                        cycleId,
-                        buildOrderPolicy(config, timeframe),
-                        lastOrderAt.get()
-                )
-        );
+        OrderActionDecision actionDecision;
+        try (CycleDeadlineTracker.StageScope stage = cycle.open(CycleStage.RISK)) {
+            actionDecision = orderDecisionService.decide(
+                    new OrderDecisionContext(
+                            signal,
+                            market,
+                            lastPrice,
+                            bestBid,
+                            bestAsk,
+                            dataTimestamp,
+                            cycleStart,
+                            approvedOrderKrw,
+                            resolveMaxPositionQty(config, lastPrice),
+                            resolveAvailableQuoteKrw(config, lastPrice, positionAtCycle),
+                            positionAtCycle.map(Position::quantity).orElse(BigDecimal.ZERO),
+                            resolveReservedQuoteKrw(openOrder),
+                            resolveReservedBaseQty(openOrder),
+                            positionAtCycle.map(Position::quantity).orElse(BigDecimal.ZERO),
+                            new BigDecimal("0.0005"),
+                            new BigDecimal("0.0020"),
+                            resolveTopBookQty(signal, topOfBook, openOrder),
+                            riskAllowed,
+                            riskReason,
+                            openOrder,
+                            cycleId,
+                            buildOrderPolicy(config, timeframe),
+                            lastOrderAt.get()
+                    )
+            );
+        }
 
         String outboxEventId = null;
         OutboxMessage outboxMessage = null;
@@ -498,7 +644,6 @@ public class BotFacadeService implements BotControlUseCase, BotConfigUseCase, Ru
                     command,
                     cycleStart
             );
-            lastOrderAt.set(cycleStart);
         }
 
         TradingCycleSnapshot snapshot = buildSnapshot(
@@ -520,7 +665,13 @@ public class BotFacadeService implements BotControlUseCase, BotConfigUseCase, Ru
         );
 
         // Persist cycle snapshot and outbox atomically to keep decision and command request consistent.
-        persistCycle(snapshot, outboxMessage);
+        try (CycleDeadlineTracker.StageScope stage = cycle.open(CycleStage.PERSIST)) {
+            persistCycle(snapshot, outboxMessage);
+        }
+        if (outboxMessage != null) {
+            // Only a persisted command starts the cooldown; one dropped by the deadline never reached the outbox.
+            lastOrderAt.set(cycleStart);
+        }
         successfulCycles.incrementAndGet();
         consecutiveFailures.set(0);
 
@@ -532,6 +683,7 @@ public class BotFacadeService implements BotControlUseCase, BotConfigUseCase, Ru
     }
 
     private CycleResult holdWithSnapshot(
+            CycleDeadlineTracker.Cycle cycle,
             String cycleId,
             String strategyId,
             Timeframe timeframe,
@@ -562,12 +714,49 @@ public class BotFacadeService implements BotControlUseCase, BotConfigUseCase, Ru
                 holdReason,
                 cycleStart
         );
-        persistCycle(snapshot, null);
+        try (CycleDeadlineTracker.StageScope stage = cycle.open(CycleStage.PERSIST)) {
+            persistCycle(snapshot, null);
+        }
         successfulCycles.incrementAndGet();
         consecutiveFailures.set(0);
         return new CycleResult(true, false, holdReason);
     }
 
+    /**
+     * Closes a cycle that ran out of time with a HOLD snapshot, priced at the last candle close so no further
+     * quotation call is needed. Any command the cycle had decided on is dropped before reaching the outbox.
+     */
+    private CycleResult holdOnDeadline(
+            CycleDeadlineTracker.Cycle cycle,
+            String cycleId,
+            String strategyId,
+            Timeframe timeframe,
+            Instant dataTimestamp,
+            List<Candle> candles,
+            BotConfig config,
+            DeadlineExceededException deadlineError,
+            Instant cycleStart
+    ) {
+        return cycle.settle(() -> {
+            Money lastPrice = Money.krw(candles.get(candles.size() - 1).close().value());
+            Optional<Position> positionAtCycle = portfolioRepository.findByMarket(config.marketSymbol());
+            return holdWithSnapshot(
+                    cycle,
+                    cycleId,
+                    strategyId,
+                    timeframe,
+                    dataTimestamp,
+                    lastPrice,
+                    config,
+                    positionAtCycle,
+                    "HOLD",
+                    "DEADLINE_EXCEEDED",
+                    "DEADLINE_EXCEEDED: " + deadlineError.operation(),
+                    cycleStart
+            );
+        });
+    }
+
     private void persistCycle(TradingCycleSnapshot snapshot, OutboxMessage outboxMessage) {
         orderOutboxTransactionPort.execute(() -> {
             tradingCycleSnapshotRepository.save(snapshot);
@@ -659,7 +848,10 @@ public class BotFacadeService implements BotControlUseCase, BotConfigUseCase, Ru
                 0,
                 null,
                 now,
-                null
+                null,
+                null,
+                null,
+                OutboxPriority.forOrderCommand(command.type())
         );
     }
 
@@ -700,7 +892,14 @@ public class BotFacadeService implements BotControlUseCase, BotConfigUseCase, Ru
         return false;
     }
 
-    private RiskContext buildRiskContext(BotConfig config, OrderDecision decision, Money lastPrice, Instant now) {
+    private RiskContext buildRiskContext(
+            BotConfig config,
+            OrderDecision decision,
+            Money lastPrice,
+            Money bestBid,
+            Money bestAsk,
+            Instant now
+    ) {
         Optional<Position> positionOpt = portfolioRepository.findByMarket(config.marketSymbol());
         BigDecimal currentExposure = positionOpt
                 .map(position -> position.quantity().multiply(lastPrice.amount()))
@@ -733,8 +932,8 @@ public class BotFacadeService implements BotControlUseCase, BotConfigUseCase, Ru
         RiskMarketSnapshot marketSnapshot = new RiskMarketSnapshot(
                 config.marketSymbol(),
                 lastPrice.amount(),
-                lastPrice.amount(),
-                lastPrice.amount(),
+                bestBid.amount(),
+                bestAsk.amount(),
                 BigDecimal.ZERO,
                 now,
                 Duration.ofSeconds(5)
@@ -783,6 +982,15 @@ public class BotFacadeService implements BotControlUseCase, BotConfigUseCase, Ru
         return strategy.evaluate(context);
     }
 
+    private String resolveStrategyId() {
+        // Ensembles report a configured id; plain strategies keep the historical class-name id.
+        String id = strategy.strategyId();
+        if (id == null || id.isBlank()) {
+            return strategy.getClass().getSimpleName();
+        }
+        return id;
+    }
+
     private String valueOrEmpty(String value) {
         return value == null ? "" : value;
     }
@@ -823,6 +1031,19 @@ public class BotFacadeService implements BotControlUseCase, BotConfigUseCase, Ru
         );
     }
 
+    private BigDecimal resolveTopBookQty(
+            SignalDecision signal,
+            Optional<TopOfBook> topOfBook,
+            Optional<OpenOrderSnapshot> openOrder
+    ) {
+        // The touch on the side the order would take caps size by visible depth.
+        if (topOfBook.isPresent() && signal.action() != SignalAction.HOLD) {
+            Side side = signal.action() == SignalAction.BUY ? Side.BUY : Side.SELL;
+            return topOfBook.get().touchQty(side);
+        }
+        return openOrder.map(OpenOrderSnapshot::quantity).orElse(BigDecimal.ZERO);
+    }
+
     private BigDecimal resolveMaxPositionQty(BotConfig config, Money lastPrice) {
         BigDecimal maxExposureKrw = config.initialCashKrw().multiply(config.maxExposureRatio());
         if (lastPrice.amount().signum() <= 0) {
@@ -932,7 +1153,10 @@ public class BotFacadeService implements BotControlUseCase, BotConfigUseCase, Ru
                 0,
                 null,
                 activatedAt,
-                null
+                null,
+                null,
+                null,
+                OutboxPriority.CRITICAL
         );
     }
 
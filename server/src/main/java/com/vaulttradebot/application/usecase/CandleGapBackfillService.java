@@ -0,0 +1,186 @@
+package com.vaulttradebot.application.usecase;
+
+import com.vaulttradebot.application.port.out.MarketDataPort;
+import com.vaulttradebot.config.VaultMarketDataProperties;
+import com.vaulttradebot.domain.common.vo.Candle;
+import com.vaulttradebot.domain.common.vo.Market;
+import com.vaulttradebot.domain.common.vo.Timeframe;
+import com.vaulttradebot.domain.resilience.Deadline;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+@Service
+public class CandleGapBackfillService {
+    private static final Logger log = LoggerFactory.getLogger(CandleGapBackfillService.class);
+    /** Largest range fetched in one request, matching the exchange page size. */
+    static final int MAX_BARS_PER_REQUEST = 200;
+
+    private final MarketDataPort marketDataPort;
+    private final boolean enabled;
+    private final int maxRangesPerCycle;
+    private final long timeoutMs;
+    private final ExecutorService executor;
+
+    private final AtomicLong repairedWindows = new AtomicLong(0);
+    private final AtomicLong fetchedRanges = new AtomicLong(0);
+    private final AtomicLong filledCandles = new AtomicLong(0);
+    private final AtomicLong failedBackfills = new AtomicLong(0);
+
+    public CandleGapBackfillService(MarketDataPort marketDataPort, VaultMarketDataProperties properties) {
+        VaultMarketDataProperties.Backfill backfill = properties.getBackfill();
+        this.marketDataPort = marketDataPort;
+        this.enabled = backfill.isEnabled();
+        this.maxRangesPerCycle = backfill.getMaxRangesPerCycle();
+        this.timeoutMs = backfill.getTimeoutMs();
+        // At most this many range fetches are in flight at once; each still waits for the quotation pacer and bulkhead.
+        AtomicInteger sequence = new AtomicInteger(0);
+        this.executor = Executors.newFixedThreadPool(backfill.getMaxConcurrentRequests(), runnable -> {
+            Thread thread = new Thread(runnable, "candle-backfill-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the window with material gaps filled from the market-data source, or the original window
+     * when there is nothing to repair or any range could not be fetched.
+     */
+    public List<Candle> backfill(Market market, Timeframe timeframe, List<Candle> candles, Instant dataTimestamp) {
+        if (!enabled || candles == null || candles.size() < 2) {
+            return candles;
+        }
+        List<Instant[]> ranges = missingRanges(candles, timeframe, dataTimestamp);
+        if (ranges.isEmpty()) {
+            return candles;
+        }
+
+        List<CompletableFuture<List<Candle>>> fetches = new ArrayList<>(ranges.size());
+        for (Instant[] range : ranges) {
+            // Fetch threads inherit the cycle deadline so their HTTP timeouts shrink with it.
+            fetches.add(CompletableFuture.supplyAsync(
+                    Deadline.propagate(() -> marketDataPort.getCandlesBetween(market, timeframe, range[0], range[1])),
+                    executor
+            ));
+        }
+        List<Candle> fetched = new ArrayList<>();
+        try {
+            long waitMs = Deadline.current()
+                    .map(deadline -> Math.min(timeoutMs, deadline.remaining().toMillis()))
+                    .orElse(timeoutMs);
+            CompletableFuture.allOf(fetches.toArray(CompletableFuture[]::new)).get(waitMs, TimeUnit.MILLISECONDS);
+            for (CompletableFuture<List<Candle>> fetch : fetches) {
+                List<Candle> range = fetch.join();
+                if (range != null) {
+                    fetched.addAll(range);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abandon(market, timeframe, fetches, e);
+            return candles;
+        } catch (Exception e) {
+            // All or nothing: a partially repaired window could still hide the gap that mattered.
+            abandon(market, timeframe, fetches, e);
+            return candles;
+        }
+        fetchedRanges.addAndGet(ranges.size());
+        return merge(candles, fetched);
+    }
+
+    public long repairedWindows() {
+        return repairedWindows.get();
+    }
+
+    public long fetchedRanges() {
+        return fetchedRanges.get();
+    }
+
+    public long filledCandles() {
+        return filledCandles.get();
+    }
+
+    public long failedBackfills() {
+        return failedBackfills.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /** Half-open [from, to) ranges inside the closed window whose gap exceeds two bars, split to request size. */
+    List<Instant[]> missingRanges(List<Candle> candles, Timeframe timeframe, Instant dataTimestamp) {
+        Duration frame = timeframe.duration();
+        List<Instant> closedOpenTimes = candles.stream()
+                .map(Candle::openTime)
+                .filter(openTime -> !openTime.plus(frame).isAfter(dataTimestamp))
+                .sorted()
+                .toList();
+        // Same threshold as the cycle's gap check; single missing bars are usually minutes without trades.
+        Duration allowedGap = frame.multipliedBy(2);
+        Duration maxRequest = frame.multipliedBy(MAX_BARS_PER_REQUEST);
+        List<Instant[]> ranges = new ArrayList<>();
+        // Walk newest first so the per-cycle budget is spent on the gaps closest to the decision.
+        for (int i = closedOpenTimes.size() - 1; i > 0 && ranges.size() < maxRangesPerCycle; i--) {
+            Instant previous = closedOpenTimes.get(i - 1);
+            Instant current = closedOpenTimes.get(i);
+            if (Duration.between(previous, current).compareTo(allowedGap) <= 0) {
+                continue;
+            }
+            Instant from = previous.plus(frame);
+            for (Instant to = current; to.isAfter(from) && ranges.size() < maxRangesPerCycle; ) {
+                Instant chunkFrom = Duration.between(from, to).compareTo(maxRequest) > 0 ? to.minus(maxRequest) : from;
+                ranges.add(new Instant[]{chunkFrom, to});
+                to = chunkFrom;
+            }
+        }
+        return ranges;
+    }
+
+    private List<Candle> merge(List<Candle> candles, List<Candle> fetched) {
+        NavigableMap<Instant, Candle> merged = new TreeMap<>();
+        for (Candle candle : candles) {
+            merged.put(candle.openTime(), candle);
+        }
+        int filled = 0;
+        for (Candle candle : fetched) {
+            // Never overwrite a bar the cycle already saw; only fill holes.
+            if (merged.putIfAbsent(candle.openTime(), candle) == null) {
+                filled++;
+            }
+        }
+        if (filled == 0) {
+            return candles;
+        }
+        repairedWindows.incrementAndGet();
+        filledCandles.addAndGet(filled);
+        // Built off to the side and returned whole, so the cycle sees either the old or the fully merged window.
+        return List.copyOf(merged.values());
+    }
+
+    private void abandon(
+            Market market,
+            Timeframe timeframe,
+            List<CompletableFuture<List<Candle>>> fetches,
+            Exception cause
+    ) {
+        fetches.forEach(fetch -> fetch.cancel(true));
+        failedBackfills.incrementAndGet();
+        log.warn("candle gap backfill abandoned market={} timeframe={} error={}",
+                market.value(), timeframe, cause.getMessage());
+    }
+}
@@ -0,0 +1,22 @@
+package com.vaulttradebot.application.usecase;
+
+import com.vaulttradebot.application.port.in.CircuitBreakerQueryUseCase;
+import com.vaulttradebot.domain.resilience.CircuitBreaker;
+import com.vaulttradebot.domain.resilience.CircuitBreakerMetrics;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+/** Exposes per-name counters of whichever breaker implementation is configured. */
+@Service
+public class CircuitBreakerQueryService implements CircuitBreakerQueryUseCase {
+    private final CircuitBreaker circuitBreaker;
+
+    public CircuitBreakerQueryService(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public List<CircuitBreakerMetrics> circuitBreakers() {
+        return circuitBreaker.metrics();
+    }
+}
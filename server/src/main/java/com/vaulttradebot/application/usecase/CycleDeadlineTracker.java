@@ -0,0 +1,195 @@
+package com.vaulttradebot.application.usecase;
+
+import com.vaulttradebot.application.port.in.CycleDeadlineQueryUseCase;
+import com.vaulttradebot.application.port.out.ClockPort;
+import com.vaulttradebot.application.query.CycleDeadlineSnapshot;
+import com.vaulttradebot.application.query.CycleStageSnapshot;
+import com.vaulttradebot.config.VaultCycleDeadlineProperties;
+import com.vaulttradebot.domain.resilience.Deadline;
+import com.vaulttradebot.domain.resilience.DeadlineExceededException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Service;
+
+/**
+ * Hands each trading cycle a hard deadline and runs its stages under per-stage budgets. While a stage runs, its
+ * deadline (the stage budget, cut to what is left of the cycle) is bound to the cycle thread, so HTTP, retry and
+ * JDBC adapters stop waiting once it passes. Stages that overrun are counted whether they were cut off or merely
+ * finished late, which is all that can be done for CPU-bound stages such as strategy evaluation.
+ */
+@Service
+public class CycleDeadlineTracker implements CycleDeadlineQueryUseCase {
+    private final boolean enabled;
+    private final Duration total;
+    private final Map<CycleStage, Duration> budgets = new EnumMap<>(CycleStage.class);
+    private final Map<CycleStage, LongAdder> overruns = new EnumMap<>(CycleStage.class);
+    private final Map<CycleStage, LongAccumulator> maxStageMs = new EnumMap<>(CycleStage.class);
+    private final ClockPort clockPort;
+    private final LongAdder cycles = new LongAdder();
+    private final LongAdder deadlineHolds = new LongAdder();
+    private final LongAccumulator maxCycleMs = new LongAccumulator(Math::max, 0L);
+    private final AtomicReference<Instant> lastOverrunAt = new AtomicReference<>();
+
+    public CycleDeadlineTracker(VaultCycleDeadlineProperties properties, ClockPort clockPort) {
+        this.enabled = properties.isEnabled();
+        this.total = Duration.ofMillis(properties.getTotalMs());
+        this.clockPort = clockPort;
+        budgets.put(CycleStage.MARKET_DATA, Duration.ofMillis(properties.getMarketDataMs()));
+        budgets.put(CycleStage.STRATEGY, Duration.ofMillis(properties.getStrategyMs()));
+        budgets.put(CycleStage.RISK, Duration.ofMillis(properties.getRiskMs()));
+        budgets.put(CycleStage.PERSIST, Duration.ofMillis(properties.getPersistMs()));
+        for (CycleStage stage : CycleStage.values()) {
+            overruns.put(stage, new LongAdder());
+            maxStageMs.put(stage, new LongAccumulator(Math::max, 0L));
+        }
+    }
+
+    /**
+     * Starts the deadline of one cycle; call before any port is touched so the whole cycle is measured from there.
+     * Starting it binds nothing: only {@link Cycle#open} and {@link Cycle#bounded} put it on the cycle thread.
+     */
+    public Cycle begin() {
+        return new Cycle(Deadline.after(total), System.nanoTime());
+    }
+
+    @Override
+    public CycleDeadlineSnapshot cycleDeadline() {
+        List<CycleStageSnapshot> stages = Arrays.stream(CycleStage.values())
+                .map(stage -> new CycleStageSnapshot(
+                        stage.name(),
+                        budgets.get(stage).toMillis(),
+                        overruns.get(stage).sum(),
+                        maxStageMs.get(stage).get()
+                ))
+                .toList();
+        return new CycleDeadlineSnapshot(
+                enabled,
+                total.toMillis(),
+                cycles.sum(),
+                deadlineHolds.sum(),
+                maxCycleMs.get(),
+                lastOverrunAt.get(),
+                stages
+        );
+    }
+
+    /** Deadline state of one running cycle; confined to the cycle thread. */
+    public final class Cycle {
+        private final Deadline deadline;
+        private final long startedAtNanos;
+        private final Deadline[] stageDeadlines = new Deadline[CycleStage.values().length];
+        private final long[] stageElapsedNanos = new long[CycleStage.values().length];
+        private final boolean[] overrun = new boolean[CycleStage.values().length];
+        private boolean settling;
+
+        private Cycle(Deadline deadline, long startedAtNanos) {
+            this.deadline = deadline;
+            this.startedAtNanos = startedAtNanos;
+        }
+
+        /**
+         * Enters {@code stage} until the returned scope is closed. A stage may be entered several times; its budget
+         * starts on first entry and covers all of them. Throws {@link DeadlineExceededException} when the stage or
+         * the whole cycle is already out of time.
+         */
+        public StageScope open(CycleStage stage) {
+            if (!enabled || settling) {
+                return new StageScope(this, null, null);
+            }
+            int index = stage.ordinal();
+            if (stageDeadlines[index] == null) {
+                stageDeadlines[index] = Deadline.after(budgets.get(stage)).earlierOf(deadline);
+            }
+            if (stageDeadlines[index].isExpired()) {
+                markOverrun(stage);
+                throw new DeadlineExceededException(stage.name());
+            }
+            return new StageScope(this, stage, stageDeadlines[index].bind());
+        }
+
+        /**
+         * Runs a port call made before the first stage (settings, lock) under the cycle deadline, so it cannot
+         * outlast the cycle either.
+         */
+        public <T> T bounded(Supplier<T> action) {
+            if (!enabled || settling) {
+                return action.get();
+            }
+            return deadline.run(action);
+        }
+
+        /**
+         * Runs the write that closes a cycle which ran out of time. It gets a fresh persist budget instead of the
+         * spent cycle deadline, so the hard bound on a cycle is its total budget plus one persist budget.
+         */
+        public <T> T settle(Supplier<T> action) {
+            deadlineHolds.increment();
+            if (!enabled) {
+                return action.get();
+            }
+            settling = true;
+            try {
+                return Deadline.after(budgets.get(CycleStage.PERSIST)).run(action);
+            } finally {
+                settling = false;
+            }
+        }
+
+        /** Records the cycle's total duration; call once when the cycle returns. */
+        public void finish() {
+            cycles.increment();
+            maxCycleMs.accumulate(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAtNanos));
+        }
+
+        private void exit(CycleStage stage, long elapsedNanos) {
+            int index = stage.ordinal();
+            stageElapsedNanos[index] += elapsedNanos;
+            maxStageMs.get(stage).accumulate(TimeUnit.NANOSECONDS.toMillis(stageElapsedNanos[index]));
+            // Late but finished still counts: CPU-bound stages cannot be cut off, only observed.
+            if (stageDeadlines[index].isExpired() || stageElapsedNanos[index] > budgets.get(stage).toNanos()) {
+                markOverrun(stage);
+            }
+        }
+
+        private void markOverrun(CycleStage stage) {
+            if (overrun[stage.ordinal()]) {
+                return;
+            }
+            overrun[stage.ordinal()] = true;
+            overruns.get(stage).increment();
+            lastOverrunAt.set(clockPort.now());
+        }
+    }
+
+    /** One entry into a stage; closing it unbinds the stage deadline and books the time spent. */
+    public static final class StageScope implements AutoCloseable {
+        private final Cycle cycle;
+        private final CycleStage stage;
+        private final Deadline.Scope binding;
+        private final long enteredAtNanos = System.nanoTime();
+
+        private StageScope(Cycle cycle, CycleStage stage, Deadline.Scope binding) {
+            this.cycle = cycle;
+            this.stage = stage;
+            this.binding = binding;
+        }
+
+        @Override
+        public void close() {
+            if (binding == null) {
+                return;
+            }
+            binding.close();
+            cycle.exit(stage, System.nanoTime() - enteredAtNanos);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.vaulttradebot.application.usecase;
+
+/** Time-budgeted stages of one trading cycle, in the order they run. */
+public enum CycleStage {
+    MARKET_DATA,
+    STRATEGY,
+    RISK,
+    PERSIST
+}
@@ -0,0 +1,370 @@
+package com.vaulttradebot.application.usecase;
+
+import com.vaulttradebot.application.idempotency.IdempotencyHasher;
+import com.vaulttradebot.application.outbox.OutboxMessage;
+import com.vaulttradebot.application.outbox.OutboxPriority;
+import com.vaulttradebot.application.port.in.ExitTriggerQueryUseCase;
+import com.vaulttradebot.application.port.out.ClockPort;
+import com.vaulttradebot.application.port.out.MarketDataPort;
+import com.vaulttradebot.application.port.out.OrderOutboxTransactionPort;
+import com.vaulttradebot.application.port.out.OrderRepository;
+import com.vaulttradebot.application.port.out.OutboxRepository;
+import com.vaulttradebot.application.port.out.PortfolioRepository;
+import com.vaulttradebot.application.port.out.TradeBarPort;
+import com.vaulttradebot.application.query.ExitTriggerSnapshot;
+import com.vaulttradebot.config.VaultStrategyProperties;
+import com.vaulttradebot.domain.common.CandleBuffer;
+import com.vaulttradebot.domain.common.vo.Market;
+import com.vaulttradebot.domain.common.vo.Money;
+import com.vaulttradebot.domain.common.vo.Side;
+import com.vaulttradebot.domain.portfolio.Position;
+import com.vaulttradebot.domain.trading.exit.ExitTrigger;
+import com.vaulttradebot.domain.trading.exit.ExitTriggerIndex;
+import com.vaulttradebot.domain.trading.exit.ExitTriggerType;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps stop-loss, take-profit and trailing exits for open positions in per-market price indexes and turns
+ * fired exits into sell commands on the outbox, evaluated on every streamed trade.
+ */
+@Service
+public class ExitTriggerService implements ExitTriggerQueryUseCase {
+    private static final Logger log = LoggerFactory.getLogger(ExitTriggerService.class);
+    private static final String STRATEGY_ID = "ExitTrigger";
+
+    private final TradeBarPort tradeBarPort;
+    private final MarketDataPort marketDataPort;
+    private final PortfolioRepository portfolioRepository;
+    private final OrderRepository orderRepository;
+    private final OrderOutboxTransactionPort orderOutboxTransactionPort;
+    private final OutboxRepository outboxRepository;
+    private final ClockPort clockPort;
+    private final boolean enabled;
+    private final BigDecimal stopLossPct;
+    private final BigDecimal takeProfitPct;
+    private final BigDecimal trailingStopPct;
+    private final BigDecimal slippagePct;
+    private final long pollIntervalMs;
+    private final long rearmAfterMs;
+    private final ExecutorService emitter;
+
+    private final Map<String, MarketExits> markets = new ConcurrentHashMap<>();
+    private final AtomicLong priceUpdates = new AtomicLong(0);
+    private final AtomicLong restPolls = new AtomicLong(0);
+    private final AtomicLong fired = new AtomicLong(0);
+    private final AtomicLong emitted = new AtomicLong(0);
+    private final AtomicLong emitFailures = new AtomicLong(0);
+
+    public ExitTriggerService(
+            TradeBarPort tradeBarPort,
+            MarketDataPort marketDataPort,
+            PortfolioRepository portfolioRepository,
+            OrderRepository orderRepository,
+            OrderOutboxTransactionPort orderOutboxTransactionPort,
+            OutboxRepository outboxRepository,
+            ClockPort clockPort,
+            VaultStrategyProperties properties
+    ) {
+        VaultStrategyProperties.Exits exits = properties.getExits();
+        this.tradeBarPort = tradeBarPort;
+        this.marketDataPort = marketDataPort;
+        this.portfolioRepository = portfolioRepository;
+        this.orderRepository = orderRepository;
+        this.orderOutboxTransactionPort = orderOutboxTransactionPort;
+        this.outboxRepository = outboxRepository;
+        this.clockPort = clockPort;
+        this.enabled = exits.isEnabled();
+        this.stopLossPct = BigDecimal.valueOf(exits.getStopLossPct());
+        this.takeProfitPct = BigDecimal.valueOf(exits.getTakeProfitPct());
+        this.trailingStopPct = BigDecimal.valueOf(exits.getTrailingStopPct());
+        this.slippagePct = BigDecimal.valueOf(exits.getSlippagePct());
+        this.pollIntervalMs = exits.getPollIntervalMs();
+        this.rearmAfterMs = exits.getRearmAfterMs();
+        // Outbox writes leave the stream thread, which must never wait on the database.
+        this.emitter = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "exit-trigger-emitter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (enabled) {
+            tradeBarPort.addTradeListener(this::onTrade);
+        }
+    }
+
+    /** Rests an exit outside position protection; trailing stops start their high at {@code referencePrice}. */
+    public void arm(ExitTrigger trigger, Money referencePrice) {
+        MarketExits exits = exits(trigger.market());
+        synchronized (exits) {
+            exits.index.add(trigger, CandleBuffer.toScaled(referencePrice.amount()));
+        }
+        tradeBarPort.track(trigger.market());
+    }
+
+    /** Removes every exit of a one-cancels-others group; returns how many were resting. */
+    public int disarm(Market market, String groupId) {
+        MarketExits exits = markets.get(market.value());
+        if (exits == null) {
+            return 0;
+        }
+        synchronized (exits) {
+            return exits.index.removeGroup(groupId);
+        }
+    }
+
+    /** Evaluates one price for a market; returns how many exits fired. */
+    public int onPrice(Market market, Money price) {
+        MarketExits exits = markets.get(market.value());
+        return exits == null ? 0 : evaluate(exits, CandleBuffer.toScaled(price.amount()));
+    }
+
+    /** Arms exits for new or changed positions, drops them for closed ones and prices markets the stream missed. */
+    @Scheduled(fixedDelayString = "${vault.strategy.exits.poll-interval-ms:1000}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        syncPositions();
+        long staleBefore = clockPort.now().toEpochMilli() - pollIntervalMs;
+        for (MarketExits exits : markets.values()) {
+            if (exits.size() == 0 || exits.lastPriceMillis > staleBefore) {
+                continue;
+            }
+            try {
+                restPolls.incrementAndGet();
+                evaluate(exits, CandleBuffer.toScaled(marketDataPort.getLastPrice(exits.market).amount()));
+            } catch (RuntimeException ex) {
+                log.warn("exit trigger price poll failed market={} error={}", exits.market.value(), ex.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public ExitTriggerSnapshot exitTriggers() {
+        List<String> protectedMarkets = new ArrayList<>();
+        int resting = 0;
+        for (MarketExits exits : markets.values()) {
+            synchronized (exits) {
+                resting += exits.index.size();
+                if (exits.protection != null && exits.protection.firedAt() == null) {
+                    protectedMarkets.add(exits.market.value());
+                }
+            }
+        }
+        protectedMarkets.sort(String::compareTo);
+        return new ExitTriggerSnapshot(
+                enabled,
+                List.copyOf(protectedMarkets),
+                resting,
+                priceUpdates.get(),
+                restPolls.get(),
+                fired.get(),
+                emitted.get(),
+                emitFailures.get()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        emitter.shutdown();
+    }
+
+    void onTrade(Market market, long price, long epochMillis) {
+        MarketExits exits = markets.get(market.value());
+        if (exits != null) {
+            evaluate(exits, price);
+        }
+    }
+
+    void syncPositions() {
+        Instant now = clockPort.now();
+        // A resting sell means an exit is already working; re-arming now could sell the same coins twice.
+        Set<String> exiting = orderRepository.findActiveOrders().stream()
+                .filter(order -> order.side() == Side.SELL)
+                .map(order -> order.market().value())
+                .collect(Collectors.toSet());
+        Set<String> open = new HashSet<>();
+        for (Position position : portfolioRepository.findAll()) {
+            if (position.quantity().signum() <= 0) {
+                continue;
+            }
+            open.add(position.market().value());
+            protect(position, exiting.contains(position.market().value()), now);
+        }
+        for (MarketExits exits : markets.values()) {
+            if (!open.contains(exits.market.value())) {
+                synchronized (exits) {
+                    if (exits.protection != null) {
+                        exits.index.removeGroup(exits.protection.groupId());
+                        exits.protection = null;
+                    }
+                }
+            }
+        }
+    }
+
+    private void protect(Position position, boolean exiting, Instant now) {
+        Money entry = position.averageEntryPrice();
+        String signature = position.quantity().toPlainString() + "@" + entry.amount().toPlainString();
+        MarketExits exits = exits(position.market());
+        synchronized (exits) {
+            Protection current = exits.protection;
+            if (exiting) {
+                // Someone else's sell is working the position; armed exits would sell the same coins twice.
+                if (current != null && current.firedAt() == null) {
+                    exits.index.removeGroup(current.groupId());
+                    exits.protection = null;
+                }
+                return;
+            }
+            if (current != null && current.signature().equals(signature)
+                    && (current.firedAt() == null || now.isBefore(current.firedAt().plusMillis(rearmAfterMs)))) {
+                return;
+            }
+            if (current != null) {
+                exits.index.removeGroup(current.groupId());
+            }
+            String groupId = "exit:" + position.market().value() + ":" + position.version() + ":" + now.toEpochMilli();
+            long reference = Math.max(exits.lastPrice, CandleBuffer.toScaled(entry.amount()));
+            arm(exits, groupId, ExitTriggerType.STOP_LOSS, entry.amount().multiply(BigDecimal.ONE.subtract(stopLossPct)), position, reference);
+            arm(exits, groupId, ExitTriggerType.TAKE_PROFIT, entry.amount().multiply(BigDecimal.ONE.add(takeProfitPct)), position, reference);
+            arm(exits, groupId, ExitTriggerType.TRAILING_STOP, entry.amount().multiply(trailingStopPct), position, reference);
+            exits.protection = new Protection(signature, groupId, null);
+        }
+        tradeBarPort.track(position.market());
+    }
+
+    private void arm(MarketExits exits, String groupId, ExitTriggerType type, BigDecimal level, Position position, long reference) {
+        boolean configured = switch (type) {
+            case STOP_LOSS -> stopLossPct.signum() > 0 && level.signum() > 0;
+            case TAKE_PROFIT -> takeProfitPct.signum() > 0;
+            case TRAILING_STOP -> trailingStopPct.signum() > 0 && level.signum() > 0;
+        };
+        if (configured) {
+            exits.index.add(new ExitTrigger(groupId + ":" + type.name(), groupId, exits.market, type, level, position.quantity()), reference);
+        }
+    }
+
+    private int evaluate(MarketExits exits, long price) {
+        priceUpdates.incrementAndGet();
+        List<ExitTrigger> firedNow = new ArrayList<>(1);
+        synchronized (exits) {
+            exits.lastPrice = price;
+            exits.lastPriceMillis = clockPort.now().toEpochMilli();
+            if (exits.index.size() == 0 || exits.index.onPrice(price, firedNow::add) == 0) {
+                return 0;
+            }
+            for (ExitTrigger trigger : firedNow) {
+                if (exits.protection != null && exits.protection.groupId().equals(trigger.groupId())) {
+                    exits.protection = new Protection(exits.protection.signature(), trigger.groupId(), clockPort.now());
+                }
+            }
+        }
+        fired.addAndGet(firedNow.size());
+        Instant firedAt = clockPort.now();
+        BigDecimal firePrice = CandleBuffer.fromScaled(price);
+        emitter.execute(() -> emit(firedNow, firePrice, firedAt));
+        return firedNow.size();
+    }
+
+    private void emit(List<ExitTrigger> triggers, BigDecimal firePrice, Instant firedAt) {
+        for (ExitTrigger trigger : triggers) {
+            try {
+                OutboxMessage message = buildExitCommandRequestedEvent(trigger, firePrice, firedAt);
+                orderOutboxTransactionPort.execute(() -> outboxRepository.save(message));
+                emitted.incrementAndGet();
+                log.info("exit trigger fired id={} type={} market={} price={}",
+                        trigger.id(), trigger.type(), trigger.market().value(), firePrice.toPlainString());
+            } catch (RuntimeException ex) {
+                // The exit is gone from the index; the position is re-armed once rearm-after-ms passes without a sell.
+                emitFailures.incrementAndGet();
+                log.warn("exit trigger command failed id={} error={}", trigger.id(), ex.getMessage());
+            }
+        }
+    }
+
+    private OutboxMessage buildExitCommandRequestedEvent(ExitTrigger trigger, BigDecimal firePrice, Instant firedAt) {
+        String cycleId = IdempotencyHasher.sha256("exit-trigger|" + trigger.id());
+        String eventId = IdempotencyHasher.sha256(cycleId + ":CREATE");
+        // Sell through the trigger price by the slippage allowance, on the 1 KRW tick the cycle policy uses.
+        BigDecimal limit = firePrice.multiply(BigDecimal.ONE.subtract(slippagePct)).setScale(0, RoundingMode.DOWN);
+        if (limit.signum() <= 0) {
+            limit = firePrice;
+        }
+        String payload = "{"
+                + "\"cycleId\":\"" + cycleId + "\","
+                + "\"strategyId\":\"" + STRATEGY_ID + "\","
+                + "\"dataTimestamp\":\"" + firedAt + "\","
+                + "\"decision\":\"CREATE\","
+                + "\"reason\":\"" + trigger.type().name() + " " + trigger.id() + "\","
+                + "\"commandType\":\"CREATE\","
+                + "\"targetOrderId\":\"\","
+                + "\"market\":\"" + trigger.market().value() + "\","
+                + "\"side\":\"" + Side.SELL.name() + "\","
+                + "\"orderType\":\"LIMIT\","
+                + "\"price\":\"" + limit.toPlainString() + "\","
+                + "\"quantity\":\"" + trigger.quantity().toPlainString() + "\","
+                + "\"clientOrderId\":\"" + eventId + "\""
+                + "}";
+
+        return new OutboxMessage(
+                eventId,
+                STRATEGY_ID,
+                cycleId,
+                "OrderCommandRequested",
+                payload,
+                1,
+                firedAt,
+                firedAt,
+                null,
+                0,
+                null,
+                firedAt,
+                null,
+                null,
+                null,
+                OutboxPriority.COMMAND
+        );
+    }
+
+    private MarketExits exits(Market market) {
+        return markets.computeIfAbsent(market.value(), ignored -> new MarketExits(market));
+    }
+
+    private static final class MarketExits {
+        private final Market market;
+        private final ExitTriggerIndex index;
+        private Protection protection;
+        private long lastPrice;
+        private volatile long lastPriceMillis;
+
+        private MarketExits(Market market) {
+            this.market = market;
+            this.index = new ExitTriggerIndex(market);
+        }
+
+        private synchronized int size() {
+            return index.size();
+        }
+    }
+
+    /** Exits armed for one position state; {@code firedAt} is set once any of them fired. */
+    private record Protection(String signature, String groupId, Instant firedAt) {
+    }
+}
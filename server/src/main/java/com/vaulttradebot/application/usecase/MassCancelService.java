@@ -0,0 +1,210 @@
+package com.vaulttradebot.application.usecase;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vaulttradebot.application.outbox.OutboxMessage;
+import com.vaulttradebot.application.port.in.MassCancelQueryUseCase;
+import com.vaulttradebot.application.port.out.ClockPort;
+import com.vaulttradebot.application.port.out.ExchangeTradingPort;
+import com.vaulttradebot.application.port.out.NotificationPort;
+import com.vaulttradebot.application.port.out.OrderRepository;
+import com.vaulttradebot.application.query.MassCancelSnapshot;
+import com.vaulttradebot.domain.execution.Order;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Cancels a whole set of relayed CANCEL commands in one exchange round instead of one relay call per order,
+ * which is what a kill switch with many resting orders needs. Progress is observable while the round runs.
+ */
+@Service
+public class MassCancelService implements MassCancelQueryUseCase {
+    private static final Logger log = LoggerFactory.getLogger(MassCancelService.class);
+
+    private final ExchangeTradingPort exchangeTradingPort;
+    private final OrderRepository orderRepository;
+    private final OrderPersistenceService orderPersistenceService;
+    private final ObjectMapper objectMapper;
+    private final NotificationPort notificationPort;
+    private final ClockPort clockPort;
+    private final AtomicLong runs = new AtomicLong(0);
+    private volatile Run current;
+
+    public MassCancelService(
+            ExchangeTradingPort exchangeTradingPort,
+            OrderRepository orderRepository,
+            OrderPersistenceService orderPersistenceService,
+            ObjectMapper objectMapper,
+            NotificationPort notificationPort,
+            ClockPort clockPort
+    ) {
+        this.exchangeTradingPort = exchangeTradingPort;
+        this.orderRepository = orderRepository;
+        this.orderPersistenceService = orderPersistenceService;
+        this.objectMapper = objectMapper;
+        this.notificationPort = notificationPort;
+        this.clockPort = clockPort;
+    }
+
+    /**
+     * Cancels the orders targeted by {@code cancels} and returns the error for every message that did not
+     * succeed, keyed by message id. An exchange-wide failure is thrown so callers can count it as one outage.
+     */
+    public Map<String, RuntimeException> cancelAll(List<OutboxMessage> cancels) {
+        Map<String, RuntimeException> errors = new LinkedHashMap<>();
+        Map<String, Target> targets = new LinkedHashMap<>();
+        for (OutboxMessage message : cancels) {
+            try {
+                Order order = resolve(message);
+                targets.computeIfAbsent(order.exchangeOrderId(), ignored -> new Target(order)).messages().add(message);
+            } catch (RuntimeException unresolved) {
+                errors.put(message.id(), unresolved);
+            }
+        }
+        if (targets.isEmpty()) {
+            return errors;
+        }
+
+        Run run = new Run(targets.size(), clockPort.now());
+        current = run;
+        runs.incrementAndGet();
+        ExchangeTradingPort.MassCancelResult result;
+        try {
+            result = exchangeTradingPort.cancelOrders(List.copyOf(targets.keySet()), run::settle);
+        } catch (RuntimeException exchangeError) {
+            run.complete("FAILED", 0, clockPort.now());
+            notificationPort.notify("Mass cancel of " + targets.size() + " orders failed: " + exchangeError.getMessage());
+            throw exchangeError;
+        }
+
+        for (String exchangeOrderId : result.canceled()) {
+            Target target = targets.get(exchangeOrderId);
+            RuntimeException error = markCanceled(target.order());
+            if (error != null) {
+                target.messages().forEach(message -> errors.put(message.id(), error));
+            }
+        }
+        result.failed().forEach((exchangeOrderId, reason) -> {
+            RuntimeException error = new IllegalStateException(
+                    "mass cancel failed for exchange order " + exchangeOrderId + ": " + reason);
+            targets.get(exchangeOrderId).messages().forEach(message -> errors.put(message.id(), error));
+        });
+
+        run.complete("COMPLETED", result.exchangeCalls(), clockPort.now());
+        MassCancelSnapshot finished = run.snapshot(runs.get());
+        log.info("mass cancel finished requested={} canceled={} failed={} exchangeCalls={} durationMs={}",
+                finished.requested(), finished.canceled(), finished.failed(), finished.exchangeCalls(), finished.durationMs());
+        notificationPort.notify("Mass cancel finished: " + finished.canceled() + "/" + finished.requested()
+                + " orders canceled in " + finished.durationMs() + "ms using " + finished.exchangeCalls() + " exchange calls");
+        return errors;
+    }
+
+    @Override
+    public MassCancelSnapshot massCancel() {
+        Run run = current;
+        if (run == null) {
+            return new MassCancelSnapshot(0, "IDLE", 0, 0, 0, 0, null, null, 0);
+        }
+        return run.snapshot(runs.get());
+    }
+
+    private Order resolve(OutboxMessage message) {
+        String targetOrderId = targetOrderId(message);
+        Order order = orderRepository.findById(targetOrderId)
+                .orElseThrow(() -> new IllegalStateException("order not found for cancel: " + targetOrderId));
+        if (order.exchangeOrderId() == null || order.exchangeOrderId().isBlank()) {
+            throw new IllegalStateException("exchange order id missing for cancel: " + targetOrderId);
+        }
+        return order;
+    }
+
+    private String targetOrderId(OutboxMessage message) {
+        JsonNode payload;
+        try {
+            payload = objectMapper.readTree(message.payload());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("invalid order command payload", e);
+        }
+        JsonNode target = payload.path("targetOrderId");
+        if (!target.isTextual() || target.asText().isBlank()) {
+            throw new IllegalStateException("cancel command has no target order: " + message.id());
+        }
+        return target.asText();
+    }
+
+    /** Mirrors single-order cancel handling: orders that already reached a terminal state are left as they are. */
+    private RuntimeException markCanceled(Order order) {
+        try {
+            if (order.canCancel()) {
+                order.requestCancel();
+                order.cancel();
+                orderPersistenceService.persist(order);
+            }
+            return null;
+        } catch (RuntimeException error) {
+            return error;
+        }
+    }
+
+    private record Target(Order order, List<OutboxMessage> messages) {
+        private Target(Order order) {
+            this(order, new ArrayList<>());
+        }
+    }
+
+    /** One mass cancel round; counters move while the exchange adapter reports progress from its own threads. */
+    private static final class Run {
+        private final int requested;
+        private final Instant startedAt;
+        private final AtomicInteger canceled = new AtomicInteger(0);
+        private final AtomicInteger failed = new AtomicInteger(0);
+        private volatile String state = "RUNNING";
+        private volatile int exchangeCalls;
+        private volatile Instant completedAt;
+
+        private Run(int requested, Instant startedAt) {
+            this.requested = requested;
+            this.startedAt = startedAt;
+        }
+
+        private void settle(String exchangeOrderId, String error) {
+            if (error == null) {
+                canceled.incrementAndGet();
+            } else {
+                failed.incrementAndGet();
+            }
+        }
+
+        private void complete(String finalState, int calls, Instant finishedAt) {
+            exchangeCalls = calls;
+            completedAt = finishedAt;
+            state = finalState;
+        }
+
+        private MassCancelSnapshot snapshot(long runs) {
+            Instant end = completedAt;
+            long durationMs = end == null ? 0 : Duration.between(startedAt, end).toMillis();
+            return new MassCancelSnapshot(
+                    runs,
+                    state,
+                    requested,
+                    canceled.get(),
+                    failed.get(),
+                    exchangeCalls,
+                    startedAt,
+                    end,
+                    durationMs
+            );
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.vaulttradebot.application.usecase;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vaulttradebot.application.outbox.OutboxMessage;
+import com.vaulttradebot.application.port.out.OrderRepository;
+import com.vaulttradebot.domain.trading.vo.OrderCommandType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.stereotype.Service;
+
+/**
+ * Collapses unsent {@code OrderCommandRequested} messages into the latest intent per (market, strategy).
+ * Each cycle decides against persisted orders, which never include commands still waiting in the outbox,
+ * so a newer command already accounts for everything an older unsent one would have changed:
+ * <ul>
+ *     <li>an older CREATE is superseded by a newer CREATE for the same market and strategy;</li>
+ *     <li>an older CANCEL or REPLACE is superseded by a newer CANCEL or REPLACE of the same order.</li>
+ * </ul>
+ * Messages that were already attempted may have reached the exchange, so they supersede but are never dropped.
+ */
+@Service
+public class OrderCommandConflator {
+    static final String EVENT_TYPE = "OrderCommandRequested";
+
+    private final OrderRepository orderRepository;
+    private final ObjectMapper objectMapper;
+
+    public OrderCommandConflator(OrderRepository orderRepository, ObjectMapper objectMapper) {
+        this.orderRepository = orderRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /** Returns the superseded messages among {@code pending}, which must be in creation order. */
+    public List<Superseded> conflate(List<OutboxMessage> pending) {
+        Map<String, String> newestCreate = new HashMap<>();
+        Map<String, String> newestTargetCommand = new HashMap<>();
+        List<Superseded> superseded = new ArrayList<>();
+        // Walk newest first so the first command seen for a key is the one that survives.
+        for (int i = pending.size() - 1; i >= 0; i--) {
+            OutboxMessage message = pending.get(i);
+            Optional<Command> parsed = parse(message);
+            if (parsed.isEmpty()) {
+                continue;
+            }
+            Command command = parsed.get();
+            String self = command.type() + " " + message.id();
+            String winner = command.type() == OrderCommandType.CREATE
+                    ? newestCreate.putIfAbsent(command.key(), self)
+                    : newestTargetCommand.putIfAbsent(command.key() + "|" + command.targetOrderId(), self);
+            if (winner != null && message.attemptCount() == 0) {
+                superseded.add(new Superseded(message, "superseded by newer " + winner));
+            }
+        }
+        return List.copyOf(superseded);
+    }
+
+    /** The market a command acts on, resolving cancels through their target order; empty when unknown. */
+    public Optional<String> marketOf(OutboxMessage message) {
+        return parse(message).map(Command::market);
+    }
+
+    /** The command type, when the message is a readable and resolvable order command. */
+    public Optional<OrderCommandType> typeOf(OutboxMessage message) {
+        return parse(message).map(Command::type);
+    }
+
+    /** Unreadable or unresolvable commands are left alone so execution fails them the usual way. */
+    private Optional<Command> parse(OutboxMessage message) {
+        if (!EVENT_TYPE.equals(message.eventType())) {
+            return Optional.empty();
+        }
+        JsonNode payload;
+        try {
+            payload = objectMapper.readTree(message.payload());
+        } catch (JsonProcessingException e) {
+            return Optional.empty();
+        }
+        OrderCommandType type;
+        try {
+            type = OrderCommandType.valueOf(text(payload, "commandType"));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        String strategyId = text(payload, "strategyId");
+        String targetOrderId = text(payload, "targetOrderId");
+        String market = text(payload, "market");
+        if (type != OrderCommandType.CREATE && targetOrderId.isBlank()) {
+            return Optional.empty();
+        }
+        if (market.isBlank() && !targetOrderId.isBlank()) {
+            // CANCEL payloads carry no market; the order being cancelled knows it.
+            market = orderRepository.findById(targetOrderId).map(order -> order.market().value()).orElse("");
+        }
+        if (market.isBlank() || strategyId.isBlank()) {
+            return Optional.empty();
+        }
+        return Optional.of(new Command(type, market, market + "|" + strategyId, targetOrderId));
+    }
+
+    private static String text(JsonNode payload, String field) {
+        JsonNode node = payload.path(field);
+        return node.isTextual() ? node.asText() : "";
+    }
+
+    public record Superseded(OutboxMessage message, String reason) {
+    }
+
+    private record Command(OrderCommandType type, String market, String key, String targetOrderId) {
+    }
+}
@@ -10,11 +10,13 @@ import com.vaulttradebot.domain.common.vo.Market;
 import com.vaulttradebot.domain.common.vo.Money;
 import com.vaulttradebot.domain.common.vo.Side;
 import com.vaulttradebot.domain.execution.Order;
+import com.vaulttradebot.domain.execution.vo.OrderStatus;
 import com.vaulttradebot.domain.ops.KillSwitchActiveException;
 import com.vaulttradebot.domain.execution.vo.StrategyId;
 import com.vaulttradebot.domain.trading.OrderCommand;
 import com.vaulttradebot.domain.trading.vo.OrderCommandType;
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.stereotype.Service;
 
@@ -25,19 +27,22 @@ public class OrderCommandExecutionService {
     private final OrderRepository orderRepository;
     private final OrderPersistenceService orderPersistenceService;
     private final ObjectMapper objectMapper;
+    private final OrderLatencyTracker orderLatencyTracker;
 
     public OrderCommandExecutionService(
             BotControlUseCase botControlUseCase,
             ExchangeTradingPort exchangeTradingPort,
             OrderRepository orderRepository,
             OrderPersistenceService orderPersistenceService,
-            ObjectMapper objectMapper
+            ObjectMapper objectMapper,
+            OrderLatencyTracker orderLatencyTracker
     ) {
         this.botControlUseCase = botControlUseCase;
         this.exchangeTradingPort = exchangeTradingPort;
         this.orderRepository = orderRepository;
         this.orderPersistenceService = orderPersistenceService;
         this.objectMapper = objectMapper;
+        this.orderLatencyTracker = orderLatencyTracker;
     }
 
     public void execute(OutboxMessage message) {
@@ -51,12 +56,17 @@ public class OrderCommandExecutionService {
         OrderCommandRequestedPayload payload = parsePayload(message.payload());
         OrderCommand command = toCommand(payload);
         guardKillSwitch(command);
-        switch (command.type()) {
+        if (command.type() == OrderCommandType.CANCEL) {
+            executeCancel(command);
+            return;
+        }
+        orderLatencyTracker.dispatched(message, payload.cycleId(), payload.occurredAt());
+        Order placed = switch (command.type()) {
             case CREATE -> executeCreate(command, payload);
-            case REPLACE -> executeReplace(command, payload);
-            case CANCEL -> executeCancel(command);
+            case REPLACE -> executeReplace(command, payload, message);
             default -> throw new IllegalStateException("unsupported order command type: " + command.type());
-        }
+        };
+        orderLatencyTracker.acknowledged(message.id(), placed);
     }
 
     private void guardKillSwitch(OrderCommand command) {
@@ -69,38 +79,58 @@ public class OrderCommandExecutionService {
         throw new KillSwitchActiveException(botControlUseCase.status().killSwitchReason());
     }
 
-    private void executeCreate(OrderCommand command, OrderCommandRequestedPayload payload) {
-        Order created = Order.create(
-                command.market(),
-                command.side(),
-                command.quantity(),
-                command.price(),
-                payload.occurredAt(),
-                StrategyId.of(payload.strategyId()),
-                null
-        );
-        Order placed = exchangeTradingPort.placeOrder(created);
+    private Order executeCreate(OrderCommand command, OrderCommandRequestedPayload payload) {
+        Order placed = exchangeTradingPort.placeOrder(newOrder(command, payload, command.quantity()));
         orderPersistenceService.persist(placed);
+        return placed;
     }
 
-    private void executeReplace(OrderCommand command, OrderCommandRequestedPayload payload) {
-        executeCancel(OrderCommand.cancel(command.targetOrderId(), command.reason()));
-        executeCreate(OrderCommand.create(
-                command.market(),
-                command.side(),
-                command.price(),
+    /**
+     * Replaces in one exchange round: the new order goes out as soon as the cancel is acknowledged, and the
+     * cancellation and the new order are persisted together once both are known. Returns the new order, or null
+     * when nothing had to be placed.
+     */
+    private Order executeReplace(OrderCommand command, OrderCommandRequestedPayload payload, OutboxMessage message) {
+        Order existing = requireExchangeOrder(command.targetOrderId(), "replace");
+        if (!existing.canCancel()) {
+            if (existing.status() == OrderStatus.CANCELED && message.attemptCount() > 0) {
+                // An earlier attempt cancelled the old order but failed to place the new one; finish that leg only,
+                // never for more than the old order still had open, since fills before the cancel used up the rest.
+                BigDecimal remaining = existing.originalQuantity().value().subtract(existing.executedQuantity().value());
+                BigDecimal quantity = command.quantity().min(remaining);
+                if (quantity.signum() <= 0) {
+                    return null;
+                }
+                Order placed = exchangeTradingPort.placeOrder(newOrder(command, payload, quantity));
+                orderPersistenceService.persist(placed);
+                return placed;
+            }
+            if (existing.status() == OrderStatus.FILLED) {
+                // The order filled before it could be moved, which already used up the quantity being replaced.
+                return null;
+            }
+            throw new IllegalStateException("order cannot be replaced in status " + existing.status() + ": " + existing.id());
+        }
+
+        ExchangeTradingPort.ReplaceResult result = exchangeTradingPort.replaceOrder(
+                existing,
                 command.quantity(),
-                command.clientOrderId(),
-                command.reason()
-        ), payload);
+                quantity -> newOrder(command, payload, quantity)
+        );
+        Order replaced = result.replaced();
+        if (replaced.canCancel()) {
+            replaced.requestCancel();
+            replaced.cancel();
+        }
+        orderPersistenceService.persistAll(result.placed() == null ? List.of(replaced) : List.of(replaced, result.placed()));
+        if (result.placeError() != null) {
+            throw result.placeError();
+        }
+        return result.placed();
     }
 
     private void executeCancel(OrderCommand command) {
-        Order existing = findOrder(command.targetOrderId())
-                .orElseThrow(() -> new IllegalStateException("order not found for cancel: " + command.targetOrderId()));
-        if (existing.exchangeOrderId() == null || existing.exchangeOrderId().isBlank()) {
-            throw new IllegalStateException("exchange order id missing for cancel: " + command.targetOrderId());
-        }
+        Order existing = requireExchangeOrder(command.targetOrderId(), "cancel");
         exchangeTradingPort.cancelOrder(existing.exchangeOrderId());
         if (existing.canCancel()) {
             existing.requestCancel();
@@ -109,6 +139,27 @@ public class OrderCommandExecutionService {
         }
     }
 
+    private Order requireExchangeOrder(String orderId, String action) {
+        Order existing = findOrder(orderId)
+                .orElseThrow(() -> new IllegalStateException("order not found for " + action + ": " + orderId));
+        if (existing.exchangeOrderId() == null || existing.exchangeOrderId().isBlank()) {
+            throw new IllegalStateException("exchange order id missing for " + action + ": " + orderId);
+        }
+        return existing;
+    }
+
+    private Order newOrder(OrderCommand command, OrderCommandRequestedPayload payload, BigDecimal quantity) {
+        return Order.create(
+                command.market(),
+                command.side(),
+                quantity,
+                command.price(),
+                payload.occurredAt(),
+                StrategyId.of(payload.strategyId()),
+                null
+        );
+    }
+
     private Optional<Order> findOrder(String orderId) {
         return orderRepository.findById(orderId);
     }
@@ -0,0 +1,211 @@
+package com.vaulttradebot.application.usecase;
+
+import com.vaulttradebot.application.outbox.OutboxMessage;
+import com.vaulttradebot.application.port.out.NotificationPort;
+import com.vaulttradebot.config.VaultCircuitBreakerProperties;
+import com.vaulttradebot.domain.ops.KillSwitchActiveException;
+import com.vaulttradebot.domain.resilience.BulkheadFullException;
+import com.vaulttradebot.domain.resilience.CircuitBreaker;
+import com.vaulttradebot.domain.resilience.CircuitBreakerBypassException;
+import com.vaulttradebot.domain.resilience.CircuitBreakerOpenException;
+import com.vaulttradebot.domain.resilience.CircuitBreakerSnapshot;
+import com.vaulttradebot.domain.resilience.CircuitBreakerState;
+import com.vaulttradebot.domain.trading.vo.OrderCommandType;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Sends relayed order commands to the exchange on its own threads and behind its own breaker, so exchange
+ * trouble neither blocks nor is masked by domain event publishing. Commands for one market run in outbox
+ * order; different markets may run in parallel up to the configured concurrency.
+ */
+@Service
+public class OrderCommandRelayExecutor {
+    static final String BREAKER_NAME = "order-command-executor";
+
+    private final OrderCommandExecutionService orderCommandExecutionService;
+    private final OrderCommandConflator orderCommandConflator;
+    private final MassCancelService massCancelService;
+    private final CircuitBreaker circuitBreaker;
+    private final NotificationPort notificationPort;
+    private final VaultCircuitBreakerProperties breakerProperties;
+    private final int concurrency;
+    private final int massCancelMinOrders;
+    private final ExecutorService executor;
+
+    public OrderCommandRelayExecutor(
+            OrderCommandExecutionService orderCommandExecutionService,
+            OrderCommandConflator orderCommandConflator,
+            MassCancelService massCancelService,
+            CircuitBreaker circuitBreaker,
+            NotificationPort notificationPort,
+            VaultCircuitBreakerProperties breakerProperties,
+            @Value("${vault.outbox.order-commands.concurrency:1}") int concurrency,
+            @Value("${vault.outbox.order-commands.mass-cancel-min-orders:2}") int massCancelMinOrders
+    ) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("order command concurrency must be >= 1");
+        }
+        if (massCancelMinOrders < 1) {
+            throw new IllegalArgumentException("mass cancel min orders must be >= 1");
+        }
+        this.orderCommandExecutionService = orderCommandExecutionService;
+        this.orderCommandConflator = orderCommandConflator;
+        this.massCancelService = massCancelService;
+        this.circuitBreaker = circuitBreaker;
+        this.notificationPort = notificationPort;
+        this.breakerProperties = breakerProperties;
+        this.concurrency = concurrency;
+        this.massCancelMinOrders = massCancelMinOrders;
+        AtomicInteger threads = new AtomicInteger(0);
+        this.executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "order-command-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Executes every command and reports each outcome in input order; a failed command never stops the rest.
+     * When enough cancels arrive together, as after a kill switch, they go out first as one mass cancel.
+     */
+    public List<Result> executeAll(List<OutboxMessage> commands) {
+        RuntimeException[] errors = new RuntimeException[commands.size()];
+        boolean[] cancel = new boolean[commands.size()];
+        List<Integer> cancelIndexes = new ArrayList<>();
+        for (int i = 0; i < commands.size(); i++) {
+            if (orderCommandConflator.typeOf(commands.get(i)).orElse(null) == OrderCommandType.CANCEL) {
+                cancel[i] = true;
+                cancelIndexes.add(i);
+            }
+        }
+        boolean massCancel = cancelIndexes.size() >= massCancelMinOrders;
+        if (massCancel) {
+            executeMassCancel(commands, cancelIndexes, errors);
+        }
+
+        Map<String, List<Integer>> byMarket = new LinkedHashMap<>();
+        for (int i = 0; i < commands.size(); i++) {
+            if (massCancel && cancel[i]) {
+                continue;
+            }
+            String market = orderCommandConflator.marketOf(commands.get(i)).orElse("");
+            byMarket.computeIfAbsent(market, ignored -> new ArrayList<>()).add(i);
+        }
+        List<Future<?>> partitions = new ArrayList<>(byMarket.size());
+        for (List<Integer> indexes : byMarket.values()) {
+            partitions.add(executor.submit(() -> {
+                for (int index : indexes) {
+                    errors[index] = executeOne(commands.get(index));
+                }
+            }));
+        }
+        for (Future<?> partition : partitions) {
+            await(partition);
+        }
+        List<Result> results = new ArrayList<>(commands.size());
+        for (int i = 0; i < commands.size(); i++) {
+            results.add(new Result(commands.get(i), errors[i]));
+        }
+        return results;
+    }
+
+    public int concurrency() {
+        return concurrency;
+    }
+
+    public CircuitBreakerState breakerState() {
+        return circuitBreaker.snapshot(BREAKER_NAME).state();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private RuntimeException executeOne(OutboxMessage message) {
+        return guarded(() -> {
+            try {
+                orderCommandExecutionService.execute(message);
+            } catch (KillSwitchActiveException blocked) {
+                // Refused creates during a kill switch must not open the breaker that the kill switch cancels need.
+                throw new CircuitBreakerBypassException(blocked);
+            }
+        });
+    }
+
+    /** One guarded exchange round for all cancels; only a failure of the round itself counts against the breaker. */
+    private void executeMassCancel(List<OutboxMessage> commands, List<Integer> cancelIndexes, RuntimeException[] errors) {
+        List<OutboxMessage> cancels = cancelIndexes.stream().map(commands::get).toList();
+        Map<String, RuntimeException> errorsById = new HashMap<>();
+        RuntimeException outage = guarded(() -> errorsById.putAll(massCancelService.cancelAll(cancels)));
+        for (int index : cancelIndexes) {
+            errors[index] = outage != null ? outage : errorsById.get(commands.get(index).id());
+        }
+    }
+
+    private RuntimeException guarded(Runnable action) {
+        if (!breakerProperties.isEnabled()) {
+            return attempt(action);
+        }
+        CircuitBreakerSnapshot before = circuitBreaker.snapshot(BREAKER_NAME);
+        RuntimeException error = attempt(() -> circuitBreaker.execute(BREAKER_NAME, () -> {
+            try {
+                action.run();
+            } catch (BulkheadFullException rejected) {
+                // A full bulkhead never reached the exchange, so it says nothing about the exchange's health.
+                throw new CircuitBreakerBypassException(rejected);
+            }
+        }));
+        if (error instanceof CircuitBreakerBypassException bypass) {
+            return bypass.getCause();
+        }
+        if (error != null) {
+            CircuitBreakerState after = error instanceof CircuitBreakerOpenException
+                    ? CircuitBreakerState.OPEN
+                    : circuitBreaker.snapshot(BREAKER_NAME).state();
+            if (before.state() != after) {
+                notificationPort.notify("Order command breaker transitioned " + before.state() + " -> " + after + ": " + error.getMessage());
+            }
+        }
+        return error;
+    }
+
+    private RuntimeException attempt(Runnable action) {
+        try {
+            action.run();
+            return null;
+        } catch (RuntimeException error) {
+            return error;
+        }
+    }
+
+    private void await(Future<?> partition) {
+        try {
+            partition.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while executing order commands", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("order command partition failed", e.getCause());
+        }
+    }
+
+    /** Outcome of one command; {@code error} is null when the exchange call succeeded. */
+    public record Result(OutboxMessage message, RuntimeException error) {
+        public boolean succeeded() {
+            return error == null;
+        }
+    }
+}
@@ -1,41 +1,171 @@
 package com.vaulttradebot.application.usecase;
 
+import com.vaulttradebot.application.port.in.OrderSyncQueryUseCase;
+import com.vaulttradebot.application.port.out.ClockPort;
 import com.vaulttradebot.application.port.out.ExchangeTradingPort;
+import com.vaulttradebot.application.port.out.MarketDataPort;
 import com.vaulttradebot.application.port.out.OrderRepository;
+import com.vaulttradebot.application.query.OrderSyncSnapshot;
+import com.vaulttradebot.config.VaultOrderSyncProperties;
+import com.vaulttradebot.domain.common.vo.Market;
+import com.vaulttradebot.domain.common.vo.Money;
 import com.vaulttradebot.domain.execution.Order;
+import com.vaulttradebot.domain.execution.OrderSyncSchedule;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+/**
+ * Keeps local orders in step with the exchange. In adaptive mode each order carries its own next-check time, so a
+ * poll refreshes only the orders that are due: new and near-touch orders every poll, far and stale ones rarely.
+ */
 @Service
-public class OrderFillSyncService {
+public class OrderFillSyncService implements OrderSyncQueryUseCase {
+    private static final Logger log = LoggerFactory.getLogger(OrderFillSyncService.class);
+
     private final OrderRepository orderRepository;
     private final ExchangeTradingPort exchangeTradingPort;
     private final OrderPersistenceService orderPersistenceService;
+    private final MarketDataPort marketDataPort;
+    private final ClockPort clockPort;
+    private final OrderLatencyTracker orderLatencyTracker;
+    private final boolean adaptive;
+    private final OrderSyncSchedule schedule;
+    private final AtomicLong polls = new AtomicLong(0);
+    private final AtomicLong refreshCalls = new AtomicLong(0);
+    private final AtomicLong skippedChecks = new AtomicLong(0);
+    private final AtomicLong fillsDetected = new AtomicLong(0);
+    private final AtomicLong refreshFailures = new AtomicLong(0);
+    private volatile int trackedOrders;
+    private volatile Instant lastPollAt;
 
     public OrderFillSyncService(
             OrderRepository orderRepository,
             ExchangeTradingPort exchangeTradingPort,
-            OrderPersistenceService orderPersistenceService
+            OrderPersistenceService orderPersistenceService,
+            MarketDataPort marketDataPort,
+            ClockPort clockPort,
+            VaultOrderSyncProperties orderSyncProperties,
+            OrderLatencyTracker orderLatencyTracker
     ) {
         this.orderRepository = orderRepository;
         this.exchangeTradingPort = exchangeTradingPort;
         this.orderPersistenceService = orderPersistenceService;
+        this.marketDataPort = marketDataPort;
+        this.clockPort = clockPort;
+        this.orderLatencyTracker = orderLatencyTracker;
+        this.adaptive = orderSyncProperties.isAdaptive();
+        this.schedule = new OrderSyncSchedule(
+                Duration.ofMillis(orderSyncProperties.getMinIntervalMs()),
+                Duration.ofMillis(orderSyncProperties.getMaxIntervalMs()),
+                orderSyncProperties.getNearTouchBps(),
+                orderSyncProperties.getFarFromTouchBps(),
+                Duration.ofMillis(orderSyncProperties.getFreshOrderMs()),
+                Duration.ofMillis(orderSyncProperties.getRecentFillMs()),
+                Duration.ofMillis(orderSyncProperties.getAgeStretchMs())
+        );
     }
 
-    /** Refreshes active exchange orders and persists only when exchange state changed. */
+    /** Refreshes due exchange orders and persists only when exchange state changed. */
     public void syncActiveOrders() {
-        List<Order> activeOrders = orderRepository.findActiveOrders();
-        for (Order order : activeOrders) {
-            if (order.exchangeOrderId() == null || order.exchangeOrderId().isBlank()) {
-                continue;
+        Instant now = clockPort.now();
+        polls.incrementAndGet();
+        lastPollAt = now;
+        Map<String, Order> activeOrders = new LinkedHashMap<>();
+        for (Order order : orderRepository.findActiveOrders()) {
+            if (order.exchangeOrderId() != null && !order.exchangeOrderId().isBlank()) {
+                activeOrders.put(order.id(), order);
+            }
+        }
+
+        List<Order> dueOrders = new ArrayList<>();
+        if (adaptive) {
+            schedule.due(activeOrders.keySet(), now).forEach(orderId -> dueOrders.add(activeOrders.get(orderId)));
+        } else {
+            dueOrders.addAll(activeOrders.values());
+        }
+        skippedChecks.addAndGet(activeOrders.size() - dueOrders.size());
+
+        List<Refresh> refreshes = new ArrayList<>(dueOrders.size());
+        List<Order> failed = new ArrayList<>();
+        for (Order order : dueOrders) {
+            // One failing order (timeout, 5xx, open breaker) must not keep the rest of the batch from being checked.
+            try {
+                refreshes.add(refresh(order));
+            } catch (RuntimeException e) {
+                refreshFailures.incrementAndGet();
+                failed.add(order);
+                log.warn("order refresh failed orderId={} reason={}", order.id(), e.getMessage());
             }
+        }
 
-            OrderSnapshot before = OrderSnapshot.capture(order);
-            Order refreshed = exchangeTradingPort.refreshOrder(order);
-            if (before.hasChanged(refreshed)) {
-                orderPersistenceService.persist(refreshed);
+        if (adaptive) {
+            Map<Market, Money> lastPrices = lastPrices(refreshes);
+            for (Refresh refresh : refreshes) {
+                schedule.reschedule(refresh.order(), lastPrices.get(refresh.order().market()), refresh.filled(), now);
+            }
+            for (Order order : failed) {
+                schedule.retry(order.id(), now);
             }
         }
+        trackedOrders = adaptive ? schedule.size() : activeOrders.size();
+    }
+
+    private Refresh refresh(Order order) {
+        OrderSnapshot before = OrderSnapshot.capture(order);
+        refreshCalls.incrementAndGet();
+        Order refreshed = exchangeTradingPort.refreshOrder(order);
+        boolean filled = refreshed.executedQuantity().value().compareTo(before.executedQuantity()) > 0;
+        if (before.hasChanged(refreshed)) {
+            orderPersistenceService.persist(refreshed);
+        }
+        // Counted after the write so a failed persist is detected again, once, on the retry.
+        if (filled) {
+            fillsDetected.incrementAndGet();
+            orderLatencyTracker.filled(refreshed);
+        }
+        return new Refresh(refreshed, filled);
+    }
+
+    @Override
+    public OrderSyncSnapshot orderSync() {
+        return new OrderSyncSnapshot(
+                adaptive,
+                polls.get(),
+                refreshCalls.get(),
+                skippedChecks.get(),
+                fillsDetected.get(),
+                refreshFailures.get(),
+                trackedOrders,
+                lastPollAt
+        );
+    }
+
+    /** One batched price read for all refreshed markets; without prices the schedule falls back to a mid interval. */
+    private Map<Market, Money> lastPrices(List<Refresh> refreshes) {
+        if (refreshes.isEmpty()) {
+            return Map.of();
+        }
+        Set<Market> markets = new LinkedHashSet<>();
+        refreshes.forEach(refresh -> markets.add(refresh.order().market()));
+        try {
+            return marketDataPort.getLastPrices(markets);
+        } catch (RuntimeException e) {
+            log.warn("last price lookup for order sync failed markets={} reason={}", markets, e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private record Refresh(Order order, boolean filled) {
     }
 
     private record OrderSnapshot(
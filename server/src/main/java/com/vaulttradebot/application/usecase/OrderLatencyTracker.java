@@ -0,0 +1,220 @@
+package com.vaulttradebot.application.usecase;
+
+import com.vaulttradebot.application.outbox.OutboxMessage;
+import com.vaulttradebot.application.port.in.OrderLatencyQueryUseCase;
+import com.vaulttradebot.application.port.out.ClockPort;
+import com.vaulttradebot.application.query.LatencyStageSnapshot;
+import com.vaulttradebot.application.query.OrderLatencySnapshot;
+import com.vaulttradebot.application.query.OrderLatencyTrace;
+import com.vaulttradebot.domain.execution.Order;
+import com.vaulttradebot.domain.execution.vo.ExecutionTrade;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Service;
+
+/**
+ * Joins the timestamps an order leaves behind on its way to the exchange: the cycle's data timestamp (signal),
+ * the outbox row's creation (enqueue), the first relay dispatch (publish), the exchange acknowledgement and the
+ * first execution (fill). Traces are correlated by outbox message id until the order exists, then by order id.
+ * Stage latencies feed fixed-bucket histograms; the most recent traces are kept for a slowest-orders view.
+ */
+@Service
+public class OrderLatencyTracker implements OrderLatencyQueryUseCase {
+    static final String SIGNAL_TO_ENQUEUE = "signalToEnqueue";
+    static final String ENQUEUE_TO_PUBLISH = "enqueueToPublish";
+    static final String PUBLISH_TO_ACK = "publishToAck";
+    static final String ACK_TO_FILL = "ackToFill";
+
+    private static final long[] BUCKET_BOUNDS_MS = {
+            10, 25, 50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000, 30_000, 60_000, 300_000, 900_000
+    };
+    private static final int MAX_PENDING = 256;
+    private static final int MAX_TRACES = 512;
+
+    private final ClockPort clockPort;
+    private final Map<String, StageHistogram> histograms = new LinkedHashMap<>();
+    private final Map<String, Trace> pending = boundedMap(MAX_PENDING);
+    private final Map<String, Trace> traces = boundedMap(MAX_TRACES);
+    private long acknowledgedOrders;
+    private long filledOrders;
+
+    public OrderLatencyTracker(ClockPort clockPort) {
+        this.clockPort = clockPort;
+        for (String stage : List.of(SIGNAL_TO_ENQUEUE, ENQUEUE_TO_PUBLISH, PUBLISH_TO_ACK, ACK_TO_FILL)) {
+            histograms.put(stage, new StageHistogram());
+        }
+    }
+
+    /**
+     * Records the first relay dispatch of an order-placing command. Retries keep the first dispatch time, so a
+     * command that needed several attempts shows the whole wait in its publish-to-ack stage.
+     */
+    public synchronized void dispatched(OutboxMessage message, String cycleId, Instant signalAt) {
+        if (pending.containsKey(message.id())) {
+            return;
+        }
+        Trace trace = new Trace(message.id(), cycleId, signalAt, message.createdAt(), clockPort.now());
+        pending.put(message.id(), trace);
+        record(SIGNAL_TO_ENQUEUE, trace.signalAt, trace.enqueuedAt);
+        record(ENQUEUE_TO_PUBLISH, trace.enqueuedAt, trace.publishedAt);
+    }
+
+    /**
+     * Binds the dispatched command to the order the exchange accepted. A null {@code placed} means the command
+     * finished without placing anything, e.g. a replace whose quantity was used up by fills, and ends the trace.
+     */
+    public synchronized void acknowledged(String messageId, Order placed) {
+        Trace trace = pending.remove(messageId);
+        if (trace == null || placed == null) {
+            return;
+        }
+        trace.orderId = placed.id();
+        trace.market = placed.market().value();
+        trace.acknowledgedAt = clockPort.now();
+        traces.put(placed.id(), trace);
+        acknowledgedOrders++;
+        record(PUBLISH_TO_ACK, trace.publishedAt, trace.acknowledgedAt);
+        // Orders can come back already executed, e.g. marketable limits or the paper adapter's fill-on-place.
+        filled(placed);
+    }
+
+    /** Records the first execution of a tracked order; later fills and untracked orders are ignored. */
+    public synchronized void filled(Order order) {
+        Trace trace = traces.get(order.id());
+        if (trace == null || trace.filledAt != null || order.trades().isEmpty()) {
+            return;
+        }
+        trace.filledAt = order.trades().stream()
+                .map(ExecutionTrade::executedAt)
+                .min(Comparator.naturalOrder())
+                .orElseThrow();
+        filledOrders++;
+        record(ACK_TO_FILL, trace.acknowledgedAt, trace.filledAt);
+    }
+
+    @Override
+    public synchronized OrderLatencySnapshot orderLatency() {
+        List<LatencyStageSnapshot> stages = histograms.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .toList();
+        return new OrderLatencySnapshot(traces.size(), acknowledgedOrders, filledOrders, stages);
+    }
+
+    /** Returns recent acknowledged orders ordered by signal-to-latest-stage latency, slowest first. */
+    @Override
+    public synchronized List<OrderLatencyTrace> slowestOrders(int limit) {
+        return traces.values().stream()
+                .map(Trace::toView)
+                .sorted(Comparator.comparingLong(OrderLatencyTrace::totalMs).reversed())
+                .limit(Math.max(1, Math.min(limit, MAX_TRACES)))
+                .toList();
+    }
+
+    private void record(String stage, Instant from, Instant to) {
+        if (from != null && to != null) {
+            histograms.get(stage).record(millisBetween(from, to));
+        }
+    }
+
+    /** Exchange and local clocks can disagree by a few ms; a negative gap is reported as zero. */
+    private static Long millisBetween(Instant from, Instant to) {
+        if (from == null || to == null) {
+            return null;
+        }
+        return Math.max(0L, Duration.between(from, to).toMillis());
+    }
+
+    private static <V> Map<String, V> boundedMap(int capacity) {
+        return new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    private static final class Trace {
+        private final String outboxMessageId;
+        private final String cycleId;
+        private final Instant signalAt;
+        private final Instant enqueuedAt;
+        private final Instant publishedAt;
+        private String orderId;
+        private String market;
+        private Instant acknowledgedAt;
+        private Instant filledAt;
+
+        private Trace(String outboxMessageId, String cycleId, Instant signalAt, Instant enqueuedAt, Instant publishedAt) {
+            this.outboxMessageId = outboxMessageId;
+            this.cycleId = cycleId;
+            this.signalAt = signalAt;
+            this.enqueuedAt = enqueuedAt;
+            this.publishedAt = publishedAt;
+        }
+
+        private OrderLatencyTrace toView() {
+            Instant start = signalAt != null ? signalAt : enqueuedAt;
+            Instant latest = filledAt != null ? filledAt : acknowledgedAt;
+            return new OrderLatencyTrace(
+                    orderId,
+                    cycleId,
+                    outboxMessageId,
+                    market,
+                    signalAt,
+                    enqueuedAt,
+                    publishedAt,
+                    acknowledgedAt,
+                    filledAt,
+                    millisBetween(signalAt, enqueuedAt),
+                    millisBetween(enqueuedAt, publishedAt),
+                    millisBetween(publishedAt, acknowledgedAt),
+                    millisBetween(acknowledgedAt, filledAt),
+                    millisBetween(start, latest)
+            );
+        }
+    }
+
+    /** Cumulative counts per fixed upper bound; percentiles resolve to the bound of the bucket they fall in. */
+    private static final class StageHistogram {
+        private final long[] counts = new long[BUCKET_BOUNDS_MS.length + 1];
+        private long count;
+        private long maxMs;
+
+        private void record(long latencyMs) {
+            int bucket = 0;
+            while (bucket < BUCKET_BOUNDS_MS.length && latencyMs > BUCKET_BOUNDS_MS[bucket]) {
+                bucket++;
+            }
+            counts[bucket]++;
+            count++;
+            maxMs = Math.max(maxMs, latencyMs);
+        }
+
+        private LatencyStageSnapshot snapshot(String stage) {
+            Map<String, Long> buckets = new LinkedHashMap<>();
+            for (int i = 0; i < counts.length; i++) {
+                buckets.put(i < BUCKET_BOUNDS_MS.length ? BUCKET_BOUNDS_MS[i] + "ms" : "inf", counts[i]);
+            }
+            return new LatencyStageSnapshot(stage, count, percentileMs(0.50d), percentileMs(0.99d), maxMs, buckets);
+        }
+
+        private long percentileMs(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(percentile * count);
+            long seen = 0;
+            for (int i = 0; i < BUCKET_BOUNDS_MS.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(BUCKET_BOUNDS_MS[i], maxMs);
+                }
+            }
+            return maxMs;
+        }
+    }
+}
@@ -19,7 +19,9 @@ import com.vaulttradebot.domain.portfolio.event.SellFilled;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import org.springframework.stereotype.Service;
 
@@ -53,27 +55,47 @@ public class OrderPersistenceService {
         if (order == null) {
             throw new IllegalArgumentException("order must not be null");
         }
-        List<OrderDomainEvent> domainEvents = order.pullDomainEvents();
+        persistAll(List.of(order));
+        return order;
+    }
+
+    /**
+     * Persists several orders, their portfolio effects and outbox messages in one transaction, so a change that
+     * spans two orders (such as cancel-and-replace) is never half applied.
+     */
+    public void persistAll(List<Order> orders) {
+        if (orders == null || orders.isEmpty() || orders.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("orders must not be empty or contain null");
+        }
         Instant now = clockPort.now();
-        Optional<Order> previousOrder = findExistingOrder(order.id());
+        List<List<OrderDomainEvent>> domainEvents = new ArrayList<>(orders.size());
+        List<Optional<Order>> previousOrders = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            domainEvents.add(order.pullDomainEvents());
+            previousOrders.add(findExistingOrder(order.id()));
+        }
         try {
             transactionPort.execute(() -> {
-                orderRepository.save(order);
-                updatePortfolioPosition(order, previousOrder);
-                for (OrderDomainEvent event : domainEvents) {
-                    outboxRepository.save(OutboxMessage.fromOrderEvent(
-                            event,
-                            outboxPayloadSerializer.serialize(event),
-                            outboxPayloadSerializer.payloadVersion(),
-                            now
-                    ));
+                for (int i = 0; i < orders.size(); i++) {
+                    Order order = orders.get(i);
+                    orderRepository.save(order);
+                    updatePortfolioPosition(order, previousOrders.get(i));
+                    for (OrderDomainEvent event : domainEvents.get(i)) {
+                        outboxRepository.save(OutboxMessage.fromOrderEvent(
+                                event,
+                                outboxPayloadSerializer.serialize(event),
+                                outboxPayloadSerializer.payloadVersion(),
+                                now
+                        ));
+                    }
                 }
             });
         } catch (RuntimeException e) {
-            order.restoreDomainEvents(domainEvents);
+            for (int i = 0; i < orders.size(); i++) {
+                orders.get(i).restoreDomainEvents(domainEvents.get(i));
+            }
             throw e;
         }
-        return order;
     }
 
     private void updatePortfolioPosition(Order order, Optional<Order> previousOrder) {
@@ -1,41 +1,71 @@
 package com.vaulttradebot.application.usecase;
 
 import com.vaulttradebot.application.outbox.OutboxMessage;
+import com.vaulttradebot.application.outbox.OutboxPriority;
+import com.vaulttradebot.application.port.in.OutboxRelayQueryUseCase;
 import com.vaulttradebot.application.port.out.ClockPort;
 import com.vaulttradebot.application.port.out.OutboxEventPublisher;
 import com.vaulttradebot.application.port.out.OutboxRepository;
+import com.vaulttradebot.application.query.OutboxRelaySnapshot;
+import com.vaulttradebot.application.query.OutboxRouteSnapshot;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 @Service
-public class OutboxRelayService {
+public class OutboxRelayService implements OutboxRelayQueryUseCase {
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelayService.class);
+
     private final OutboxRepository outboxRepository;
     private final OutboxEventPublisher outboxEventPublisher;
     private final ClockPort clockPort;
+    private final OrderCommandConflator orderCommandConflator;
+    private final OrderCommandRelayExecutor orderCommandRelayExecutor;
     private final int maxAttempts;
     private final long retryBaseDelayMs;
     private final long retryMaxDelayMs;
     private final int defaultBatchSize;
+    private final Map<OutboxPriority, Integer> laneCapacities = new EnumMap<>(OutboxPriority.class);
+    private final RouteMeter commandRoute = new RouteMeter("order-commands");
+    private final RouteMeter eventRoute = new RouteMeter("domain-events");
+    private final AtomicLong droppedCommands = new AtomicLong(0);
+    private final ReentrantLock relayLock = new ReentrantLock();
 
     public OutboxRelayService(
             OutboxRepository outboxRepository,
             OutboxEventPublisher outboxEventPublisher,
             ClockPort clockPort,
+            OrderCommandConflator orderCommandConflator,
+            OrderCommandRelayExecutor orderCommandRelayExecutor,
             @Value("${vault.outbox.max-attempts:5}") int maxAttempts,
             @Value("${vault.outbox.retry-base-delay-ms:500}") long retryBaseDelayMs,
             @Value("${vault.outbox.retry-max-delay-ms:30000}") long retryMaxDelayMs,
-            @Value("${vault.outbox.batch-size:100}") int defaultBatchSize
+            @Value("${vault.outbox.batch-size:100}") int defaultBatchSize,
+            @Value("${vault.outbox.lanes.critical-batch-size:100}") int criticalBatchSize,
+            @Value("${vault.outbox.lanes.command-batch-size:50}") int commandBatchSize,
+            @Value("${vault.outbox.lanes.event-batch-size:100}") int eventBatchSize
     ) {
         this.outboxRepository = outboxRepository;
         this.outboxEventPublisher = outboxEventPublisher;
         this.clockPort = clockPort;
+        this.orderCommandConflator = orderCommandConflator;
+        this.orderCommandRelayExecutor = orderCommandRelayExecutor;
         this.maxAttempts = maxAttempts;
         this.retryBaseDelayMs = retryBaseDelayMs;
         this.retryMaxDelayMs = retryMaxDelayMs;
         this.defaultBatchSize = defaultBatchSize;
+        laneCapacities.put(OutboxPriority.CRITICAL, criticalBatchSize);
+        laneCapacities.put(OutboxPriority.COMMAND, commandBatchSize);
+        laneCapacities.put(OutboxPriority.EVENT, eventBatchSize);
     }
 
     @Scheduled(fixedDelayString = "${vault.outbox.relay-delay-ms:1000}")
@@ -43,29 +73,136 @@ public class OutboxRelayService {
         relayBatch(defaultBatchSize);
     }
 
+    /**
+     * Drains only the critical lane on a much shorter delay, so kill switch cancels leave within a fraction of a
+     * second instead of waiting for the next full relay tick. Skips the tick while a full relay holds the lock,
+     * because that relay drains the critical lane first anyway.
+     */
+    @Scheduled(fixedDelayString = "${vault.outbox.critical-relay-delay-ms:100}")
+    public void relayCritical() {
+        if (!relayLock.tryLock()) {
+            return;
+        }
+        try {
+            Instant now = clockPort.now();
+            relayLane(outboxRepository.findReadyToPublish(OutboxPriority.CRITICAL, laneCapacities.get(OutboxPriority.CRITICAL), now), now);
+        } finally {
+            relayLock.unlock();
+        }
+    }
+
+    /**
+     * Relays up to {@code limit} messages, draining lanes in priority order. Each lane is capped at its own
+     * capacity, so a backlog of events cannot delay a cancel and a burst of commands cannot take the whole batch.
+     */
     public int relayBatch(int limit) {
-        Instant now = clockPort.now();
-        List<OutboxMessage> pending = outboxRepository.findReadyToPublish(limit, now);
-        int sent = 0;
+        relayLock.lock();
+        try {
+            Instant now = clockPort.now();
+            conflateOrderCommands(limit, now);
+            int remaining = Math.max(0, limit);
+            int sent = 0;
+            for (OutboxPriority priority : OutboxPriority.values()) {
+                if (remaining == 0) {
+                    break;
+                }
+                int capacity = Math.min(remaining, laneCapacities.get(priority));
+                List<OutboxMessage> pending = outboxRepository.findReadyToPublish(priority, capacity, now);
+                remaining -= pending.size();
+                sent += relayLane(pending, now);
+            }
+            return sent;
+        } finally {
+            relayLock.unlock();
+        }
+    }
+
+    @Override
+    public OutboxRelaySnapshot outboxRelay() {
+        return new OutboxRelaySnapshot(
+                List.of(commandRoute.snapshot(), eventRoute.snapshot()),
+                droppedCommands.get(),
+                orderCommandRelayExecutor.concurrency(),
+                orderCommandRelayExecutor.breakerState().name()
+        );
+    }
+
+    private int relayLane(List<OutboxMessage> pending, Instant now) {
+        List<OutboxMessage> commands = new ArrayList<>();
+        List<OutboxMessage> events = new ArrayList<>();
         for (OutboxMessage message : pending) {
+            if (OrderCommandConflator.EVENT_TYPE.equals(message.eventType())) {
+                commands.add(message);
+            } else {
+                events.add(message);
+            }
+        }
+        return relayCommands(commands, now) + relayEvents(events, now);
+    }
+
+    /** Order commands go to the dedicated exchange executor as one batch so independent markets can overlap. */
+    private int relayCommands(List<OutboxMessage> commands, Instant now) {
+        if (commands.isEmpty()) {
+            return 0;
+        }
+        long started = System.nanoTime();
+        int sent = 0;
+        for (OrderCommandRelayExecutor.Result result : orderCommandRelayExecutor.executeAll(commands)) {
+            if (result.succeeded()) {
+                outboxRepository.markPublished(result.message().id(), now);
+                sent++;
+            } else {
+                recordFailure(result.message(), result.error(), now);
+            }
+        }
+        commandRoute.record(sent, commands.size() - sent, System.nanoTime() - started);
+        return sent;
+    }
+
+    private int relayEvents(List<OutboxMessage> events, Instant now) {
+        if (events.isEmpty()) {
+            return 0;
+        }
+        long started = System.nanoTime();
+        int sent = 0;
+        for (OutboxMessage message : events) {
             try {
                 outboxEventPublisher.publish(message);
                 outboxRepository.markPublished(message.id(), now);
                 sent++;
             } catch (RuntimeException publishError) {
-                int nextAttemptCount = message.attemptCount() + 1;
-                String error = safeError(publishError);
-                if (nextAttemptCount >= maxAttempts) {
-                    outboxRepository.markDeadLettered(message.id(), now, error);
-                } else {
-                    Instant nextAttemptAt = now.plusMillis(nextBackoffMillis(nextAttemptCount));
-                    outboxRepository.markFailed(message.id(), nextAttemptCount, nextAttemptAt, error);
-                }
+                recordFailure(message, publishError, now);
             }
         }
+        eventRoute.record(sent, events.size() - sent, System.nanoTime() - started);
         return sent;
     }
 
+    private void recordFailure(OutboxMessage message, RuntimeException publishError, Instant now) {
+        int nextAttemptCount = message.attemptCount() + 1;
+        String error = safeError(publishError);
+        if (nextAttemptCount >= maxAttempts) {
+            outboxRepository.markDeadLettered(message.id(), now, error);
+        } else {
+            Instant nextAttemptAt = now.plusMillis(nextBackoffMillis(nextAttemptCount));
+            outboxRepository.markFailed(message.id(), nextAttemptCount, nextAttemptAt, error);
+        }
+    }
+
+    /** A backlog of commands from stalled relays collapses to the latest intent before anything reaches the exchange. */
+    private void conflateOrderCommands(int limit, Instant now) {
+        List<OutboxMessage> commands = outboxRepository.findPendingByEventType(OrderCommandConflator.EVENT_TYPE, limit);
+        if (commands.size() < 2) {
+            return;
+        }
+        for (OrderCommandConflator.Superseded superseded : orderCommandConflator.conflate(commands)) {
+            outboxRepository.markDropped(superseded.message().id(), now, superseded.reason());
+            droppedCommands.incrementAndGet();
+            log.info("dropped order command id={} aggregateId={} reason={}",
+                    superseded.message().id(), superseded.message().aggregateId(), superseded.reason());
+        }
+    }
+
     private long nextBackoffMillis(int attemptCount) {
         long delay = retryBaseDelayMs;
         for (int i = 1; i < attemptCount; i++) {
@@ -84,4 +221,29 @@ public class OutboxRelayService {
         }
         return raw.length() <= 500 ? raw : raw.substring(0, 500);
     }
+
+    private static final class RouteMeter {
+        private final String route;
+        private final AtomicLong relayed = new AtomicLong(0);
+        private final AtomicLong failed = new AtomicLong(0);
+        private final AtomicLong busyNanos = new AtomicLong(0);
+
+        private RouteMeter(String route) {
+            this.route = route;
+        }
+
+        private void record(int relayedCount, int failedCount, long elapsedNanos) {
+            relayed.addAndGet(relayedCount);
+            failed.addAndGet(failedCount);
+            busyNanos.addAndGet(elapsedNanos);
+        }
+
+        private OutboxRouteSnapshot snapshot() {
+            long busy = busyNanos.get();
+            long handled = relayed.get();
+            // Throughput while the route was actually working, not diluted by idle relay ticks.
+            double perSecond = busy == 0 ? 0.0 : handled * 1_000_000_000.0 / busy;
+            return new OutboxRouteSnapshot(route, handled, failed.get(), busy / 1_000_000L, perSecond);
+        }
+    }
 }
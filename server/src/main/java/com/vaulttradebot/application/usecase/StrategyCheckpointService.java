@@ -0,0 +1,104 @@
+package com.vaulttradebot.application.usecase;
+
+import com.vaulttradebot.application.port.out.ClockPort;
+import com.vaulttradebot.application.port.out.StrategyCheckpointStore;
+import com.vaulttradebot.config.VaultStrategyProperties;
+import com.vaulttradebot.domain.trading.model.strategy.StatefulStrategy;
+import com.vaulttradebot.domain.trading.model.strategy.Strategy;
+import com.vaulttradebot.domain.trading.model.strategy.snapshot.StrategyCheckpoint;
+import jakarta.annotation.PreDestroy;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+public class StrategyCheckpointService {
+    private static final Logger log = LoggerFactory.getLogger(StrategyCheckpointService.class);
+
+    private final Strategy strategy;
+    private final StrategyCheckpointStore checkpointStore;
+    private final ClockPort clockPort;
+    private final boolean enabled;
+
+    private final AtomicInteger restoredEntries = new AtomicInteger(0);
+    private final AtomicLong checkpointsWritten = new AtomicLong(0);
+    private final AtomicLong checkpointFailures = new AtomicLong(0);
+
+    public StrategyCheckpointService(
+            Strategy strategy,
+            StrategyCheckpointStore checkpointStore,
+            ClockPort clockPort,
+            VaultStrategyProperties properties
+    ) {
+        this.strategy = strategy;
+        this.checkpointStore = checkpointStore;
+        this.clockPort = clockPort;
+        this.enabled = properties.getCheckpoint().isEnabled();
+        // Restore before the scheduler can start a cycle so the first decision already sees prior state.
+        restore();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${vault.strategy.checkpoint.interval-ms:60000}",
+            initialDelayString = "${vault.strategy.checkpoint.interval-ms:60000}"
+    )
+    public void scheduledCheckpoint() {
+        checkpoint();
+    }
+
+    @PreDestroy
+    public void checkpointOnShutdown() {
+        checkpoint();
+    }
+
+    public boolean checkpoint() {
+        if (!enabled || !(strategy instanceof StatefulStrategy stateful)) {
+            return false;
+        }
+        try {
+            checkpointStore.save(new StrategyCheckpoint(strategy.strategyId(), clockPort.now(), stateful.exportState()));
+            checkpointsWritten.incrementAndGet();
+            return true;
+        } catch (Exception e) {
+            // Checkpointing is best effort; trading continues with in-memory state.
+            checkpointFailures.incrementAndGet();
+            log.warn("strategy checkpoint failed error={}", e.getMessage());
+            return false;
+        }
+    }
+
+    public int restoredEntries() {
+        return restoredEntries.get();
+    }
+
+    public long checkpointsWritten() {
+        return checkpointsWritten.get();
+    }
+
+    public long checkpointFailures() {
+        return checkpointFailures.get();
+    }
+
+    private void restore() {
+        if (!enabled || !(strategy instanceof StatefulStrategy stateful)) {
+            return;
+        }
+        Optional<StrategyCheckpoint> checkpoint = checkpointStore.load();
+        if (checkpoint.isEmpty()) {
+            return;
+        }
+        if (!checkpoint.get().strategyId().equals(strategy.strategyId())) {
+            // A different live strategy owns this file; its state would only suppress valid signals.
+            log.info("strategy checkpoint skipped: saved for {} but running {}",
+                    checkpoint.get().strategyId(), strategy.strategyId());
+            return;
+        }
+        int accepted = stateful.restoreState(checkpoint.get().states());
+        restoredEntries.set(accepted);
+        log.info("strategy checkpoint restored entries={} savedAt={}", accepted, checkpoint.get().savedAt());
+    }
+}
@@ -0,0 +1,96 @@
+package com.vaulttradebot.application.usecase;
+
+import com.vaulttradebot.application.port.out.BotSettingsRepository;
+import com.vaulttradebot.application.port.out.TradeBarPort;
+import com.vaulttradebot.config.VaultStrategyProperties;
+import com.vaulttradebot.domain.common.vo.Candle;
+import com.vaulttradebot.domain.common.vo.Market;
+import com.vaulttradebot.domain.common.vo.Timeframe;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/** Runs a trading cycle on every closed sub-minute strategy bar instead of waiting for the cron slot. */
+@Service
+public class TradeBarCycleTrigger {
+    private static final Logger log = LoggerFactory.getLogger(TradeBarCycleTrigger.class);
+
+    private final TradeBarPort tradeBarPort;
+    private final TradingCycleSchedulerService schedulerService;
+    private final BotSettingsRepository botSettingsRepository;
+    private final Timeframe timeframe;
+    private final boolean active;
+    private final ExecutorService executor;
+    private final AtomicBoolean pending = new AtomicBoolean(false);
+    private final AtomicLong coalescedBars = new AtomicLong(0);
+
+    private volatile Market market;
+
+    public TradeBarCycleTrigger(
+            TradeBarPort tradeBarPort,
+            TradingCycleSchedulerService schedulerService,
+            BotSettingsRepository botSettingsRepository,
+            VaultStrategyProperties strategyProperties
+    ) {
+        this.tradeBarPort = tradeBarPort;
+        this.schedulerService = schedulerService;
+        this.botSettingsRepository = botSettingsRepository;
+        this.timeframe = strategyProperties.getTimeframe();
+        this.active = timeframe.isSubMinute();
+        // Cycles run off the stream thread so a slow cycle never stalls bar aggregation.
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "bar-close-cycle");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (active) {
+            tradeBarPort.addBarCloseListener(this::onBarClosed);
+        }
+    }
+
+    /** Follows the configured bot market so its bars are aggregated even before the first cycle reads them. */
+    @Scheduled(fixedDelayString = "${vault.market-data.trade-tape.maintain-interval-ms:1000}")
+    public void refreshMarket() {
+        if (!active) {
+            return;
+        }
+        Market current = Market.of(botSettingsRepository.load().marketSymbol());
+        if (!current.equals(market)) {
+            tradeBarPort.track(current);
+            market = current;
+        }
+    }
+
+    long coalescedBars() {
+        return coalescedBars.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    void onBarClosed(Market closedMarket, Timeframe closedTimeframe, Candle bar) {
+        if (closedTimeframe != timeframe || !closedMarket.equals(market)) {
+            return;
+        }
+        if (!pending.compareAndSet(false, true)) {
+            // A cycle is already queued and will read this bar too.
+            coalescedBars.incrementAndGet();
+            return;
+        }
+        executor.execute(() -> {
+            pending.set(false);
+            CycleResult result = schedulerService.triggerBarClose();
+            if (result.failed()) {
+                log.warn("bar close cycle failed market={} bar={} message={}", closedMarket.value(), bar.openTime(), result.message());
+            }
+        });
+    }
+}
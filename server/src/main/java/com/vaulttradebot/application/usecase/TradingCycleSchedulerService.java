@@ -127,19 +127,30 @@ public class TradingCycleSchedulerService implements SchedulerQueryUseCase, Sche
 
     @Override
     public CycleResult triggerNow() {
+        return dispatchNow(DispatchPlan.manual(clockPort.now()), "manual trigger");
+    }
+
+    /** Runs one cycle because a strategy bar just closed; honours pause and never queues behind a running cycle. */
+    public CycleResult triggerBarClose() {
+        if (!properties.isEnabled() || paused.get()) {
+            return new CycleResult(false, false, "bar close trigger skipped: scheduler disabled or paused");
+        }
+        return dispatchNow(DispatchPlan.barClose(clockPort.now()), "bar close trigger");
+    }
+
+    private CycleResult dispatchNow(DispatchPlan plan, String source) {
         if (!executionInProgress.compareAndSet(false, true)) {
             totalOverlapPreventions.incrementAndGet();
-            lastMessage.set("manual trigger skipped: scheduler execution already in progress");
+            lastMessage.set(source + " skipped: scheduler execution already in progress");
             return new CycleResult(false, false, "scheduler execution already in progress");
         }
 
-        Instant now = clockPort.now();
         totalDispatches.incrementAndGet();
-        lastScheduledAt.set(now);
-        lastStartedAt.set(now);
-        lastTrigger.set("MANUAL");
+        lastScheduledAt.set(plan.scheduledFor());
+        lastStartedAt.set(plan.scheduledFor());
+        lastTrigger.set(plan.trigger());
         try {
-            return finalizeDispatch(runSafely(), DispatchPlan.manual(now));
+            return finalizeDispatch(runSafely(), plan);
         } finally {
             executionInProgress.set(false);
         }
@@ -245,6 +256,10 @@ public class TradingCycleSchedulerService implements SchedulerQueryUseCase, Sche
     }
 
     private void scheduleRetry(DispatchPlan plan, Instant completedAt) {
+        if (plan.barDriven()) {
+            // The next bar close re-runs the cycle; alerting per failed bar would flood operators.
+            return;
+        }
         if (!plan.retryable() || plan.attempt() >= properties.getMaxRetryAttempts()) {
             clearRetry();
             notificationPort.notify("Trading scheduler exhausted retries after failure: " + lastMessage.get());
@@ -310,6 +325,10 @@ public class TradingCycleSchedulerService implements SchedulerQueryUseCase, Sche
     }
 
     private record DispatchPlan(Instant scheduledFor, String trigger, int attempt, boolean retryable) {
+        private boolean barDriven() {
+            return "BAR_CLOSE".equals(trigger);
+        }
+
         private static DispatchPlan scheduled(Instant scheduledFor, int attempt) {
             return new DispatchPlan(scheduledFor, "SCHEDULED", attempt, true);
         }
@@ -321,6 +340,11 @@ public class TradingCycleSchedulerService implements SchedulerQueryUseCase, Sche
         private static DispatchPlan manual(Instant scheduledFor) {
             return new DispatchPlan(scheduledFor, "MANUAL", 0, false);
         }
+
+        private static DispatchPlan barClose(Instant scheduledFor) {
+            // The next bar close is the retry; replaying a stale bar would only trade on old data.
+            return new DispatchPlan(scheduledFor, "BAR_CLOSE", 0, false);
+        }
     }
 
     private record RetryPlan(Instant scheduledFor, Instant executeAt, int attempt) {
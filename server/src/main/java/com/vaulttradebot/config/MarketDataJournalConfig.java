@@ -0,0 +1,43 @@
+package com.vaulttradebot.config;
+
+import com.vaulttradebot.adapter.out.RecordingMarketDataAdapter;
+import com.vaulttradebot.adapter.out.ReplayMarketDataAdapter;
+import com.vaulttradebot.adapter.out.journal.MarketDataJournalWriter;
+import com.vaulttradebot.application.port.out.ClockPort;
+import com.vaulttradebot.application.port.out.MarketDataPort;
+import java.nio.file.Path;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "vault.market-data.journal.mode", havingValue = "record")
+public class MarketDataJournalConfig {
+
+    @Bean(destroyMethod = "close")
+    public MarketDataJournalWriter marketDataJournalWriter(VaultMarketDataProperties properties) {
+        VaultMarketDataProperties.Journal journal = properties.getJournal();
+        return new MarketDataJournalWriter(Path.of(journal.getPath()), journal.getFlushIntervalMs());
+    }
+
+    // Static so the post-processor is registered before market-data beans are created; collaborators resolve lazily.
+    @Bean
+    public static BeanPostProcessor marketDataRecordingPostProcessor(
+            ObjectProvider<MarketDataJournalWriter> journalWriter,
+            ObjectProvider<ClockPort> clockPort
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof MarketDataPort port
+                        && !(bean instanceof RecordingMarketDataAdapter)
+                        && !(bean instanceof ReplayMarketDataAdapter)) {
+                    return new RecordingMarketDataAdapter(port, journalWriter.getObject(), clockPort.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
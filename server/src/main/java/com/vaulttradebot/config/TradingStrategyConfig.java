@@ -0,0 +1,95 @@
+package com.vaulttradebot.config;
+
+import com.vaulttradebot.application.port.out.ClockPort;
+import com.vaulttradebot.application.port.out.ShadowSignalRepository;
+import com.vaulttradebot.application.shadow.ShadowStrategyLane;
+import com.vaulttradebot.application.shadow.ShadowTapStrategy;
+import com.vaulttradebot.domain.trading.model.strategy.CompositeStrategy;
+import com.vaulttradebot.domain.trading.model.strategy.MovingAverageCrossStrategy;
+import com.vaulttradebot.domain.trading.model.strategy.SignalArbiter;
+import com.vaulttradebot.domain.trading.model.strategy.Strategy;
+import com.vaulttradebot.domain.trading.model.strategy.StrategyConfig;
+import com.vaulttradebot.domain.trading.model.strategy.StrategyEnsembleMember;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class TradingStrategyConfig {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService strategyEvaluationExecutor(VaultStrategyProperties properties) {
+        // One worker per member keeps ensemble evaluation as long as the slowest member, not the sum.
+        int members = properties.getEnsemble().isEnabled() ? properties.getEnsemble().getMembers().size() : 1;
+        return Executors.newFixedThreadPool(Math.max(1, members), daemonThreads("strategy-eval-"));
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ShadowStrategyLane shadowStrategyLane(
+            VaultStrategyProperties properties,
+            ShadowSignalRepository shadowSignalRepository,
+            ClockPort clockPort
+    ) {
+        VaultStrategyProperties.Shadow shadow = properties.getShadow();
+        List<StrategyEnsembleMember> candidates = shadow.isEnabled() ? toMembers(shadow.getCandidates()) : List.of();
+        return new ShadowStrategyLane(candidates, shadowSignalRepository, clockPort, shadow.getQueueCapacity());
+    }
+
+    @Bean
+    public Strategy tradingStrategy(
+            VaultStrategyProperties properties,
+            @Qualifier("strategyEvaluationExecutor") ExecutorService strategyEvaluationExecutor,
+            ShadowStrategyLane shadowStrategyLane
+    ) {
+        Strategy live = liveStrategy(properties.getEnsemble(), strategyEvaluationExecutor);
+        if (!shadowStrategyLane.hasCandidates()) {
+            return live;
+        }
+        return new ShadowTapStrategy(live, shadowStrategyLane);
+    }
+
+    private Strategy liveStrategy(VaultStrategyProperties.Ensemble ensemble, ExecutorService strategyEvaluationExecutor) {
+        if (!ensemble.isEnabled() || ensemble.getMembers().isEmpty()) {
+            return new MovingAverageCrossStrategy();
+        }
+        return new CompositeStrategy(
+                ensemble.getId(),
+                toMembers(ensemble.getMembers()),
+                new SignalArbiter(ensemble.getPolicy(), ensemble.getNetExposureThreshold()),
+                strategyEvaluationExecutor,
+                Duration.ofMillis(ensemble.getEvaluationTimeoutMs())
+        );
+    }
+
+    private List<StrategyEnsembleMember> toMembers(List<VaultStrategyProperties.Member> configured) {
+        // Each member gets its own strategy instance so cooldown/debounce state never leaks across members.
+        return configured.stream()
+                .map(member -> new StrategyEnsembleMember(
+                        member.getConfigId(),
+                        new MovingAverageCrossStrategy(new StrategyConfig(
+                                member.getConfigId(),
+                                member.getFastPeriod(),
+                                member.getSlowPeriod(),
+                                member.getCooldownBars(),
+                                member.isOnlyOnChange()
+                        )),
+                        member.getWeight()
+                ))
+                .toList();
+    }
+
+    static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger(0);
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
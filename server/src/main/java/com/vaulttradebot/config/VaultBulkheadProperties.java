@@ -0,0 +1,85 @@
+package com.vaulttradebot.config;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Component
+@Validated
+@ConfigurationProperties(prefix = "vault.bulkhead")
+public class VaultBulkheadProperties {
+    private boolean enabled = true;
+
+    // Candle and ticker bursts are allowed to queue briefly; past that they fail fast instead of holding threads.
+    private final Group quotation = new Group(8, 16, 250L);
+    // Placement and cancel keep their own permits so degraded market data can never starve them.
+    private final Group trading = new Group(4, 8, 1_000L);
+    // Order lookups from fill sync and replace re-reads are split off so polling cannot block placement either.
+    private final Group lookup = new Group(4, 8, 500L);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Group getQuotation() {
+        return quotation;
+    }
+
+    public Group getTrading() {
+        return trading;
+    }
+
+    public Group getLookup() {
+        return lookup;
+    }
+
+    public static class Group {
+        @Min(1)
+        private int maxConcurrentCalls;
+
+        @Min(0)
+        private int maxQueuedCalls;
+
+        @Min(0)
+        private long maxWaitMs;
+
+        public Group() {
+            this(4, 8, 500L);
+        }
+
+        Group(int maxConcurrentCalls, int maxQueuedCalls, long maxWaitMs) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+            this.maxQueuedCalls = maxQueuedCalls;
+            this.maxWaitMs = maxWaitMs;
+        }
+
+        public int getMaxConcurrentCalls() {
+            return maxConcurrentCalls;
+        }
+
+        public void setMaxConcurrentCalls(int maxConcurrentCalls) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+        }
+
+        public int getMaxQueuedCalls() {
+            return maxQueuedCalls;
+        }
+
+        public void setMaxQueuedCalls(int maxQueuedCalls) {
+            this.maxQueuedCalls = maxQueuedCalls;
+        }
+
+        public long getMaxWaitMs() {
+            return maxWaitMs;
+        }
+
+        public void setMaxWaitMs(long maxWaitMs) {
+            this.maxWaitMs = maxWaitMs;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.vaulttradebot.config;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.annotation.Validated;
@@ -21,6 +23,30 @@ public class VaultCircuitBreakerProperties {
     @Min(1)
     private int halfOpenMaxCalls = 1;
 
+    // CONSECUTIVE trips on N failures in a row; SLIDING_WINDOW trips on failure or slow-call rates over a time window.
+    @NotNull
+    private Type type = Type.CONSECUTIVE;
+
+    @Min(1000)
+    private long windowMs = 10_000L;
+
+    @Min(1)
+    private int windowBuckets = 10;
+
+    @Min(1)
+    private int minimumCalls = 10;
+
+    @Min(1)
+    @Max(100)
+    private int failureRateThresholdPercent = 50;
+
+    @Min(1)
+    @Max(100)
+    private int slowCallRateThresholdPercent = 80;
+
+    @Min(1)
+    private long slowCallDurationMs = 3_000L;
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -52,4 +78,65 @@ public class VaultCircuitBreakerProperties {
     public void setHalfOpenMaxCalls(int halfOpenMaxCalls) {
         this.halfOpenMaxCalls = halfOpenMaxCalls;
     }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public long getWindowMs() {
+        return windowMs;
+    }
+
+    public void setWindowMs(long windowMs) {
+        this.windowMs = windowMs;
+    }
+
+    public int getWindowBuckets() {
+        return windowBuckets;
+    }
+
+    public void setWindowBuckets(int windowBuckets) {
+        this.windowBuckets = windowBuckets;
+    }
+
+    public int getMinimumCalls() {
+        return minimumCalls;
+    }
+
+    public void setMinimumCalls(int minimumCalls) {
+        this.minimumCalls = minimumCalls;
+    }
+
+    public int getFailureRateThresholdPercent() {
+        return failureRateThresholdPercent;
+    }
+
+    public void setFailureRateThresholdPercent(int failureRateThresholdPercent) {
+        this.failureRateThresholdPercent = failureRateThresholdPercent;
+    }
+
+    public int getSlowCallRateThresholdPercent() {
+        return slowCallRateThresholdPercent;
+    }
+
+    public void setSlowCallRateThresholdPercent(int slowCallRateThresholdPercent) {
+        this.slowCallRateThresholdPercent = slowCallRateThresholdPercent;
+    }
+
+    public long getSlowCallDurationMs() {
+        return slowCallDurationMs;
+    }
+
+    public void setSlowCallDurationMs(long slowCallDurationMs) {
+        this.slowCallDurationMs = slowCallDurationMs;
+    }
+
+    public enum Type {
+        CONSECUTIVE,
+        SLIDING_WINDOW
+    }
 }
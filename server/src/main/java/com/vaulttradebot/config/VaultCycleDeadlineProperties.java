@@ -0,0 +1,79 @@
+package com.vaulttradebot.config;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Component
+@Validated
+@ConfigurationProperties(prefix = "vault.cycle-deadline")
+public class VaultCycleDeadlineProperties {
+    private boolean enabled = true;
+
+    // Hard cap on one cycle; kept under the 5s cron so a slow cycle ends before the next one is due.
+    @Min(100)
+    private long totalMs = 4_000L;
+
+    // Candles, backfill, prices, book and the position/open-order reads the decision is built from.
+    @Min(1)
+    private long marketDataMs = 2_500L;
+
+    @Min(1)
+    private long strategyMs = 500L;
+
+    @Min(1)
+    private long riskMs = 300L;
+
+    // Also the grace given to the HOLD snapshot write of a cycle that ran out of time.
+    @Min(1)
+    private long persistMs = 700L;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getTotalMs() {
+        return totalMs;
+    }
+
+    public void setTotalMs(long totalMs) {
+        this.totalMs = totalMs;
+    }
+
+    public long getMarketDataMs() {
+        return marketDataMs;
+    }
+
+    public void setMarketDataMs(long marketDataMs) {
+        this.marketDataMs = marketDataMs;
+    }
+
+    public long getStrategyMs() {
+        return strategyMs;
+    }
+
+    public void setStrategyMs(long strategyMs) {
+        this.strategyMs = strategyMs;
+    }
+
+    public long getRiskMs() {
+        return riskMs;
+    }
+
+    public void setRiskMs(long riskMs) {
+        this.riskMs = riskMs;
+    }
+
+    public long getPersistMs() {
+        return persistMs;
+    }
+
+    public void setPersistMs(long persistMs) {
+        this.persistMs = persistMs;
+    }
+}
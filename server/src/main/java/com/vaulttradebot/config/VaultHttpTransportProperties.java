@@ -0,0 +1,121 @@
+package com.vaulttradebot.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Component
+@Validated
+@ConfigurationProperties(prefix = "vault.http-transport")
+public class VaultHttpTransportProperties {
+    // Upbit serves HTTP/2, so one multiplexed connection per endpoint carries concurrent requests.
+    private boolean http2 = true;
+
+    // Matches the JDK client's default idle pool timeout; exchanges closer together than this are counted as warm.
+    @Min(1_000)
+    private long warmWindowMs = 30_000L;
+
+    private final Endpoint quotation = new Endpoint(1_000L, 3_000L);
+    // Order placement gets a longer read so the exchange can answer instead of leaving the order state ambiguous.
+    private final Endpoint trading = new Endpoint(1_000L, 5_000L);
+    private final KeepAlive keepAlive = new KeepAlive();
+
+    public boolean isHttp2() {
+        return http2;
+    }
+
+    public void setHttp2(boolean http2) {
+        this.http2 = http2;
+    }
+
+    public long getWarmWindowMs() {
+        return warmWindowMs;
+    }
+
+    public void setWarmWindowMs(long warmWindowMs) {
+        this.warmWindowMs = warmWindowMs;
+    }
+
+    public Endpoint getQuotation() {
+        return quotation;
+    }
+
+    public Endpoint getTrading() {
+        return trading;
+    }
+
+    public KeepAlive getKeepAlive() {
+        return keepAlive;
+    }
+
+    public static class Endpoint {
+        @Min(100)
+        private long connectTimeoutMs;
+
+        @Min(100)
+        private long readTimeoutMs;
+
+        public Endpoint() {
+            this(1_000L, 3_000L);
+        }
+
+        Endpoint(long connectTimeoutMs, long readTimeoutMs) {
+            this.connectTimeoutMs = connectTimeoutMs;
+            this.readTimeoutMs = readTimeoutMs;
+        }
+
+        public long getConnectTimeoutMs() {
+            return connectTimeoutMs;
+        }
+
+        public void setConnectTimeoutMs(long connectTimeoutMs) {
+            this.connectTimeoutMs = connectTimeoutMs;
+        }
+
+        public long getReadTimeoutMs() {
+            return readTimeoutMs;
+        }
+
+        public void setReadTimeoutMs(long readTimeoutMs) {
+            this.readTimeoutMs = readTimeoutMs;
+        }
+    }
+
+    public static class KeepAlive {
+        private boolean enabled = true;
+
+        // Endpoints idle at least this long get a ping; kept under warm-window-ms so pooled connections never expire.
+        @Min(1_000)
+        private long intervalMs = 15_000L;
+
+        // Public, unauthenticated and tiny; it also counts against the quotation rate limit, not the order one.
+        @NotBlank
+        private String path = "/v1/ticker?markets=KRW-BTC";
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getIntervalMs() {
+            return intervalMs;
+        }
+
+        public void setIntervalMs(long intervalMs) {
+            this.intervalMs = intervalMs;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+    }
+}
@@ -1,6 +1,12 @@
 package com.vaulttradebot.config;
 
+import com.vaulttradebot.domain.common.vo.Timeframe;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.ArrayList;
+import java.util.List;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.annotation.Validated;
@@ -13,6 +19,11 @@ public class VaultMarketDataProperties {
     private String provider = "upbit";
 
     private final Upbit upbit = new Upbit();
+    private final Archive archive = new Archive();
+    private final Journal journal = new Journal();
+    private final Backfill backfill = new Backfill();
+    private final OrderBook orderBook = new OrderBook();
+    private final TradeTape tradeTape = new TradeTape();
 
     public String getProvider() {
         return provider;
@@ -26,10 +37,38 @@ public class VaultMarketDataProperties {
         return upbit;
     }
 
+    public Archive getArchive() {
+        return archive;
+    }
+
+    public Journal getJournal() {
+        return journal;
+    }
+
+    public Backfill getBackfill() {
+        return backfill;
+    }
+
+    public OrderBook getOrderBook() {
+        return orderBook;
+    }
+
+    public TradeTape getTradeTape() {
+        return tradeTape;
+    }
+
     public static class Upbit {
         @NotBlank
         private String baseUrl = "https://api.upbit.com";
+
+        // Every quotation request (cycle, backfill, series warm-up) is paced under Upbit's ~10 req/s limit.
+        @Min(1)
+        private int requestsPerSecond = 8;
+
         private final Retry retry = new Retry();
+        private final Aggregation aggregation = new Aggregation();
+        private final TickerCache tickerCache = new TickerCache();
+        private final Hedge hedge = new Hedge();
 
         public String getBaseUrl() {
             return baseUrl;
@@ -39,9 +78,372 @@ public class VaultMarketDataProperties {
             this.baseUrl = baseUrl;
         }
 
+        public int getRequestsPerSecond() {
+            return requestsPerSecond;
+        }
+
+        public void setRequestsPerSecond(int requestsPerSecond) {
+            this.requestsPerSecond = requestsPerSecond;
+        }
+
         public Retry getRetry() {
             return retry;
         }
+
+        public Aggregation getAggregation() {
+            return aggregation;
+        }
+
+        public TickerCache getTickerCache() {
+            return tickerCache;
+        }
+
+        public Hedge getHedge() {
+            return hedge;
+        }
+    }
+
+    public static class TickerCache {
+        private boolean enabled = true;
+
+        // Kept well under one cycle so risk checks never price against a quote older than this; 0 only coalesces.
+        @Min(0)
+        private long freshnessMs = 1_000L;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getFreshnessMs() {
+            return freshnessMs;
+        }
+
+        public void setFreshnessMs(long freshnessMs) {
+            this.freshnessMs = freshnessMs;
+        }
+    }
+
+    public static class Aggregation {
+        // When enabled only M1 is fetched; M5/M15/H1 are folded locally from the same minutes.
+        private boolean enabled = true;
+
+        // 160h of minutes covers a 150-bar H1 window.
+        @Min(200)
+        private int maxRetainedMinutes = 9_600;
+
+        // Sequential pages one request may fetch; a cold series warms back over the following cycles
+        // instead of spending the whole market-data budget on a 45-page backfill.
+        @Min(1)
+        private int maxBackfillPages = 8;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxRetainedMinutes() {
+            return maxRetainedMinutes;
+        }
+
+        public void setMaxRetainedMinutes(int maxRetainedMinutes) {
+            this.maxRetainedMinutes = maxRetainedMinutes;
+        }
+
+        public int getMaxBackfillPages() {
+            return maxBackfillPages;
+        }
+
+        public void setMaxBackfillPages(int maxBackfillPages) {
+            this.maxBackfillPages = maxBackfillPages;
+        }
+    }
+
+    public static class Archive {
+        @NotBlank
+        private String path = "./build/candle-archive";
+
+        // Bounds one import call; a re-run resumes after the last archived candle.
+        @Min(1)
+        private int maxImportPages = 2_000;
+
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+
+        public int getMaxImportPages() {
+            return maxImportPages;
+        }
+
+        public void setMaxImportPages(int maxImportPages) {
+            this.maxImportPages = maxImportPages;
+        }
+    }
+
+    public static class Backfill {
+        private boolean enabled = true;
+
+        // Gap fetches share the quotation bulkhead and request pacer; this only bounds how many one cycle runs at once.
+        @Min(1)
+        private int maxConcurrentRequests = 3;
+
+        @Min(1)
+        private int maxRangesPerCycle = 6;
+
+        @Min(1)
+        private long timeoutMs = 3_000L;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxConcurrentRequests() {
+            return maxConcurrentRequests;
+        }
+
+        public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+            this.maxConcurrentRequests = maxConcurrentRequests;
+        }
+
+        public int getMaxRangesPerCycle() {
+            return maxRangesPerCycle;
+        }
+
+        public void setMaxRangesPerCycle(int maxRangesPerCycle) {
+            this.maxRangesPerCycle = maxRangesPerCycle;
+        }
+
+        public long getTimeoutMs() {
+            return timeoutMs;
+        }
+
+        public void setTimeoutMs(long timeoutMs) {
+            this.timeoutMs = timeoutMs;
+        }
+    }
+
+    public static class OrderBook {
+        // Only used with provider=upbit; other providers keep quoting bid/ask at the last price.
+        private boolean enabled = true;
+
+        @NotBlank
+        private String websocketUrl = "wss://api.upbit.com/websocket/v1";
+
+        // Subscribed at startup; markets the bot trades are added on first read either way.
+        private List<String> markets = new ArrayList<>();
+
+        @Min(1)
+        private int levels = 15;
+
+        // A book older than this is not trusted for spread or depth checks.
+        @Min(100)
+        private long staleAfterMs = 3_000L;
+
+        // Reconnect and REST re-seed cadence while the stream is down.
+        @Min(100)
+        private long maintainIntervalMs = 1_000L;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getWebsocketUrl() {
+            return websocketUrl;
+        }
+
+        public void setWebsocketUrl(String websocketUrl) {
+            this.websocketUrl = websocketUrl;
+        }
+
+        public List<String> getMarkets() {
+            return markets;
+        }
+
+        public void setMarkets(List<String> markets) {
+            this.markets = markets;
+        }
+
+        public int getLevels() {
+            return levels;
+        }
+
+        public void setLevels(int levels) {
+            this.levels = levels;
+        }
+
+        public long getStaleAfterMs() {
+            return staleAfterMs;
+        }
+
+        public void setStaleAfterMs(long staleAfterMs) {
+            this.staleAfterMs = staleAfterMs;
+        }
+
+        public long getMaintainIntervalMs() {
+            return maintainIntervalMs;
+        }
+
+        public void setMaintainIntervalMs(long maintainIntervalMs) {
+            this.maintainIntervalMs = maintainIntervalMs;
+        }
+    }
+
+    public static class TradeTape {
+        // Only used with provider=upbit; sub-minute timeframes are unavailable from other providers.
+        private boolean enabled = true;
+
+        @NotBlank
+        private String websocketUrl = "wss://api.upbit.com/websocket/v1";
+
+        // Subscribed at startup; markets read at a sub-minute timeframe are added on first read either way.
+        private List<String> markets = new ArrayList<>();
+
+        @NotEmpty
+        private List<Timeframe> timeframes = new ArrayList<>(List.of(Timeframe.S1, Timeframe.S5, Timeframe.S15));
+
+        // Closed bars kept per market and timeframe; bounds memory regardless of trade rate.
+        @Min(10)
+        private int historyBars = 900;
+
+        // How often quiet intervals are closed without waiting for the next trade.
+        @Min(50)
+        private long flushIntervalMs = 250L;
+
+        // Trades stamped up to this long after a bar's end still land in it before a flush closes it.
+        @Min(0)
+        private long closeGraceMs = 250L;
+
+        @Min(100)
+        private long maintainIntervalMs = 1_000L;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getWebsocketUrl() {
+            return websocketUrl;
+        }
+
+        public void setWebsocketUrl(String websocketUrl) {
+            this.websocketUrl = websocketUrl;
+        }
+
+        public List<String> getMarkets() {
+            return markets;
+        }
+
+        public void setMarkets(List<String> markets) {
+            this.markets = markets;
+        }
+
+        public List<Timeframe> getTimeframes() {
+            return timeframes;
+        }
+
+        public void setTimeframes(List<Timeframe> timeframes) {
+            this.timeframes = timeframes;
+        }
+
+        public int getHistoryBars() {
+            return historyBars;
+        }
+
+        public void setHistoryBars(int historyBars) {
+            this.historyBars = historyBars;
+        }
+
+        public long getFlushIntervalMs() {
+            return flushIntervalMs;
+        }
+
+        public void setFlushIntervalMs(long flushIntervalMs) {
+            this.flushIntervalMs = flushIntervalMs;
+        }
+
+        public long getCloseGraceMs() {
+            return closeGraceMs;
+        }
+
+        public void setCloseGraceMs(long closeGraceMs) {
+            this.closeGraceMs = closeGraceMs;
+        }
+
+        public long getMaintainIntervalMs() {
+            return maintainIntervalMs;
+        }
+
+        public void setMaintainIntervalMs(long maintainIntervalMs) {
+            this.maintainIntervalMs = maintainIntervalMs;
+        }
+    }
+
+    public static class Journal {
+        // off | record; replay is selected with provider=replay and reads the same path.
+        @NotBlank
+        private String mode = "off";
+
+        @NotBlank
+        private String path = "./build/market-data.journal";
+
+        @Min(0)
+        private long flushIntervalMs = 1_000L;
+
+        @Min(0)
+        private long replayLookaheadMs = 2_000L;
+
+        public String getMode() {
+            return mode;
+        }
+
+        public void setMode(String mode) {
+            this.mode = mode;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+
+        public long getFlushIntervalMs() {
+            return flushIntervalMs;
+        }
+
+        public void setFlushIntervalMs(long flushIntervalMs) {
+            this.flushIntervalMs = flushIntervalMs;
+        }
+
+        public long getReplayLookaheadMs() {
+            return replayLookaheadMs;
+        }
+
+        public void setReplayLookaheadMs(long replayLookaheadMs) {
+            this.replayLookaheadMs = replayLookaheadMs;
+        }
     }
 
     public static class Retry {
@@ -82,4 +484,87 @@ public class VaultMarketDataProperties {
             this.rateLimitDelayMs = rateLimitDelayMs;
         }
     }
+
+    public static class Hedge {
+        // Second request for idempotent quotation GETs that outlive the recent latency percentile.
+        private boolean enabled = true;
+
+        @Min(50)
+        @Max(99)
+        private int delayPercentile = 95;
+
+        @Min(0)
+        private long minDelayMs = 50L;
+
+        @Min(1)
+        private long maxDelayMs = 1_000L;
+
+        // Until this many latencies are known the hedge waits the full max delay.
+        @Min(1)
+        private int minSamples = 20;
+
+        // Each call earns this share of a hedge, so hedges add at most this percent on top of normal traffic.
+        @Min(0)
+        @Max(100)
+        private int budgetPercent = 10;
+
+        @Min(1)
+        private int budgetBurst = 3;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getDelayPercentile() {
+            return delayPercentile;
+        }
+
+        public void setDelayPercentile(int delayPercentile) {
+            this.delayPercentile = delayPercentile;
+        }
+
+        public long getMinDelayMs() {
+            return minDelayMs;
+        }
+
+        public void setMinDelayMs(long minDelayMs) {
+            this.minDelayMs = minDelayMs;
+        }
+
+        public long getMaxDelayMs() {
+            return maxDelayMs;
+        }
+
+        public void setMaxDelayMs(long maxDelayMs) {
+            this.maxDelayMs = maxDelayMs;
+        }
+
+        public int getMinSamples() {
+            return minSamples;
+        }
+
+        public void setMinSamples(int minSamples) {
+            this.minSamples = minSamples;
+        }
+
+        public int getBudgetPercent() {
+            return budgetPercent;
+        }
+
+        public void setBudgetPercent(int budgetPercent) {
+            this.budgetPercent = budgetPercent;
+        }
+
+        public int getBudgetBurst() {
+            return budgetBurst;
+        }
+
+        public void setBudgetBurst(int budgetBurst) {
+            this.budgetBurst = budgetBurst;
+        }
+    }
 }
@@ -0,0 +1,99 @@
+package com.vaulttradebot.config;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Component
+@Validated
+@ConfigurationProperties(prefix = "vault.order-sync")
+public class VaultOrderSyncProperties {
+    /** When false every active order is refreshed on every poll, as before adaptive scheduling. */
+    private boolean adaptive = true;
+
+    @Min(0)
+    private long minIntervalMs = 1000L;
+
+    @Min(0)
+    private long maxIntervalMs = 30_000L;
+
+    @Min(0)
+    private long nearTouchBps = 10L;
+
+    @Min(1)
+    private long farFromTouchBps = 200L;
+
+    @Min(0)
+    private long freshOrderMs = 10_000L;
+
+    @Min(0)
+    private long recentFillMs = 60_000L;
+
+    @Min(1)
+    private long ageStretchMs = 600_000L;
+
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    public void setAdaptive(boolean adaptive) {
+        this.adaptive = adaptive;
+    }
+
+    public long getMinIntervalMs() {
+        return minIntervalMs;
+    }
+
+    public void setMinIntervalMs(long minIntervalMs) {
+        this.minIntervalMs = minIntervalMs;
+    }
+
+    public long getMaxIntervalMs() {
+        return maxIntervalMs;
+    }
+
+    public void setMaxIntervalMs(long maxIntervalMs) {
+        this.maxIntervalMs = maxIntervalMs;
+    }
+
+    public long getNearTouchBps() {
+        return nearTouchBps;
+    }
+
+    public void setNearTouchBps(long nearTouchBps) {
+        this.nearTouchBps = nearTouchBps;
+    }
+
+    public long getFarFromTouchBps() {
+        return farFromTouchBps;
+    }
+
+    public void setFarFromTouchBps(long farFromTouchBps) {
+        this.farFromTouchBps = farFromTouchBps;
+    }
+
+    public long getFreshOrderMs() {
+        return freshOrderMs;
+    }
+
+    public void setFreshOrderMs(long freshOrderMs) {
+        this.freshOrderMs = freshOrderMs;
+    }
+
+    public long getRecentFillMs() {
+        return recentFillMs;
+    }
+
+    public void setRecentFillMs(long recentFillMs) {
+        this.recentFillMs = recentFillMs;
+    }
+
+    public long getAgeStretchMs() {
+        return ageStretchMs;
+    }
+
+    public void setAgeStretchMs(long ageStretchMs) {
+        this.ageStretchMs = ageStretchMs;
+    }
+}
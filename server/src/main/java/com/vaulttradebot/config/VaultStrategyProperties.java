@@ -0,0 +1,324 @@
+package com.vaulttradebot.config;
+
+import com.vaulttradebot.domain.common.vo.Timeframe;
+import com.vaulttradebot.domain.trading.model.strategy.SignalArbitrationPolicy;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Component
+@Validated
+@ConfigurationProperties(prefix = "vault.strategy")
+public class VaultStrategyProperties {
+    // Bar size the live cycle evaluates; S1/S5/S15 come from the trade tape and trigger a cycle per closed bar.
+    @NotNull
+    private Timeframe timeframe = Timeframe.M1;
+
+    private final Ensemble ensemble = new Ensemble();
+    private final Shadow shadow = new Shadow();
+    private final Checkpoint checkpoint = new Checkpoint();
+    private final Exits exits = new Exits();
+
+    public Timeframe getTimeframe() {
+        return timeframe;
+    }
+
+    public void setTimeframe(Timeframe timeframe) {
+        this.timeframe = timeframe;
+    }
+
+    public Ensemble getEnsemble() {
+        return ensemble;
+    }
+
+    public Shadow getShadow() {
+        return shadow;
+    }
+
+    public Checkpoint getCheckpoint() {
+        return checkpoint;
+    }
+
+    public Exits getExits() {
+        return exits;
+    }
+
+    public static class Ensemble {
+        // Disabled ensembles fall back to the single default MA-cross strategy.
+        private boolean enabled = false;
+
+        @NotBlank
+        private String id = "StrategyEnsemble";
+
+        private SignalArbitrationPolicy policy = SignalArbitrationPolicy.PRIORITY;
+
+        private double netExposureThreshold = 0.5d;
+
+        @Min(1)
+        private long evaluationTimeoutMs = 2_000L;
+
+        private List<Member> members = new ArrayList<>();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public SignalArbitrationPolicy getPolicy() {
+            return policy;
+        }
+
+        public void setPolicy(SignalArbitrationPolicy policy) {
+            this.policy = policy;
+        }
+
+        public double getNetExposureThreshold() {
+            return netExposureThreshold;
+        }
+
+        public void setNetExposureThreshold(double netExposureThreshold) {
+            this.netExposureThreshold = netExposureThreshold;
+        }
+
+        public long getEvaluationTimeoutMs() {
+            return evaluationTimeoutMs;
+        }
+
+        public void setEvaluationTimeoutMs(long evaluationTimeoutMs) {
+            this.evaluationTimeoutMs = evaluationTimeoutMs;
+        }
+
+        public List<Member> getMembers() {
+            return members;
+        }
+
+        public void setMembers(List<Member> members) {
+            this.members = members;
+        }
+    }
+
+    public static class Shadow {
+        // Candidates only record signals and paper fills; they never place orders.
+        private boolean enabled = false;
+
+        @Min(1)
+        private int queueCapacity = 32;
+
+        private List<Member> candidates = new ArrayList<>();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public List<Member> getCandidates() {
+            return candidates;
+        }
+
+        public void setCandidates(List<Member> candidates) {
+            this.candidates = candidates;
+        }
+    }
+
+    public static class Checkpoint {
+        private boolean enabled = true;
+
+        @NotBlank
+        private String path = "./build/strategy-state.bin";
+
+        @Min(1000)
+        private long intervalMs = 60_000L;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+
+        public long getIntervalMs() {
+            return intervalMs;
+        }
+
+        public void setIntervalMs(long intervalMs) {
+            this.intervalMs = intervalMs;
+        }
+    }
+
+    public static class Exits {
+        // Opt-in: armed exits place sells on their own, outside the strategy cycle.
+        private boolean enabled = false;
+
+        // Fractions of the average entry price; 0 leaves that exit unarmed.
+        @DecimalMin("0.0")
+        private double stopLossPct = 0.03d;
+
+        @DecimalMin("0.0")
+        private double takeProfitPct = 0.06d;
+
+        @DecimalMin("0.0")
+        private double trailingStopPct = 0.0d;
+
+        // Fired sells are limit orders this far through the trigger price so they fill in a moving market.
+        @DecimalMin("0.0")
+        private double slippagePct = 0.002d;
+
+        // Markets without a trade stream tick are priced over REST at this interval.
+        @Min(100)
+        private long pollIntervalMs = 1_000L;
+
+        // A fired exit whose sell never shows up as an order is re-armed after this long.
+        @Min(1000)
+        private long rearmAfterMs = 60_000L;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public double getStopLossPct() {
+            return stopLossPct;
+        }
+
+        public void setStopLossPct(double stopLossPct) {
+            this.stopLossPct = stopLossPct;
+        }
+
+        public double getTakeProfitPct() {
+            return takeProfitPct;
+        }
+
+        public void setTakeProfitPct(double takeProfitPct) {
+            this.takeProfitPct = takeProfitPct;
+        }
+
+        public double getTrailingStopPct() {
+            return trailingStopPct;
+        }
+
+        public void setTrailingStopPct(double trailingStopPct) {
+            this.trailingStopPct = trailingStopPct;
+        }
+
+        public double getSlippagePct() {
+            return slippagePct;
+        }
+
+        public void setSlippagePct(double slippagePct) {
+            this.slippagePct = slippagePct;
+        }
+
+        public long getPollIntervalMs() {
+            return pollIntervalMs;
+        }
+
+        public void setPollIntervalMs(long pollIntervalMs) {
+            this.pollIntervalMs = pollIntervalMs;
+        }
+
+        public long getRearmAfterMs() {
+            return rearmAfterMs;
+        }
+
+        public void setRearmAfterMs(long rearmAfterMs) {
+            this.rearmAfterMs = rearmAfterMs;
+        }
+    }
+
+    public static class Member {
+        private String configId;
+        private int fastPeriod = 5;
+        private int slowPeriod = 20;
+        private int cooldownBars = 2;
+        private boolean onlyOnChange = true;
+        private double weight = 1.0d;
+
+        public String getConfigId() {
+            return configId;
+        }
+
+        public void setConfigId(String configId) {
+            this.configId = configId;
+        }
+
+        public int getFastPeriod() {
+            return fastPeriod;
+        }
+
+        public void setFastPeriod(int fastPeriod) {
+            this.fastPeriod = fastPeriod;
+        }
+
+        public int getSlowPeriod() {
+            return slowPeriod;
+        }
+
+        public void setSlowPeriod(int slowPeriod) {
+            this.slowPeriod = slowPeriod;
+        }
+
+        public int getCooldownBars() {
+            return cooldownBars;
+        }
+
+        public void setCooldownBars(int cooldownBars) {
+            this.cooldownBars = cooldownBars;
+        }
+
+        public boolean isOnlyOnChange() {
+            return onlyOnChange;
+        }
+
+        public void setOnlyOnChange(boolean onlyOnChange) {
+            this.onlyOnChange = onlyOnChange;
+        }
+
+        public double getWeight() {
+            return weight;
+        }
+
+        public void setWeight(double weight) {
+            this.weight = weight;
+        }
+    }
+}
@@ -32,6 +32,7 @@ public class VaultTradingProperties {
         private String accessKey = "";
         private String secretKey = "";
         private final Retry retry = new Retry();
+        private final MassCancel massCancel = new MassCancel();
 
         public String getBaseUrl() {
             return baseUrl;
@@ -60,6 +61,41 @@ public class VaultTradingProperties {
         public Retry getRetry() {
             return retry;
         }
+
+        public MassCancel getMassCancel() {
+            return massCancel;
+        }
+    }
+
+    public static class MassCancel {
+        // Upbit accepts at most 20 uuids per batch cancel and throttles order endpoints per second.
+        private int batchSize = 20;
+        private int parallelism = 4;
+        private int requestsPerSecond = 8;
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        public int getRequestsPerSecond() {
+            return requestsPerSecond;
+        }
+
+        public void setRequestsPerSecond(int requestsPerSecond) {
+            this.requestsPerSecond = requestsPerSecond;
+        }
     }
 
     public static class Retry {
@@ -0,0 +1,46 @@
+package com.vaulttradebot.domain.common;
+
+import com.vaulttradebot.domain.common.vo.Candle;
+import com.vaulttradebot.domain.common.vo.Price;
+import com.vaulttradebot.domain.common.vo.Timeframe;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
+
+/** Folds M1 candles into higher-timeframe bars on UTC epoch bucket boundaries, as Upbit minute candles do. */
+public final class CandleAggregator {
+    private CandleAggregator() {
+    }
+
+    /** Returns the open time of the bucket that contains the given instant. */
+    public static Instant bucketStart(Instant time, Timeframe timeframe) {
+        long frameSeconds = timeframe.duration().toSeconds();
+        return Instant.ofEpochSecond(Math.floorDiv(time.getEpochSecond(), frameSeconds) * frameSeconds);
+    }
+
+    /** Builds one bar from the ascending M1 candles of a single bucket. */
+    public static Candle fold(Instant bucketOpen, Collection<Candle> ascendingM1) {
+        if (bucketOpen == null || ascendingM1 == null || ascendingM1.isEmpty()) {
+            throw new IllegalArgumentException("bucket must contain at least one candle");
+        }
+        Price open = null;
+        Price high = null;
+        Price low = null;
+        Price close = null;
+        BigDecimal volume = BigDecimal.ZERO;
+        for (Candle candle : ascendingM1) {
+            if (open == null) {
+                open = candle.open();
+            }
+            if (high == null || candle.high().value().compareTo(high.value()) > 0) {
+                high = candle.high();
+            }
+            if (low == null || candle.low().value().compareTo(low.value()) < 0) {
+                low = candle.low();
+            }
+            close = candle.close();
+            volume = volume.add(candle.volume());
+        }
+        return new Candle(bucketOpen, open, high, low, close, volume);
+    }
+}
@@ -0,0 +1,212 @@
+package com.vaulttradebot.domain.common;
+
+import com.vaulttradebot.domain.common.vo.Asset;
+import com.vaulttradebot.domain.common.vo.Candle;
+import com.vaulttradebot.domain.common.vo.Price;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/** Reusable row-major primitive candle storage; prices and volume are fixed-point longs with 8 decimals. */
+public final class CandleBuffer {
+    /** Longs per row: open epoch second, open, high, low, close, volume. */
+    public static final int FIELDS = 6;
+    /** Decimal places carried by every scaled field, matching {@link Price} scale. */
+    public static final int SCALE = 8;
+
+    private long[] rows;
+    private int size;
+
+    /** Creates a buffer sized for the given number of candles. */
+    public CandleBuffer(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity must be >= 0");
+        }
+        this.rows = new long[Math.max(1, initialCapacity) * FIELDS];
+    }
+
+    /** Drops all rows but keeps the allocated array for reuse. */
+    public void clear() {
+        size = 0;
+    }
+
+    /** Drops rows from {@code newSize} onwards, e.g. to discard a partially decoded response. */
+    public void truncate(int newSize) {
+        if (newSize < 0 || newSize > size) {
+            throw new IllegalArgumentException("truncate size out of range: " + newSize);
+        }
+        size = newSize;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long openEpochSecond(int index) {
+        return rows[checked(index) * FIELDS];
+    }
+
+    public long open(int index) {
+        return rows[checked(index) * FIELDS + 1];
+    }
+
+    public long high(int index) {
+        return rows[checked(index) * FIELDS + 2];
+    }
+
+    public long low(int index) {
+        return rows[checked(index) * FIELDS + 3];
+    }
+
+    public long close(int index) {
+        return rows[checked(index) * FIELDS + 4];
+    }
+
+    public long volume(int index) {
+        return rows[checked(index) * FIELDS + 5];
+    }
+
+    /** Appends one row of already scaled values. */
+    public void add(long openEpochSecond, long open, long high, long low, long close, long volume) {
+        int offset = reserveRows(1);
+        rows[offset] = openEpochSecond;
+        rows[offset + 1] = open;
+        rows[offset + 2] = high;
+        rows[offset + 3] = low;
+        rows[offset + 4] = close;
+        rows[offset + 5] = volume;
+        size++;
+    }
+
+    /** Appends a domain candle, converting prices and volume to fixed-point. */
+    public void add(Candle candle) {
+        add(
+                candle.openTime().getEpochSecond(),
+                toScaled(candle.open().value()),
+                toScaled(candle.high().value()),
+                toScaled(candle.low().value()),
+                toScaled(candle.close().value()),
+                toScaled(candle.volume())
+        );
+    }
+
+    /** Ensures room for more rows and returns the array offset where the next row starts; call {@link #commitRows}. */
+    public int reserveRows(int count) {
+        int required = (size + count) * FIELDS;
+        if (required > rows.length) {
+            rows = Arrays.copyOf(rows, Math.max(required, rows.length * 2));
+        }
+        return size * FIELDS;
+    }
+
+    /** Backing array for bulk fills; valid until the next reserve. */
+    public long[] rawRows() {
+        return rows;
+    }
+
+    /** Marks rows written directly into {@link #rawRows()} as part of the buffer. */
+    public void commitRows(int count) {
+        if (count < 0 || (size + count) * FIELDS > rows.length) {
+            throw new IllegalArgumentException("commit exceeds reserved rows");
+        }
+        size += count;
+    }
+
+    /** Orders rows from {@code fromIndex} by open time; ascending or fully descending runs cost a single pass. */
+    public void sortByOpenTime(int fromIndex) {
+        if (fromIndex < 0 || fromIndex > size) {
+            throw new IllegalArgumentException("fromIndex out of range: " + fromIndex);
+        }
+        boolean ascending = true;
+        boolean descending = true;
+        for (int i = fromIndex + 1; i < size && (ascending || descending); i++) {
+            long previous = rows[(i - 1) * FIELDS];
+            long current = rows[i * FIELDS];
+            ascending &= previous <= current;
+            descending &= previous > current;
+        }
+        if (ascending) {
+            return;
+        }
+        long[] row = new long[FIELDS];
+        if (descending) {
+            for (int left = fromIndex, right = size - 1; left < right; left++, right--) {
+                swapRows(left, right, row);
+            }
+            return;
+        }
+        // Mixed order only comes from a misbehaving upstream; pages are small enough for insertion sort.
+        for (int i = fromIndex + 1; i < size; i++) {
+            System.arraycopy(rows, i * FIELDS, row, 0, FIELDS);
+            int j = i - 1;
+            while (j >= fromIndex && rows[j * FIELDS] > row[0]) {
+                System.arraycopy(rows, j * FIELDS, rows, (j + 1) * FIELDS, FIELDS);
+                j--;
+            }
+            System.arraycopy(row, 0, rows, (j + 1) * FIELDS, FIELDS);
+        }
+    }
+
+    /** Compacts the buffer in place to rows opening in [fromEpochSecond, toEpochSecond) and returns the new size. */
+    public int retainOpenTimes(long fromEpochSecond, long toEpochSecond) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            long openTime = rows[i * FIELDS];
+            if (openTime >= fromEpochSecond && openTime < toEpochSecond) {
+                if (kept != i) {
+                    System.arraycopy(rows, i * FIELDS, rows, kept * FIELDS, FIELDS);
+                }
+                kept++;
+            }
+        }
+        size = kept;
+        return kept;
+    }
+
+    /** Materializes one row as a domain candle. */
+    public Candle toCandle(int index, Asset currency) {
+        return new Candle(
+                Instant.ofEpochSecond(openEpochSecond(index)),
+                Price.of(fromScaled(open(index)), currency),
+                Price.of(fromScaled(high(index)), currency),
+                Price.of(fromScaled(low(index)), currency),
+                Price.of(fromScaled(close(index)), currency),
+                fromScaled(volume(index))
+        );
+    }
+
+    /** Materializes all rows as domain candles. */
+    public List<Candle> toCandles(Asset currency) {
+        List<Candle> candles = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            candles.add(toCandle(i, currency));
+        }
+        return candles;
+    }
+
+    /** Converts a decimal into the fixed-point representation, rounding half-up at 8 decimals. */
+    public static long toScaled(BigDecimal value) {
+        return value.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /** Converts a fixed-point value back into a decimal with 8 decimals. */
+    public static BigDecimal fromScaled(long scaled) {
+        return BigDecimal.valueOf(scaled, SCALE);
+    }
+
+    private void swapRows(int left, int right, long[] scratch) {
+        System.arraycopy(rows, left * FIELDS, scratch, 0, FIELDS);
+        System.arraycopy(rows, right * FIELDS, rows, left * FIELDS, FIELDS);
+        System.arraycopy(scratch, 0, rows, right * FIELDS, FIELDS);
+    }
+
+    private int checked(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("candle index " + index + " out of " + size);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,154 @@
+package com.vaulttradebot.domain.common;
+
+import com.vaulttradebot.domain.common.vo.Market;
+import com.vaulttradebot.domain.common.vo.Money;
+import com.vaulttradebot.domain.common.vo.TopOfBook;
+import java.time.Instant;
+import java.util.Optional;
+
+/** Fixed-capacity level-2 book in primitive arrays; prices and sizes use {@link CandleBuffer} fixed-point. Not thread-safe. */
+public final class L2OrderBook {
+    private final Market market;
+    private final int maxLevels;
+    // Bids descend and asks ascend, so index 0 is always the touch.
+    private final long[] bidPrices;
+    private final long[] bidSizes;
+    private final long[] askPrices;
+    private final long[] askSizes;
+    private int bidCount;
+    private int askCount;
+    private long bidDepth;
+    private long askDepth;
+
+    public L2OrderBook(Market market, int maxLevels) {
+        if (market == null || maxLevels <= 0) {
+            throw new IllegalArgumentException("order book needs a market and positive depth");
+        }
+        this.market = market;
+        this.maxLevels = maxLevels;
+        this.bidPrices = new long[maxLevels];
+        this.bidSizes = new long[maxLevels];
+        this.askPrices = new long[maxLevels];
+        this.askSizes = new long[maxLevels];
+    }
+
+    public Market market() {
+        return market;
+    }
+
+    public int bidLevels() {
+        return bidCount;
+    }
+
+    public int askLevels() {
+        return askCount;
+    }
+
+    public long bestBidPrice() {
+        return bidCount == 0 ? 0L : bidPrices[0];
+    }
+
+    public long bestAskPrice() {
+        return askCount == 0 ? 0L : askPrices[0];
+    }
+
+    /** Replaces every bid level in place from a snapshot; empty or zero-size levels are skipped. */
+    public void replaceBids(long[] prices, long[] sizes, int count) {
+        bidCount = 0;
+        bidDepth = 0;
+        for (int i = 0; i < count; i++) {
+            updateBid(prices[i], sizes[i]);
+        }
+    }
+
+    /** Replaces every ask level in place from a snapshot; empty or zero-size levels are skipped. */
+    public void replaceAsks(long[] prices, long[] sizes, int count) {
+        askCount = 0;
+        askDepth = 0;
+        for (int i = 0; i < count; i++) {
+            updateAsk(prices[i], sizes[i]);
+        }
+    }
+
+    /** Sets the size at one bid price; zero removes the level, and levels beyond capacity fall off the far end. */
+    public void updateBid(long price, long size) {
+        bidCount = update(bidPrices, bidSizes, bidCount, price, size, true);
+        bidDepth = sum(bidSizes, bidCount);
+    }
+
+    /** Sets the size at one ask price; zero removes the level, and levels beyond capacity fall off the far end. */
+    public void updateAsk(long price, long size) {
+        askCount = update(askPrices, askSizes, askCount, price, size, false);
+        askDepth = sum(askSizes, askCount);
+    }
+
+    /** Publishes an immutable view, or empty while either side is missing or the book is crossed. */
+    public Optional<TopOfBook> topOfBook(Instant asOf) {
+        if (bidCount == 0 || askCount == 0 || bidPrices[0] >= askPrices[0]) {
+            return Optional.empty();
+        }
+        return Optional.of(new TopOfBook(
+                market,
+                Money.of(CandleBuffer.fromScaled(bidPrices[0]), market.quote()),
+                CandleBuffer.fromScaled(bidSizes[0]),
+                Money.of(CandleBuffer.fromScaled(askPrices[0]), market.quote()),
+                CandleBuffer.fromScaled(askSizes[0]),
+                CandleBuffer.fromScaled(bidDepth),
+                CandleBuffer.fromScaled(askDepth),
+                asOf
+        ));
+    }
+
+    private int update(long[] prices, long[] sizes, int count, long price, long size, boolean descending) {
+        if (price <= 0) {
+            return count;
+        }
+        int index = find(prices, count, price, descending);
+        boolean exists = index < count && prices[index] == price;
+        if (size <= 0) {
+            if (!exists) {
+                return count;
+            }
+            System.arraycopy(prices, index + 1, prices, index, count - index - 1);
+            System.arraycopy(sizes, index + 1, sizes, index, count - index - 1);
+            return count - 1;
+        }
+        if (exists) {
+            sizes[index] = size;
+            return count;
+        }
+        if (index >= maxLevels) {
+            // Worse than every tracked level of a full book.
+            return count;
+        }
+        int kept = Math.min(count, maxLevels - 1);
+        System.arraycopy(prices, index, prices, index + 1, kept - index);
+        System.arraycopy(sizes, index, sizes, index + 1, kept - index);
+        prices[index] = price;
+        sizes[index] = size;
+        return kept + 1;
+    }
+
+    private static int find(long[] prices, int count, long price, boolean descending) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            boolean before = descending ? prices[mid] > price : prices[mid] < price;
+            if (before) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static long sum(long[] sizes, int count) {
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            total += sizes[i];
+        }
+        return total;
+    }
+}
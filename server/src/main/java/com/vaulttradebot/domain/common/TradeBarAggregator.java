@@ -0,0 +1,113 @@
+package com.vaulttradebot.domain.common;
+
+import com.vaulttradebot.domain.common.vo.Asset;
+import com.vaulttradebot.domain.common.vo.Candle;
+import com.vaulttradebot.domain.common.vo.Price;
+import com.vaulttradebot.domain.common.vo.Timeframe;
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/** Folds trades into epoch-aligned time bars for one series, in {@link CandleBuffer} fixed-point. Not thread-safe. */
+public final class TradeBarAggregator {
+    private final Timeframe timeframe;
+    private final Asset quote;
+    private final long frameMillis;
+    private final int maxFlatBars;
+
+    private boolean started;
+    private long formingStart;
+    private boolean hasTrades;
+    private long open;
+    private long high;
+    private long low;
+    private long close;
+    private long volume;
+    private long lastClose;
+
+    public TradeBarAggregator(Timeframe timeframe, Asset quote, int maxFlatBars) {
+        if (timeframe == null || quote == null || maxFlatBars <= 0) {
+            throw new IllegalArgumentException("aggregator needs a timeframe, quote asset and positive flat-bar bound");
+        }
+        this.timeframe = timeframe;
+        this.quote = quote;
+        this.frameMillis = timeframe.duration().toMillis();
+        this.maxFlatBars = maxFlatBars;
+    }
+
+    public Timeframe timeframe() {
+        return timeframe;
+    }
+
+    /** Adds one trade, closing earlier bars into {@code closed}; returns false for a trade older than the forming bar. */
+    public boolean onTrade(long epochMillis, long price, long size, Consumer<Candle> closed) {
+        if (price <= 0 || size < 0) {
+            throw new IllegalArgumentException("trade price must be positive and size non-negative");
+        }
+        long bucket = bucketStart(epochMillis);
+        if (!started) {
+            started = true;
+            formingStart = bucket;
+        } else if (bucket < formingStart) {
+            return false;
+        } else if (bucket > formingStart) {
+            closeBefore(bucket, closed);
+        }
+        if (!hasTrades) {
+            hasTrades = true;
+            open = price;
+            high = price;
+            low = price;
+            volume = 0;
+        }
+        high = Math.max(high, price);
+        low = Math.min(low, price);
+        close = price;
+        // Sizes of very low-priced coins can reach the fixed-point ceiling; the bar volume stops there too.
+        volume = volume > Long.MAX_VALUE - size ? Long.MAX_VALUE : volume + size;
+        return true;
+    }
+
+    /** Closes every bar whose interval ended by {@code epochMillis}; quiet intervals close flat at the last price. */
+    public int closeThrough(long epochMillis, Consumer<Candle> closed) {
+        long current = bucketStart(epochMillis);
+        if (!started || current <= formingStart) {
+            return 0;
+        }
+        return closeBefore(current, closed);
+    }
+
+    private int closeBefore(long nextBucket, Consumer<Candle> closed) {
+        int emitted = 1;
+        if (hasTrades) {
+            closed.accept(bar(formingStart, open, high, low, close, volume));
+            lastClose = close;
+        } else {
+            closed.accept(bar(formingStart, lastClose, lastClose, lastClose, lastClose, 0));
+        }
+        long flatStart = formingStart + frameMillis;
+        // After a long silence only the newest quiet bars matter; the history cannot hold more anyway.
+        flatStart = Math.max(flatStart, nextBucket - (long) maxFlatBars * frameMillis);
+        for (long start = flatStart; start < nextBucket; start += frameMillis) {
+            closed.accept(bar(start, lastClose, lastClose, lastClose, lastClose, 0));
+            emitted++;
+        }
+        formingStart = nextBucket;
+        hasTrades = false;
+        return emitted;
+    }
+
+    private long bucketStart(long epochMillis) {
+        return Math.floorDiv(epochMillis, frameMillis) * frameMillis;
+    }
+
+    private Candle bar(long startMillis, long open, long high, long low, long close, long volume) {
+        return new Candle(
+                Instant.ofEpochMilli(startMillis),
+                Price.of(CandleBuffer.fromScaled(open), quote),
+                Price.of(CandleBuffer.fromScaled(high), quote),
+                Price.of(CandleBuffer.fromScaled(low), quote),
+                Price.of(CandleBuffer.fromScaled(close), quote),
+                CandleBuffer.fromScaled(volume)
+        );
+    }
+}
@@ -0,0 +1,72 @@
+package com.vaulttradebot.domain.common;
+
+import com.vaulttradebot.domain.common.vo.Candle;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/** Bounded history of closed bars for one series; appends must be serialized, reads never block. */
+public final class TradeBarRing {
+    private final int capacity;
+    private final AtomicReferenceArray<Candle> slots;
+    // Bars ever appended; slot i % capacity holds bar i once this count passes i.
+    private final AtomicLong published = new AtomicLong(0);
+
+    public TradeBarRing(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("ring capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /** Returns how many bars were ever appended, including those already overwritten. */
+    public long appended() {
+        return published.get();
+    }
+
+    /** Appends the next closed bar, overwriting the oldest once the ring is full. */
+    public void append(Candle bar) {
+        if (bar == null) {
+            throw new IllegalArgumentException("bar must not be null");
+        }
+        long index = published.get();
+        slots.set((int) (index % capacity), bar);
+        published.set(index + 1);
+    }
+
+    /** Returns up to {@code limit} of the newest bars closed by {@code closedBy}, oldest first. */
+    public List<Candle> recent(int limit, Instant closedBy, Duration frame) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        long end = published.get();
+        long start = Math.max(0, end - capacity);
+        List<Candle> newestFirst = new ArrayList<>(Math.min(limit, capacity));
+        long oldestRead = end;
+        for (long i = end - 1; i >= start && newestFirst.size() < limit; i--) {
+            Candle bar = slots.get((int) (i % capacity));
+            oldestRead = i;
+            if (bar != null && !bar.openTime().plus(frame).isAfter(closedBy)) {
+                newestFirst.add(bar);
+            }
+        }
+        // Bars ascend in open time, so the skipped unclosed bars are a newest suffix and the list tail
+        // maps to the oldest slots read; drop any of those the writer may have lapped meanwhile.
+        long overwritten = published.get() - capacity + 1 - oldestRead;
+        if (overwritten > 0) {
+            int keep = (int) Math.max(0, newestFirst.size() - overwritten);
+            newestFirst.subList(keep, newestFirst.size()).clear();
+        }
+        Collections.reverse(newestFirst);
+        return newestFirst;
+    }
+}
@@ -4,6 +4,9 @@ import java.time.Duration;
 
 /** Supported candle intervals with their fixed duration. */
 public enum Timeframe {
+    S1(Duration.ofSeconds(1)),
+    S5(Duration.ofSeconds(5)),
+    S15(Duration.ofSeconds(15)),
     M1(Duration.ofMinutes(1)),
     M5(Duration.ofMinutes(5)),
     M15(Duration.ofMinutes(15)),
@@ -18,4 +21,9 @@ public enum Timeframe {
     public Duration duration() {
         return duration;
     }
+
+    /** Sub-minute bars have no exchange candle endpoint and are built from the trade tape. */
+    public boolean isSubMinute() {
+        return duration.compareTo(M1.duration) < 0;
+    }
 }
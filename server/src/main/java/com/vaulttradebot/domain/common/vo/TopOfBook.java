@@ -0,0 +1,32 @@
+package com.vaulttradebot.domain.common.vo;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/** Best bid/ask with their sizes and the summed size of the tracked levels on each side. */
+public record TopOfBook(
+        Market market,
+        Money bestBid,
+        BigDecimal bestBidQty,
+        Money bestAsk,
+        BigDecimal bestAskQty,
+        BigDecimal bidDepthQty,
+        BigDecimal askDepthQty,
+        Instant asOf
+) {
+    public TopOfBook {
+        if (market == null || bestBid == null || bestBidQty == null || bestAsk == null || bestAskQty == null
+                || bidDepthQty == null || askDepthQty == null || asOf == null) {
+            throw new IllegalArgumentException("top of book fields must not be null");
+        }
+        if (bestBidQty.signum() <= 0 || bestAskQty.signum() <= 0
+                || bidDepthQty.compareTo(bestBidQty) < 0 || askDepthQty.compareTo(bestAskQty) < 0) {
+            throw new IllegalArgumentException("top of book sizes out of range");
+        }
+    }
+
+    /** Size resting at the touch a taker on {@code side} would consume. */
+    public BigDecimal touchQty(Side side) {
+        return side == Side.BUY ? bestAskQty : bestBidQty;
+    }
+}
@@ -0,0 +1,155 @@
+package com.vaulttradebot.domain.execution;
+
+import com.vaulttradebot.domain.common.vo.Money;
+import com.vaulttradebot.domain.common.vo.Side;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Next fill check per active order, kept in a due-time queue so a poll only touches orders that are due.
+ * Orders at or near the touch, freshly placed or recently filled are checked at the minimum interval; the
+ * interval stretches toward the maximum as an order rests further from the last price and grows older.
+ * Superseded queue entries are skipped lazily instead of being removed. Not thread-safe.
+ */
+public final class OrderSyncSchedule {
+    private static final BigDecimal BPS = new BigDecimal("10000");
+
+    private final long minIntervalMs;
+    private final long maxIntervalMs;
+    private final long nearTouchBps;
+    private final long farFromTouchBps;
+    private final Duration freshOrderWindow;
+    private final Duration recentFillWindow;
+    private final Duration ageStretch;
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>(
+            Comparator.comparing(Entry::dueAt).thenComparingLong(Entry::seq));
+    private final Map<String, Tracked> tracked = new HashMap<>();
+    private long sequence;
+
+    public OrderSyncSchedule(
+            Duration minInterval,
+            Duration maxInterval,
+            long nearTouchBps,
+            long farFromTouchBps,
+            Duration freshOrderWindow,
+            Duration recentFillWindow,
+            Duration ageStretch
+    ) {
+        if (minInterval == null || maxInterval == null || minInterval.isNegative() || maxInterval.compareTo(minInterval) < 0) {
+            throw new IllegalArgumentException("intervals must satisfy 0 <= min <= max");
+        }
+        if (nearTouchBps < 0 || farFromTouchBps <= nearTouchBps) {
+            throw new IllegalArgumentException("touch distances must satisfy 0 <= near < far");
+        }
+        if (freshOrderWindow == null || recentFillWindow == null || ageStretch == null || ageStretch.isZero() || ageStretch.isNegative()) {
+            throw new IllegalArgumentException("windows must not be null and age stretch must be positive");
+        }
+        this.minIntervalMs = minInterval.toMillis();
+        this.maxIntervalMs = maxInterval.toMillis();
+        this.nearTouchBps = nearTouchBps;
+        this.farFromTouchBps = farFromTouchBps;
+        this.freshOrderWindow = freshOrderWindow;
+        this.recentFillWindow = recentFillWindow;
+        this.ageStretch = ageStretch;
+    }
+
+    public int size() {
+        return tracked.size();
+    }
+
+    /**
+     * Returns the ids among {@code activeOrderIds} that are due at {@code now}, earliest first, and stops tracking
+     * orders that are no longer active. Orders seen for the first time are due immediately.
+     */
+    public List<String> due(Collection<String> activeOrderIds, Instant now) {
+        Set<String> active = new HashSet<>(activeOrderIds);
+        tracked.keySet().retainAll(active);
+        for (String orderId : active) {
+            if (!tracked.containsKey(orderId)) {
+                schedule(orderId, now, null);
+            }
+        }
+        List<String> due = new ArrayList<>();
+        while (!queue.isEmpty() && !queue.peek().dueAt().isAfter(now)) {
+            Entry entry = queue.poll();
+            Tracked current = tracked.get(entry.orderId());
+            if (current != null && current.seq() == entry.seq()) {
+                due.add(entry.orderId());
+            }
+        }
+        return due;
+    }
+
+    /** Plans the next check after a refresh; {@code filled} marks that the refresh picked up new executions. */
+    public Instant reschedule(Order order, Money lastPrice, boolean filled, Instant now) {
+        Tracked previous = tracked.get(order.id());
+        Instant lastFillAt = filled ? now : previous == null ? null : previous.lastFillAt();
+        Instant dueAt = now.plus(nextInterval(order, lastPrice, lastFillAt, now));
+        schedule(order.id(), dueAt, lastFillAt);
+        return dueAt;
+    }
+
+    /**
+     * Plans a retry at the minimum interval after a refresh failed, keeping the order's fill history. Without it the
+     * order, already taken off the queue by {@link #due}, would never be checked again.
+     */
+    public Instant retry(String orderId, Instant now) {
+        Tracked previous = tracked.get(orderId);
+        Instant dueAt = now.plusMillis(minIntervalMs);
+        schedule(orderId, dueAt, previous == null ? null : previous.lastFillAt());
+        return dueAt;
+    }
+
+    /** Interval before the next check of {@code order}; an unknown last price counts as mid-distance. */
+    public Duration nextInterval(Order order, Money lastPrice, Instant lastFillAt, Instant now) {
+        Duration age = Duration.between(order.createdAt(), now);
+        boolean fresh = age.compareTo(freshOrderWindow) < 0;
+        boolean recentlyFilled = lastFillAt != null && Duration.between(lastFillAt, now).compareTo(recentFillWindow) < 0;
+        if (fresh || recentlyFilled) {
+            return Duration.ofMillis(minIntervalMs);
+        }
+        double stretch = lastPrice == null ? 0.5 : distanceWeight(order, lastPrice);
+        // Long-resting orders stretch fully; younger ones only halfway, since they are likelier to be near action.
+        double ageWeight = 0.5 + 0.5 * Math.min(1.0, (double) age.toMillis() / ageStretch.toMillis());
+        return Duration.ofMillis(minIntervalMs + Math.round((maxIntervalMs - minIntervalMs) * stretch * ageWeight));
+    }
+
+    private double distanceWeight(Order order, Money lastPrice) {
+        BigDecimal last = lastPrice.amount();
+        if (last.signum() <= 0) {
+            return 0.5;
+        }
+        // Positive when the order rests away from the market; zero or negative means it is at or through the touch.
+        BigDecimal gap = order.side() == Side.BUY
+                ? last.subtract(order.price().amount())
+                : order.price().amount().subtract(last);
+        long distanceBps = gap.multiply(BPS).divide(last, 0, RoundingMode.HALF_UP).longValue();
+        if (distanceBps <= nearTouchBps) {
+            return 0.0;
+        }
+        return Math.min(1.0, (double) (distanceBps - nearTouchBps) / (farFromTouchBps - nearTouchBps));
+    }
+
+    private void schedule(String orderId, Instant dueAt, Instant lastFillAt) {
+        long seq = ++sequence;
+        tracked.put(orderId, new Tracked(seq, dueAt, lastFillAt));
+        queue.add(new Entry(orderId, dueAt, seq));
+    }
+
+    private record Tracked(long seq, Instant dueAt, Instant lastFillAt) {
+    }
+
+    private record Entry(String orderId, Instant dueAt, long seq) {
+    }
+}
@@ -0,0 +1,99 @@
+package com.vaulttradebot.domain.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Caps how many callers may run one group of calls at once. Callers beyond the cap wait in a bounded queue for at
+ * most {@code maxWait}; once the queue is full, or the wait runs out, the call is rejected without being made.
+ */
+public final class Bulkhead {
+    private final String name;
+    private final int maxConcurrentCalls;
+    private final int maxQueuedCalls;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger(0);
+    private final AtomicInteger peakActive = new AtomicInteger(0);
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public Bulkhead(String name, int maxConcurrentCalls, int maxQueuedCalls, Duration maxWait) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("bulkhead name must not be blank");
+        }
+        if (maxConcurrentCalls < 1 || maxQueuedCalls < 0 || maxWait == null || maxWait.isNegative()) {
+            throw new IllegalArgumentException("bulkhead limits must satisfy concurrent >= 1, queued >= 0, wait >= 0");
+        }
+        this.name = name;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxQueuedCalls = maxQueuedCalls;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.permits = new Semaphore(maxConcurrentCalls);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public <T> T execute(Supplier<T> action) {
+        acquire();
+        peakActive.accumulateAndGet(maxConcurrentCalls - permits.availablePermits(), Math::max);
+        try {
+            return action.get();
+        } finally {
+            permits.release();
+            completed.increment();
+        }
+    }
+
+    public BulkheadSnapshot snapshot() {
+        int active = maxConcurrentCalls - permits.availablePermits();
+        return new BulkheadSnapshot(
+                name,
+                maxConcurrentCalls,
+                maxQueuedCalls,
+                active,
+                queued.get(),
+                peakActive.get(),
+                completed.sum(),
+                rejected.sum(),
+                active * 100.0 / maxConcurrentCalls
+        );
+    }
+
+    private void acquire() {
+        if (permits.tryAcquire()) {
+            return;
+        }
+        if (queued.incrementAndGet() > maxQueuedCalls) {
+            queued.decrementAndGet();
+            rejected.increment();
+            throw new BulkheadFullException(name);
+        }
+        boolean acquired;
+        long waitNanos = Deadline.current()
+                .map(deadline -> Math.min(maxWaitNanos, deadline.remaining().toNanos()))
+                .orElse(maxWaitNanos);
+        try {
+            acquired = permits.tryAcquire(waitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for bulkhead " + name, e);
+        } finally {
+            queued.decrementAndGet();
+        }
+        if (!acquired) {
+            rejected.increment();
+            if (waitNanos < maxWaitNanos) {
+                // The caller ran out of time before the queue wait did; report that rather than a full bulkhead.
+                throw new DeadlineExceededException("waiting for bulkhead " + name);
+            }
+            throw new BulkheadFullException(name);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.vaulttradebot.domain.resilience;
+
+public class BulkheadFullException extends RuntimeException {
+    public BulkheadFullException(String name) {
+        super("bulkhead is full: " + name);
+    }
+}
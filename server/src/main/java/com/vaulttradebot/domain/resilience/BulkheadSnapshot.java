@@ -0,0 +1,14 @@
+package com.vaulttradebot.domain.resilience;
+
+public record BulkheadSnapshot(
+        String name,
+        int maxConcurrentCalls,
+        int maxQueuedCalls,
+        int activeCalls,
+        int queuedCalls,
+        int peakActiveCalls,
+        long completedCalls,
+        long rejectedCalls,
+        double occupancyPercent
+) {
+}
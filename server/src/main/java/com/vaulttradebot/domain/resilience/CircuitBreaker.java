@@ -1,5 +1,6 @@
 package com.vaulttradebot.domain.resilience;
 
+import java.util.List;
 import java.util.function.Supplier;
 
 public interface CircuitBreaker {
@@ -8,4 +9,9 @@ public interface CircuitBreaker {
     void execute(String name, Runnable action);
 
     CircuitBreakerSnapshot snapshot(String name);
+
+    /** Counters for every breaker name seen so far; implementations without a call window report none. */
+    default List<CircuitBreakerMetrics> metrics() {
+        return List.of();
+    }
 }
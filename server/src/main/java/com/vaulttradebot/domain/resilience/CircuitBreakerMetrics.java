@@ -0,0 +1,19 @@
+package com.vaulttradebot.domain.resilience;
+
+import java.time.Instant;
+
+/** Per-name breaker counters; rates are percentages over the current sliding window. */
+public record CircuitBreakerMetrics(
+        String name,
+        CircuitBreakerState state,
+        long windowCalls,
+        double failureRatePercent,
+        double slowCallRatePercent,
+        long totalCalls,
+        long failedCalls,
+        long slowCalls,
+        long rejectedCalls,
+        long stateTransitions,
+        Instant openedAt
+) {
+}
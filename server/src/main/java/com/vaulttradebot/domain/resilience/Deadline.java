@@ -0,0 +1,92 @@
+package com.vaulttradebot.domain.resilience;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Point in monotonic time by which a unit of work must finish. {@link #bind} binds the deadline to the calling
+ * thread so adapters several calls down (HTTP timeouts, retry back-offs, JDBC statement timeouts) can shrink their
+ * own limits to it without every port signature carrying it; {@link #propagate} carries it to worker threads.
+ */
+public final class Deadline {
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long expiresAtNanos;
+
+    private Deadline(long expiresAtNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    public static Deadline after(Duration budget) {
+        if (budget == null || budget.isNegative()) {
+            throw new IllegalArgumentException("deadline budget must be >= 0");
+        }
+        return new Deadline(System.nanoTime() + budget.toNanos());
+    }
+
+    /** The deadline bound to the calling thread, if it runs inside {@link #bind} or {@link #run}. */
+    public static Optional<Deadline> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /** Wraps {@code action} so it runs under the caller's current deadline on whichever thread executes it. */
+    public static <T> Supplier<T> propagate(Supplier<T> action) {
+        Deadline captured = CURRENT.get();
+        if (captured == null) {
+            return action;
+        }
+        return () -> captured.run(action);
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0L, expiresAtNanos - System.nanoTime()));
+    }
+
+    public boolean isExpired() {
+        return expiresAtNanos - System.nanoTime() <= 0;
+    }
+
+    public Deadline earlierOf(Deadline other) {
+        return other == null || expiresAtNanos - other.expiresAtNanos <= 0 ? this : other;
+    }
+
+    public void check(String operation) {
+        if (isExpired()) {
+            throw new DeadlineExceededException(operation);
+        }
+    }
+
+    /**
+     * Binds this deadline, or the enclosing one if that expires first, to the calling thread until the returned
+     * scope is closed. Scopes must be closed on the thread that opened them, innermost first.
+     */
+    public Scope bind() {
+        Deadline previous = CURRENT.get();
+        CURRENT.set(earlierOf(previous));
+        return new Scope(previous);
+    }
+
+    public <T> T run(Supplier<T> action) {
+        try (Scope ignored = bind()) {
+            return action.get();
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+        private final Deadline previous;
+
+        private Scope(Deadline previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
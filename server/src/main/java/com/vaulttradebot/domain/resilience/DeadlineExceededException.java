@@ -0,0 +1,20 @@
+package com.vaulttradebot.domain.resilience;
+
+public class DeadlineExceededException extends RuntimeException {
+    private final String operation;
+
+    public DeadlineExceededException(String operation) {
+        super("deadline exceeded: " + operation);
+        this.operation = operation;
+    }
+
+    /** For a timeout that an adapter cut short to fit the deadline; {@code cause} is the adapter's own timeout. */
+    public DeadlineExceededException(String operation, Throwable cause) {
+        super("deadline exceeded: " + operation, cause);
+        this.operation = operation;
+    }
+
+    public String operation() {
+        return operation;
+    }
+}
@@ -0,0 +1,13 @@
+package com.vaulttradebot.domain.resilience;
+
+public record HedgeSnapshot(
+        String name,
+        long calls,
+        long hedgedCalls,
+        long hedgeWins,
+        long budgetDeniedCalls,
+        long hedgeDelayMs,
+        int latencySamples,
+        double budgetTokens
+) {
+}
@@ -6,9 +6,11 @@ import java.time.Instant;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Supplier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 @Component
+@ConditionalOnProperty(name = "vault.circuit-breaker.type", havingValue = "CONSECUTIVE", matchIfMissing = true)
 public class InMemoryCircuitBreaker implements CircuitBreaker {
     private final ClockPort clockPort;
     private final ConcurrentMap<String, BreakerStatus> breakers = new ConcurrentHashMap<>();
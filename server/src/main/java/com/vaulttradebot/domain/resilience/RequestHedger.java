@@ -0,0 +1,246 @@
+package com.vaulttradebot.domain.resilience;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Sends a second copy of an idempotent call when the first has not answered within the recent latency percentile.
+ * The first attempt to succeed wins and the other is cancelled. Each call deposits a fraction of a hedge into a
+ * small budget and every hedge spends a whole one, so hedges add at most that fraction on top of normal traffic.
+ * Attempts run on {@code executor}; the caller only waits, and a failure ends the call once no attempt is left.
+ */
+public final class RequestHedger {
+    private static final long MILLI_TOKENS = 1_000L;
+    private static final int SAMPLE_WINDOW = 256;
+    private static final int RECOMPUTE_EVERY = 16;
+
+    private final String name;
+    private final Executor executor;
+    private final int delayPercentile;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+    private final int minSamples;
+    private final long earnPerCall;
+    private final long maxBudget;
+    private final AtomicLong budget;
+    private final long[] samples = new long[SAMPLE_WINDOW];
+    private int sampleCount;
+    private long recorded;
+    private volatile long delayNanos;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder hedgedCalls = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private final LongAdder budgetDenied = new LongAdder();
+
+    public RequestHedger(
+            String name,
+            Executor executor,
+            int delayPercentile,
+            Duration minDelay,
+            Duration maxDelay,
+            int minSamples,
+            int budgetPercent,
+            int budgetBurst
+    ) {
+        if (delayPercentile < 1 || delayPercentile > 99) {
+            throw new IllegalArgumentException("hedge delay percentile must be between 1 and 99");
+        }
+        if (minDelay == null || maxDelay == null || minDelay.isNegative() || maxDelay.compareTo(minDelay) < 0) {
+            throw new IllegalArgumentException("hedge delays must satisfy 0 <= min <= max");
+        }
+        if (minSamples < 1 || budgetPercent < 0 || budgetPercent > 100 || budgetBurst < 1) {
+            throw new IllegalArgumentException("hedge samples and burst must be >= 1 and budget percent within 0..100");
+        }
+        this.name = name;
+        this.executor = executor;
+        this.delayPercentile = delayPercentile;
+        this.minDelayNanos = minDelay.toNanos();
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.minSamples = Math.min(minSamples, SAMPLE_WINDOW);
+        this.earnPerCall = budgetPercent * MILLI_TOKENS / 100;
+        this.maxBudget = budgetBurst * MILLI_TOKENS;
+        this.budget = new AtomicLong(0L);
+        this.delayNanos = maxDelayNanos;
+    }
+
+    public <T> T execute(Supplier<T> attempt) {
+        calls.increment();
+        budget.accumulateAndGet(earnPerCall, (current, earned) -> Math.min(maxBudget, current + earned));
+        Race<T> race = new Race<>();
+        long waitNanos = delayNanos;
+        // Attempts run on pool threads; carrying the caller's deadline keeps their HTTP timeouts bounded by it.
+        Supplier<T> bounded = Deadline.propagate(attempt);
+        race.launch(bounded, false);
+        try {
+            try {
+                return race.result.get(waitNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException slow) {
+                if (!race.result.isDone() && race.addAttempt()) {
+                    if (spendBudget()) {
+                        hedgedCalls.increment();
+                        race.launch(bounded, true);
+                    } else {
+                        budgetDenied.increment();
+                        race.attemptFailed(null);
+                    }
+                }
+            }
+            return race.result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for " + name, e);
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } finally {
+            race.cancelAll();
+        }
+    }
+
+    public Duration hedgeDelay() {
+        return Duration.ofNanos(delayNanos);
+    }
+
+    public HedgeSnapshot snapshot() {
+        int samplesHeld;
+        synchronized (samples) {
+            samplesHeld = sampleCount;
+        }
+        return new HedgeSnapshot(
+                name,
+                calls.sum(),
+                hedgedCalls.sum(),
+                hedgeWins.sum(),
+                budgetDenied.sum(),
+                TimeUnit.NANOSECONDS.toMillis(delayNanos),
+                samplesHeld,
+                budget.get() / (double) MILLI_TOKENS
+        );
+    }
+
+    private boolean spendBudget() {
+        while (true) {
+            long current = budget.get();
+            if (current < MILLI_TOKENS) {
+                return false;
+            }
+            if (budget.compareAndSet(current, current - MILLI_TOKENS)) {
+                return true;
+            }
+        }
+    }
+
+    /** Keeps the latest latencies in a ring and refreshes the cached hedge delay every few samples. */
+    private void recordLatency(long nanos) {
+        synchronized (samples) {
+            samples[(int) (recorded % SAMPLE_WINDOW)] = nanos;
+            recorded++;
+            sampleCount = (int) Math.min(recorded, SAMPLE_WINDOW);
+            if (sampleCount < minSamples || recorded % RECOMPUTE_EVERY != 0 && sampleCount != minSamples) {
+                return;
+            }
+            long[] sorted = Arrays.copyOf(samples, sampleCount);
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(delayPercentile / 100.0 * sampleCount) - 1;
+            delayNanos = Math.max(minDelayNanos, Math.min(maxDelayNanos, sorted[Math.max(0, rank)]));
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    /** Attempts of one call racing to complete {@code result}; {@code outstanding} counts those still able to win. */
+    private final class Race<T> {
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final AtomicInteger outstanding = new AtomicInteger(1);
+        private final CompletableFuture<?>[] attempts = new CompletableFuture<?>[2];
+        private final Thread[] runners = new Thread[2];
+        private volatile Throwable lastError;
+
+        private void launch(Supplier<T> attempt, boolean hedge) {
+            int slot = hedge ? 1 : 0;
+            attempts[slot] = CompletableFuture.runAsync(() -> run(attempt, slot, hedge), executor);
+        }
+
+        private void run(Supplier<T> attempt, int slot, boolean hedge) {
+            synchronized (this) {
+                if (result.isDone()) {
+                    return;
+                }
+                runners[slot] = Thread.currentThread();
+            }
+            long startedAt = System.nanoTime();
+            try {
+                T value = attempt.get();
+                recordLatency(System.nanoTime() - startedAt);
+                synchronized (this) {
+                    // Counted before completing so the caller never returns ahead of the win it reports.
+                    if (!result.isDone()) {
+                        if (hedge) {
+                            hedgeWins.increment();
+                        }
+                        result.complete(value);
+                    }
+                }
+            } catch (Throwable error) {
+                attemptFailed(error);
+            } finally {
+                synchronized (this) {
+                    runners[slot] = null;
+                }
+                // Clears an interrupt aimed at this attempt so it cannot leak into the pooled thread's next task.
+                Thread.interrupted();
+            }
+        }
+
+        /** Registers a hedge unless every attempt has already failed, in which case the call is settled. */
+        private boolean addAttempt() {
+            while (true) {
+                int current = outstanding.get();
+                if (current == 0) {
+                    return false;
+                }
+                if (outstanding.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        /** A null {@code error} withdraws a registered hedge that was never sent. */
+        private void attemptFailed(Throwable error) {
+            if (error != null) {
+                lastError = error;
+            }
+            if (outstanding.decrementAndGet() == 0) {
+                result.completeExceptionally(lastError);
+            }
+        }
+
+        /** Interrupts the attempt still running, which aborts its in-flight HTTP exchange. */
+        private synchronized void cancelAll() {
+            for (int slot = 0; slot < runners.length; slot++) {
+                if (runners[slot] != null) {
+                    runners[slot].interrupt();
+                }
+                if (attempts[slot] != null) {
+                    attempts[slot].cancel(false);
+                }
+            }
+        }
+    }
+}
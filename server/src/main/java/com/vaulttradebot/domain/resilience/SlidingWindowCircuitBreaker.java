@@ -0,0 +1,312 @@
+package com.vaulttradebot.domain.resilience;
+
+import com.vaulttradebot.application.port.out.ClockPort;
+import com.vaulttradebot.config.VaultCircuitBreakerProperties;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Breaker that trips on the failure rate or slow-call rate over a time-bucketed sliding window, so a dependency
+ * failing every other call opens it even though failures never run consecutively. The consecutive-failure rule
+ * still applies alongside, whichever fires first: a low-rate breaker may never see the window's minimum calls
+ * during an outage. State and window buckets are
+ * immutable values swapped with compare-and-set, which keeps concurrent callers from the parallel relay and
+ * multi-market cycles off any lock; a lost race just retries against the fresher value.
+ */
+@Component
+@ConditionalOnProperty(name = "vault.circuit-breaker.type", havingValue = "SLIDING_WINDOW")
+public class SlidingWindowCircuitBreaker implements CircuitBreaker {
+    private final ClockPort clockPort;
+    private final ConcurrentMap<String, Breaker> breakers = new ConcurrentHashMap<>();
+    private final Duration openDuration;
+    private final int halfOpenMaxCalls;
+    private final int failureThreshold;
+    private final long bucketMs;
+    private final int bucketCount;
+    private final int minimumCalls;
+    private final int failureRateThresholdPercent;
+    private final int slowCallRateThresholdPercent;
+    private final Duration slowCallDuration;
+
+    public SlidingWindowCircuitBreaker(ClockPort clockPort, VaultCircuitBreakerProperties properties) {
+        if (properties.getWindowBuckets() < 1 || properties.getWindowMs() < properties.getWindowBuckets()) {
+            throw new IllegalArgumentException("circuit breaker window must hold at least one ms per bucket");
+        }
+        this.clockPort = clockPort;
+        this.openDuration = Duration.ofMillis(properties.getOpenDurationMs());
+        this.halfOpenMaxCalls = properties.getHalfOpenMaxCalls();
+        this.failureThreshold = properties.getFailureThreshold();
+        this.bucketCount = properties.getWindowBuckets();
+        this.bucketMs = properties.getWindowMs() / properties.getWindowBuckets();
+        this.minimumCalls = properties.getMinimumCalls();
+        this.failureRateThresholdPercent = properties.getFailureRateThresholdPercent();
+        this.slowCallRateThresholdPercent = properties.getSlowCallRateThresholdPercent();
+        this.slowCallDuration = Duration.ofMillis(properties.getSlowCallDurationMs());
+    }
+
+    @Override
+    public <T> T execute(String name, Supplier<T> action) {
+        Breaker breaker = breakers.computeIfAbsent(name, ignored -> new Breaker());
+        Instant startedAt = clockPort.now();
+        Phase permit = breaker.acquire(name, startedAt);
+        T result;
+        try {
+            result = action.get();
+        } catch (RuntimeException error) {
+            if (!(error instanceof CircuitBreakerOpenException) && !(error instanceof CircuitBreakerBypassException)) {
+                // Bypass errors are caller-visible failures but intentionally do not advance breaker state.
+                breaker.complete(permit, true, clockPort.now(), startedAt);
+            } else {
+                breaker.release(permit);
+            }
+            throw error;
+        } catch (Error error) {
+            // An Error says nothing about the dependency, but a half-open probe permit must still go back.
+            breaker.release(permit);
+            throw error;
+        }
+        breaker.complete(permit, false, clockPort.now(), startedAt);
+        return result;
+    }
+
+    @Override
+    public void execute(String name, Runnable action) {
+        execute(name, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    @Override
+    public CircuitBreakerSnapshot snapshot(String name) {
+        Breaker breaker = breakers.computeIfAbsent(name, ignored -> new Breaker());
+        Phase phase = breaker.phase.get();
+        return new CircuitBreakerSnapshot(
+                name,
+                phase.state(),
+                breaker.consecutiveFailures.get(),
+                phase.openedAt(),
+                phase.openedAt() == null ? null : phase.openedAt().plus(openDuration)
+        );
+    }
+
+    @Override
+    public List<CircuitBreakerMetrics> metrics() {
+        long bucketIndex = bucketIndex(clockPort.now());
+        return breakers.entrySet().stream()
+                .map(entry -> entry.getValue().metrics(entry.getKey(), bucketIndex))
+                .sorted(Comparator.comparing(CircuitBreakerMetrics::name))
+                .toList();
+    }
+
+    private long bucketIndex(Instant at) {
+        return Math.floorDiv(at.toEpochMilli(), bucketMs);
+    }
+
+    /** State of one breaker name. {@code probes} counts issued half-open permits, {@code probeSuccesses} closed ones. */
+    private record Phase(CircuitBreakerState state, Instant openedAt, int probes, int probeSuccesses) {
+        private static final Phase CLOSED = new Phase(CircuitBreakerState.CLOSED, null, 0, 0);
+
+        private static Phase open(Instant openedAt) {
+            return new Phase(CircuitBreakerState.OPEN, openedAt, 0, 0);
+        }
+
+        private Phase withProbes(int nextProbes, int nextProbeSuccesses) {
+            return new Phase(CircuitBreakerState.HALF_OPEN, openedAt, nextProbes, nextProbeSuccesses);
+        }
+    }
+
+    /** Outcome counts of the calls that finished within one bucket; {@code index} is the bucket's absolute number. */
+    private record Bucket(long index, int calls, int failures, int slowCalls) {
+        /** Adds one outcome to {@code previous}, starting a fresh bucket when the slot still holds an older one. */
+        private static Bucket next(Bucket previous, long index, boolean failed, boolean slow) {
+            Bucket base = previous != null && previous.index == index ? previous : new Bucket(index, 0, 0, 0);
+            return new Bucket(index, base.calls + 1, base.failures + (failed ? 1 : 0), base.slowCalls + (slow ? 1 : 0));
+        }
+    }
+
+    private record Totals(long calls, long failures, long slowCalls) {
+        private double failureRate() {
+            return calls == 0 ? 0.0 : failures * 100.0 / calls;
+        }
+
+        private double slowCallRate() {
+            return calls == 0 ? 0.0 : slowCalls * 100.0 / calls;
+        }
+    }
+
+    private final class Breaker {
+        private final AtomicReference<Phase> phase = new AtomicReference<>(Phase.CLOSED);
+        private final AtomicReferenceArray<Bucket> buckets = new AtomicReferenceArray<>(bucketCount);
+        private final AtomicInteger consecutiveFailures = new AtomicInteger(0);
+        private final LongAdder totalCalls = new LongAdder();
+        private final LongAdder failedCalls = new LongAdder();
+        private final LongAdder slowCalls = new LongAdder();
+        private final LongAdder rejectedCalls = new LongAdder();
+        private final LongAdder transitions = new LongAdder();
+
+        /** Returns the phase the call was admitted under; HALF_OPEN marks it as a recovery probe. */
+        private Phase acquire(String name, Instant now) {
+            while (true) {
+                Phase current = phase.get();
+                switch (current.state()) {
+                    case CLOSED -> {
+                        return current;
+                    }
+                    case OPEN -> {
+                        if (now.isBefore(current.openedAt().plus(openDuration))) {
+                            rejectedCalls.increment();
+                            throw new CircuitBreakerOpenException(name);
+                        }
+                        // Cooldown over: the caller that wins the swap to HALF_OPEN also takes the first probe.
+                        Phase probing = current.withProbes(1, 0);
+                        if (phase.compareAndSet(current, probing)) {
+                            transitions.increment();
+                            return probing;
+                        }
+                    }
+                    case HALF_OPEN -> {
+                        if (current.probes() >= halfOpenMaxCalls) {
+                            rejectedCalls.increment();
+                            throw new CircuitBreakerOpenException(name);
+                        }
+                        Phase next = current.withProbes(current.probes() + 1, current.probeSuccesses());
+                        if (phase.compareAndSet(current, next)) {
+                            return next;
+                        }
+                    }
+                }
+            }
+        }
+
+        private void complete(Phase permit, boolean failed, Instant finishedAt, Instant startedAt) {
+            boolean slow = Duration.between(startedAt, finishedAt).compareTo(slowCallDuration) >= 0;
+            totalCalls.increment();
+            if (failed) {
+                failedCalls.increment();
+            }
+            if (slow) {
+                slowCalls.increment();
+            }
+            int streak = 0;
+            if (failed) {
+                streak = consecutiveFailures.incrementAndGet();
+            } else {
+                consecutiveFailures.set(0);
+            }
+
+            if (permit.state() == CircuitBreakerState.HALF_OPEN) {
+                completeProbe(failed || slow, finishedAt);
+                return;
+            }
+            long index = bucketIndex(finishedAt);
+            int slot = (int) Math.floorMod(index, (long) bucketCount);
+            // A caller that read the clock before a slower peer rolled the slot over drops its sample.
+            buckets.getAndUpdate(slot, bucket -> bucket != null && bucket.index() > index
+                    ? bucket
+                    : Bucket.next(bucket, index, failed, slow));
+            if (!failed && !slow) {
+                return;
+            }
+            Totals totals = totals(index);
+            boolean rateTripped = totals.calls() >= minimumCalls
+                    && (totals.failureRate() >= failureRateThresholdPercent
+                    || totals.slowCallRate() >= slowCallRateThresholdPercent);
+            if (streak >= failureThreshold || rateTripped) {
+                Phase current = phase.get();
+                // Only the CLOSED phase this call ran under may trip; a concurrent trip or probe already moved on.
+                if (current.state() == CircuitBreakerState.CLOSED && phase.compareAndSet(current, Phase.open(finishedAt))) {
+                    transitions.increment();
+                }
+            }
+        }
+
+        /** A failed or slow probe reopens at once; the breaker closes after every allowed probe succeeded. */
+        private void completeProbe(boolean bad, Instant finishedAt) {
+            while (true) {
+                Phase current = phase.get();
+                if (current.state() != CircuitBreakerState.HALF_OPEN) {
+                    return;
+                }
+                Phase next;
+                if (bad) {
+                    next = Phase.open(finishedAt);
+                } else if (current.probeSuccesses() + 1 >= halfOpenMaxCalls) {
+                    next = Phase.CLOSED;
+                } else {
+                    next = current.withProbes(current.probes(), current.probeSuccesses() + 1);
+                }
+                if (phase.compareAndSet(current, next)) {
+                    if (next.state() != CircuitBreakerState.HALF_OPEN) {
+                        transitions.increment();
+                    }
+                    if (next.state() == CircuitBreakerState.CLOSED) {
+                        clearWindow();
+                    }
+                    return;
+                }
+            }
+        }
+
+        /** Hands an unused half-open permit back when the call ended in an error that must not count. */
+        private void release(Phase permit) {
+            if (permit.state() != CircuitBreakerState.HALF_OPEN) {
+                return;
+            }
+            phase.getAndUpdate(current -> current.state() == CircuitBreakerState.HALF_OPEN && current.probes() > 0
+                    ? current.withProbes(current.probes() - 1, current.probeSuccesses())
+                    : current);
+        }
+
+        /** Starts the recovered breaker with an empty window so outage-era failures cannot trip it again. */
+        private void clearWindow() {
+            for (int i = 0; i < bucketCount; i++) {
+                buckets.set(i, null);
+            }
+        }
+
+        private Totals totals(long currentIndex) {
+            long calls = 0;
+            long failures = 0;
+            long slow = 0;
+            for (int i = 0; i < bucketCount; i++) {
+                Bucket bucket = buckets.get(i);
+                if (bucket != null && bucket.index() > currentIndex - bucketCount && bucket.index() <= currentIndex) {
+                    calls += bucket.calls();
+                    failures += bucket.failures();
+                    slow += bucket.slowCalls();
+                }
+            }
+            return new Totals(calls, failures, slow);
+        }
+
+        private CircuitBreakerMetrics metrics(String name, long currentIndex) {
+            Phase current = phase.get();
+            Totals totals = totals(currentIndex);
+            return new CircuitBreakerMetrics(
+                    name,
+                    current.state(),
+                    totals.calls(),
+                    totals.failureRate(),
+                    totals.slowCallRate(),
+                    totalCalls.sum(),
+                    failedCalls.sum(),
+                    slowCalls.sum(),
+                    rejectedCalls.sum(),
+                    transitions.sum(),
+                    current.openedAt()
+            );
+        }
+    }
+}
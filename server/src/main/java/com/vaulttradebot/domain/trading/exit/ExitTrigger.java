@@ -0,0 +1,29 @@
+package com.vaulttradebot.domain.trading.exit;
+
+import com.vaulttradebot.domain.common.vo.Market;
+import java.math.BigDecimal;
+
+/**
+ * One resting protective exit. {@code level} is the trigger price, or the trail distance in quote currency for
+ * {@link ExitTriggerType#TRAILING_STOP}. Triggers sharing a {@code groupId} are one-cancels-others.
+ */
+public record ExitTrigger(
+        String id,
+        String groupId,
+        Market market,
+        ExitTriggerType type,
+        BigDecimal level,
+        BigDecimal quantity
+) {
+    public ExitTrigger {
+        if (id == null || id.isBlank() || groupId == null || groupId.isBlank() || market == null || type == null) {
+            throw new IllegalArgumentException("trigger id, group, market and type must not be null or blank");
+        }
+        if (level == null || level.signum() <= 0) {
+            throw new IllegalArgumentException("trigger level must be positive");
+        }
+        if (quantity == null || quantity.signum() <= 0) {
+            throw new IllegalArgumentException("trigger quantity must be positive");
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.vaulttradebot.domain.trading.exit;
+
+import com.vaulttradebot.domain.common.CandleBuffer;
+import com.vaulttradebot.domain.common.vo.Market;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+/**
+ * Price-sorted resting exits for one market, in {@link CandleBuffer} fixed-point. A price update costs
+ * O(log n + fired) plus amortised trail ratcheting, never a scan of every trigger. Not thread-safe.
+ */
+public final class ExitTriggerIndex {
+    private static final Comparator<Resting> BY_KEY = Comparator
+            .comparingLong((Resting resting) -> resting.key)
+            .thenComparingLong(resting -> resting.seq);
+
+    private final Market market;
+    // Fire when the price is at or below the key: stop levels and each trail group's highest stop.
+    private final TreeSet<Resting> falling = new TreeSet<>(BY_KEY);
+    // Fire when the price is at or above the key: take-profit levels.
+    private final TreeSet<Resting> rising = new TreeSet<>(BY_KEY);
+    // Trailing stops that have seen the same high share one group, so a new high ratchets them all at once.
+    private final TreeMap<Long, TrailGroup> trailsByPeak = new TreeMap<>();
+    private final Map<String, Member> byId = new HashMap<>();
+    private final Map<String, List<String>> byGroup = new HashMap<>();
+    private long sequence;
+
+    public ExitTriggerIndex(Market market) {
+        if (market == null) {
+            throw new IllegalArgumentException("market must not be null");
+        }
+        this.market = market;
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    public boolean contains(String triggerId) {
+        return byId.containsKey(triggerId);
+    }
+
+    /** Rests a trigger; trailing stops start their high at {@code referencePrice}. */
+    public void add(ExitTrigger trigger, long referencePrice) {
+        if (trigger == null || !market.equals(trigger.market())) {
+            throw new IllegalArgumentException("trigger must belong to market " + market.value());
+        }
+        if (byId.containsKey(trigger.id())) {
+            throw new IllegalArgumentException("trigger already resting: " + trigger.id());
+        }
+        long level = CandleBuffer.toScaled(trigger.level());
+        Member member;
+        switch (trigger.type()) {
+            case STOP_LOSS -> {
+                Level node = new Level(trigger, level, ++sequence);
+                falling.add(node);
+                member = node;
+            }
+            case TAKE_PROFIT -> {
+                Level node = new Level(trigger, level, ++sequence);
+                rising.add(node);
+                member = node;
+            }
+            case TRAILING_STOP -> {
+                if (referencePrice <= 0) {
+                    throw new IllegalArgumentException("trailing stop needs a positive reference price");
+                }
+                Trail trail = new Trail(trigger, level, ++sequence);
+                TrailGroup group = trailsByPeak.get(referencePrice);
+                if (group == null) {
+                    group = new TrailGroup(referencePrice, ++sequence);
+                    trailsByPeak.put(referencePrice, group);
+                } else {
+                    falling.remove(group);
+                }
+                group.add(trail);
+                falling.add(group.rekey());
+                member = trail;
+            }
+            default -> throw new IllegalStateException("unsupported exit trigger type: " + trigger.type());
+        }
+        byId.put(trigger.id(), member);
+        byGroup.computeIfAbsent(trigger.groupId(), ignored -> new ArrayList<>(3)).add(trigger.id());
+    }
+
+    /** Removes one trigger; returns whether it was resting. */
+    public boolean remove(String triggerId) {
+        Member member = byId.remove(triggerId);
+        if (member == null) {
+            return false;
+        }
+        unlink(member);
+        List<String> siblings = byGroup.get(member.trigger().groupId());
+        if (siblings != null) {
+            siblings.remove(triggerId);
+            if (siblings.isEmpty()) {
+                byGroup.remove(member.trigger().groupId());
+            }
+        }
+        return true;
+    }
+
+    /** Removes every trigger of a one-cancels-others group; returns how many were resting. */
+    public int removeGroup(String groupId) {
+        List<String> ids = byGroup.remove(groupId);
+        if (ids == null) {
+            return 0;
+        }
+        for (String id : ids) {
+            unlink(byId.remove(id));
+        }
+        return ids.size();
+    }
+
+    /** Applies one price, handing each fired trigger to {@code fired} and cancelling its group siblings. */
+    public int onPrice(long price, Consumer<ExitTrigger> fired) {
+        if (price <= 0) {
+            throw new IllegalArgumentException("price must be positive");
+        }
+        ratchetTrails(price);
+        int count = 0;
+        Resting top;
+        while ((top = falling.isEmpty() ? null : falling.last()) != null && top.key >= price) {
+            falling.pollLast();
+            Member member;
+            if (top instanceof TrailGroup group) {
+                member = group.poll();
+                // The next-tightest trail in the group may still be through; it goes back in with a lower key.
+                if (group.isEmpty()) {
+                    trailsByPeak.remove(group.peak);
+                } else {
+                    falling.add(group.rekey());
+                }
+            } else {
+                member = (Level) top;
+            }
+            count += fire(member, fired);
+        }
+        while ((top = rising.isEmpty() ? null : rising.first()) != null && top.key <= price) {
+            rising.pollFirst();
+            count += fire((Level) top, fired);
+        }
+        return count;
+    }
+
+    private int fire(Member member, Consumer<ExitTrigger> fired) {
+        ExitTrigger trigger = member.trigger();
+        byId.remove(trigger.id());
+        List<String> siblings = byGroup.remove(trigger.groupId());
+        if (siblings != null) {
+            for (String id : siblings) {
+                Member sibling = byId.remove(id);
+                if (sibling != null) {
+                    unlink(sibling);
+                }
+            }
+        }
+        fired.accept(trigger);
+        return 1;
+    }
+
+    /** Every group whose high is below the new price now has that price as its high; merge them into one. */
+    private void ratchetTrails(long price) {
+        if (trailsByPeak.isEmpty() || trailsByPeak.firstKey() >= price) {
+            return;
+        }
+        NavigableMap<Long, TrailGroup> below = trailsByPeak.headMap(price, false);
+        TrailGroup target = trailsByPeak.get(price);
+        List<TrailGroup> merging = new ArrayList<>(below.values());
+        below.clear();
+        if (target != null) {
+            merging.add(target);
+        }
+        // Merge smaller groups into the largest so each trail moves O(log n) times overall.
+        TrailGroup base = merging.get(0);
+        for (TrailGroup group : merging) {
+            falling.remove(group);
+            if (group.size() > base.size()) {
+                base = group;
+            }
+        }
+        for (TrailGroup group : merging) {
+            if (group != base) {
+                base.absorb(group);
+            }
+        }
+        base.peak = price;
+        trailsByPeak.put(price, base);
+        falling.add(base.rekey());
+    }
+
+    private void unlink(Member member) {
+        if (member instanceof Trail trail) {
+            TrailGroup group = trail.group;
+            falling.remove(group);
+            group.remove(trail);
+            if (group.isEmpty()) {
+                trailsByPeak.remove(group.peak);
+            } else {
+                falling.add(group.rekey());
+            }
+        } else if (member.trigger().type() == ExitTriggerType.TAKE_PROFIT) {
+            rising.remove((Level) member);
+        } else {
+            falling.remove((Level) member);
+        }
+    }
+
+    private abstract static class Resting {
+        long key;
+        final long seq;
+
+        Resting(long key, long seq) {
+            this.key = key;
+            this.seq = seq;
+        }
+    }
+
+    private interface Member {
+        ExitTrigger trigger();
+    }
+
+    private static final class Level extends Resting implements Member {
+        private final ExitTrigger trigger;
+
+        private Level(ExitTrigger trigger, long level, long seq) {
+            super(level, seq);
+            this.trigger = trigger;
+        }
+
+        @Override
+        public ExitTrigger trigger() {
+            return trigger;
+        }
+    }
+
+    private static final class Trail implements Member {
+        private final ExitTrigger trigger;
+        private final long distance;
+        private final long seq;
+        private TrailGroup group;
+
+        private Trail(ExitTrigger trigger, long distance, long seq) {
+            this.trigger = trigger;
+            this.distance = distance;
+            this.seq = seq;
+        }
+
+        @Override
+        public ExitTrigger trigger() {
+            return trigger;
+        }
+    }
+
+    /** Trails sharing one high; only the tightest one's stop sits in the falling index. */
+    private static final class TrailGroup extends Resting {
+        private final PriorityQueue<Trail> trails = new PriorityQueue<>(
+                Comparator.comparingLong((Trail trail) -> trail.distance).thenComparingLong(trail -> trail.seq)
+        );
+        private long peak;
+
+        private TrailGroup(long peak, long seq) {
+            super(0, seq);
+            this.peak = peak;
+        }
+
+        private void add(Trail trail) {
+            trail.group = this;
+            trails.add(trail);
+        }
+
+        private void absorb(TrailGroup other) {
+            for (Trail trail : other.trails) {
+                add(trail);
+            }
+            other.trails.clear();
+        }
+
+        private Trail poll() {
+            return trails.poll();
+        }
+
+        private void remove(Trail trail) {
+            trails.remove(trail);
+        }
+
+        private boolean isEmpty() {
+            return trails.isEmpty();
+        }
+
+        private int size() {
+            return trails.size();
+        }
+
+        /** Recomputes the key while detached from the index; callers re-add the returned group. */
+        private TrailGroup rekey() {
+            key = peak - trails.peek().distance;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.vaulttradebot.domain.trading.exit;
+
+/** Protective exit kinds for a long position; each fires a sell. */
+public enum ExitTriggerType {
+    /** Fires when the price falls to or below the level. */
+    STOP_LOSS,
+    /** Fires when the price rises to or above the level. */
+    TAKE_PROFIT,
+    /** Fires when the price falls the trail distance below the highest price seen since arming. */
+    TRAILING_STOP
+}
@@ -0,0 +1,138 @@
+package com.vaulttradebot.domain.trading.model.strategy;
+
+import com.vaulttradebot.domain.resilience.Deadline;
+import com.vaulttradebot.domain.trading.model.strategy.snapshot.StrategyStateSnapshot;
+import com.vaulttradebot.domain.trading.model.strategy.vo.MemberSignal;
+import com.vaulttradebot.domain.trading.model.strategy.vo.SignalDecision;
+import com.vaulttradebot.domain.trading.model.strategy.vo.StrategyContext;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/** Evaluates several member strategies concurrently on one shared context and arbitrates their signals. */
+public class CompositeStrategy implements Strategy, StatefulStrategy {
+    private final String strategyId;
+    private final List<StrategyEnsembleMember> members;
+    private final SignalArbiter arbiter;
+    private final Executor executor;
+    private final Duration evaluationTimeout;
+
+    /** Creates an ensemble; member order is the PRIORITY order. */
+    public CompositeStrategy(
+            String strategyId,
+            List<StrategyEnsembleMember> members,
+            SignalArbiter arbiter,
+            Executor executor,
+            Duration evaluationTimeout
+    ) {
+        if (strategyId == null || strategyId.isBlank() || members == null || members.isEmpty()
+                || arbiter == null || executor == null || evaluationTimeout == null) {
+            throw new IllegalArgumentException("composite strategy fields must not be null or empty");
+        }
+        if (evaluationTimeout.isNegative() || evaluationTimeout.isZero()) {
+            throw new IllegalArgumentException("evaluationTimeout must be positive");
+        }
+        long distinctIds = members.stream().map(StrategyEnsembleMember::memberId).distinct().count();
+        if (distinctIds != members.size()) {
+            throw new IllegalArgumentException("ensemble member ids must be unique");
+        }
+        this.strategyId = strategyId;
+        this.members = List.copyOf(members);
+        this.arbiter = arbiter;
+        this.executor = executor;
+        this.evaluationTimeout = evaluationTimeout;
+    }
+
+    /**
+     * Fans the same candle window out to every member and arbitrates the collected signals. Members get the
+     * evaluation timeout or whatever is left of the caller's deadline, whichever ends first; any member still
+     * running at that point votes HOLD.
+     */
+    @Override
+    public SignalDecision evaluate(StrategyContext context) {
+        Deadline own = Deadline.after(evaluationTimeout);
+        Deadline deadline = own.earlierOf(Deadline.current().orElse(null));
+        String cutOffReason = deadline == own ? "MEMBER_TIMEOUT" : "MEMBER_DEADLINE";
+
+        // Every member reads the same immutable context, so market data is fetched once per cycle.
+        List<CompletableFuture<SignalDecision>> pending = new ArrayList<>(members.size());
+        for (StrategyEnsembleMember member : members) {
+            pending.add(CompletableFuture.supplyAsync(
+                    Deadline.propagate(() -> member.strategy().evaluate(context)), executor));
+        }
+
+        List<MemberSignal> signals = new ArrayList<>(members.size());
+        for (int i = 0; i < members.size(); i++) {
+            StrategyEnsembleMember member = members.get(i);
+            SignalDecision decision = await(pending.get(i), deadline, cutOffReason, context);
+            signals.add(new MemberSignal(member.memberId(), member.weight(), decision));
+        }
+        return arbiter.arbitrate(context, signals);
+    }
+
+    @Override
+    public String strategyId() {
+        return strategyId;
+    }
+
+    public List<StrategyEnsembleMember> members() {
+        return members;
+    }
+
+    /** Collects state from every stateful member; member config ids keep entries apart. */
+    @Override
+    public List<StrategyStateSnapshot> exportState() {
+        List<StrategyStateSnapshot> exported = new ArrayList<>();
+        for (StrategyEnsembleMember member : members) {
+            if (member.strategy() instanceof StatefulStrategy stateful) {
+                exported.addAll(stateful.exportState());
+            }
+        }
+        return exported;
+    }
+
+    /** Offers restored entries to every stateful member; each keeps only its own. */
+    @Override
+    public int restoreState(List<StrategyStateSnapshot> snapshots) {
+        int accepted = 0;
+        for (StrategyEnsembleMember member : members) {
+            if (member.strategy() instanceof StatefulStrategy stateful) {
+                accepted += stateful.restoreState(snapshots);
+            }
+        }
+        return accepted;
+    }
+
+    private SignalDecision await(
+            CompletableFuture<SignalDecision> future,
+            Deadline deadline,
+            String cutOffReason,
+            StrategyContext context
+    ) {
+        try {
+            SignalDecision decision = future.get(deadline.remaining().toNanos(), TimeUnit.NANOSECONDS);
+            if (decision != null) {
+                return decision;
+            }
+            return memberHold("MEMBER_EMPTY", context);
+        } catch (TimeoutException timeout) {
+            // A slow member must not stretch the cycle; it simply abstains this round.
+            future.cancel(true);
+            return memberHold(cutOffReason, context);
+        } catch (ExecutionException failure) {
+            return memberHold("MEMBER_ERROR", context);
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            return memberHold("MEMBER_INTERRUPTED", context);
+        }
+    }
+
+    private SignalDecision memberHold(String reason, StrategyContext context) {
+        return SignalDecision.hold(reason, context.now(), context.symbol(), context.timeframe());
+    }
+}
@@ -1,6 +1,7 @@
 package com.vaulttradebot.domain.trading.model.strategy;
 
 import com.vaulttradebot.domain.common.vo.Candle;
+import com.vaulttradebot.domain.trading.model.strategy.snapshot.StrategyStateSnapshot;
 import com.vaulttradebot.domain.trading.model.strategy.vo.SignalDecision;
 import com.vaulttradebot.domain.trading.model.strategy.vo.StrategyContext;
 import com.vaulttradebot.domain.trading.model.strategy.vo.StrategyKey;
@@ -18,15 +19,15 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 import com.vaulttradebot.domain.common.vo.Timeframe;
-import org.springframework.stereotype.Component;
 
 /** Close-candle MA cross strategy with duplicate-signal suppression. */
-@Component
-public class MovingAverageCrossStrategy implements Strategy {
+public class MovingAverageCrossStrategy implements Strategy, StatefulStrategy {
     private static final MathContext MC = new MathContext(12, RoundingMode.HALF_UP);
 
     private final StrategyConfig config;
     private final Map<StrategyKey, StrategyState> states = new ConcurrentHashMap<>();
+    private final Map<StrategyKey, Candle> lastClosedCandles = new ConcurrentHashMap<>();
+    private final Map<StrategyKey, StrategyStateSnapshot> pendingRestores = new ConcurrentHashMap<>();
 
     /** Creates the strategy with safe default MA parameters. */
     public MovingAverageCrossStrategy() {
@@ -45,6 +46,11 @@ public class MovingAverageCrossStrategy implements Strategy {
         List<Candle> normalized = normalizeCandles(context.marketDataWindow());
         // Repaint guard: evaluate only closed candles.
         List<Candle> closed = closedCandlesOnly(normalized, context.timeframe(), context.now());
+        StrategyKey key = new StrategyKey(context.symbol(), context.timeframe());
+        if (!closed.isEmpty()) {
+            applyPendingRestore(key, closed);
+            lastClosedCandles.put(key, closed.get(closed.size() - 1));
+        }
         if (closed.size() < config.slowPeriod() + 1) {
             return SignalDecision.hold("INSUFFICIENT_DATA", context.now(), context.symbol(), context.timeframe());
         }
@@ -72,7 +78,6 @@ public class MovingAverageCrossStrategy implements Strategy {
         if (action == SignalAction.HOLD) {
             return SignalDecision.hold("NO_CROSS", signalAt, context.symbol(), context.timeframe());
         }
-        StrategyKey key = new StrategyKey(context.symbol(), context.timeframe());
         StrategyState previousState = states.get(key);
         if (isBlockedByState(action, previousState, signalAt)) {
             return SignalDecision.hold("DEBOUNCED_OR_COOLDOWN", signalAt, context.symbol(), context.timeframe());
@@ -100,6 +105,69 @@ public class MovingAverageCrossStrategy implements Strategy {
         return decision;
     }
 
+    /** Exports validated state plus restored entries not yet confirmed by a live candle window. */
+    @Override
+    public List<StrategyStateSnapshot> exportState() {
+        List<StrategyStateSnapshot> exported = new ArrayList<>();
+        for (Map.Entry<StrategyKey, StrategyState> entry : states.entrySet()) {
+            Candle lastClosed = lastClosedCandles.get(entry.getKey());
+            if (lastClosed == null) {
+                continue;
+            }
+            exported.add(new StrategyStateSnapshot(
+                    config.configId(),
+                    entry.getKey().symbol(),
+                    entry.getKey().timeframe(),
+                    entry.getValue().lastSignal(),
+                    entry.getValue().cooldownUntil(),
+                    lastClosed.openTime(),
+                    lastClosed.close().value()
+            ));
+        }
+        // Keep unvalidated restores so a checkpoint taken before the first cycle does not erase them.
+        for (Map.Entry<StrategyKey, StrategyStateSnapshot> pending : pendingRestores.entrySet()) {
+            if (!states.containsKey(pending.getKey())) {
+                exported.add(pending.getValue());
+            }
+        }
+        return exported;
+    }
+
+    /** Stages entries for this config id; they become active only after matching live candles. */
+    @Override
+    public int restoreState(List<StrategyStateSnapshot> snapshots) {
+        int accepted = 0;
+        for (StrategyStateSnapshot snapshot : snapshots) {
+            if (!config.configId().equals(snapshot.ownerId())) {
+                continue;
+            }
+            pendingRestores.put(new StrategyKey(snapshot.symbol(), snapshot.timeframe()), snapshot);
+            accepted++;
+        }
+        return accepted;
+    }
+
+    /** Activates a restored state only if the live window agrees with the candle it was saved against. */
+    private void applyPendingRestore(StrategyKey key, List<Candle> closed) {
+        StrategyStateSnapshot restored = pendingRestores.remove(key);
+        if (restored == null) {
+            return;
+        }
+        Candle latest = closed.get(closed.size() - 1);
+        // A snapshot newer than the live feed came from another data source or a rewound clock.
+        if (restored.lastClosedOpenTime().isAfter(latest.openTime())) {
+            return;
+        }
+        for (Candle candle : closed) {
+            if (candle.openTime().equals(restored.lastClosedOpenTime())
+                    && candle.close().value().compareTo(restored.lastClosedPrice()) != 0) {
+                // Same bar, different close: the history diverged, so the stored signal cannot be trusted.
+                return;
+            }
+        }
+        states.putIfAbsent(key, new StrategyState(restored.lastSignal(), restored.cooldownUntil()));
+    }
+
     /** Checks whether a new signal should be suppressed by state rules. */
     private boolean isBlockedByState(SignalAction action, StrategyState state, Instant signalAt) {
         if (state == null) {
@@ -0,0 +1,142 @@
+package com.vaulttradebot.domain.trading.model.strategy;
+
+import com.vaulttradebot.domain.trading.model.strategy.vo.MemberSignal;
+import com.vaulttradebot.domain.trading.model.strategy.vo.SignalDecision;
+import com.vaulttradebot.domain.trading.model.strategy.vo.StrategyContext;
+import com.vaulttradebot.domain.trading.vo.SignalAction;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/** Combines member signals into one deterministic ensemble decision. */
+public class SignalArbiter {
+    private final SignalArbitrationPolicy policy;
+    private final double netExposureThreshold;
+
+    /** Creates an arbiter for the given policy and NET_EXPOSURE threshold. */
+    public SignalArbiter(SignalArbitrationPolicy policy, double netExposureThreshold) {
+        if (policy == null) {
+            throw new IllegalArgumentException("policy must not be null");
+        }
+        if (netExposureThreshold <= 0.0d || netExposureThreshold > 1.0d || Double.isNaN(netExposureThreshold)) {
+            throw new IllegalArgumentException("netExposureThreshold must be in range (0,1]");
+        }
+        this.policy = policy;
+        this.netExposureThreshold = netExposureThreshold;
+    }
+
+    /** Arbitrates member signals that were evaluated against the same context. */
+    public SignalDecision arbitrate(StrategyContext context, List<MemberSignal> signals) {
+        if (signals == null || signals.isEmpty()) {
+            return SignalDecision.hold("ENSEMBLE_EMPTY", context.now(), context.symbol(), context.timeframe());
+        }
+        return switch (policy) {
+            case PRIORITY -> byPriority(context, signals);
+            case VOTING -> byVoting(context, signals);
+            case NET_EXPOSURE -> byNetExposure(context, signals);
+        };
+    }
+
+    public SignalArbitrationPolicy policy() {
+        return policy;
+    }
+
+    private SignalDecision byPriority(StrategyContext context, List<MemberSignal> signals) {
+        // Members are already in configured priority order, so the first actionable signal wins.
+        for (MemberSignal signal : signals) {
+            if (signal.decision().action() != SignalAction.HOLD) {
+                return combined(context, signal.decision().action(), signal.decision().confidence(),
+                        signal.decision().signalAt(), signals);
+            }
+        }
+        return hold("ENSEMBLE_NO_SIGNAL", context, signals);
+    }
+
+    private SignalDecision byVoting(StrategyContext context, List<MemberSignal> signals) {
+        int quorum = signals.size() / 2 + 1;
+        for (SignalAction action : List.of(SignalAction.BUY, SignalAction.SELL)) {
+            List<MemberSignal> votes = signals.stream()
+                    .filter(signal -> signal.decision().action() == action)
+                    .toList();
+            if (votes.size() >= quorum) {
+                double confidence = votes.stream()
+                        .mapToDouble(signal -> signal.decision().confidence())
+                        .average()
+                        .orElse(0.0d);
+                return combined(context, action, confidence, latestSignalAt(context, votes), signals);
+            }
+        }
+        return hold("ENSEMBLE_NO_CONSENSUS", context, signals);
+    }
+
+    private SignalDecision byNetExposure(StrategyContext context, List<MemberSignal> signals) {
+        // Net exposure is driven by member weights; MA confidences are spread ratios and too small to scale by.
+        double totalWeight = signals.stream().mapToDouble(MemberSignal::weight).sum();
+        double net = 0.0d;
+        for (MemberSignal signal : signals) {
+            net += signal.weight() * direction(signal.decision().action());
+        }
+        double netRatio = net / totalWeight;
+        if (Math.abs(netRatio) < netExposureThreshold) {
+            return hold("ENSEMBLE_NET_BELOW_THRESHOLD", context, signals);
+        }
+
+        SignalAction action = netRatio > 0 ? SignalAction.BUY : SignalAction.SELL;
+        List<MemberSignal> agreeing = signals.stream()
+                .filter(signal -> signal.decision().action() == action)
+                .toList();
+        double agreeingWeight = agreeing.stream().mapToDouble(MemberSignal::weight).sum();
+        double confidence = agreeing.stream()
+                .mapToDouble(signal -> signal.weight() * signal.decision().confidence())
+                .sum() / agreeingWeight;
+        return combined(context, action, confidence, latestSignalAt(context, agreeing), signals);
+    }
+
+    private SignalDecision combined(
+            StrategyContext context,
+            SignalAction action,
+            double confidence,
+            Instant signalAt,
+            List<MemberSignal> signals
+    ) {
+        return new SignalDecision(
+                action,
+                Math.max(0.0d, Math.min(1.0d, confidence)),
+                describe(signals),
+                signalAt,
+                context.symbol(),
+                context.timeframe()
+        );
+    }
+
+    private SignalDecision hold(String reason, StrategyContext context, List<MemberSignal> signals) {
+        return SignalDecision.hold(
+                reason + ", " + describe(signals),
+                latestSignalAt(context, signals),
+                context.symbol(),
+                context.timeframe()
+        );
+    }
+
+    private Instant latestSignalAt(StrategyContext context, List<MemberSignal> signals) {
+        return signals.stream()
+                .map(signal -> signal.decision().signalAt())
+                .max(Instant::compareTo)
+                .orElse(context.now());
+    }
+
+    private String describe(List<MemberSignal> signals) {
+        // Keep member votes in the reason so cycle snapshots explain the ensemble outcome.
+        return "policy=" + policy.name() + ", votes=" + signals.stream()
+                .map(signal -> signal.memberId() + ":" + signal.decision().action().name())
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    private int direction(SignalAction action) {
+        return switch (action) {
+            case BUY -> 1;
+            case SELL -> -1;
+            case HOLD -> 0;
+        };
+    }
+}
@@ -0,0 +1,11 @@
+package com.vaulttradebot.domain.trading.model.strategy;
+
+/** Rules for combining several member signals into one ensemble decision. */
+public enum SignalArbitrationPolicy {
+    /** The first member (in configured order) with a non-HOLD signal wins. */
+    PRIORITY,
+    /** BUY or SELL wins only with a strict majority of all members. */
+    VOTING,
+    /** Weighted BUY minus SELL share must exceed the configured threshold. */
+    NET_EXPOSURE
+}
@@ -0,0 +1,13 @@
+package com.vaulttradebot.domain.trading.model.strategy;
+
+import com.vaulttradebot.domain.trading.model.strategy.snapshot.StrategyStateSnapshot;
+import java.util.List;
+
+/** Strategy whose per-key debounce/cooldown memory can survive a restart. */
+public interface StatefulStrategy {
+    /** Exports current per-key state, including restored entries that are still awaiting validation. */
+    List<StrategyStateSnapshot> exportState();
+
+    /** Stages restored entries owned by this strategy and returns how many were accepted for validation. */
+    int restoreState(List<StrategyStateSnapshot> snapshots);
+}
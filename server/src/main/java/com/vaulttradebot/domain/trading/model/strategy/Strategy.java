@@ -7,4 +7,9 @@ import com.vaulttradebot.domain.trading.model.strategy.vo.StrategyContext;
 public interface Strategy {
     /** Evaluates one strategy step and returns a standardized decision. */
     SignalDecision evaluate(StrategyContext context);
+
+    /** Returns the stable identifier used for cycle ids and per-(pair,strategy) locks. */
+    default String strategyId() {
+        return getClass().getSimpleName();
+    }
 }
@@ -0,0 +1,18 @@
+package com.vaulttradebot.domain.trading.model.strategy;
+
+/** One strategy participating in an ensemble, with its arbitration weight. */
+public record StrategyEnsembleMember(
+        String memberId,
+        Strategy strategy,
+        double weight
+) {
+    /** Validates ensemble member identity and weight. */
+    public StrategyEnsembleMember {
+        if (memberId == null || memberId.isBlank() || strategy == null) {
+            throw new IllegalArgumentException("ensemble member fields must not be null or blank");
+        }
+        if (weight <= 0.0d || Double.isNaN(weight) || Double.isInfinite(weight)) {
+            throw new IllegalArgumentException("ensemble member weight must be finite and positive");
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.vaulttradebot.domain.trading.model.strategy.snapshot;
+
+import java.time.Instant;
+import java.util.List;
+
+/** Point-in-time export of all stateful strategy memory for warm restarts. */
+public record StrategyCheckpoint(
+        String strategyId,
+        Instant savedAt,
+        List<StrategyStateSnapshot> states
+) {
+    /** Validates checkpoint envelope fields. */
+    public StrategyCheckpoint {
+        if (strategyId == null || strategyId.isBlank() || savedAt == null || states == null) {
+            throw new IllegalArgumentException("strategy checkpoint fields must not be null or blank");
+        }
+        states = List.copyOf(states);
+    }
+}
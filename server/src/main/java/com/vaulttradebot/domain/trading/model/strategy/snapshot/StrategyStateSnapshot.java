@@ -0,0 +1,38 @@
+package com.vaulttradebot.domain.trading.model.strategy.snapshot;
+
+import com.vaulttradebot.domain.common.vo.Timeframe;
+import com.vaulttradebot.domain.trading.vo.SignalAction;
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/** Checkpointed debounce/cooldown state for one strategy key, pinned to the candle it was derived from. */
+public record StrategyStateSnapshot(
+        String ownerId,
+        String symbol,
+        Timeframe timeframe,
+        SignalAction lastSignal,
+        Instant cooldownUntil,
+        Instant lastClosedOpenTime,
+        BigDecimal lastClosedPrice
+) {
+    /** Validates checkpoint fields; cooldownUntil may be absent when no cooldown is configured. */
+    public StrategyStateSnapshot {
+        if (ownerId == null || ownerId.isBlank() || symbol == null || symbol.isBlank() || timeframe == null
+                || lastSignal == null || lastClosedOpenTime == null || lastClosedPrice == null) {
+            throw new IllegalArgumentException("strategy state snapshot fields must not be null or blank");
+        }
+    }
+
+    /** Returns a copy attributed to another owner, used when containers namespace their members. */
+    public StrategyStateSnapshot withOwner(String owner) {
+        return new StrategyStateSnapshot(
+                owner,
+                symbol,
+                timeframe,
+                lastSignal,
+                cooldownUntil,
+                lastClosedOpenTime,
+                lastClosedPrice
+        );
+    }
+}
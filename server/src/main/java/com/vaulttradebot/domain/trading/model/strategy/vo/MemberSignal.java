@@ -0,0 +1,15 @@
+package com.vaulttradebot.domain.trading.model.strategy.vo;
+
+/** Signal produced by one ensemble member, kept with its arbitration weight. */
+public record MemberSignal(
+        String memberId,
+        double weight,
+        SignalDecision decision
+) {
+    /** Validates member signal fields before arbitration. */
+    public MemberSignal {
+        if (memberId == null || memberId.isBlank() || decision == null) {
+            throw new IllegalArgumentException("member signal fields must not be null or blank");
+        }
+    }
+}
@@ -31,7 +31,10 @@ CREATE TABLE IF NOT EXISTS outbox (
     attempt_count INT NOT NULL DEFAULT 0,
     last_error TEXT,
     next_attempt_at TIMESTAMPTZ,
-    dead_lettered_at TIMESTAMPTZ
+    dead_lettered_at TIMESTAMPTZ,
+    dropped_at TIMESTAMPTZ,
+    drop_reason TEXT,
+    priority INT NOT NULL DEFAULT 2
 );
 
 CREATE TABLE IF NOT EXISTS trading_cycle_snapshot (
@@ -57,6 +60,20 @@ CREATE TABLE IF NOT EXISTS trading_cycle_snapshot (
     created_at TIMESTAMPTZ NOT NULL
 );
 
+CREATE TABLE IF NOT EXISTS shadow_signal (
+    candidate_id VARCHAR(128) NOT NULL,
+    pair VARCHAR(32) NOT NULL,
+    timeframe VARCHAR(16) NOT NULL,
+    data_timestamp TIMESTAMPTZ NOT NULL,
+    signal_action VARCHAR(32) NOT NULL,
+    confidence DOUBLE PRECISION NOT NULL,
+    signal_reason TEXT NOT NULL,
+    fill_side VARCHAR(8),
+    fill_price NUMERIC(30,8),
+    recorded_at TIMESTAMPTZ NOT NULL,
+    PRIMARY KEY (candidate_id, pair, timeframe, data_timestamp)
+);
+
 CREATE TABLE IF NOT EXISTS portfolio_positions (
     market_symbol VARCHAR(32) PRIMARY KEY,
     quantity NUMERIC(30,8) NOT NULL,
@@ -73,11 +90,23 @@ CREATE TABLE IF NOT EXISTS bot_runtime_state (
 );
 
 ALTER TABLE orders ADD COLUMN IF NOT EXISTS executed_fee_krw NUMERIC(30,0) NOT NULL DEFAULT 0;
+ALTER TABLE outbox ADD COLUMN IF NOT EXISTS dropped_at TIMESTAMPTZ;
+ALTER TABLE outbox ADD COLUMN IF NOT EXISTS drop_reason TEXT;
+ALTER TABLE outbox ADD COLUMN IF NOT EXISTS priority INT NOT NULL DEFAULT 2;
+-- Commands queued before priority lanes existed took the EVENT default. Move them to their command lanes.
+UPDATE outbox
+SET priority = CASE WHEN payload LIKE '%"commandType":"CANCEL"%' THEN 0 ELSE 1 END
+WHERE event_type = 'OrderCommandRequested' AND priority = 2 AND published_at IS NULL;
 
 CREATE INDEX IF NOT EXISTS idx_orders_market_created_at ON orders (market, created_at DESC);
 CREATE INDEX IF NOT EXISTS idx_portfolio_positions_updated_at ON portfolio_positions (updated_at DESC);
-CREATE INDEX IF NOT EXISTS idx_outbox_ready
+-- The ready scan also skips dropped rows. Postgres cannot alter an index predicate, so the old index is replaced.
+DROP INDEX IF EXISTS idx_outbox_ready;
+CREATE INDEX IF NOT EXISTS idx_outbox_ready_live
     ON outbox (next_attempt_at, created_at)
-    WHERE published_at IS NULL AND dead_lettered_at IS NULL;
+    WHERE published_at IS NULL AND dead_lettered_at IS NULL AND dropped_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_outbox_ready_priority
+    ON outbox (priority, created_at)
+    WHERE published_at IS NULL AND dead_lettered_at IS NULL AND dropped_at IS NULL;
 CREATE INDEX IF NOT EXISTS idx_outbox_dead_lettered_at ON outbox (dead_lettered_at) WHERE dead_lettered_at IS NOT NULL;
 CREATE INDEX IF NOT EXISTS idx_cycle_pair_ts ON trading_cycle_snapshot (pair, data_timestamp DESC);
@@ -30,7 +30,10 @@ CREATE TABLE IF NOT EXISTS outbox (
     attempt_count INT NOT NULL DEFAULT 0,
     last_error CLOB,
     next_attempt_at TIMESTAMP,
-    dead_lettered_at TIMESTAMP
+    dead_lettered_at TIMESTAMP,
+    dropped_at TIMESTAMP,
+    drop_reason CLOB,
+    priority INT NOT NULL DEFAULT 2
 );
 
 CREATE TABLE IF NOT EXISTS trading_cycle_snapshot (
@@ -56,6 +59,20 @@ CREATE TABLE IF NOT EXISTS trading_cycle_snapshot (
     created_at TIMESTAMP NOT NULL
 );
 
+CREATE TABLE IF NOT EXISTS shadow_signal (
+    candidate_id VARCHAR(128) NOT NULL,
+    pair VARCHAR(32) NOT NULL,
+    timeframe VARCHAR(16) NOT NULL,
+    data_timestamp TIMESTAMP NOT NULL,
+    signal_action VARCHAR(32) NOT NULL,
+    confidence DOUBLE PRECISION NOT NULL,
+    signal_reason CLOB NOT NULL,
+    fill_side VARCHAR(8),
+    fill_price DECIMAL(30,8),
+    recorded_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (candidate_id, pair, timeframe, data_timestamp)
+);
+
 CREATE TABLE IF NOT EXISTS portfolio_positions (
     market_symbol VARCHAR(32) PRIMARY KEY,
     quantity DECIMAL(30,8) NOT NULL,
@@ -76,6 +93,13 @@ ALTER TABLE outbox ADD COLUMN IF NOT EXISTS attempt_count INT NOT NULL DEFAULT 0
 ALTER TABLE outbox ADD COLUMN IF NOT EXISTS last_error CLOB;
 ALTER TABLE outbox ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP;
 ALTER TABLE outbox ADD COLUMN IF NOT EXISTS dead_lettered_at TIMESTAMP;
+ALTER TABLE outbox ADD COLUMN IF NOT EXISTS dropped_at TIMESTAMP;
+ALTER TABLE outbox ADD COLUMN IF NOT EXISTS drop_reason CLOB;
+ALTER TABLE outbox ADD COLUMN IF NOT EXISTS priority INT NOT NULL DEFAULT 2;
+-- Commands queued before priority lanes existed took the EVENT default. Move them to their command lanes.
+UPDATE outbox
+SET priority = CASE WHEN payload LIKE '%"commandType":"CANCEL"%' THEN 0 ELSE 1 END
+WHERE event_type = 'OrderCommandRequested' AND priority = 2 AND published_at IS NULL;
 ALTER TABLE orders ADD COLUMN IF NOT EXISTS exchange_order_id VARCHAR(128);
 ALTER TABLE orders ADD COLUMN IF NOT EXISTS executed_fee_krw DECIMAL(30,0) NOT NULL DEFAULT 0;
 
@@ -83,4 +107,5 @@ CREATE INDEX IF NOT EXISTS idx_orders_market_created_at ON orders(market, create
 CREATE INDEX IF NOT EXISTS idx_portfolio_positions_updated_at ON portfolio_positions(updated_at);
 CREATE INDEX IF NOT EXISTS idx_outbox_publish_scan ON outbox(published_at, dead_lettered_at, next_attempt_at, created_at);
 CREATE INDEX IF NOT EXISTS idx_outbox_created_at ON outbox(created_at);
+CREATE INDEX IF NOT EXISTS idx_outbox_priority_scan ON outbox(priority, published_at, dead_lettered_at, created_at);
 CREATE INDEX IF NOT EXISTS idx_cycle_pair_ts ON trading_cycle_snapshot(pair, data_timestamp);
@@ -11,6 +11,7 @@ import com.vaulttradebot.application.port.in.BotConfigUseCase;
 import com.vaulttradebot.application.port.in.BotControlUseCase;
 import com.vaulttradebot.application.port.in.RunTradingCycleUseCase;
 import com.vaulttradebot.domain.ops.KillSwitchActiveException;
+import com.vaulttradebot.domain.resilience.BulkheadFullException;
 import com.vaulttradebot.domain.resilience.CircuitBreakerOpenException;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -62,6 +63,18 @@ class GlobalExceptionHandlerTest {
                 .andExpect(jsonPath("$.message").value("circuit breaker is open: upbit-trading"));
     }
 
+    @Test
+    void mapsBulkheadFullToServiceUnavailable() throws Exception {
+        // A saturated bulkhead rejects without calling upstream, so callers see a retryable 503.
+        when(runTradingCycleUseCase.runCycle())
+                .thenThrow(new BulkheadFullException("upbit-trading"));
+
+        mockMvc.perform(post("/api/bot/cycle"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.code").value("BULKHEAD_FULL"))
+                .andExpect(jsonPath("$.message").value("bulkhead is full: upbit-trading"));
+    }
+
     @Test
     void mapsKillSwitchActiveToLocked() throws Exception {
         // Verifies kill switch rejections are exposed as a consistent 423 Locked API error.
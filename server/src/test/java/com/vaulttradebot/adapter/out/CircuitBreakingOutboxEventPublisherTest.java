@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.vaulttradebot.application.outbox.OutboxMessage;
+import com.vaulttradebot.application.outbox.OutboxPriority;
 import com.vaulttradebot.application.port.out.ClockPort;
 import com.vaulttradebot.application.port.out.NotificationPort;
 import com.vaulttradebot.application.port.out.OutboxEventPublisher;
@@ -99,7 +100,10 @@ class CircuitBreakingOutboxEventPublisherTest {
                 0,
                 null,
                 now,
-                null
+                null,
+                null,
+                null,
+                OutboxPriority.EVENT
         );
     }
 
@@ -0,0 +1,66 @@
+package com.vaulttradebot.adapter.out;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vaulttradebot.config.VaultStrategyProperties;
+import com.vaulttradebot.domain.common.vo.Timeframe;
+import com.vaulttradebot.domain.trading.model.strategy.snapshot.StrategyCheckpoint;
+import com.vaulttradebot.domain.trading.model.strategy.snapshot.StrategyStateSnapshot;
+import com.vaulttradebot.domain.trading.vo.SignalAction;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileStrategyCheckpointStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void roundTripsCheckpointThroughAtomicReplace() throws Exception {
+        // Verifies a saved checkpoint loads back unchanged and no temp file is left behind.
+        Path file = tempDir.resolve("state/strategy.bin");
+        FileStrategyCheckpointStore store = new FileStrategyCheckpointStore(properties(file));
+        StrategyCheckpoint checkpoint = new StrategyCheckpoint(
+                "MovingAverageCrossStrategy",
+                Instant.parse("2026-03-14T00:10:00Z"),
+                List.of(
+                        new StrategyStateSnapshot("ma-cross-v1", "KRW-BTC", Timeframe.M1, SignalAction.BUY,
+                                Instant.parse("2026-03-14T00:12:00Z"), Instant.parse("2026-03-14T00:09:00Z"),
+                                new BigDecimal("50000000.12345678")),
+                        new StrategyStateSnapshot("shadow:fast", "KRW-ETH", Timeframe.M5, SignalAction.SELL,
+                                null, Instant.parse("2026-03-14T00:05:00Z"), new BigDecimal("3000000"))
+                )
+        );
+
+        store.save(checkpoint);
+        store.save(checkpoint);
+        Optional<StrategyCheckpoint> loaded = store.load();
+
+        assertThat(loaded).contains(checkpoint);
+        assertThat(Files.exists(tempDir.resolve("state/strategy.bin.tmp"))).isFalse();
+    }
+
+    @Test
+    void missingOrCorruptFileMeansColdStart() throws Exception {
+        // Verifies absent or foreign files are ignored instead of failing startup.
+        Path file = tempDir.resolve("strategy.bin");
+        FileStrategyCheckpointStore store = new FileStrategyCheckpointStore(properties(file));
+
+        assertThat(store.load()).isEmpty();
+
+        Files.write(file, new byte[]{1, 2, 3});
+        assertThat(store.load()).isEmpty();
+    }
+
+    private VaultStrategyProperties properties(Path file) {
+        VaultStrategyProperties properties = new VaultStrategyProperties();
+        properties.getCheckpoint().setPath(file.toString());
+        return properties;
+    }
+}
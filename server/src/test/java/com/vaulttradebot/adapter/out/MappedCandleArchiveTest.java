@@ -0,0 +1,122 @@
+package com.vaulttradebot.adapter.out;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vaulttradebot.config.VaultMarketDataProperties;
+import com.vaulttradebot.domain.common.CandleBuffer;
+import com.vaulttradebot.domain.common.vo.Asset;
+import com.vaulttradebot.domain.common.vo.Candle;
+import com.vaulttradebot.domain.common.vo.Market;
+import com.vaulttradebot.domain.common.vo.Price;
+import com.vaulttradebot.domain.common.vo.Timeframe;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedCandleArchiveTest {
+    private static final Market MARKET = Market.of("KRW-BTC");
+    private static final Instant START = Instant.parse("2026-03-14T00:00:00Z");
+
+    @TempDir
+    Path tempDir;
+
+    private MappedCandleArchive archive;
+
+    @AfterEach
+    void tearDown() {
+        if (archive != null) {
+            archive.close();
+        }
+    }
+
+    @Test
+    void scansTimeRangeIntoPrimitiveBufferAndCandles() {
+        // Verifies a half-open range scan returns exactly the archived rows with fixed-point values intact.
+        archive = new MappedCandleArchive(properties());
+        archive.append(MARKET, Timeframe.M1, minutes(0, 10));
+
+        CandleBuffer buffer = new CandleBuffer(4);
+        int rows = archive.scan(MARKET, Timeframe.M1, START.plusSeconds(120), START.plusSeconds(420), buffer);
+        List<Candle> candles = archive.read(MARKET, Timeframe.M1, START.plusSeconds(120), START.plusSeconds(420));
+
+        assertThat(rows).isEqualTo(5);
+        assertThat(buffer.size()).isEqualTo(5);
+        assertThat(buffer.openEpochSecond(0)).isEqualTo(START.plusSeconds(120).getEpochSecond());
+        assertThat(CandleBuffer.fromScaled(buffer.close(4))).isEqualByComparingTo("106.12345678");
+        assertThat(candles).extracting(Candle::openTime)
+                .containsExactly(START.plusSeconds(120), START.plusSeconds(180), START.plusSeconds(240),
+                        START.plusSeconds(300), START.plusSeconds(360));
+        assertThat(candles.get(0).open()).isEqualTo(minutes(2, 1).get(0).open());
+        assertThat(candles.get(0).low().value()).isEqualByComparingTo("92.12345678");
+        assertThat(candles.get(0).volume()).isEqualByComparingTo("0.5");
+    }
+
+    @Test
+    void appendsOnlyNewerCandlesAndSeesThemAfterRemap() {
+        // Verifies overlapping appends skip already archived bars and later scans include the grown tail.
+        archive = new MappedCandleArchive(properties());
+        assertThat(archive.append(MARKET, Timeframe.M1, minutes(0, 5))).isEqualTo(5);
+        assertThat(archive.read(MARKET, Timeframe.M1, START, START.plusSeconds(3600))).hasSize(5);
+
+        int appended = archive.append(MARKET, Timeframe.M1, minutes(3, 5));
+
+        assertThat(appended).isEqualTo(3);
+        assertThat(archive.count(MARKET, Timeframe.M1)).isEqualTo(8);
+        assertThat(archive.lastOpenTime(MARKET, Timeframe.M1)).contains(START.plusSeconds(420));
+        assertThat(archive.read(MARKET, Timeframe.M1, START, START.plusSeconds(3600))).hasSize(8);
+        assertThat(archive.count(MARKET, Timeframe.M5)).isZero();
+    }
+
+    @Test
+    void reopenTruncatesTornTailAndKeepsCompleteRecords() throws Exception {
+        // Verifies a partial record left by a crash is dropped on reopen and appends continue after it.
+        archive = new MappedCandleArchive(properties());
+        archive.append(MARKET, Timeframe.M1, minutes(0, 3));
+        Path file = archive.partitionPath(MARKET, Timeframe.M1);
+        archive.close();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5}));
+        }
+        long tornSize = Files.size(file);
+
+        archive = new MappedCandleArchive(properties());
+        assertThat(archive.count(MARKET, Timeframe.M1)).isEqualTo(3);
+        archive.append(MARKET, Timeframe.M1, minutes(3, 1));
+
+        assertThat(Files.size(file)).isEqualTo(tornSize - 5 + 48);
+        assertThat(archive.read(MARKET, Timeframe.M1, START, START.plusSeconds(3600)))
+                .extracting(Candle::openTime)
+                .containsExactly(START, START.plusSeconds(60), START.plusSeconds(120), START.plusSeconds(180));
+    }
+
+    private VaultMarketDataProperties properties() {
+        VaultMarketDataProperties properties = new VaultMarketDataProperties();
+        properties.getArchive().setPath(tempDir.resolve("archive").toString());
+        return properties;
+    }
+
+    private List<Candle> minutes(int firstIndex, int count) {
+        List<Candle> candles = new ArrayList<>();
+        for (int i = firstIndex; i < firstIndex + count; i++) {
+            BigDecimal close = new BigDecimal("100.12345678").add(BigDecimal.valueOf(i));
+            candles.add(new Candle(
+                    START.plusSeconds(60L * i),
+                    Price.of(close.subtract(BigDecimal.ONE), Asset.krw()),
+                    Price.of(close.add(BigDecimal.ONE), Asset.krw()),
+                    Price.of(close.subtract(BigDecimal.TEN), Asset.krw()),
+                    Price.of(close, Asset.krw()),
+                    new BigDecimal("0.5")
+            ));
+        }
+        return candles;
+    }
+}
@@ -0,0 +1,120 @@
+package com.vaulttradebot.adapter.out;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.vaulttradebot.adapter.out.journal.MarketDataJournalEntry;
+import com.vaulttradebot.adapter.out.journal.MarketDataJournalReader;
+import com.vaulttradebot.adapter.out.journal.MarketDataJournalWriter;
+import com.vaulttradebot.application.port.out.MarketDataPort;
+import com.vaulttradebot.config.VaultMarketDataProperties;
+import com.vaulttradebot.domain.common.vo.Asset;
+import com.vaulttradebot.domain.common.vo.Candle;
+import com.vaulttradebot.domain.common.vo.Market;
+import com.vaulttradebot.domain.common.vo.Money;
+import com.vaulttradebot.domain.common.vo.Price;
+import com.vaulttradebot.domain.common.vo.Timeframe;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MarketDataJournalReplayTest {
+    private static final Market MARKET = Market.of("KRW-BTC");
+    private static final Instant CYCLE_1 = Instant.parse("2026-03-14T00:10:00Z");
+    private static final Instant CYCLE_2 = Instant.parse("2026-03-14T00:11:00Z");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void replaysRecordedResponsesByCycleTime() {
+        // Verifies recorded tickers, candle windows and failures come back unchanged at the matching cycle time.
+        Path journalPath = tempDir.resolve("md.journal");
+        AtomicReference<Instant> clock = new AtomicReference<>(CYCLE_1);
+        MarketDataPort live = mock(MarketDataPort.class);
+        when(live.getLastPrice(MARKET))
+                .thenReturn(Money.krw(new BigDecimal("50000000")))
+                .thenThrow(new IllegalStateException("upbit ticker timed out"));
+        when(live.getRecentCandles(MARKET, Timeframe.M1, 5, CYCLE_1)).thenReturn(minutes(5, 5));
+        when(live.getRecentCandles(MARKET, Timeframe.M1, 5, CYCLE_2)).thenReturn(minutes(6, 5));
+
+        try (MarketDataJournalWriter writer = new MarketDataJournalWriter(journalPath, 0)) {
+            RecordingMarketDataAdapter recording = new RecordingMarketDataAdapter(live, writer, clock::get);
+            recording.getLastPrice(MARKET);
+            recording.getRecentCandles(MARKET, Timeframe.M1, 5, CYCLE_1);
+            clock.set(CYCLE_2);
+            assertThatThrownBy(() -> recording.getLastPrice(MARKET)).isInstanceOf(IllegalStateException.class);
+            recording.getRecentCandles(MARKET, Timeframe.M1, 5, CYCLE_2);
+        }
+
+        clock.set(CYCLE_1);
+        ReplayMarketDataAdapter replay = new ReplayMarketDataAdapter(properties(journalPath), clock::get);
+        assertThat(replay.getLastPrice(MARKET)).isEqualTo(Money.krw(new BigDecimal("50000000")));
+        assertThat(replay.getRecentCandles(MARKET, Timeframe.M1, 5, CYCLE_1))
+                .extracting(Candle::openTime).containsExactlyElementsOf(openTimes(minutes(5, 5)));
+        clock.set(CYCLE_2);
+        assertThatThrownBy(() -> replay.getLastPrice(MARKET))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("upbit ticker timed out");
+        List<Candle> second = replay.getRecentCandles(MARKET, Timeframe.M1, 3, CYCLE_2);
+        assertThat(second).extracting(Candle::openTime).containsExactlyElementsOf(openTimes(minutes(8, 3)));
+        assertThat(second.get(2).close().value()).isEqualByComparingTo("110.5");
+        assertThat(replay.recordedCycleTimes()).containsExactly(CYCLE_1, CYCLE_2);
+    }
+
+    @Test
+    void overlappingCandleWindowsAreStoredAsDeltasAndTornTailIsDropped() throws Exception {
+        // Verifies a sliding window costs one new candle on disk and a crash-truncated record is cut before appending.
+        Path journalPath = tempDir.resolve("md.journal");
+        long fullBytes;
+        long deltaBytes;
+        try (MarketDataJournalWriter writer = new MarketDataJournalWriter(journalPath, 0)) {
+            long before = Files.size(journalPath);
+            writer.recordCandles(CYCLE_1, MARKET, Timeframe.M1, 100, CYCLE_1, minutes(0, 100));
+            fullBytes = Files.size(journalPath) - before;
+            writer.recordCandles(CYCLE_2, MARKET, Timeframe.M1, 100, CYCLE_2, minutes(1, 100));
+            deltaBytes = Files.size(journalPath) - before - fullBytes;
+        }
+        Files.write(journalPath, new byte[]{1, 0, 0}, StandardOpenOption.APPEND);
+
+        try (MarketDataJournalWriter writer = new MarketDataJournalWriter(journalPath, 0)) {
+            writer.recordTicker(CYCLE_2.plusSeconds(30), MARKET, Money.krw(new BigDecimal("49000000")));
+        }
+        List<MarketDataJournalEntry> entries = MarketDataJournalReader.readAll(journalPath);
+
+        assertThat(deltaBytes).isLessThan(fullBytes / 20);
+        assertThat(entries).hasSize(3);
+        assertThat(entries.get(1).candles()).extracting(Candle::openTime)
+                .containsExactlyElementsOf(openTimes(minutes(1, 100)));
+        assertThat(entries.get(1).candles().get(99).close().value()).isEqualByComparingTo("200.5");
+        assertThat(entries.get(2).lastPrice()).isEqualTo(Money.krw(new BigDecimal("49000000")));
+    }
+
+    private VaultMarketDataProperties properties(Path journalPath) {
+        VaultMarketDataProperties properties = new VaultMarketDataProperties();
+        properties.getJournal().setPath(journalPath.toString());
+        return properties;
+    }
+
+    private List<Candle> minutes(int firstIndex, int count) {
+        List<Candle> candles = new ArrayList<>();
+        for (int i = firstIndex; i < firstIndex + count; i++) {
+            Price price = Price.of(new BigDecimal("100.5").add(BigDecimal.valueOf(i)), Asset.krw());
+            candles.add(new Candle(CYCLE_1.minusSeconds(60L * (10 - i)), price, price, price, price, BigDecimal.ONE));
+        }
+        return candles;
+    }
+
+    private List<Instant> openTimes(List<Candle> candles) {
+        return candles.stream().map(Candle::openTime).toList();
+    }
+}
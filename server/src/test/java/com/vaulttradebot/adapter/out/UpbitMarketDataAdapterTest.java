@@ -2,24 +2,36 @@ package com.vaulttradebot.adapter.out;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.vaulttradebot.adapter.out.upbit.TickerCoalescer;
+import com.vaulttradebot.adapter.out.upbit.UpbitCandleRangeException;
 import com.vaulttradebot.adapter.out.upbit.UpbitQuotationClient;
-import com.vaulttradebot.adapter.out.upbit.dto.UpbitMinuteCandleResponse;
 import com.vaulttradebot.adapter.out.upbit.dto.UpbitTickerResponse;
+import com.vaulttradebot.application.port.out.TradeBarPort;
+import com.vaulttradebot.config.VaultMarketDataProperties;
+import com.vaulttradebot.domain.common.CandleBuffer;
+import com.vaulttradebot.domain.common.vo.Asset;
+import com.vaulttradebot.domain.common.vo.Candle;
 import com.vaulttradebot.domain.common.vo.Market;
 import com.vaulttradebot.domain.common.vo.Money;
+import com.vaulttradebot.domain.common.vo.Price;
 import com.vaulttradebot.domain.common.vo.Timeframe;
 import java.math.BigDecimal;
 import java.time.Instant;
-import java.time.OffsetDateTime;
-import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
 
 @ExtendWith(MockitoExtension.class)
 class UpbitMarketDataAdapterTest {
@@ -27,6 +39,8 @@ class UpbitMarketDataAdapterTest {
 
     @Mock
     private UpbitQuotationClient quotationClient;
+    @Mock
+    private TradeBarPort tradeBarPort;
 
     @Test
     void mapsTickerTradePriceToKrwMoney() {
@@ -34,24 +48,60 @@ class UpbitMarketDataAdapterTest {
         when(quotationClient.getTicker("KRW-BTC"))
                 .thenReturn(new UpbitTickerResponse("KRW-BTC", new BigDecimal("50234000")));
 
-        UpbitMarketDataAdapter adapter = new UpbitMarketDataAdapter(quotationClient);
+        UpbitMarketDataAdapter adapter = adapter(nativeEndpoints());
         Money lastPrice = adapter.getLastPrice(MARKET);
 
         assertThat(lastPrice).isEqualTo(Money.krw(new BigDecimal("50234000")));
     }
 
     @Test
-    void mapsMinuteCandlesIntoAscendingDomainCandlesAndAlignsToFrame() {
-        // Verifies reverse-ordered exchange candles are normalized into ascending frame-aligned domain candles.
+    void pricesManyMarketsWithOneRequestPerChunkAndReusesFreshPrices() {
+        // Verifies 150 markets cost two ticker calls and a market priced moments ago is served from the cache.
+        List<Market> markets = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            markets.add(Market.of("KRW-C" + i));
+        }
+        List<String> codes = markets.stream().map(Market::value).toList();
+        when(quotationClient.getTicker("KRW-C0")).thenReturn(new UpbitTickerResponse("KRW-C0", new BigDecimal("1")));
+        when(quotationClient.getTickers(codes.subList(1, 101))).thenReturn(tickers(codes.subList(1, 101)));
+        when(quotationClient.getTickers(codes.subList(101, 150))).thenReturn(tickers(codes.subList(101, 150)));
+
+        UpbitMarketDataAdapter adapter = adapter(nativeEndpoints());
+        adapter.getLastPrice(markets.get(0));
+        Map<Market, Money> prices = adapter.getLastPrices(markets);
+
+        assertThat(prices.keySet()).containsExactlyElementsOf(markets);
+        assertThat(prices.get(markets.get(149))).isEqualTo(Money.krw(new BigDecimal("149")));
+        verify(quotationClient).getTickers(codes.subList(1, 101));
+        verify(quotationClient).getTickers(codes.subList(101, 150));
+    }
+
+    @Test
+    void failsBatchWhenExchangeOmitsARequestedMarket() {
+        // Verifies a partial batch answer is rejected instead of leaving a market unpriced.
+        when(quotationClient.getTickers(List.of("KRW-BTC", "KRW-ETH")))
+                .thenReturn(List.of(new UpbitTickerResponse("KRW-BTC", new BigDecimal("50000000"))));
+
+        UpbitMarketDataAdapter adapter = adapter(nativeEndpoints());
+
+        assertThatThrownBy(() -> adapter.getLastPrices(List.of(MARKET, Market.of("KRW-ETH"))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("omitted market KRW-ETH");
+    }
+
+    @Test
+    void mapsStreamedMinuteCandlesIntoDomainCandlesAndAlignsToFrame() {
+        // Verifies decoded candle rows become domain candles and the request is aligned to the frame.
         Instant now = Instant.parse("2026-03-14T10:37:21Z");
-        when(quotationClient.getMinuteCandles(eq("KRW-BTC"), eq(60), eq(3), eq(Instant.parse("2026-03-14T10:00:00Z"))))
-                .thenReturn(List.of(
-                        candle("2026-03-14T09:00:00Z", "50000000", "50100000", "49900000", "50050000", "12.3", 60),
-                        candle("2026-03-14T08:00:00Z", "49800000", "50000000", "49700000", "49900000", "10.5", 60),
-                        candle("2026-03-14T07:00:00Z", "49500000", "49850000", "49450000", "49750000", "8.1", 60)
-                ));
-
-        UpbitMarketDataAdapter adapter = new UpbitMarketDataAdapter(quotationClient);
+        when(quotationClient.readMinuteCandles(
+                eq("KRW-BTC"), eq(60), eq(3), eq(Instant.parse("2026-03-14T10:00:00Z")), any(CandleBuffer.class)))
+                .thenAnswer(rows(List.of(
+                        candle("2026-03-14T07:00:00Z", "49500000", "49850000", "49450000", "49750000", "8.1"),
+                        candle("2026-03-14T08:00:00Z", "49800000", "50000000", "49700000", "49900000", "10.5"),
+                        candle("2026-03-14T09:00:00Z", "50000000", "50100000", "49900000", "50050000", "12.3")
+                )));
+
+        UpbitMarketDataAdapter adapter = adapter(nativeEndpoints());
         var candles = adapter.getRecentCandles(MARKET, Timeframe.H1, 3, now);
 
         assertThat(candles).hasSize(3);
@@ -62,10 +112,27 @@ class UpbitMarketDataAdapterTest {
         assertThat(candles.get(2).volume()).isEqualByComparingTo("12.3");
     }
 
+    @Test
+    void rereadsPageExactlyWhenVolumeOutgrowsTheFixedPointBuffer() {
+        // Verifies a twelve-digit volume still reaches the strategy through the exact decimal path.
+        Instant now = Instant.parse("2026-03-14T10:37:21Z");
+        Instant alignedTo = Instant.parse("2026-03-14T10:00:00Z");
+        Market shib = Market.of("KRW-SHIB");
+        Candle huge = candle("2026-03-14T09:00:00Z", "0.0123", "0.0124", "0.0122", "0.0123", "123456789012.5");
+        when(quotationClient.readMinuteCandles(eq("KRW-SHIB"), eq(60), eq(1), eq(alignedTo), any(CandleBuffer.class)))
+                .thenThrow(new UpbitCandleRangeException("out of range", null));
+        when(quotationClient.getMinuteCandles("KRW-SHIB", 60, 1, alignedTo, shib.quote())).thenReturn(List.of(huge));
+
+        var candles = adapter(nativeEndpoints()).getRecentCandles(shib, Timeframe.H1, 1, now);
+
+        assertThat(candles).containsExactly(huge);
+        assertThat(candles.get(0).volume()).isEqualByComparingTo("123456789012.5");
+    }
+
     @Test
     void returnsEmptyListWhenQueryArgumentsAreInvalid() {
         // Verifies invalid candle query inputs fail closed by returning an empty list.
-        UpbitMarketDataAdapter adapter = new UpbitMarketDataAdapter(quotationClient);
+        UpbitMarketDataAdapter adapter = adapter(nativeEndpoints());
 
         assertThat(adapter.getRecentCandles(MARKET, Timeframe.M1, 0, Instant.now())).isEmpty();
         assertThat(adapter.getRecentCandles(MARKET, null, 10, Instant.now())).isEmpty();
@@ -78,31 +145,158 @@ class UpbitMarketDataAdapterTest {
         when(quotationClient.getTicker("KRW-BTC"))
                 .thenReturn(new UpbitTickerResponse("KRW-BTC", null));
 
-        UpbitMarketDataAdapter adapter = new UpbitMarketDataAdapter(quotationClient);
+        UpbitMarketDataAdapter adapter = adapter(nativeEndpoints());
 
         assertThatThrownBy(() -> adapter.getLastPrice(MARKET))
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("trade price was missing");
     }
 
-    private UpbitMinuteCandleResponse candle(
-            String openTimeUtc,
-            String open,
-            String high,
-            String low,
-            String close,
-            String volume,
-            int unit
-    ) {
-        return new UpbitMinuteCandleResponse(
-                "KRW-BTC",
-                OffsetDateTime.ofInstant(Instant.parse(openTimeUtc), ZoneOffset.UTC),
-                new BigDecimal(open),
-                new BigDecimal(high),
-                new BigDecimal(low),
-                new BigDecimal(close),
-                new BigDecimal(volume),
-                unit
+    @Test
+    void buildsHigherTimeframesFromM1CandlesWithoutExtraEndpoints() {
+        // Verifies M5 bars are folded from fetched M1 minutes on UTC bucket boundaries and only unit 1 is called.
+        Instant now = Instant.parse("2026-03-14T10:12:30Z");
+        Instant alignedTo = Instant.parse("2026-03-14T10:10:00Z");
+        when(quotationClient.readMinuteCandles(eq("KRW-BTC"), eq(1), eq(10), eq(alignedTo), any(CandleBuffer.class)))
+                .thenAnswer(rows(minutes(Instant.parse("2026-03-14T10:00:00Z"), 10, 100)));
+
+        UpbitMarketDataAdapter adapter = adapter(aggregated());
+        List<Candle> bars = adapter.getRecentCandles(MARKET, Timeframe.M5, 2, now);
+
+        assertThat(bars).hasSize(2);
+        assertThat(bars.get(0).openTime()).isEqualTo(Instant.parse("2026-03-14T10:00:00Z"));
+        assertThat(bars.get(0).open().value()).isEqualByComparingTo("100");
+        assertThat(bars.get(0).high().value()).isEqualByComparingTo("105");
+        assertThat(bars.get(0).low().value()).isEqualByComparingTo("99");
+        assertThat(bars.get(0).close().value()).isEqualByComparingTo("104");
+        assertThat(bars.get(0).volume()).isEqualByComparingTo("5");
+        assertThat(bars.get(1).openTime()).isEqualTo(Instant.parse("2026-03-14T10:05:00Z"));
+        assertThat(bars.get(1).close().value()).isEqualByComparingTo("109");
+        verify(quotationClient, never()).readMinuteCandles(eq("KRW-BTC"), eq(5), anyInt(), any(), any());
+    }
+
+    @Test
+    void servesOtherTimeframesFromCachedMinutesAndFetchesOnlyNewOnes() {
+        // Verifies a later M1 request reuses cached minutes and a newer M5 request fetches just the missing tail.
+        Instant firstAligned = Instant.parse("2026-03-14T10:10:00Z");
+        when(quotationClient.readMinuteCandles(eq("KRW-BTC"), eq(1), eq(10), eq(firstAligned), any(CandleBuffer.class)))
+                .thenAnswer(rows(minutes(Instant.parse("2026-03-14T10:00:00Z"), 10, 100)));
+        Instant laterAligned = Instant.parse("2026-03-14T10:15:00Z");
+        when(quotationClient.readMinuteCandles(eq("KRW-BTC"), eq(1), eq(5), eq(laterAligned), any(CandleBuffer.class)))
+                .thenAnswer(rows(minutes(Instant.parse("2026-03-14T10:10:00Z"), 5, 110)));
+
+        UpbitMarketDataAdapter adapter = adapter(aggregated());
+        List<Candle> fiveMinute = adapter.getRecentCandles(MARKET, Timeframe.M5, 2, Instant.parse("2026-03-14T10:10:00Z"));
+        List<Candle> oneMinute = adapter.getRecentCandles(MARKET, Timeframe.M1, 5, Instant.parse("2026-03-14T10:10:00Z"));
+        List<Candle> later = adapter.getRecentCandles(MARKET, Timeframe.M5, 3, Instant.parse("2026-03-14T10:15:10Z"));
+
+        assertThat(oneMinute).hasSize(5);
+        assertThat(oneMinute.get(4).close()).isEqualTo(fiveMinute.get(1).close());
+        assertThat(later).extracting(Candle::openTime).containsExactly(
+                Instant.parse("2026-03-14T10:00:00Z"),
+                Instant.parse("2026-03-14T10:05:00Z"),
+                Instant.parse("2026-03-14T10:10:00Z")
+        );
+        assertThat(later.get(2).close().value()).isEqualByComparingTo("114");
+        verify(quotationClient).readMinuteCandles(eq("KRW-BTC"), eq(1), eq(10), eq(firstAligned), any());
+        verify(quotationClient).readMinuteCandles(eq("KRW-BTC"), eq(1), eq(5), eq(laterAligned), any());
+    }
+
+    @Test
+    void coldSeriesFetchesAtMostThePageCapAndWarmsOverLaterCalls() {
+        // Verifies a cold request stops at max-backfill-pages with the bars it has and the next call extends history.
+        Instant alignedTo = Instant.parse("2026-03-14T10:00:00Z");
+        Instant coveredFrom = Instant.parse("2026-03-14T06:40:00Z");
+        when(quotationClient.readMinuteCandles(eq("KRW-BTC"), eq(1), eq(200), eq(alignedTo), any(CandleBuffer.class)))
+                .thenAnswer(rows(minutes(coveredFrom, 200, 2000)));
+        when(quotationClient.readMinuteCandles(eq("KRW-BTC"), eq(1), eq(100), eq(coveredFrom), any(CandleBuffer.class)))
+                .thenAnswer(rows(minutes(Instant.parse("2026-03-14T05:00:00Z"), 100, 1000)));
+        VaultMarketDataProperties properties = aggregated();
+        properties.getUpbit().getAggregation().setMaxBackfillPages(1);
+        UpbitMarketDataAdapter adapter = adapter(properties);
+
+        List<Candle> cold = adapter.getRecentCandles(MARKET, Timeframe.H1, 5, Instant.parse("2026-03-14T10:37:21Z"));
+        List<Candle> warm = adapter.getRecentCandles(MARKET, Timeframe.H1, 5, Instant.parse("2026-03-14T10:38:02Z"));
+
+        assertThat(cold).extracting(Candle::openTime).containsExactly(
+                Instant.parse("2026-03-14T07:00:00Z"),
+                Instant.parse("2026-03-14T08:00:00Z"),
+                Instant.parse("2026-03-14T09:00:00Z")
+        );
+        assertThat(warm).hasSize(5);
+        assertThat(warm.get(0).openTime()).isEqualTo(Instant.parse("2026-03-14T05:00:00Z"));
+        verify(quotationClient).readMinuteCandles(eq("KRW-BTC"), eq(1), eq(200), eq(alignedTo), any());
+        verify(quotationClient).readMinuteCandles(eq("KRW-BTC"), eq(1), eq(100), eq(coveredFrom), any());
+    }
+
+    @Test
+    void subMinuteTimeframesAreServedFromTradeTapeWithoutRest() {
+        // Verifies S5 bars come from the locally folded trade tape and never hit the candle endpoint.
+        Instant now = Instant.parse("2026-03-14T10:00:07Z");
+        List<Candle> bars = List.of(candle("2026-03-14T10:00:00Z", "100", "101", "99", "100", "0.5"));
+        when(tradeBarPort.recentBars(MARKET, Timeframe.S5, 20, now)).thenReturn(bars);
+
+        List<Candle> candles = adapter(nativeEndpoints()).getRecentCandles(MARKET, Timeframe.S5, 20, now);
+
+        assertThat(candles).isEqualTo(bars);
+        verify(quotationClient, never()).readMinuteCandles(any(), anyInt(), anyInt(), any(), any());
+    }
+
+    private UpbitMarketDataAdapter adapter(VaultMarketDataProperties properties) {
+        return new UpbitMarketDataAdapter(quotationClient, new TickerCoalescer(properties), tradeBarPort, properties);
+    }
+
+    private List<UpbitTickerResponse> tickers(List<String> codes) {
+        return codes.stream()
+                .map(code -> new UpbitTickerResponse(code, new BigDecimal(code.substring("KRW-C".length()))))
+                .toList();
+    }
+
+    private VaultMarketDataProperties nativeEndpoints() {
+        VaultMarketDataProperties properties = new VaultMarketDataProperties();
+        properties.getUpbit().getAggregation().setEnabled(false);
+        return properties;
+    }
+
+    private VaultMarketDataProperties aggregated() {
+        VaultMarketDataProperties properties = new VaultMarketDataProperties();
+        properties.getUpbit().getAggregation().setEnabled(true);
+        return properties;
+    }
+
+    private Answer<Integer> rows(List<Candle> candles) {
+        return invocation -> {
+            CandleBuffer into = invocation.getArgument(4);
+            candles.forEach(into::add);
+            return candles.size();
+        };
+    }
+
+    private List<Candle> minutes(Instant firstOpen, int count, int firstClose) {
+        // Each minute closes one tick higher with a one-tick wick each side.
+        List<Candle> candles = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int close = firstClose + i;
+            candles.add(candle(
+                    firstOpen.plusSeconds(60L * i).toString(),
+                    String.valueOf(close),
+                    String.valueOf(close + 1),
+                    String.valueOf(close - 1),
+                    String.valueOf(close),
+                    "1"
+            ));
+        }
+        return candles;
+    }
+
+    private Candle candle(String openTimeUtc, String open, String high, String low, String close, String volume) {
+        return new Candle(
+                Instant.parse(openTimeUtc),
+                Price.of(new BigDecimal(open), Asset.krw()),
+                Price.of(new BigDecimal(high), Asset.krw()),
+                Price.of(new BigDecimal(low), Asset.krw()),
+                Price.of(new BigDecimal(close), Asset.krw()),
+                new BigDecimal(volume)
         );
     }
 }
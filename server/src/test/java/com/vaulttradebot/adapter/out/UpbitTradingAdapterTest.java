@@ -3,11 +3,20 @@ package com.vaulttradebot.adapter.out;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.vaulttradebot.adapter.out.upbit.UpbitTradingClient;
+import com.vaulttradebot.adapter.out.upbit.dto.UpbitBatchCancelResponse;
+import com.vaulttradebot.adapter.out.upbit.dto.UpbitCancelAndNewRequest;
+import com.vaulttradebot.adapter.out.upbit.dto.UpbitCancelAndNewResponse;
 import com.vaulttradebot.adapter.out.upbit.dto.UpbitOrderResponse;
+import com.vaulttradebot.application.port.out.ExchangeTradingPort;
+import com.vaulttradebot.config.VaultTradingProperties;
 import com.vaulttradebot.domain.common.vo.Market;
 import com.vaulttradebot.domain.common.vo.Money;
 import com.vaulttradebot.domain.common.vo.Side;
@@ -15,8 +24,12 @@ import com.vaulttradebot.domain.execution.Order;
 import com.vaulttradebot.domain.execution.vo.OrderStatus;
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -49,7 +62,7 @@ class UpbitTradingAdapterTest {
                         "0"
                 ));
 
-        UpbitTradingAdapter adapter = new UpbitTradingAdapter(tradingClient);
+        UpbitTradingAdapter adapter = new UpbitTradingAdapter(tradingClient, new VaultTradingProperties());
         Order placed = adapter.placeOrder(order);
 
         assertThat(placed.status()).isEqualTo(OrderStatus.OPEN);
@@ -81,7 +94,7 @@ class UpbitTradingAdapterTest {
                         "0.02"
                 ));
 
-        UpbitTradingAdapter adapter = new UpbitTradingAdapter(tradingClient);
+        UpbitTradingAdapter adapter = new UpbitTradingAdapter(tradingClient, new VaultTradingProperties());
         Order placed = adapter.placeOrder(order);
 
         assertThat(placed.status()).isEqualTo(OrderStatus.FILLED);
@@ -111,10 +124,151 @@ class UpbitTradingAdapterTest {
                 0L
         );
 
-        UpbitTradingAdapter adapter = new UpbitTradingAdapter(tradingClient);
+        UpbitTradingAdapter adapter = new UpbitTradingAdapter(tradingClient, new VaultTradingProperties());
 
         assertThatThrownBy(() -> adapter.placeOrder(marketOrder))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("limit orders only");
     }
+
+    @Test
+    void cancelOrdersBatchesAndFallsBackToSingleCancelsForUnsentBatches() {
+        // Verifies batch cancels settle per uuid and a failed batch request is retried as individual cancels.
+        VaultTradingProperties properties = new VaultTradingProperties();
+        properties.getUpbit().getMassCancel().setBatchSize(2);
+        properties.getUpbit().getMassCancel().setRequestsPerSecond(1_000);
+        when(tradingClient.cancelOrders(List.of("u-1", "u-2"))).thenReturn(new UpbitBatchCancelResponse(
+                new UpbitBatchCancelResponse.Outcome(1, List.of(new UpbitBatchCancelResponse.CanceledOrder("u-1", "KRW-BTC", null))),
+                new UpbitBatchCancelResponse.Outcome(1, List.of(new UpbitBatchCancelResponse.CanceledOrder("u-2", "KRW-BTC", null)))
+        ));
+        when(tradingClient.cancelOrders(List.of("u-3"))).thenThrow(new IllegalStateException("batch endpoint unavailable"));
+        when(tradingClient.cancelOrder("u-3")).thenReturn(cancelResponse("u-3"));
+        List<String> progress = Collections.synchronizedList(new ArrayList<>());
+
+        UpbitTradingAdapter adapter = new UpbitTradingAdapter(tradingClient, properties);
+        ExchangeTradingPort.MassCancelResult result = adapter.cancelOrders(List.of("u-1", "u-2", "u-3"), (orderId, error) -> progress.add(orderId));
+
+        assertThat(result.canceled()).containsExactlyInAnyOrder("u-1", "u-3");
+        assertThat(result.failed()).containsOnlyKeys("u-2");
+        assertThat(result.exchangeCalls()).isEqualTo(3);
+        assertThat(progress).containsExactlyInAnyOrder("u-1", "u-2", "u-3");
+        verify(tradingClient, times(2)).cancelOrders(anyList());
+        adapter.shutdown();
+    }
+
+    @Test
+    void replaceOrderUsesCancelAndNewAndSizesTheNewOrderAfterRacingFills() {
+        // Verifies a re-price goes out as one cancel_and_new call and the new order reflects fills that beat the cancel.
+        Order existing = Order.create(
+                Market.of("KRW-BTC"),
+                Side.BUY,
+                new BigDecimal("0.01"),
+                Money.krw(new BigDecimal("50000000")),
+                Instant.parse("2026-03-15T00:00:00Z")
+        );
+        existing.acceptByExchange();
+        existing.bindExchangeOrderId("upbit-uuid");
+        when(tradingClient.cancelAndNew(any())).thenReturn(new UpbitCancelAndNewResponse(
+                "upbit-uuid", "wait", "KRW-BTC", "0.004", "0.006", "upbit-uuid-2"));
+        when(tradingClient.getOrder("upbit-uuid")).thenReturn(new UpbitOrderResponse(
+                "upbit-uuid", null, "cancel", "bid", "KRW-BTC", "50000000", "50000000", "0", "0", "0.004"));
+
+        UpbitTradingAdapter adapter = new UpbitTradingAdapter(tradingClient, new VaultTradingProperties());
+        ExchangeTradingPort.ReplaceResult result = adapter.replaceOrder(existing, new BigDecimal("0.01"), quantity -> Order.create(
+                Market.of("KRW-BTC"),
+                Side.BUY,
+                quantity,
+                Money.krw(new BigDecimal("49000000")),
+                Instant.parse("2026-03-15T00:01:00Z")
+        ));
+
+        assertThat(result.replaced().status()).isEqualTo(OrderStatus.CANCELED);
+        assertThat(result.replaced().executedQuantity().value()).isEqualByComparingTo("0.004");
+        assertThat(result.placed().exchangeOrderId()).isEqualTo("upbit-uuid-2");
+        assertThat(result.placed().quantity()).isEqualByComparingTo("0.006");
+        assertThat(result.placed().status()).isEqualTo(OrderStatus.OPEN);
+        verify(tradingClient, never()).cancelOrder(anyString());
+        verify(tradingClient, never()).placeLimitOrder(any());
+        adapter.shutdown();
+    }
+
+    @Test
+    void replaceOrderCancelsTheNewOrderWhenFillsLeftNothingToPlace() {
+        // Verifies fills that used up the whole quantity during cancel_and_new cancel the new order instead of sizing it at zero.
+        Order existing = Order.create(
+                Market.of("KRW-BTC"),
+                Side.BUY,
+                new BigDecimal("0.01"),
+                Money.krw(new BigDecimal("50000000")),
+                Instant.parse("2026-03-15T00:00:00Z")
+        );
+        existing.acceptByExchange();
+        existing.bindExchangeOrderId("upbit-uuid");
+        when(tradingClient.cancelAndNew(any())).thenReturn(new UpbitCancelAndNewResponse(
+                "upbit-uuid", "wait", "KRW-BTC", "0", "0.01", "upbit-uuid-2"));
+        when(tradingClient.getOrder("upbit-uuid")).thenReturn(new UpbitOrderResponse(
+                "upbit-uuid", null, "done", "bid", "KRW-BTC", "50000000", "50000000", "0", "0", "0.01"));
+        when(tradingClient.cancelOrder("upbit-uuid-2")).thenReturn(cancelResponse("upbit-uuid-2"));
+        List<BigDecimal> built = new ArrayList<>();
+
+        UpbitTradingAdapter adapter = new UpbitTradingAdapter(tradingClient, new VaultTradingProperties());
+        ExchangeTradingPort.ReplaceResult result = adapter.replaceOrder(existing, new BigDecimal("0.01"), quantity -> {
+            built.add(quantity);
+            return Order.create(
+                    Market.of("KRW-BTC"),
+                    Side.BUY,
+                    quantity,
+                    Money.krw(new BigDecimal("49000000")),
+                    Instant.parse("2026-03-15T00:01:00Z")
+            );
+        });
+
+        assertThat(result.replaced().status()).isEqualTo(OrderStatus.FILLED);
+        assertThat(result.placed()).isNull();
+        assertThat(result.placeError()).isNull();
+        assertThat(built).containsExactly(new BigDecimal("0.01"));
+        verify(tradingClient).cancelOrder("upbit-uuid-2");
+        adapter.shutdown();
+    }
+
+    @Test
+    void replaceOrderAdoptsTheNewOrderWhenTheCancelAndNewResponseIsLost() {
+        // Verifies a cancel_and_new that landed but lost its response is recovered through its identifier, not re-placed.
+        Order existing = Order.create(
+                Market.of("KRW-BTC"),
+                Side.BUY,
+                new BigDecimal("0.01"),
+                Money.krw(new BigDecimal("50000000")),
+                Instant.parse("2026-03-15T00:00:00Z")
+        );
+        existing.acceptByExchange();
+        existing.bindExchangeOrderId("upbit-uuid");
+        ArgumentCaptor<UpbitCancelAndNewRequest> request = ArgumentCaptor.forClass(UpbitCancelAndNewRequest.class);
+        when(tradingClient.cancelAndNew(request.capture())).thenThrow(new IllegalStateException("read timed out"));
+        when(tradingClient.findOrderByIdentifier(anyString())).thenReturn(new UpbitOrderResponse(
+                "upbit-uuid-2", null, "wait", "bid", "KRW-BTC", "49000000", "0", "0", "0.01", "0"));
+        when(tradingClient.getOrder("upbit-uuid")).thenReturn(new UpbitOrderResponse(
+                "upbit-uuid", null, "cancel", "bid", "KRW-BTC", "50000000", "0", "0", "0.01", "0"));
+
+        UpbitTradingAdapter adapter = new UpbitTradingAdapter(tradingClient, new VaultTradingProperties());
+        ExchangeTradingPort.ReplaceResult result = adapter.replaceOrder(existing, new BigDecimal("0.01"), quantity -> Order.create(
+                Market.of("KRW-BTC"),
+                Side.BUY,
+                quantity,
+                Money.krw(new BigDecimal("49000000")),
+                Instant.parse("2026-03-15T00:01:00Z")
+        ));
+
+        assertThat(result.replaced().status()).isEqualTo(OrderStatus.CANCELED);
+        assertThat(result.placed().exchangeOrderId()).isEqualTo("upbit-uuid-2");
+        assertThat(result.placed().status()).isEqualTo(OrderStatus.OPEN);
+        assertThat(request.getValue().newIdentifier()).isEqualTo(result.placed().idempotencyKey().value());
+        verify(tradingClient).findOrderByIdentifier(result.placed().idempotencyKey().value());
+        verify(tradingClient, never()).placeLimitOrder(any());
+        adapter.shutdown();
+    }
+
+    private UpbitOrderResponse cancelResponse(String uuid) {
+        return new UpbitOrderResponse(uuid, null, "wait", "bid", "KRW-BTC", "50000000", "0", "0", "0.01", "0");
+    }
 }
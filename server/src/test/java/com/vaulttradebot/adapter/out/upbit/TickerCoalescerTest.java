@@ -0,0 +1,154 @@
+package com.vaulttradebot.adapter.out.upbit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.vaulttradebot.application.query.TickerCacheSnapshot;
+import com.vaulttradebot.config.VaultMarketDataProperties;
+import com.vaulttradebot.domain.common.vo.Money;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class TickerCoalescerTest {
+    private static final Money PRICE = Money.krw(new BigDecimal("50000000"));
+
+    @Test
+    void concurrentCallersShareOneInFlightRequest() throws Exception {
+        // Verifies callers arriving while a lookup is running wait for it instead of issuing their own.
+        TickerCoalescer coalescer = new TickerCoalescer(properties(0));
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Money>> results = new ArrayList<>();
+            results.add(callers.submit(() -> coalescer.lastPrice("KRW-BTC", () -> {
+                upstreamCalls.incrementAndGet();
+                entered.countDown();
+                await(release);
+                return PRICE;
+            })));
+            assertThat(entered.await(2, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 3; i++) {
+                results.add(callers.submit(() -> coalescer.lastPrice("KRW-BTC", () -> {
+                    upstreamCalls.incrementAndGet();
+                    return PRICE;
+                })));
+            }
+            waitForCoalesced(coalescer, 3);
+            release.countDown();
+
+            for (Future<Money> result : results) {
+                assertThat(result.get(2, TimeUnit.SECONDS)).isEqualTo(PRICE);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        TickerCacheSnapshot stats = coalescer.tickerCache();
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.coalesced()).isEqualTo(3);
+        assertThat(stats.inFlight()).isZero();
+    }
+
+    @Test
+    void reusesResultOnlyWithinFreshnessWindowAndPerMarket() {
+        // Verifies a fresh price is served from cache, other markets still go upstream, and zero freshness never caches.
+        TickerCoalescer cached = new TickerCoalescer(properties(60_000));
+        AtomicInteger upstreamCalls = new AtomicInteger();
+
+        cached.lastPrice("KRW-BTC", () -> countAndReturn(upstreamCalls));
+        cached.lastPrice("KRW-BTC", () -> countAndReturn(upstreamCalls));
+        cached.lastPrice("KRW-ETH", () -> countAndReturn(upstreamCalls));
+
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(cached.tickerCache().hits()).isEqualTo(1);
+
+        TickerCoalescer uncached = new TickerCoalescer(properties(0));
+        uncached.lastPrice("KRW-BTC", () -> countAndReturn(upstreamCalls));
+        uncached.lastPrice("KRW-BTC", () -> countAndReturn(upstreamCalls));
+        assertThat(upstreamCalls).hasValue(4);
+        assertThat(uncached.tickerCache().hits()).isZero();
+    }
+
+    @Test
+    void failuresAreNotCachedAndReachTheCaller() {
+        // Verifies an upstream error propagates unchanged and the next call retries upstream.
+        TickerCoalescer coalescer = new TickerCoalescer(properties(60_000));
+
+        assertThatThrownBy(() -> coalescer.lastPrice("KRW-BTC", () -> {
+            throw new IllegalStateException("upbit ticker response was empty");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("upbit ticker response was empty");
+
+        assertThat(coalescer.lastPrice("KRW-BTC", () -> PRICE)).isEqualTo(PRICE);
+        assertThat(coalescer.tickerCache().failures()).isEqualTo(1);
+        assertThat(coalescer.tickerCache().misses()).isEqualTo(2);
+    }
+
+    @Test
+    void leaderErrorReleasesWaitingFollowers() throws Exception {
+        // Verifies an Error thrown by the leader's lookup reaches followers instead of leaving them parked on the flight.
+        TickerCoalescer coalescer = new TickerCoalescer(properties(0));
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            Future<Money> leader = callers.submit(() -> coalescer.lastPrice("KRW-BTC", () -> {
+                entered.countDown();
+                await(release);
+                throw new OutOfMemoryError("response buffer");
+            }));
+            assertThat(entered.await(2, TimeUnit.SECONDS)).isTrue();
+            Future<Money> follower = callers.submit(() -> coalescer.lastPrice("KRW-BTC", () -> PRICE));
+            waitForCoalesced(coalescer, 1);
+            release.countDown();
+
+            assertThatThrownBy(() -> follower.get(2, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(OutOfMemoryError.class);
+            assertThatThrownBy(() -> leader.get(2, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(OutOfMemoryError.class);
+        } finally {
+            callers.shutdownNow();
+        }
+
+        assertThat(coalescer.tickerCache().failures()).isEqualTo(1);
+        assertThat(coalescer.tickerCache().inFlight()).isZero();
+    }
+
+    private Money countAndReturn(AtomicInteger upstreamCalls) {
+        upstreamCalls.incrementAndGet();
+        return PRICE;
+    }
+
+    private void waitForCoalesced(TickerCoalescer coalescer, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (coalescer.tickerCache().coalesced() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private VaultMarketDataProperties properties(long freshnessMs) {
+        VaultMarketDataProperties properties = new VaultMarketDataProperties();
+        properties.getUpbit().getTickerCache().setFreshnessMs(freshnessMs);
+        return properties;
+    }
+}
@@ -0,0 +1,144 @@
+package com.vaulttradebot.adapter.out.upbit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpServer;
+import com.vaulttradebot.application.query.HttpEndpointSnapshot;
+import com.vaulttradebot.config.VaultHttpTransportProperties;
+import com.vaulttradebot.domain.resilience.Deadline;
+import com.vaulttradebot.domain.resilience.DeadlineExceededException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+class UpbitHttpTransportTest {
+    private HttpServer server;
+    private String baseUrl;
+    private final AtomicInteger pings = new AtomicInteger(0);
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/ticker", exchange -> {
+            byte[] body = "[]".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(1_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.createContext("/ping", exchange -> {
+            pings.incrementAndGet();
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void countsColdThenWarmRequestsWithTimeoutsPerEndpoint() {
+        // Verifies the first exchange is cold, follow-ups inside the idle window are warm, and timeouts are reported.
+        UpbitHttpTransport transport = new UpbitHttpTransport(properties(false));
+        VaultHttpTransportProperties.Endpoint timeouts = new VaultHttpTransportProperties.Endpoint();
+        timeouts.setConnectTimeoutMs(700);
+        timeouts.setReadTimeoutMs(1_500);
+        RestClient client = transport.restClient("upbit-quotation", baseUrl, timeouts, RestClient.builder());
+
+        for (int i = 0; i < 3; i++) {
+            client.get().uri("/v1/ticker?markets=KRW-BTC").retrieve().body(String.class);
+        }
+        HttpEndpointSnapshot snapshot = transport.httpTransport().endpoints().get(0);
+        transport.close();
+
+        assertThat(snapshot.name()).isEqualTo("upbit-quotation");
+        assertThat(snapshot.connectTimeoutMs()).isEqualTo(700);
+        assertThat(snapshot.readTimeoutMs()).isEqualTo(1_500);
+        assertThat(snapshot.requests()).isEqualTo(3);
+        assertThat(snapshot.coldRequests()).isEqualTo(1);
+        assertThat(snapshot.warmRequests()).isEqualTo(2);
+        assertThat(snapshot.failures()).isZero();
+        assertThat(snapshot.maxLatencyMs()).isGreaterThanOrEqualTo(snapshot.p50LatencyMs());
+    }
+
+    @Test
+    void readCutShortByTheCallersDeadlineIsReportedAsDeadlineNotFailure() {
+        // Verifies a read timeout shrunk to the deadline surfaces as DeadlineExceededException and is not an endpoint failure.
+        UpbitHttpTransport transport = new UpbitHttpTransport(properties(false));
+        VaultHttpTransportProperties.Endpoint timeouts = new VaultHttpTransportProperties.Endpoint();
+        timeouts.setReadTimeoutMs(5_000);
+        RestClient client = transport.restClient("upbit-quotation", baseUrl, timeouts, RestClient.builder());
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> Deadline.after(Duration.ofMillis(150)).run(
+                () -> client.get().uri("/slow").retrieve().toBodilessEntity()))
+                .isInstanceOf(DeadlineExceededException.class)
+                .hasMessage("deadline exceeded: upbit-quotation GET /slow")
+                .hasCauseInstanceOf(java.io.IOException.class);
+        HttpEndpointSnapshot snapshot = transport.httpTransport().endpoints().get(0);
+        transport.close();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(1));
+        assertThat(snapshot.failures()).isZero();
+    }
+
+    @Test
+    void keepAlivePrewarmsIdleEndpointsOnly() {
+        // Verifies a never-used endpoint is pinged, after which its first real request already counts as warm.
+        UpbitHttpTransport transport = new UpbitHttpTransport(properties(true));
+        RestClient client = transport.restClient(
+                "upbit-trading", baseUrl, new VaultHttpTransportProperties.Endpoint(), RestClient.builder());
+
+        int firstRun = transport.keepAlive();
+        int secondRun = transport.keepAlive();
+        client.get().uri("/v1/ticker?markets=KRW-BTC").retrieve().body(String.class);
+        HttpEndpointSnapshot snapshot = transport.httpTransport().endpoints().get(0);
+        transport.close();
+
+        assertThat(firstRun).isEqualTo(1);
+        assertThat(secondRun).isZero();
+        assertThat(pings.get()).isEqualTo(1);
+        assertThat(snapshot.keepAlivePings()).isEqualTo(1);
+        assertThat(snapshot.warmRequests()).isEqualTo(1);
+        assertThat(snapshot.coldRequests()).isZero();
+    }
+
+    @Test
+    void rejectsDuplicateEndpointNames() {
+        // Verifies each endpoint owns exactly one pool so metrics never mix two clients.
+        UpbitHttpTransport transport = new UpbitHttpTransport(properties(false));
+        VaultHttpTransportProperties.Endpoint timeouts = new VaultHttpTransportProperties.Endpoint();
+        transport.restClient("upbit-quotation", baseUrl, timeouts, RestClient.builder());
+
+        assertThatThrownBy(() -> transport.restClient("upbit-quotation", baseUrl, timeouts, RestClient.builder()))
+                .isInstanceOf(IllegalStateException.class);
+        transport.close();
+    }
+
+    private VaultHttpTransportProperties properties(boolean keepAlive) {
+        VaultHttpTransportProperties properties = new VaultHttpTransportProperties();
+        // The loopback test server speaks plain HTTP/1.1.
+        properties.setHttp2(false);
+        properties.getKeepAlive().setEnabled(keepAlive);
+        properties.getKeepAlive().setPath("/ping");
+        return properties;
+    }
+}
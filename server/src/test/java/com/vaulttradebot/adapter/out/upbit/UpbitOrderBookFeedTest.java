@@ -0,0 +1,110 @@
+package com.vaulttradebot.adapter.out.upbit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.vaulttradebot.adapter.out.upbit.mapper.UpbitOrderBookDecoder;
+import com.vaulttradebot.application.port.out.ClockPort;
+import com.vaulttradebot.application.query.OrderBookFeedSnapshot;
+import com.vaulttradebot.config.VaultMarketDataProperties;
+import com.vaulttradebot.domain.common.vo.Market;
+import com.vaulttradebot.domain.common.vo.TopOfBook;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+
+class UpbitOrderBookFeedTest {
+    private static final Market MARKET = Market.of("KRW-BTC");
+    private static final Instant NOW = Instant.parse("2026-03-14T09:00:00Z");
+    private static final String BOOK = """
+            [{"market":"KRW-BTC","timestamp":1773478800000,"orderbook_units":[
+              {"ask_price":50010000,"bid_price":50000000,"ask_size":0.3,"bid_size":0.8},
+              {"ask_price":50020000,"bid_price":49990000,"ask_size":1.0,"bid_size":1.0}]}]
+            """;
+
+    private final UpbitQuotationClient quotationClient = mock(UpbitQuotationClient.class);
+    private final AtomicReference<Instant> now = new AtomicReference<>(NOW);
+    private final ClockPort clock = now::get;
+
+    @Test
+    void firstReadTracksMarketAndRestSeedMakesItFresh() {
+        // Verifies an unseen market reads empty, gets seeded over REST, then serves its top of book.
+        when(quotationClient.readOrderBooks(anyCollection(), any(), any())).thenAnswer(restBody(BOOK));
+        UpbitOrderBookFeed feed = new UpbitOrderBookFeed(quotationClient, clock, new VaultMarketDataProperties());
+
+        assertThat(feed.topOfBook(MARKET)).isEmpty();
+        assertThat(feed.seedStale()).isEqualTo(1);
+
+        TopOfBook top = feed.topOfBook(MARKET).orElseThrow();
+        assertThat(top.bestBid().amount()).isEqualByComparingTo("50000000");
+        assertThat(top.bestAsk().amount()).isEqualByComparingTo("50010000");
+        assertThat(top.asOf()).isEqualTo(Instant.ofEpochMilli(1773478800000L));
+        OrderBookFeedSnapshot snapshot = feed.orderBookFeed();
+        assertThat(snapshot.markets()).containsExactly("KRW-BTC");
+        assertThat(snapshot.restSnapshots()).isEqualTo(1);
+        assertThat(snapshot.freshReads()).isEqualTo(1);
+        assertThat(snapshot.staleReads()).isEqualTo(1);
+    }
+
+    @Test
+    void staleBookIsWithheldUntilReseeded() {
+        // Verifies a book older than stale-after-ms is not served and is picked up by the next seed.
+        when(quotationClient.readOrderBooks(anyCollection(), any(), any())).thenAnswer(restBody(BOOK));
+        UpbitOrderBookFeed feed = new UpbitOrderBookFeed(quotationClient, clock, new VaultMarketDataProperties());
+        feed.topOfBook(MARKET);
+        feed.seedStale();
+
+        now.set(NOW.plusSeconds(4));
+        assertThat(feed.topOfBook(MARKET)).isEmpty();
+
+        assertThat(feed.seedStale()).isEqualTo(1);
+        assertThat(feed.topOfBook(MARKET)).isPresent();
+    }
+
+    @Test
+    void crossedUpdateRetractsPublishedBook() {
+        // Verifies a crossed snapshot stops serving the previous top instead of leaving it in place.
+        when(quotationClient.readOrderBooks(anyCollection(), any(), any())).thenAnswer(restBody(BOOK));
+        UpbitOrderBookFeed feed = new UpbitOrderBookFeed(quotationClient, clock, new VaultMarketDataProperties());
+        feed.topOfBook(MARKET);
+        feed.seedStale();
+
+        when(quotationClient.readOrderBooks(anyCollection(), any(), any())).thenAnswer(restBody("""
+                [{"market":"KRW-BTC","orderbook_units":[{"ask_price":100,"bid_price":101,"ask_size":1,"bid_size":1}]}]
+                """));
+        now.set(NOW.plusSeconds(4));
+        feed.seedStale();
+
+        assertThat(feed.topOfBook(MARKET)).isEmpty();
+    }
+
+    @Test
+    void disabledFeedNeverTracksMarkets() {
+        // Verifies a disabled feed answers empty without registering markets for subscription.
+        VaultMarketDataProperties properties = new VaultMarketDataProperties();
+        properties.getOrderBook().setEnabled(false);
+        UpbitOrderBookFeed feed = new UpbitOrderBookFeed(quotationClient, clock, properties);
+
+        assertThat(feed.topOfBook(MARKET)).isEmpty();
+        feed.maintain();
+
+        assertThat(feed.orderBookFeed().enabled()).isFalse();
+        assertThat(feed.orderBookFeed().markets()).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Answer<Integer> restBody(String json) {
+        return invocation -> UpbitOrderBookDecoder.decode(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)),
+                invocation.getArgument(1, UpbitOrderBookDecoder.Frame.class),
+                invocation.getArgument(2, Consumer.class)
+        );
+    }
+}
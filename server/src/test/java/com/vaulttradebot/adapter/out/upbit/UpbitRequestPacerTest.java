@@ -0,0 +1,42 @@
+package com.vaulttradebot.adapter.out.upbit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.vaulttradebot.domain.resilience.Deadline;
+import com.vaulttradebot.domain.resilience.DeadlineExceededException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class UpbitRequestPacerTest {
+    @Test
+    void spacesBurstsToTheConfiguredRate() {
+        // Verifies five back-to-back requests at 20 req/s take at least four 50 ms intervals.
+        UpbitRequestPacer pacer = new UpbitRequestPacer("upbit-quotation", 20);
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            pacer.acquire();
+        }
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(190L);
+    }
+
+    @Test
+    void slotPastTheCallersDeadlineFailsWithoutBeingTaken() {
+        // Verifies a caller that cannot wait for its slot fails at once and leaves the slot for the next caller.
+        UpbitRequestPacer pacer = new UpbitRequestPacer("upbit-quotation", 2);
+        pacer.acquire();
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> Deadline.after(Duration.ofMillis(50)).run(() -> {
+            pacer.acquire();
+            return null;
+        })).isInstanceOf(DeadlineExceededException.class).hasMessageContaining("upbit-quotation pacing");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(250L);
+
+        pacer.acquire();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(900L);
+    }
+}
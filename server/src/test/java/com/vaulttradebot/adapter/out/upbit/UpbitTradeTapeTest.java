@@ -0,0 +1,106 @@
+package com.vaulttradebot.adapter.out.upbit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.vaulttradebot.adapter.out.upbit.mapper.UpbitTradeDecoder;
+import com.vaulttradebot.application.port.out.ClockPort;
+import com.vaulttradebot.application.query.TradeTapeSnapshot;
+import com.vaulttradebot.config.VaultMarketDataProperties;
+import com.vaulttradebot.domain.common.vo.Candle;
+import com.vaulttradebot.domain.common.vo.Market;
+import com.vaulttradebot.domain.common.vo.Timeframe;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class UpbitTradeTapeTest {
+    private static final Market MARKET = Market.of("KRW-BTC");
+    private static final Instant T0 = Instant.parse("2026-03-14T09:00:00Z");
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(T0);
+    private final ClockPort clock = now::get;
+
+    @Test
+    void streamedTradesBecomeBarsThatReachHistoryAndListeners() throws IOException {
+        // Verifies decoded trades fold into 1s bars, flush closes them and listeners see every closed bar.
+        UpbitTradeTape tape = new UpbitTradeTape(clock, properties(List.of(Timeframe.S1)));
+        List<Candle> heard = new ArrayList<>();
+        tape.addBarCloseListener((market, timeframe, bar) -> heard.add(bar));
+        tape.track(MARKET);
+
+        stream(tape, trade("KRW-BTC", T0.toEpochMilli() + 100, "50000000", "0.1"));
+        stream(tape, shortTrade("KRW-BTC", T0.toEpochMilli() + 700, "50010000", "0.2"));
+        stream(tape, trade("KRW-ETH", T0.toEpochMilli() + 800, "3000000", "1"));
+        now.set(T0.plusMillis(2_300));
+        tape.flush();
+
+        List<Candle> bars = tape.recentBars(MARKET, Timeframe.S1, 10, now.get());
+        assertThat(bars).extracting(Candle::openTime).containsExactly(T0, T0.plusSeconds(1));
+        assertThat(bars.get(0).high().value()).isEqualByComparingTo("50010000");
+        assertThat(bars.get(0).volume()).isEqualByComparingTo("0.3");
+        assertThat(bars.get(1).volume()).isEqualByComparingTo("0");
+        assertThat(heard).hasSize(2);
+        TradeTapeSnapshot snapshot = tape.tradeTape();
+        assertThat(snapshot.markets()).containsExactly("KRW-BTC");
+        assertThat(snapshot.trades()).isEqualTo(2);
+        assertThat(snapshot.barsClosed()).isEqualTo(2);
+    }
+
+    @Test
+    void lateTradesAndFailingListenersAreCountedNotFatal() throws IOException {
+        // Verifies a trade older than the forming bar is dropped and a throwing listener does not block history.
+        UpbitTradeTape tape = new UpbitTradeTape(clock, properties(List.of(Timeframe.S1, Timeframe.S5)));
+        tape.addBarCloseListener((market, timeframe, bar) -> {
+            throw new IllegalStateException("boom");
+        });
+        tape.track(MARKET);
+
+        stream(tape, trade("KRW-BTC", T0.toEpochMilli() + 1_500, "100", "1"));
+        stream(tape, trade("KRW-BTC", T0.toEpochMilli() + 200, "99", "1"));
+        stream(tape, trade("KRW-BTC", T0.toEpochMilli() + 5_100, "101", "1"));
+
+        assertThat(tape.recentBars(MARKET, Timeframe.S5, 5, T0.plusSeconds(6))).hasSize(1);
+        TradeTapeSnapshot snapshot = tape.tradeTape();
+        assertThat(snapshot.lateTrades()).isEqualTo(1);
+        assertThat(snapshot.listenerFailures()).isEqualTo(snapshot.barsClosed());
+        assertThatThrownBy(() -> tape.recentBars(MARKET, Timeframe.S15, 5, T0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void minuteTimeframesAreRejectedAtStartup() {
+        // Verifies the tape refuses to build bars that the REST candle path already serves.
+        assertThatThrownBy(() -> new UpbitTradeTape(clock, properties(List.of(Timeframe.M1))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private VaultMarketDataProperties properties(List<Timeframe> timeframes) {
+        VaultMarketDataProperties properties = new VaultMarketDataProperties();
+        properties.getTradeTape().setTimeframes(new ArrayList<>(timeframes));
+        return properties;
+    }
+
+    private void stream(UpbitTradeTape tape, String json) throws IOException {
+        UpbitTradeDecoder.decode(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)),
+                new UpbitTradeDecoder.Trade(),
+                tape::apply
+        );
+    }
+
+    private static String trade(String code, long timestamp, String price, String volume) {
+        return "{\"type\":\"trade\",\"code\":\"" + code + "\",\"trade_timestamp\":" + timestamp
+                + ",\"trade_price\":" + price + ",\"trade_volume\":" + volume + ",\"ask_bid\":\"BID\"}";
+    }
+
+    private static String shortTrade(String code, long timestamp, String price, String volume) {
+        return "{\"ty\":\"trade\",\"cd\":\"" + code + "\",\"ttms\":" + timestamp
+                + ",\"tp\":" + price + ",\"tv\":" + volume + "}";
+    }
+}
@@ -0,0 +1,133 @@
+package com.vaulttradebot.adapter.out.upbit.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vaulttradebot.domain.common.CandleBuffer;
+import com.vaulttradebot.domain.common.vo.Asset;
+import com.vaulttradebot.domain.common.vo.Candle;
+import com.vaulttradebot.domain.common.vo.Price;
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+/** Opt-in comparison of DTO binding against streaming decode for one 200-candle page; run with VAULT_BENCHMARK=true. */
+@EnabledIfEnvironmentVariable(named = "VAULT_BENCHMARK", matches = "true")
+class UpbitCandleDecodeBenchmarkTest {
+    private static final int WARMUP = 3_000;
+    private static final int MEASURED = 10_000;
+    private static final Asset KRW = Asset.krw();
+    private static final DateTimeFormatter UPBIT_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    @Test
+    void streamingDecodeAllocatesLessPerFetchThanDtoBinding() throws Exception {
+        // Verifies the streaming path allocates less per page than binding DTOs and mapping them to candles.
+        byte[] page = page(200);
+        ObjectMapper mapper = new ObjectMapper();
+        CandleBuffer buffer = new CandleBuffer(200);
+
+        Result dto = measure(() -> dtoPath(mapper, page));
+        Result streamed = measure(() -> {
+            buffer.clear();
+            return UpbitCandleStreamDecoder.decode(new ByteArrayInputStream(page), buffer);
+        });
+        Result streamedToCandles = measure(() -> {
+            buffer.clear();
+            UpbitCandleStreamDecoder.decode(new ByteArrayInputStream(page), buffer);
+            return buffer.toCandles(KRW).size();
+        });
+
+        System.out.printf("upbit candle decode, 200 rows per fetch%n");
+        System.out.printf("  dto binding + mapping : %8.1f us %10d bytes%n", dto.micros(), dto.bytes());
+        System.out.printf("  streaming to buffer   : %8.1f us %10d bytes%n", streamed.micros(), streamed.bytes());
+        System.out.printf("  streaming + candles   : %8.1f us %10d bytes%n", streamedToCandles.micros(), streamedToCandles.bytes());
+        assertThat(streamed.bytes()).isLessThan(dto.bytes());
+        assertThat(streamedToCandles.bytes()).isLessThan(dto.bytes());
+    }
+
+    private int dtoPath(ObjectMapper mapper, byte[] page) throws Exception {
+        // Mirrors the former path: bind BigDecimal DTOs, sort ascending, map each into a domain candle.
+        LegacyCandle[] body = mapper.readValue(page, LegacyCandle[].class);
+        List<Candle> candles = Arrays.stream(body)
+                .sorted(Comparator.comparing(LegacyCandle::openTime))
+                .map(row -> new Candle(
+                        row.openTime(),
+                        Price.of(row.open(), KRW),
+                        Price.of(row.high(), KRW),
+                        Price.of(row.low().max(BigDecimal.ZERO), KRW),
+                        Price.of(row.close().max(BigDecimal.ZERO), KRW),
+                        row.volume()
+                ))
+                .toList();
+        return candles.size();
+    }
+
+    private Result measure(Decode decode) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += decode.run();
+        }
+        long thread = Thread.currentThread().threadId();
+        long bytesBefore = threads.getThreadAllocatedBytes(thread);
+        long started = System.nanoTime();
+        for (int i = 0; i < MEASURED; i++) {
+            sink += decode.run();
+        }
+        long elapsed = System.nanoTime() - started;
+        long bytes = threads.getThreadAllocatedBytes(thread) - bytesBefore;
+        assertThat(sink).isPositive();
+        return new Result(elapsed / 1_000.0d / MEASURED, bytes / MEASURED);
+    }
+
+    private byte[] page(int rows) {
+        StringBuilder json = new StringBuilder("[");
+        LocalDateTime newest = LocalDateTime.of(2026, 3, 14, 9, 0);
+        for (int i = 0; i < rows; i++) {
+            long price = 95_000_000L + i * 1_000L;
+            LocalDateTime openTime = newest.minusMinutes(i);
+            json.append(i == 0 ? "" : ",").append("""
+                    {"market":"KRW-BTC","candle_date_time_utc":"%s","candle_date_time_kst":"%s",\
+                    "opening_price":%d.0,"high_price":%d.0,"low_price":%d.0,"trade_price":%d.0,\
+                    "timestamp":%d,"candle_acc_trade_price":%d.12345678,"candle_acc_trade_volume":%d.%08d,"unit":1}"""
+                    .formatted(UPBIT_TIME.format(openTime), UPBIT_TIME.format(openTime.plusHours(9)),
+                            price, price + 50_000L, price - 50_000L, price + 10_000L,
+                            1_773_478_800_000L - i * 60_000L, price * 3, i % 7, i * 12_345L));
+        }
+        return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @FunctionalInterface
+    private interface Decode {
+        int run() throws Exception;
+    }
+
+    private record Result(double micros, long bytes) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record LegacyCandle(
+            @JsonProperty("candle_date_time_utc") String candleDateTimeUtc,
+            @JsonProperty("opening_price") BigDecimal open,
+            @JsonProperty("high_price") BigDecimal high,
+            @JsonProperty("low_price") BigDecimal low,
+            @JsonProperty("trade_price") BigDecimal close,
+            @JsonProperty("candle_acc_trade_volume") BigDecimal volume
+    ) {
+        Instant openTime() {
+            return LocalDateTime.parse(candleDateTimeUtc).toInstant(ZoneOffset.UTC);
+        }
+    }
+}
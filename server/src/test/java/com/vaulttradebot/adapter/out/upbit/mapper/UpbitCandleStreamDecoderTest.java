@@ -0,0 +1,116 @@
+package com.vaulttradebot.adapter.out.upbit.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.vaulttradebot.domain.common.CandleBuffer;
+import com.vaulttradebot.domain.common.vo.Asset;
+import com.vaulttradebot.domain.common.vo.Candle;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class UpbitCandleStreamDecoderTest {
+
+    @Test
+    void decodesNewestFirstUpbitPayloadIntoAscendingScaledRows() throws IOException {
+        // Verifies offset-less UTC times, skipped extra fields and newest-first order all land as ascending rows.
+        String json = """
+                [
+                  {"market":"KRW-BTC","candle_date_time_utc":"2026-03-14T09:01:00","candle_date_time_kst":"2026-03-14T18:01:00",
+                   "opening_price":50000000.0,"high_price":50100000,"low_price":49900000.5,"trade_price":50050000,
+                   "timestamp":1773478919000,"candle_acc_trade_price":615000000.12345,"candle_acc_trade_volume":12.30000001,"unit":1},
+                  {"market":"KRW-BTC","candle_date_time_utc":"2026-03-14T09:00:00","opening_price":49800000,"high_price":50000000,
+                   "low_price":49700000,"trade_price":49900000,"candle_acc_trade_volume":0.000000015,"unit":1,"extra":{"a":[1,2]}}
+                ]
+                """;
+        CandleBuffer buffer = new CandleBuffer(1);
+
+        int added = UpbitCandleStreamDecoder.decode(stream(json), buffer);
+
+        assertThat(added).isEqualTo(2);
+        assertThat(buffer.openEpochSecond(0)).isEqualTo(Instant.parse("2026-03-14T09:00:00Z").getEpochSecond());
+        assertThat(buffer.openEpochSecond(1)).isEqualTo(Instant.parse("2026-03-14T09:01:00Z").getEpochSecond());
+        assertThat(buffer.open(1)).isEqualTo(5_000_000_000_000_000L);
+        assertThat(buffer.low(1)).isEqualTo(4_990_000_050_000_000L);
+        assertThat(buffer.volume(1)).isEqualTo(1_230_000_001L);
+        // The ninth decimal rounds half-up, matching BigDecimal scaling.
+        assertThat(buffer.volume(0)).isEqualTo(2L);
+    }
+
+    @Test
+    void dropsIncompleteRowsAndFallsBackForUnusualNumbers() throws IOException {
+        // Verifies rows missing a field are skipped, exponents are decoded exactly, and negative closes are clamped.
+        String json = """
+                [
+                  {"candle_date_time_utc":"2026-03-14T09:02:00Z","opening_price":1,"high_price":2,"low_price":1,
+                   "trade_price":-3,"candle_acc_trade_volume":1.5E-4},
+                  {"candle_date_time_utc":"2026-03-14T09:01:00","opening_price":1,"high_price":null,"low_price":1,
+                   "trade_price":1,"candle_acc_trade_volume":1}
+                ]
+                """;
+        CandleBuffer buffer = new CandleBuffer(4);
+
+        int added = UpbitCandleStreamDecoder.decode(stream(json), buffer);
+
+        assertThat(added).isEqualTo(1);
+        assertThat(buffer.close(0)).isZero();
+        assertThat(buffer.volume(0)).isEqualTo(CandleBuffer.toScaled(new BigDecimal("0.00015")));
+    }
+
+    @Test
+    void malformedPayloadLeavesEarlierRowsUntouched() {
+        // Verifies a failed decode rolls the buffer back so a retry never sees half a response.
+        CandleBuffer buffer = new CandleBuffer(4);
+        buffer.add(1L, 1L, 1L, 1L, 1L, 1L);
+        String json = """
+                [{"candle_date_time_utc":"2026-03-14T09:00:00","opening_price":1,"high_price":1,"low_price":1,
+                  "trade_price":1,"candle_acc_trade_volume":1},{"opening_price":
+                """;
+
+        assertThatThrownBy(() -> UpbitCandleStreamDecoder.decode(stream(json), buffer))
+                .isInstanceOf(JsonProcessingException.class);
+        assertThat(buffer.size()).isEqualTo(1);
+    }
+
+    @Test
+    void twelveDigitVolumeIsRejectedByTheBufferAndDecodedExactly() throws IOException {
+        // Verifies a volume beyond the fixed-point range is a decode error, and the exact path keeps every digit.
+        String json = """
+                [{"candle_date_time_utc":"2026-03-14T09:00:00","opening_price":0.0123,"high_price":0.0124,"low_price":0.0122,
+                  "trade_price":0.0123,"candle_acc_trade_volume":123456789012.12345678}]
+                """;
+        CandleBuffer buffer = new CandleBuffer(1);
+
+        assertThatThrownBy(() -> UpbitCandleStreamDecoder.decode(stream(json), buffer))
+                .isInstanceOf(UpbitCandleStreamDecoder.OutOfRangeException.class)
+                .isInstanceOf(JsonProcessingException.class);
+        assertThat(buffer.size()).isZero();
+
+        List<Candle> candles = UpbitCandleStreamDecoder.decodeCandles(stream(json), Asset.krw());
+        assertThat(candles).hasSize(1);
+        assertThat(candles.get(0).openTime()).isEqualTo(Instant.parse("2026-03-14T09:00:00Z"));
+        assertThat(candles.get(0).volume()).isEqualByComparingTo("123456789012.12345678");
+        assertThat(candles.get(0).close().value()).isEqualByComparingTo("0.0123");
+    }
+
+    @Test
+    void emptyBodyAddsNothing() throws IOException {
+        // Verifies an empty or null body is treated like an empty candle page.
+        CandleBuffer buffer = new CandleBuffer(1);
+
+        assertThat(UpbitCandleStreamDecoder.decode(stream(""), buffer)).isZero();
+        assertThat(UpbitCandleStreamDecoder.decode(stream("[]"), buffer)).isZero();
+        assertThat(buffer.size()).isZero();
+    }
+
+    private InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,83 @@
+package com.vaulttradebot.adapter.out.upbit.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vaulttradebot.domain.common.CandleBuffer;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class UpbitOrderBookDecoderTest {
+
+    @Test
+    void decodesRestArrayOneMarketAtATime() throws IOException {
+        // Verifies each REST element reaches the sink with its own market, timestamp and scaled levels.
+        String json = """
+                [
+                  {"market":"KRW-BTC","timestamp":1773478800123,"total_ask_size":1.5,"total_bid_size":2.5,
+                   "orderbook_units":[
+                     {"ask_price":50010000.0,"bid_price":50000000.0,"ask_size":0.5,"bid_size":1.25},
+                     {"ask_price":50020000.0,"bid_price":49990000.0,"ask_size":1.0,"bid_size":1.25}
+                   ]},
+                  {"market":"KRW-ETH","timestamp":1773478800456,
+                   "orderbook_units":[{"ask_price":3001000,"bid_price":3000000,"ask_size":3,"bid_size":4}]}
+                ]
+                """;
+        List<String> seen = new ArrayList<>();
+
+        int decoded = UpbitOrderBookDecoder.decode(stream(json), new UpbitOrderBookDecoder.Frame(15), frame -> {
+            seen.add(frame.market() + ":" + frame.levels() + ":" + frame.timestampMillis());
+            if (frame.market().equals("KRW-BTC")) {
+                assertThat(frame.bidPrices()[1]).isEqualTo(CandleBuffer.toScaled(new BigDecimal("49990000")));
+                assertThat(frame.askSizes()[0]).isEqualTo(CandleBuffer.toScaled(new BigDecimal("0.5")));
+            }
+        });
+
+        assertThat(decoded).isEqualTo(2);
+        assertThat(seen).containsExactly("KRW-BTC:2:1773478800123", "KRW-ETH:1:1773478800456");
+    }
+
+    @Test
+    void decodesStreamObjectAndIgnoresStatusMessages() throws IOException {
+        // Verifies the stream's short field names decode and status frames without units are skipped.
+        String stream = """
+                {"ty":"orderbook","cd":"KRW-BTC","tms":1773478800999,
+                 "obu":[{"ap":101,"bp":100,"as":2,"bs":3},{"ap":102,"bp":99,"as":4,"bs":5},{"ap":103,"bp":98,"as":6,"bs":7}]}
+                """;
+        List<Integer> levels = new ArrayList<>();
+
+        int decoded = UpbitOrderBookDecoder.decode(stream(stream), new UpbitOrderBookDecoder.Frame(2), frame -> levels.add(frame.levels()));
+        int status = UpbitOrderBookDecoder.decode(stream("{\"status\":\"UP\"}"), new UpbitOrderBookDecoder.Frame(2), frame -> levels.add(-1));
+
+        assertThat(decoded).isEqualTo(1);
+        assertThat(status).isZero();
+        // Levels past the frame capacity are dropped rather than overflowing.
+        assertThat(levels).containsExactly(2);
+    }
+
+    @Test
+    void sizeBeyondTheFixedPointRangeSaturatesInsteadOfDroppingTheBook() throws IOException {
+        // Verifies a twelve-digit level size keeps the frame and its prices, clamped to the largest representable size.
+        String json = """
+                {"market":"KRW-SHIB","timestamp":1773478800123,
+                 "orderbook_units":[{"ask_price":0.0124,"bid_price":0.0123,"ask_size":123456789012.5,"bid_size":10}]}
+                """;
+        List<long[]> seen = new ArrayList<>();
+
+        int decoded = UpbitOrderBookDecoder.decode(stream(json), new UpbitOrderBookDecoder.Frame(1), frame ->
+                seen.add(new long[] {frame.askSizes()[0], frame.bidPrices()[0]}));
+
+        assertThat(decoded).isEqualTo(1);
+        assertThat(seen.get(0)[0]).isEqualTo(Long.MAX_VALUE);
+        assertThat(seen.get(0)[1]).isEqualTo(CandleBuffer.toScaled(new BigDecimal("0.0123")));
+    }
+
+    private InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
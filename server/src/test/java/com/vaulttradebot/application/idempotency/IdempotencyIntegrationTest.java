@@ -21,7 +21,12 @@ import com.vaulttradebot.application.port.out.NotificationPort;
 import com.vaulttradebot.application.port.out.PortfolioRepository;
 import com.vaulttradebot.application.port.out.TradingCycleLockPort;
 import com.vaulttradebot.application.usecase.BotFacadeService;
+import com.vaulttradebot.application.usecase.CandleGapBackfillService;
+import com.vaulttradebot.application.usecase.CycleDeadlineTracker;
 import com.vaulttradebot.application.usecase.CycleResult;
+import com.vaulttradebot.config.VaultCycleDeadlineProperties;
+import com.vaulttradebot.config.VaultMarketDataProperties;
+import com.vaulttradebot.config.VaultStrategyProperties;
 import com.vaulttradebot.domain.common.vo.Candle;
 import com.vaulttradebot.domain.common.vo.Market;
 import com.vaulttradebot.domain.common.vo.Money;
@@ -101,7 +106,11 @@ class IdempotencyIntegrationTest {
                 outboxRepository,
                 cycleSnapshotRepository,
                 lockPort,
-                strategy
+                strategy,
+                new CandleGapBackfillService(marketDataPort, new VaultMarketDataProperties()),
+                market -> Optional.empty(),
+                new VaultStrategyProperties(),
+                new CycleDeadlineTracker(new VaultCycleDeadlineProperties(), clockPort)
         );
 
         when(botSettingsRepository.load()).thenReturn(BotConfig.defaultConfig());
@@ -205,7 +214,11 @@ class IdempotencyIntegrationTest {
                 outboxRepository,
                 cycleSnapshotRepository,
                 blockedLock,
-                strategy
+                strategy,
+                new CandleGapBackfillService(marketDataPort, new VaultMarketDataProperties()),
+                market -> Optional.empty(),
+                new VaultStrategyProperties(),
+                new CycleDeadlineTracker(new VaultCycleDeadlineProperties(), clockPort)
         );
 
         blockedService.start();
@@ -0,0 +1,146 @@
+package com.vaulttradebot.application.shadow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vaulttradebot.adapter.out.InMemoryShadowSignalRepository;
+import com.vaulttradebot.application.query.ShadowCandidateSnapshot;
+import com.vaulttradebot.application.query.ShadowLaneSnapshot;
+import com.vaulttradebot.domain.common.vo.Asset;
+import com.vaulttradebot.domain.common.vo.Candle;
+import com.vaulttradebot.domain.common.vo.Price;
+import com.vaulttradebot.domain.common.vo.Timeframe;
+import com.vaulttradebot.domain.trading.model.strategy.Strategy;
+import com.vaulttradebot.domain.trading.model.strategy.StrategyEnsembleMember;
+import com.vaulttradebot.domain.trading.model.strategy.vo.SignalDecision;
+import com.vaulttradebot.domain.trading.model.strategy.vo.StrategyContext;
+import com.vaulttradebot.domain.trading.vo.SignalAction;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ShadowStrategyLaneTest {
+    private static final Instant START = Instant.parse("2026-03-14T00:00:00Z");
+
+    private final InMemoryShadowSignalRepository repository = new InMemoryShadowSignalRepository();
+    private ShadowStrategyLane lane;
+
+    @AfterEach
+    void tearDown() {
+        if (lane != null) {
+            lane.shutdown();
+        }
+    }
+
+    @Test
+    void recordsCandidateSignalsAndHypotheticalFillsAtLastClosedCandle() throws Exception {
+        // Verifies a BUY then SELL opens and closes a paper position at the pinned candle closes.
+        Deque<SignalAction> script = new ArrayDeque<>(List.of(SignalAction.BUY, SignalAction.HOLD, SignalAction.SELL));
+        lane = new ShadowStrategyLane(
+                List.of(new StrategyEnsembleMember("fast", scripted(script), 1.0d)),
+                repository,
+                () -> START,
+                8
+        );
+
+        lane.offer(context(1, "100"));
+        lane.offer(context(2, "105"));
+        lane.offer(context(3, "110"));
+
+        assertThat(lane.awaitIdle(2_000L)).isTrue();
+        ShadowCandidateSnapshot candidate = lane.shadowLane().candidates().get(0);
+        assertThat(candidate.evaluations()).isEqualTo(3);
+        assertThat(candidate.fills()).isEqualTo(2);
+        assertThat(candidate.positionOpen()).isFalse();
+        assertThat(candidate.realizedReturnPct()).isEqualByComparingTo("10");
+
+        List<ShadowSignalRecord> recent = lane.recentShadowSignals("fast", 10);
+        assertThat(recent).extracting(ShadowSignalRecord::signalAction).containsExactly("SELL", "HOLD", "BUY");
+        assertThat(recent.get(0).fillPrice()).isEqualByComparingTo("110");
+        assertThat(recent.get(2).fillPrice()).isEqualByComparingTo("100");
+        assertThat(recent.get(1).filled()).isFalse();
+    }
+
+    @Test
+    void dropsInputsWithoutBlockingWhenLaneIsSaturated() throws Exception {
+        // Verifies a stuck candidate fills the bounded queue and further offers are dropped immediately.
+        CountDownLatch release = new CountDownLatch(1);
+        Strategy stuck = context -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return SignalDecision.hold("stuck", context.now(), context.symbol(), context.timeframe());
+        };
+        lane = new ShadowStrategyLane(
+                List.of(new StrategyEnsembleMember("stuck", stuck, 1.0d)),
+                repository,
+                () -> START,
+                1
+        );
+
+        long started = System.nanoTime();
+        for (int i = 1; i <= 6; i++) {
+            lane.offer(context(i, "100"));
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        release.countDown();
+
+        ShadowLaneSnapshot snapshot = lane.shadowLane();
+        assertThat(elapsedMs).isLessThan(1_000L);
+        assertThat(snapshot.submitted()).isEqualTo(6);
+        assertThat(snapshot.dropped()).isGreaterThanOrEqualTo(4);
+        assertThat(lane.awaitIdle(2_000L)).isTrue();
+    }
+
+    @Test
+    void tapReturnsLiveDecisionAndKeepsLiveStrategyId() throws Exception {
+        // Verifies the tap forwards inputs to the lane without altering the live signal or its cycle id.
+        lane = new ShadowStrategyLane(
+                List.of(new StrategyEnsembleMember("candidate", fixed(SignalAction.SELL), 1.0d)),
+                repository,
+                () -> START,
+                8
+        );
+        Strategy live = fixed(SignalAction.BUY);
+        ShadowTapStrategy tap = new ShadowTapStrategy(live, lane);
+
+        SignalDecision decision = tap.evaluate(context(1, "100"));
+
+        assertThat(decision.action()).isEqualTo(SignalAction.BUY);
+        assertThat(tap.strategyId()).isEqualTo(live.strategyId());
+        assertThat(lane.awaitIdle(2_000L)).isTrue();
+        assertThat(lane.recentShadowSignals("candidate", 1))
+                .extracting(ShadowSignalRecord::signalAction)
+                .containsExactly("SELL");
+    }
+
+    private Strategy scripted(Deque<SignalAction> script) {
+        return context -> new SignalDecision(
+                script.removeFirst(),
+                0.5d,
+                "scripted",
+                context.now(),
+                context.symbol(),
+                context.timeframe()
+        );
+    }
+
+    private Strategy fixed(SignalAction action) {
+        return context -> new SignalDecision(action, 0.5d, "fixed", context.now(), context.symbol(), context.timeframe());
+    }
+
+    private StrategyContext context(int minute, String close) {
+        Instant openTime = START.plusSeconds(60L * (minute - 1));
+        Price price = Price.of(new BigDecimal(close), Asset.krw());
+        Candle candle = new Candle(openTime, price, price, price, price, BigDecimal.ONE);
+        return new StrategyContext("KRW-BTC", List.of(candle), Timeframe.M1, openTime.plusSeconds(60), Optional.empty());
+    }
+}
@@ -21,6 +21,9 @@ import com.vaulttradebot.application.port.out.OutboxRepository;
 import com.vaulttradebot.application.port.out.PortfolioRepository;
 import com.vaulttradebot.application.port.out.TradingCycleLockPort;
 import com.vaulttradebot.application.port.out.TradingCycleSnapshotRepository;
+import com.vaulttradebot.config.VaultCycleDeadlineProperties;
+import com.vaulttradebot.config.VaultMarketDataProperties;
+import com.vaulttradebot.config.VaultStrategyProperties;
 import com.vaulttradebot.domain.common.vo.Asset;
 import com.vaulttradebot.domain.common.vo.Candle;
 import com.vaulttradebot.domain.common.vo.Market;
@@ -35,6 +38,7 @@ import com.vaulttradebot.domain.trading.OrderDecisionService;
 import com.vaulttradebot.domain.trading.model.sizing.QuantityCalculator;
 import com.vaulttradebot.domain.trading.model.strategy.Strategy;
 import com.vaulttradebot.domain.trading.model.strategy.vo.SignalDecision;
+import com.vaulttradebot.domain.trading.model.strategy.vo.StrategyContext;
 import com.vaulttradebot.domain.trading.vo.OrderDecisionType;
 import com.vaulttradebot.domain.trading.vo.SignalAction;
 import java.math.BigDecimal;
@@ -206,6 +210,32 @@ class BotFacadeMarketDataPortMockTest {
         verify(outboxRepository, never()).save(any());
     }
 
+    @Test
+    void backfillsMaterialGapAndProceedsWithRepairedWindow() {
+        // Verifies missing bars are fetched for the gap range only and the cycle decides instead of holding.
+        when(marketDataPort.getRecentCandles(any(), any(), anyInt(), any())).thenReturn(List.of(
+                candleAt(NOW.minusSeconds(301)),
+                candleAt(NOW.minusSeconds(61))
+        ));
+        when(marketDataPort.getCandlesBetween(MARKET, Timeframe.M1, NOW.minusSeconds(241), NOW.minusSeconds(61)))
+                .thenReturn(List.of(
+                        candleAt(NOW.minusSeconds(241)),
+                        candleAt(NOW.minusSeconds(181)),
+                        candleAt(NOW.minusSeconds(121))
+                ));
+        when(marketDataPort.getLastPrice(eq(MARKET))).thenReturn(Money.krw(new BigDecimal("50000000")));
+
+        BotFacadeService service = newService(orderDecisionService, tradingCycleLockPort);
+        service.start();
+        CycleResult result = service.runCycle();
+
+        ArgumentCaptor<StrategyContext> contextCaptor = ArgumentCaptor.forClass(StrategyContext.class);
+        verify(strategy).evaluate(contextCaptor.capture());
+        assertThat(result.executed()).isTrue();
+        assertThat(result.message()).isNotEqualTo("market data has material gaps");
+        assertThat(contextCaptor.getValue().marketDataWindow()).hasSize(5);
+    }
+
     @Test
     void propagatesMarketDataFailureAsSafeSkipWithoutDownstreamCalls() {
         // Market data fetch errors must be contained as a safe cycle skip.
@@ -290,7 +320,11 @@ class BotFacadeMarketDataPortMockTest {
                 outboxRepository,
                 tradingCycleSnapshotRepository,
                 lockPort,
-                strategy
+                strategy,
+                new CandleGapBackfillService(marketDataPort, new VaultMarketDataProperties()),
+                market -> Optional.empty(),
+                new VaultStrategyProperties(),
+                new CycleDeadlineTracker(new VaultCycleDeadlineProperties(), clockPort)
         );
     }
 
@@ -17,6 +17,9 @@ import com.vaulttradebot.application.port.out.ClockPort;
 import com.vaulttradebot.application.port.out.MarketDataPort;
 import com.vaulttradebot.application.port.out.NotificationPort;
 import com.vaulttradebot.application.port.out.PortfolioRepository;
+import com.vaulttradebot.config.VaultCycleDeadlineProperties;
+import com.vaulttradebot.config.VaultMarketDataProperties;
+import com.vaulttradebot.config.VaultStrategyProperties;
 import com.vaulttradebot.domain.common.vo.Candle;
 import com.vaulttradebot.domain.common.vo.Market;
 import com.vaulttradebot.domain.common.vo.Money;
@@ -93,7 +96,11 @@ class BotFacadeOrderCreationFlowTest {
                 outboxRepository,
                 cycleSnapshotRepository,
                 new InMemoryTradingCycleLockAdapter(),
-                strategy
+                strategy,
+                new CandleGapBackfillService(marketDataPort, new VaultMarketDataProperties()),
+                market -> Optional.empty(),
+                new VaultStrategyProperties(),
+                new CycleDeadlineTracker(new VaultCycleDeadlineProperties(), clockPort)
         );
 
         when(botSettingsRepository.load()).thenReturn(BotConfig.defaultConfig());
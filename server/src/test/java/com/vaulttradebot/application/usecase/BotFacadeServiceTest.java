@@ -22,16 +22,23 @@ import com.vaulttradebot.application.port.out.OutboxRepository;
 import com.vaulttradebot.application.port.out.PortfolioRepository;
 import com.vaulttradebot.application.port.out.TradingCycleLockPort;
 import com.vaulttradebot.application.port.out.TradingCycleSnapshotRepository;
+import com.vaulttradebot.application.query.PortfolioSnapshot;
+import com.vaulttradebot.application.query.PortfolioValuationSnapshot;
 import com.vaulttradebot.config.ApiTimeSupport;
+import com.vaulttradebot.config.VaultCycleDeadlineProperties;
+import com.vaulttradebot.config.VaultMarketDataProperties;
+import com.vaulttradebot.config.VaultStrategyProperties;
 import com.vaulttradebot.domain.common.vo.Market;
 import com.vaulttradebot.domain.common.vo.Money;
 import com.vaulttradebot.domain.common.vo.Timeframe;
+import com.vaulttradebot.domain.common.vo.TopOfBook;
 import com.vaulttradebot.domain.execution.Order;
 import com.vaulttradebot.domain.ops.BotConfig;
 import com.vaulttradebot.domain.ops.BotRunState;
 import com.vaulttradebot.domain.ops.KillSwitchActiveException;
 import com.vaulttradebot.domain.ops.KillSwitchState;
 import com.vaulttradebot.domain.portfolio.Position;
+import com.vaulttradebot.domain.resilience.DeadlineExceededException;
 import com.vaulttradebot.domain.risk.RiskEvaluationService;
 import com.vaulttradebot.domain.trading.OrderActionDecision;
 import com.vaulttradebot.domain.trading.OrderCommand;
@@ -43,10 +50,12 @@ import com.vaulttradebot.domain.trading.vo.SignalAction;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -89,6 +98,7 @@ class BotFacadeServiceTest {
     private TradingCycleLockPort tradingCycleLockPort;
 
     private BotFacadeService service;
+    private Optional<TopOfBook> topOfBook = Optional.empty();
 
     @BeforeEach
     void setUp() {
@@ -106,7 +116,11 @@ class BotFacadeServiceTest {
                 outboxRepository,
                 tradingCycleSnapshotRepository,
                 tradingCycleLockPort,
-                strategy
+                strategy,
+                new CandleGapBackfillService(marketDataPort, new VaultMarketDataProperties()),
+                market -> topOfBook,
+                new VaultStrategyProperties(),
+                new CycleDeadlineTracker(new VaultCycleDeadlineProperties(), clockPort)
         );
 
         when(botSettingsRepository.load()).thenReturn(BotConfig.defaultConfig());
@@ -145,6 +159,29 @@ class BotFacadeServiceTest {
         }).when(orderOutboxTransactionPort).execute(any(Runnable.class));
     }
 
+    @Test
+    void portfolioValuationPricesAllHeldMarketsWithOneBatchLookup() {
+        // Verifies multi-market valuation uses the batch price API once instead of a ticker call per position.
+        Market eth = Market.of("KRW-ETH");
+        when(portfolioRepository.findAll()).thenReturn(List.of(
+                Position.open(MARKET, NOW.minusSeconds(60)),
+                Position.open(eth, NOW.minusSeconds(60))
+        ));
+        when(marketDataPort.getLastPrices(List.of(MARKET, eth))).thenReturn(Map.of(
+                MARKET, Money.krw(new BigDecimal("50000000")),
+                eth, Money.krw(new BigDecimal("3000000"))
+        ));
+
+        PortfolioValuationSnapshot valuation = service.getPortfolioValuation();
+
+        assertThat(valuation.valuedAt()).isEqualTo(NOW);
+        assertThat(valuation.positions()).extracting(PortfolioSnapshot::marketSymbol)
+                .containsExactly("KRW-BTC", "KRW-ETH");
+        assertThat(valuation.marketValueKrw()).isEqualByComparingTo("0");
+        verify(marketDataPort, times(1)).getLastPrices(List.of(MARKET, eth));
+        verify(marketDataPort, never()).getLastPrice(any());
+    }
+
     @Test
     void placeDecisionEnqueuesOutboxCommand() {
         // Verifies a PLACE decision persists one outbox command along with the cycle snapshot.
@@ -209,6 +246,49 @@ class BotFacadeServiceTest {
         verify(outboxRepository, times(1)).save(any(OutboxMessage.class));
     }
 
+    @Test
+    void decisionContextQuotesFromFreshOrderBookInsteadOfLastPrice() {
+        // Verifies a fresh book supplies bid/ask and the touch size on the side a BUY would take.
+        topOfBook = Optional.of(new TopOfBook(
+                MARKET,
+                Money.krw(new BigDecimal("49950000")),
+                new BigDecimal("0.4"),
+                Money.krw(new BigDecimal("50050000")),
+                new BigDecimal("0.7"),
+                new BigDecimal("3.0"),
+                new BigDecimal("5.0"),
+                NOW
+        ));
+        when(orderDecisionService.decide(any(OrderDecisionContext.class)))
+                .thenReturn(OrderActionDecision.hold("no action"));
+
+        service.start();
+        service.runCycle();
+
+        ArgumentCaptor<OrderDecisionContext> context = ArgumentCaptor.forClass(OrderDecisionContext.class);
+        verify(orderDecisionService).decide(context.capture());
+        assertThat(context.getValue().lastPrice().amount()).isEqualByComparingTo("50000000");
+        assertThat(context.getValue().bestBidPrice().amount()).isEqualByComparingTo("49950000");
+        assertThat(context.getValue().bestAskPrice().amount()).isEqualByComparingTo("50050000");
+        assertThat(context.getValue().topBookQty()).isEqualByComparingTo("0.7");
+    }
+
+    @Test
+    void decisionContextFallsBackToLastPriceWithoutOrderBook() {
+        // Verifies bid and ask collapse to the last price when no fresh book is available.
+        when(orderDecisionService.decide(any(OrderDecisionContext.class)))
+                .thenReturn(OrderActionDecision.hold("no action"));
+
+        service.start();
+        service.runCycle();
+
+        ArgumentCaptor<OrderDecisionContext> context = ArgumentCaptor.forClass(OrderDecisionContext.class);
+        verify(orderDecisionService).decide(context.capture());
+        assertThat(context.getValue().bestBidPrice().amount()).isEqualByComparingTo("50000000");
+        assertThat(context.getValue().bestAskPrice().amount()).isEqualByComparingTo("50000000");
+        assertThat(context.getValue().topBookQty()).isZero();
+    }
+
     @Test
     void holdDecisionStoresSnapshotOnly() {
         // Verifies a HOLD decision records the snapshot without enqueueing any outbox command.
@@ -223,6 +303,50 @@ class BotFacadeServiceTest {
         verify(tradingCycleSnapshotRepository, times(1)).save(any(TradingCycleSnapshot.class));
     }
 
+    @Test
+    void cycleOutOfTimeAfterSlowStrategyHoldsWithDeadlineReason() {
+        // Verifies a strategy that eats the cycle budget ends in a recorded HOLD instead of a late order or a failure.
+        BotFacadeService bounded = serviceWithCycleBudget(100L);
+        SignalDecision buy = new SignalDecision(SignalAction.BUY, 0.9, "test-signal", NOW.minusSeconds(60), "KRW-BTC", Timeframe.M1);
+        when(strategy.evaluate(any())).thenAnswer(invocation -> {
+            Thread.sleep(150);
+            return buy;
+        });
+
+        bounded.start();
+        CycleResult result = bounded.runCycle();
+
+        assertThat(result.orderPlaced()).isFalse();
+        ArgumentCaptor<TradingCycleSnapshot> saved = ArgumentCaptor.forClass(TradingCycleSnapshot.class);
+        verify(tradingCycleSnapshotRepository, times(1)).save(saved.capture());
+        assertThat(saved.getValue().signalAction()).isEqualTo("HOLD");
+        assertThat(saved.getValue().decisionReason()).isEqualTo("DEADLINE_EXCEEDED: RISK");
+        verify(outboxRepository, never()).save(any(OutboxMessage.class));
+        verify(riskEvaluationService, never()).approveAndReserve(any());
+    }
+
+    @Test
+    void priceLookupCutShortByTheDeadlineHoldsWithoutCountingAFailure() {
+        // Verifies an HTTP read cut to the cycle deadline ends in a deadline HOLD, not a failed cycle toward CIRCUIT_OPEN.
+        BotFacadeService bounded = serviceWithCycleBudget(100L);
+        when(marketDataPort.getLastPrice(eq(MARKET))).thenAnswer(invocation -> {
+            Thread.sleep(120);
+            throw new DeadlineExceededException(
+                    "upbit-quotation GET /v1/ticker", new java.net.http.HttpTimeoutException("request timed out"));
+        });
+
+        bounded.start();
+        CycleResult result = bounded.runCycle();
+
+        assertThat(result.orderPlaced()).isFalse();
+        ArgumentCaptor<TradingCycleSnapshot> saved = ArgumentCaptor.forClass(TradingCycleSnapshot.class);
+        verify(tradingCycleSnapshotRepository, times(1)).save(saved.capture());
+        assertThat(saved.getValue().decisionReason()).isEqualTo("DEADLINE_EXCEEDED: upbit-quotation GET /v1/ticker");
+        assertThat(saved.getValue().lastPrice()).isEqualByComparingTo("50000000");
+        assertThat(bounded.status().state()).isEqualTo(BotRunState.RUNNING);
+        verify(strategy, never()).evaluate(any());
+    }
+
     @Test
     void activateKillSwitchMovesBotToEmergencyStopAndEnqueuesCancelCommands() {
         // Verifies kill switch activation flips the bot into EMERGENCY_STOP and enqueues cancel commands for active orders.
@@ -271,11 +395,40 @@ class BotFacadeServiceTest {
                 outboxRepository,
                 tradingCycleSnapshotRepository,
                 tradingCycleLockPort,
-                strategy
+                strategy,
+                new CandleGapBackfillService(marketDataPort, new VaultMarketDataProperties()),
+                market -> Optional.empty(),
+                new VaultStrategyProperties(),
+                new CycleDeadlineTracker(new VaultCycleDeadlineProperties(), clockPort)
         );
 
         assertThat(restoredService.status().state()).isEqualTo(BotRunState.EMERGENCY_STOP);
         assertThat(restoredService.status().killSwitchReason()).isEqualTo("persisted emergency stop");
         assertThat(restoredService.isKillSwitchActive()).isTrue();
     }
+
+    private BotFacadeService serviceWithCycleBudget(long totalMs) {
+        VaultCycleDeadlineProperties deadlines = new VaultCycleDeadlineProperties();
+        deadlines.setTotalMs(totalMs);
+        return new BotFacadeService(
+                botSettingsRepository,
+                marketDataPort,
+                killSwitchStateRepository,
+                portfolioRepository,
+                orderRepository,
+                notificationPort,
+                clockPort,
+                orderDecisionService,
+                riskEvaluationService,
+                orderOutboxTransactionPort,
+                outboxRepository,
+                tradingCycleSnapshotRepository,
+                tradingCycleLockPort,
+                strategy,
+                new CandleGapBackfillService(marketDataPort, new VaultMarketDataProperties()),
+                market -> topOfBook,
+                new VaultStrategyProperties(),
+                new CycleDeadlineTracker(deadlines, clockPort)
+        );
+    }
 }
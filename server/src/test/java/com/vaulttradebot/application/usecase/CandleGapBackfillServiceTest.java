@@ -0,0 +1,91 @@
+package com.vaulttradebot.application.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.vaulttradebot.application.port.out.MarketDataPort;
+import com.vaulttradebot.config.VaultMarketDataProperties;
+import com.vaulttradebot.domain.common.vo.Asset;
+import com.vaulttradebot.domain.common.vo.Candle;
+import com.vaulttradebot.domain.common.vo.Market;
+import com.vaulttradebot.domain.common.vo.Price;
+import com.vaulttradebot.domain.common.vo.Timeframe;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CandleGapBackfillServiceTest {
+    private static final Market MARKET = Market.of("KRW-BTC");
+    private static final Instant START = Instant.parse("2026-03-14T00:00:00Z");
+
+    @Mock
+    private MarketDataPort marketDataPort;
+
+    @Test
+    void fetchesEveryMaterialGapAndMergesMissingBarsOnly() {
+        // Verifies two separate gaps are fetched as their own ranges and existing bars are never replaced.
+        List<Candle> window = List.of(minute(0, "100"), minute(4, "104"), minute(5, "105"), minute(9, "109"));
+        when(marketDataPort.getCandlesBetween(MARKET, Timeframe.M1, at(1), at(4)))
+                .thenReturn(List.of(minute(1, "101"), minute(2, "102"), minute(3, "103")));
+        when(marketDataPort.getCandlesBetween(MARKET, Timeframe.M1, at(6), at(9)))
+                .thenReturn(List.of(minute(6, "106"), minute(8, "108"), minute(9, "999")));
+        CandleGapBackfillService service = new CandleGapBackfillService(marketDataPort, new VaultMarketDataProperties());
+
+        List<Candle> repaired = service.backfill(MARKET, Timeframe.M1, window, at(10));
+
+        assertThat(repaired).extracting(Candle::openTime)
+                .containsExactly(at(0), at(1), at(2), at(3), at(4), at(5), at(6), at(8), at(9));
+        assertThat(repaired.get(8).close().value()).isEqualByComparingTo("109");
+        assertThat(service.filledCandles()).isEqualTo(5);
+        assertThat(service.repairedWindows()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsOriginalWindowWhenAnyRangeFails() {
+        // Verifies a failed range fetch leaves the window untouched rather than merging a partial repair.
+        List<Candle> window = List.of(minute(0, "100"), minute(4, "104"), minute(5, "105"), minute(9, "109"));
+        when(marketDataPort.getCandlesBetween(MARKET, Timeframe.M1, at(1), at(4)))
+                .thenReturn(List.of(minute(1, "101")));
+        when(marketDataPort.getCandlesBetween(MARKET, Timeframe.M1, at(6), at(9)))
+                .thenThrow(new IllegalStateException("rate limited"));
+        CandleGapBackfillService service = new CandleGapBackfillService(marketDataPort, new VaultMarketDataProperties());
+
+        List<Candle> result = service.backfill(MARKET, Timeframe.M1, window, at(10));
+
+        assertThat(result).isSameAs(window);
+        assertThat(service.failedBackfills()).isEqualTo(1);
+    }
+
+    @Test
+    void splitsLongGapsIntoRequestSizedRangesAndIgnoresSingleMissingBars() {
+        // Verifies a 450-bar hole becomes three exchange-sized requests and one-bar holes are not fetched.
+        List<Candle> window = List.of(minute(0, "100"), minute(2, "102"), minute(3, "103"), minute(454, "110"));
+        CandleGapBackfillService service = new CandleGapBackfillService(marketDataPort, new VaultMarketDataProperties());
+
+        List<Instant[]> ranges = service.missingRanges(window, Timeframe.M1, at(455));
+
+        assertThat(ranges).hasSize(3);
+        assertThat(ranges.get(0)).containsExactly(at(254), at(454));
+        assertThat(ranges.get(1)).containsExactly(at(54), at(254));
+        assertThat(ranges.get(2)).containsExactly(at(4), at(54));
+        verify(marketDataPort, never()).getCandlesBetween(any(), eq(Timeframe.M1), any(), any());
+    }
+
+    private Instant at(int minute) {
+        return START.plusSeconds(60L * minute);
+    }
+
+    private Candle minute(int index, String close) {
+        Price price = Price.of(new BigDecimal(close), Asset.krw());
+        return new Candle(at(index), price, price, price, price, BigDecimal.ONE);
+    }
+}
@@ -0,0 +1,112 @@
+package com.vaulttradebot.application.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.vaulttradebot.application.query.CycleDeadlineSnapshot;
+import com.vaulttradebot.application.query.CycleStageSnapshot;
+import com.vaulttradebot.config.VaultCycleDeadlineProperties;
+import com.vaulttradebot.domain.resilience.Deadline;
+import com.vaulttradebot.domain.resilience.DeadlineExceededException;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+class CycleDeadlineTrackerTest {
+    private static final Instant NOW = Instant.parse("2026-02-15T10:00:00Z");
+
+    @Test
+    void stageBindsItsBudgetAndCountsALateFinishAsOverrun() {
+        // Verifies a stage deadline is visible to adapters while it runs and a stage finishing past its budget is counted.
+        CycleDeadlineTracker tracker = new CycleDeadlineTracker(properties(1_000L, 20L), () -> NOW);
+        CycleDeadlineTracker.Cycle cycle = tracker.begin();
+
+        try (CycleDeadlineTracker.StageScope ignored = cycle.open(CycleStage.STRATEGY)) {
+            assertThat(Deadline.current()).isPresent();
+            assertThat(Deadline.current().get().remaining()).isLessThanOrEqualTo(Duration.ofMillis(20));
+            sleep(40);
+        }
+        assertThat(Deadline.current()).isEmpty();
+        cycle.finish();
+
+        CycleDeadlineSnapshot snapshot = tracker.cycleDeadline();
+        assertThat(snapshot.cycles()).isEqualTo(1);
+        assertThat(snapshot.lastOverrunAt()).isEqualTo(NOW);
+        assertThat(stage(snapshot, CycleStage.STRATEGY).overruns()).isEqualTo(1);
+        assertThat(stage(snapshot, CycleStage.STRATEGY).maxMs()).isGreaterThanOrEqualTo(40);
+        assertThat(stage(snapshot, CycleStage.MARKET_DATA).overruns()).isZero();
+    }
+
+    @Test
+    void stageOpenedAfterTheCycleDeadlineIsRefused() {
+        // Verifies a later stage is not started once the whole cycle is out of time, even if its own budget is untouched.
+        CycleDeadlineTracker tracker = new CycleDeadlineTracker(properties(30L, 1_000L), () -> NOW);
+        CycleDeadlineTracker.Cycle cycle = tracker.begin();
+        try (CycleDeadlineTracker.StageScope ignored = cycle.open(CycleStage.MARKET_DATA)) {
+            sleep(50);
+        }
+
+        assertThatThrownBy(() -> cycle.open(CycleStage.RISK))
+                .isInstanceOf(DeadlineExceededException.class)
+                .hasMessage("deadline exceeded: RISK");
+        assertThat(stage(tracker.cycleDeadline(), CycleStage.RISK).overruns()).isEqualTo(1);
+    }
+
+    @Test
+    void settleRunsUnderAFreshPersistBudget() {
+        // Verifies the hold written after a deadline is not refused by the spent cycle deadline.
+        CycleDeadlineTracker tracker = new CycleDeadlineTracker(properties(30L, 1_000L), () -> NOW);
+        CycleDeadlineTracker.Cycle cycle = tracker.begin();
+        sleep(50);
+
+        String written = cycle.settle(() -> {
+            try (CycleDeadlineTracker.StageScope ignored = cycle.open(CycleStage.PERSIST)) {
+                assertThat(Deadline.current()).isPresent();
+                assertThat(Deadline.current().get().isExpired()).isFalse();
+                return "held";
+            }
+        });
+
+        assertThat(written).isEqualTo("held");
+        assertThat(tracker.cycleDeadline().deadlineHolds()).isEqualTo(1);
+        assertThat(stage(tracker.cycleDeadline(), CycleStage.PERSIST).overruns()).isZero();
+    }
+
+    @Test
+    void boundedCallsRunUnderTheCycleDeadlineOnly() {
+        // Verifies pre-stage calls see the cycle deadline while they run and leave nothing bound afterwards.
+        CycleDeadlineTracker tracker = new CycleDeadlineTracker(properties(1_000L, 20L), () -> NOW);
+        CycleDeadlineTracker.Cycle cycle = tracker.begin();
+        assertThat(Deadline.current()).isEmpty();
+
+        Duration seen = cycle.bounded(() -> Deadline.current().orElseThrow().remaining());
+
+        assertThat(seen).isGreaterThan(Duration.ofMillis(20)).isLessThanOrEqualTo(Duration.ofMillis(1_000));
+        assertThat(Deadline.current()).isEmpty();
+    }
+
+    private static VaultCycleDeadlineProperties properties(long totalMs, long stageMs) {
+        VaultCycleDeadlineProperties properties = new VaultCycleDeadlineProperties();
+        properties.setTotalMs(totalMs);
+        properties.setMarketDataMs(stageMs);
+        properties.setStrategyMs(stageMs);
+        properties.setRiskMs(stageMs);
+        properties.setPersistMs(stageMs);
+        return properties;
+    }
+
+    private static CycleStageSnapshot stage(CycleDeadlineSnapshot snapshot, CycleStage stage) {
+        return snapshot.stages().stream()
+                .filter(candidate -> candidate.stage().equals(stage.name()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
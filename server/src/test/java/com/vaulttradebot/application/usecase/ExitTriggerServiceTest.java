@@ -0,0 +1,144 @@
+package com.vaulttradebot.application.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.vaulttradebot.adapter.out.InMemoryOrderOutboxTransactionAdapter;
+import com.vaulttradebot.adapter.out.InMemoryOrderRepository;
+import com.vaulttradebot.adapter.out.InMemoryOutboxRepository;
+import com.vaulttradebot.adapter.out.InMemoryPortfolioRepository;
+import com.vaulttradebot.application.outbox.OutboxMessage;
+import com.vaulttradebot.application.port.out.ClockPort;
+import com.vaulttradebot.application.port.out.MarketDataPort;
+import com.vaulttradebot.application.port.out.TradeBarPort;
+import com.vaulttradebot.application.query.ExitTriggerSnapshot;
+import com.vaulttradebot.config.VaultStrategyProperties;
+import com.vaulttradebot.domain.common.CandleBuffer;
+import com.vaulttradebot.domain.common.vo.Market;
+import com.vaulttradebot.domain.common.vo.Money;
+import com.vaulttradebot.domain.common.vo.Quantity;
+import com.vaulttradebot.domain.common.vo.Side;
+import com.vaulttradebot.domain.execution.Order;
+import com.vaulttradebot.domain.portfolio.Position;
+import com.vaulttradebot.domain.portfolio.event.BuyFilled;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class ExitTriggerServiceTest {
+    private static final Market MARKET = Market.of("KRW-BTC");
+    private static final Instant NOW = Instant.parse("2026-03-14T09:00:00Z");
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(NOW);
+    private final ClockPort clock = now::get;
+    private final TradeBarPort tradeBarPort = mock(TradeBarPort.class);
+    private final MarketDataPort marketDataPort = mock(MarketDataPort.class);
+    private final InMemoryOrderRepository orderRepository = new InMemoryOrderRepository();
+    private final InMemoryOutboxRepository outboxRepository = new InMemoryOutboxRepository();
+    private final InMemoryPortfolioRepository portfolioRepository = new InMemoryPortfolioRepository();
+    private ExitTriggerService service;
+
+    @BeforeEach
+    void setUp() {
+        VaultStrategyProperties properties = new VaultStrategyProperties();
+        properties.getExits().setEnabled(true);
+        service = new ExitTriggerService(
+                tradeBarPort,
+                marketDataPort,
+                portfolioRepository,
+                orderRepository,
+                new InMemoryOrderOutboxTransactionAdapter(orderRepository, outboxRepository, portfolioRepository),
+                outboxRepository,
+                clock,
+                properties
+        );
+        Position position = Position.open(MARKET, NOW);
+        position.apply(new BuyFilled(MARKET, Quantity.of(new BigDecimal("0.01")), Money.krw(new BigDecimal("50000000")), Money.krw(BigDecimal.ZERO), NOW));
+        portfolioRepository.save(position, -1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void streamedTradeThroughStopEmitsOneSellAndCancelsTakeProfit() throws InterruptedException {
+        // Verifies a trade through the stop fires one sell command on the outbox and the position stays disarmed.
+        ArgumentCaptor<TradeBarPort.TradeListener> listener = ArgumentCaptor.forClass(TradeBarPort.TradeListener.class);
+        verify(tradeBarPort).addTradeListener(listener.capture());
+        when(marketDataPort.getLastPrice(any())).thenReturn(Money.krw(new BigDecimal("50000000")));
+        service.poll();
+        verify(tradeBarPort).track(MARKET);
+        assertThat(service.exitTriggers().restingTriggers()).isEqualTo(2);
+
+        listener.getValue().onTrade(MARKET, scaled("48600000"), NOW.toEpochMilli());
+        assertThat(service.exitTriggers().fired()).isZero();
+        listener.getValue().onTrade(MARKET, scaled("48500000"), NOW.toEpochMilli());
+
+        OutboxMessage message = awaitOutbox(1).getFirst();
+        assertThat(message.eventType()).isEqualTo("OrderCommandRequested");
+        assertThat(message.payload())
+                .contains("\"side\":\"SELL\"")
+                .contains("\"price\":\"48403000\"")
+                .contains("\"quantity\":\"0.01")
+                .contains("STOP_LOSS");
+        service.poll();
+        ExitTriggerSnapshot snapshot = service.exitTriggers();
+        assertThat(snapshot.restingTriggers()).isZero();
+        assertThat(snapshot.protectedMarkets()).isEmpty();
+        assertThat(snapshot.fired()).isEqualTo(1);
+        assertThat(snapshot.emitted()).isEqualTo(1);
+    }
+
+    @Test
+    void marketWithoutStreamedTradesIsPricedOverRestAndRearmedAfterQuietPeriod() throws InterruptedException {
+        // Verifies the poll prices a silent market, fires the target, and re-arms once rearm-after-ms passes.
+        when(marketDataPort.getLastPrice(any())).thenReturn(Money.krw(new BigDecimal("53000000")));
+        service.poll();
+        service.poll();
+
+        assertThat(awaitOutbox(1).getFirst().payload()).contains("TAKE_PROFIT");
+        assertThat(service.exitTriggers().restPolls()).isEqualTo(1);
+
+        now.set(NOW.plusSeconds(61));
+        when(marketDataPort.getLastPrice(any())).thenReturn(Money.krw(new BigDecimal("50000000")));
+        service.poll();
+        assertThat(service.exitTriggers().protectedMarkets()).containsExactly("KRW-BTC");
+        assertThat(service.exitTriggers().restingTriggers()).isEqualTo(2);
+    }
+
+    @Test
+    void armedExitsAreDroppedWhileAnotherSellWorksThePosition() {
+        // Verifies a resting sell placed after arming disarms the unchanged position so it cannot be sold twice.
+        when(marketDataPort.getLastPrice(any())).thenReturn(Money.krw(new BigDecimal("50000000")));
+        service.poll();
+        assertThat(service.exitTriggers().restingTriggers()).isEqualTo(2);
+
+        orderRepository.save(Order.create(MARKET, Side.SELL, new BigDecimal("0.01"), Money.krw(new BigDecimal("51000000")), NOW));
+        service.poll();
+
+        assertThat(service.exitTriggers().restingTriggers()).isZero();
+        assertThat(service.exitTriggers().protectedMarkets()).isEmpty();
+        assertThat(service.onPrice(MARKET, Money.krw(new BigDecimal("40000000")))).isZero();
+    }
+
+    private List<OutboxMessage> awaitOutbox(int expected) throws InterruptedException {
+        for (int i = 0; i < 200 && outboxRepository.findAll().size() < expected; i++) {
+            Thread.sleep(10);
+        }
+        return outboxRepository.findAll();
+    }
+
+    private static long scaled(String value) {
+        return CandleBuffer.toScaled(new BigDecimal(value));
+    }
+}
@@ -0,0 +1,188 @@
+package com.vaulttradebot.application.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vaulttradebot.adapter.out.InMemoryOrderOutboxTransactionAdapter;
+import com.vaulttradebot.adapter.out.InMemoryOrderRepository;
+import com.vaulttradebot.adapter.out.InMemoryOutboxRepository;
+import com.vaulttradebot.adapter.out.InMemoryPortfolioRepository;
+import com.vaulttradebot.application.outbox.OutboxMessage;
+import com.vaulttradebot.application.port.out.ClockPort;
+import com.vaulttradebot.application.port.out.ExchangeTradingPort;
+import com.vaulttradebot.application.port.out.OutboxPayloadSerializer;
+import com.vaulttradebot.application.query.MassCancelSnapshot;
+import com.vaulttradebot.domain.common.vo.Market;
+import com.vaulttradebot.domain.common.vo.Money;
+import com.vaulttradebot.domain.common.vo.Side;
+import com.vaulttradebot.domain.execution.Order;
+import com.vaulttradebot.domain.execution.event.OrderDomainEvent;
+import com.vaulttradebot.domain.execution.vo.OrderStatus;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+
+class MassCancelServiceTest {
+    private static final Instant NOW = Instant.parse("2026-03-27T12:00:00Z");
+
+    private final InMemoryOrderRepository orderRepository = new InMemoryOrderRepository();
+    private final InMemoryOutboxRepository outboxRepository = new InMemoryOutboxRepository();
+    private final InMemoryPortfolioRepository portfolioRepository = new InMemoryPortfolioRepository();
+    private final ClockPort clock = () -> NOW;
+    private final List<String> notifications = new ArrayList<>();
+
+    @Test
+    void cancelsAllTargetsInOneRoundAndReportsEachFailure() {
+        // Verifies canceled orders are persisted, exchange refusals and unknown orders fail only their own messages.
+        Order first = liveOrder("ex-1");
+        Order refused = liveOrder("ex-2");
+        Order third = liveOrder("ex-3");
+        List<String> exchangeCancels = new ArrayList<>();
+        MassCancelService service = service(exchange(orderId -> {
+            if (orderId.equals("ex-2")) {
+                throw new IllegalStateException("order already done");
+            }
+            exchangeCancels.add(orderId);
+        }));
+
+        Map<String, RuntimeException> errors = service.cancelAll(List.of(
+                cancel("c-1", 1, first.id()),
+                cancel("c-2", 2, refused.id()),
+                cancel("c-3", 3, third.id()),
+                cancel("c-4", 4, "missing-order")
+        ));
+
+        assertThat(errors).containsOnlyKeys("c-2", "c-4");
+        assertThat(errors.get("c-2")).hasMessageContaining("ex-2").hasMessageContaining("order already done");
+        assertThat(errors.get("c-4")).hasMessageContaining("order not found for cancel");
+        assertThat(exchangeCancels).containsExactly("ex-1", "ex-3");
+        assertThat(orderRepository.findById(first.id()).orElseThrow().status()).isEqualTo(OrderStatus.CANCELED);
+        assertThat(orderRepository.findById(refused.id()).orElseThrow().status()).isEqualTo(OrderStatus.OPEN);
+
+        MassCancelSnapshot snapshot = service.massCancel();
+        assertThat(snapshot.state()).isEqualTo("COMPLETED");
+        assertThat(snapshot.requested()).isEqualTo(3);
+        assertThat(snapshot.canceled()).isEqualTo(2);
+        assertThat(snapshot.failed()).isEqualTo(1);
+        assertThat(snapshot.exchangeCalls()).isEqualTo(3);
+        assertThat(notifications).containsExactly("Mass cancel finished: 2/3 orders canceled in 0ms using 3 exchange calls");
+    }
+
+    @Test
+    void exposesProgressWhileTheRoundIsRunning() {
+        // Verifies the snapshot shows a running round with partial counts before the exchange has settled everything.
+        Order first = liveOrder("ex-1");
+        Order second = liveOrder("ex-2");
+        AtomicReference<MassCancelService> serviceRef = new AtomicReference<>();
+        AtomicReference<MassCancelSnapshot> midRun = new AtomicReference<>();
+        ExchangeTradingPort batchExchange = new ExchangeTradingPort() {
+            @Override
+            public Order placeOrder(Order order) {
+                return order;
+            }
+
+            @Override
+            public Order refreshOrder(Order order) {
+                return order;
+            }
+
+            @Override
+            public void cancelOrder(String orderId) {
+            }
+
+            @Override
+            public MassCancelResult cancelOrders(List<String> orderIds, MassCancelListener listener) {
+                listener.onSettled(orderIds.getFirst(), null);
+                midRun.set(serviceRef.get().massCancel());
+                listener.onSettled(orderIds.getLast(), null);
+                return new MassCancelResult(orderIds, Map.of(), 1);
+            }
+        };
+        MassCancelService service = service(batchExchange);
+        serviceRef.set(service);
+        assertThat(service.massCancel().state()).isEqualTo("IDLE");
+
+        Map<String, RuntimeException> errors = service.cancelAll(List.of(cancel("c-1", 1, first.id()), cancel("c-2", 2, second.id())));
+
+        assertThat(errors).isEmpty();
+        assertThat(midRun.get().state()).isEqualTo("RUNNING");
+        assertThat(midRun.get().canceled()).isEqualTo(1);
+        assertThat(service.massCancel().canceled()).isEqualTo(2);
+        assertThat(service.massCancel().exchangeCalls()).isEqualTo(1);
+        assertThat(service.massCancel().runs()).isEqualTo(1);
+    }
+
+    private MassCancelService service(ExchangeTradingPort exchangeTradingPort) {
+        OrderPersistenceService orderPersistenceService = new OrderPersistenceService(
+                orderRepository,
+                outboxRepository,
+                portfolioRepository,
+                new InMemoryOrderOutboxTransactionAdapter(orderRepository, outboxRepository, portfolioRepository),
+                clock,
+                serializer()
+        );
+        return new MassCancelService(
+                exchangeTradingPort,
+                orderRepository,
+                orderPersistenceService,
+                new ObjectMapper(),
+                notifications::add,
+                clock
+        );
+    }
+
+    private ExchangeTradingPort exchange(Consumer<String> cancel) {
+        return new ExchangeTradingPort() {
+            @Override
+            public Order placeOrder(Order order) {
+                return order;
+            }
+
+            @Override
+            public Order refreshOrder(Order order) {
+                return order;
+            }
+
+            @Override
+            public void cancelOrder(String orderId) {
+                cancel.accept(orderId);
+            }
+        };
+    }
+
+    private Order liveOrder(String exchangeOrderId) {
+        Order order = Order.create(
+                Market.of("KRW-BTC"),
+                Side.BUY,
+                new BigDecimal("0.00200000"),
+                Money.krw(new BigDecimal("50000000")),
+                NOW
+        );
+        order.bindExchangeOrderId(exchangeOrderId);
+        order.acceptByExchange();
+        return orderRepository.save(order);
+    }
+
+    private OutboxMessage cancel(String id, int second, String targetOrderId) {
+        return OrderCommandConflatorTest.command(id, second, "CANCEL", targetOrderId, "", "KillSwitch");
+    }
+
+    private OutboxPayloadSerializer serializer() {
+        return new OutboxPayloadSerializer() {
+            @Override
+            public String serialize(OrderDomainEvent event) {
+                return "{\"eventType\":\"" + event.getClass().getSimpleName() + "\"}";
+            }
+
+            @Override
+            public int payloadVersion() {
+                return 1;
+            }
+        };
+    }
+}
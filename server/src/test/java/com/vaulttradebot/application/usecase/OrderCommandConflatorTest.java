@@ -0,0 +1,122 @@
+package com.vaulttradebot.application.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vaulttradebot.adapter.out.InMemoryOrderRepository;
+import com.vaulttradebot.application.outbox.OutboxMessage;
+import com.vaulttradebot.application.outbox.OutboxPriority;
+import com.vaulttradebot.domain.common.vo.Market;
+import com.vaulttradebot.domain.common.vo.Money;
+import com.vaulttradebot.domain.common.vo.Side;
+import com.vaulttradebot.domain.execution.Order;
+import com.vaulttradebot.domain.trading.vo.OrderCommandType;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class OrderCommandConflatorTest {
+    private static final Instant NOW = Instant.parse("2026-03-27T12:00:00Z");
+
+    private final InMemoryOrderRepository orderRepository = new InMemoryOrderRepository();
+    private final OrderCommandConflator conflator = new OrderCommandConflator(orderRepository, new ObjectMapper());
+
+    @Test
+    void keepsCancelAndLatestCreateWhenCreateCancelCreateQueuedUp() {
+        // Verifies CREATE, CANCEL, CREATE for one market keeps the cancel and only the newest create.
+        Order live = liveOrder("KRW-BTC");
+        List<OutboxMessage> pending = List.of(
+                command("m-1", 1, "CREATE", null, "KRW-BTC", "strategy-a"),
+                command("m-2", 2, "CANCEL", live.id(), "", "strategy-a"),
+                command("m-3", 3, "CREATE", null, "KRW-BTC", "strategy-a")
+        );
+
+        List<OrderCommandConflator.Superseded> superseded = conflator.conflate(pending);
+
+        assertThat(superseded).hasSize(1);
+        assertThat(superseded.getFirst().message().id()).isEqualTo("m-1");
+        assertThat(superseded.getFirst().reason()).isEqualTo("superseded by newer CREATE m-3");
+    }
+
+    @Test
+    void keepsOnlyLatestCancelOrReplacePerTargetOrder() {
+        // Verifies repeated REPLACE and CANCEL of one order collapse to the newest, leaving other orders alone.
+        Order first = liveOrder("KRW-BTC");
+        Order second = liveOrder("KRW-BTC");
+        List<OutboxMessage> pending = List.of(
+                command("m-1", 1, "REPLACE", first.id(), "KRW-BTC", "strategy-a"),
+                command("m-2", 2, "CANCEL", second.id(), "", "strategy-a"),
+                command("m-3", 3, "REPLACE", first.id(), "KRW-BTC", "strategy-a"),
+                command("m-4", 4, "CANCEL", first.id(), "", "strategy-a")
+        );
+
+        List<OrderCommandConflator.Superseded> superseded = conflator.conflate(pending);
+
+        assertThat(superseded).extracting(dropped -> dropped.message().id()).containsExactlyInAnyOrder("m-1", "m-3");
+        assertThat(superseded).allSatisfy(dropped ->
+                assertThat(dropped.reason()).isEqualTo("superseded by newer CANCEL m-4"));
+    }
+
+    @Test
+    void neverDropsAttemptedCommandsOrMixesMarketsAndStrategies() {
+        // Verifies attempted commands survive and creates for other markets or strategies are independent.
+        List<OutboxMessage> pending = List.of(
+                command("m-1", 1, "CREATE", null, "KRW-BTC", "strategy-a").withFailure(1, "timeout", NOW),
+                command("m-2", 2, "CREATE", null, "KRW-ETH", "strategy-a"),
+                command("m-3", 3, "CREATE", null, "KRW-BTC", "ExitTrigger"),
+                command("m-4", 4, "CREATE", null, "KRW-BTC", "strategy-a")
+        );
+
+        assertThat(conflator.conflate(pending)).isEmpty();
+    }
+
+    private Order liveOrder(String market) {
+        Order order = Order.create(
+                Market.of(market),
+                Side.BUY,
+                new BigDecimal("0.00200000"),
+                Money.krw(new BigDecimal("50000000")),
+                NOW
+        );
+        order.acceptByExchange();
+        return orderRepository.save(order);
+    }
+
+    static OutboxMessage command(String id, int second, String type, String targetOrderId, String market, String strategyId) {
+        Instant createdAt = NOW.plusSeconds(second);
+        String payload = "{"
+                + "\"cycleId\":\"cycle-" + second + "\","
+                + "\"strategyId\":\"" + strategyId + "\","
+                + "\"dataTimestamp\":\"" + createdAt + "\","
+                + "\"decision\":\"BUY\","
+                + "\"reason\":\"test\","
+                + "\"commandType\":\"" + type + "\","
+                + "\"targetOrderId\":" + (targetOrderId == null ? "null" : "\"" + targetOrderId + "\"") + ","
+                + "\"market\":\"" + market + "\","
+                + "\"side\":\"BUY\","
+                + "\"orderType\":\"LIMIT\","
+                + "\"price\":\"50000000\","
+                + "\"quantity\":\"0.002\","
+                + "\"clientOrderId\":\"client-" + id + "\""
+                + "}";
+        return new OutboxMessage(
+                id,
+                "TradingCycle",
+                "cycle-" + second,
+                OrderCommandConflator.EVENT_TYPE,
+                payload,
+                1,
+                createdAt,
+                createdAt,
+                null,
+                0,
+                null,
+                createdAt,
+                null,
+                null,
+                null,
+                OutboxPriority.forOrderCommand(OrderCommandType.valueOf(type))
+        );
+    }
+}
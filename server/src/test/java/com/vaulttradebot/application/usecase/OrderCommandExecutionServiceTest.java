@@ -9,6 +9,7 @@ import com.vaulttradebot.adapter.out.InMemoryOutboxRepository;
 import com.vaulttradebot.adapter.out.InMemoryPortfolioRepository;
 import com.vaulttradebot.adapter.out.PaperExchangeTradingAdapter;
 import com.vaulttradebot.application.outbox.OutboxMessage;
+import com.vaulttradebot.application.outbox.OutboxPriority;
 import com.vaulttradebot.application.port.in.BotControlUseCase;
 import com.vaulttradebot.application.port.out.ClockPort;
 import com.vaulttradebot.application.port.out.ExchangeTradingPort;
@@ -18,13 +19,19 @@ import com.vaulttradebot.config.ApiTimeSupport;
 import com.vaulttradebot.config.VaultTradingProperties;
 import com.vaulttradebot.domain.common.vo.Market;
 import com.vaulttradebot.domain.common.vo.Money;
+import com.vaulttradebot.domain.common.vo.Quantity;
 import com.vaulttradebot.domain.common.vo.Side;
 import com.vaulttradebot.domain.execution.Order;
 import com.vaulttradebot.domain.execution.event.OrderDomainEvent;
+import com.vaulttradebot.domain.execution.vo.ExecutionTrade;
+import com.vaulttradebot.domain.execution.vo.OrderStatus;
 import com.vaulttradebot.domain.ops.BotRunState;
 import com.vaulttradebot.domain.ops.KillSwitchActiveException;
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
 
@@ -50,7 +57,8 @@ class OrderCommandExecutionServiceTest {
                 new PaperExchangeTradingAdapter(clock, tradingProperties()),
                 orderRepository,
                 orderPersistenceService,
-                new ObjectMapper()
+                new ObjectMapper(),
+                new OrderLatencyTracker(clock)
         );
 
         service.execute(message(clock.now()));
@@ -100,7 +108,8 @@ class OrderCommandExecutionServiceTest {
                 exchangeTradingPort,
                 orderRepository,
                 orderPersistenceService,
-                new ObjectMapper()
+                new ObjectMapper(),
+                new OrderLatencyTracker(clock)
         );
 
         Order existing = Order.create(
@@ -121,6 +130,250 @@ class OrderCommandExecutionServiceTest {
         assertThat(orderRepository.findById(existing.id()).orElseThrow().status().name()).isEqualTo("CANCELED");
     }
 
+    @Test
+    void replacePlacesOnlyTheUnfilledQuantityAndPersistsBothOrdersTogether() {
+        // Verifies a fill racing the cancel shrinks the new order and both order changes commit in one transaction.
+        InMemoryOrderRepository orderRepository = new InMemoryOrderRepository();
+        InMemoryOutboxRepository outboxRepository = new InMemoryOutboxRepository();
+        InMemoryPortfolioRepository portfolioRepository = new InMemoryPortfolioRepository();
+        ClockPort clock = () -> Instant.parse("2026-03-27T12:00:00Z");
+        InMemoryOrderOutboxTransactionAdapter transactions = new InMemoryOrderOutboxTransactionAdapter(orderRepository, outboxRepository, portfolioRepository);
+        AtomicInteger transactionCount = new AtomicInteger(0);
+        OrderPersistenceService orderPersistenceService = new OrderPersistenceService(
+                orderRepository,
+                outboxRepository,
+                portfolioRepository,
+                action -> {
+                    transactionCount.incrementAndGet();
+                    transactions.execute(action);
+                },
+                clock,
+                serializer()
+        );
+        List<String> exchangeCalls = new ArrayList<>();
+        ExchangeTradingPort exchangeTradingPort = new ExchangeTradingPort() {
+            @Override
+            public Order placeOrder(Order order) {
+                exchangeCalls.add("place " + order.quantity().toPlainString());
+                order.bindExchangeOrderId("upbit-uuid-2");
+                order.acceptByExchange();
+                return order;
+            }
+
+            @Override
+            public Order refreshOrder(Order order) {
+                exchangeCalls.add("refresh " + order.exchangeOrderId());
+                order.execute(new ExecutionTrade(
+                        "trade-1",
+                        Money.krw(new BigDecimal("50000000")),
+                        Quantity.of(new BigDecimal("0.00050000")),
+                        Money.krw(BigDecimal.ZERO),
+                        clock.now()
+                ));
+                return order;
+            }
+
+            @Override
+            public void cancelOrder(String orderId) {
+                exchangeCalls.add("cancel " + orderId);
+            }
+        };
+        OrderCommandExecutionService service = new OrderCommandExecutionService(
+                inactiveKillSwitch(),
+                exchangeTradingPort,
+                orderRepository,
+                orderPersistenceService,
+                new ObjectMapper(),
+                new OrderLatencyTracker(clock)
+        );
+        Order existing = restingOrder(orderRepository, clock.now());
+
+        service.execute(replaceMessage(existing.id(), clock.now()));
+
+        assertThat(exchangeCalls).containsExactly("cancel upbit-uuid-1", "refresh upbit-uuid-1", "place 0.00150000");
+        assertThat(transactionCount.get()).isEqualTo(1);
+        assertThat(orderRepository.findById(existing.id()).orElseThrow().status()).isEqualTo(OrderStatus.CANCELED);
+        Order replacement = orderRepository.findAll().stream()
+                .filter(order -> "upbit-uuid-2".equals(order.exchangeOrderId()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(replacement.status()).isEqualTo(OrderStatus.OPEN);
+        assertThat(replacement.price().amount()).isEqualByComparingTo("49000000");
+        assertThat(portfolioRepository.findByMarket("KRW-BTC").orElseThrow().quantity()).isEqualByComparingTo("0.00050000");
+    }
+
+    @Test
+    void replaceLeavesNothingToPlaceWhenTheOldOrderFilledFirst() {
+        // Verifies a cancel refused because the order already filled records the fill and places no new order.
+        InMemoryOrderRepository orderRepository = new InMemoryOrderRepository();
+        InMemoryOutboxRepository outboxRepository = new InMemoryOutboxRepository();
+        InMemoryPortfolioRepository portfolioRepository = new InMemoryPortfolioRepository();
+        ClockPort clock = () -> Instant.parse("2026-03-27T12:00:00Z");
+        OrderPersistenceService orderPersistenceService = new OrderPersistenceService(
+                orderRepository,
+                outboxRepository,
+                portfolioRepository,
+                new InMemoryOrderOutboxTransactionAdapter(orderRepository, outboxRepository, portfolioRepository),
+                clock,
+                serializer()
+        );
+        ExchangeTradingPort exchangeTradingPort = new ExchangeTradingPort() {
+            @Override
+            public Order placeOrder(Order order) {
+                throw new AssertionError("nothing should be placed");
+            }
+
+            @Override
+            public Order refreshOrder(Order order) {
+                order.execute(new ExecutionTrade(
+                        "trade-1",
+                        Money.krw(new BigDecimal("50000000")),
+                        Quantity.of(new BigDecimal("0.00200000")),
+                        Money.krw(BigDecimal.ZERO),
+                        clock.now()
+                ));
+                return order;
+            }
+
+            @Override
+            public void cancelOrder(String orderId) {
+                throw new IllegalStateException("order already done");
+            }
+        };
+        OrderCommandExecutionService service = new OrderCommandExecutionService(
+                inactiveKillSwitch(),
+                exchangeTradingPort,
+                orderRepository,
+                orderPersistenceService,
+                new ObjectMapper(),
+                new OrderLatencyTracker(clock)
+        );
+        Order existing = restingOrder(orderRepository, clock.now());
+
+        service.execute(replaceMessage(existing.id(), clock.now()));
+
+        assertThat(orderRepository.findAll()).hasSize(1);
+        assertThat(orderRepository.findById(existing.id()).orElseThrow().status()).isEqualTo(OrderStatus.FILLED);
+        assertThat(portfolioRepository.findByMarket("KRW-BTC").orElseThrow().quantity()).isEqualByComparingTo("0.00200000");
+    }
+
+    @Test
+    void replaceCarriesOnWhenTheCancelLandedButItsResponseWasLost() {
+        // Verifies a cancel that errors while the re-read shows the order canceled still places the new leg.
+        InMemoryOrderRepository orderRepository = new InMemoryOrderRepository();
+        InMemoryOutboxRepository outboxRepository = new InMemoryOutboxRepository();
+        InMemoryPortfolioRepository portfolioRepository = new InMemoryPortfolioRepository();
+        ClockPort clock = () -> Instant.parse("2026-03-27T12:00:00Z");
+        OrderPersistenceService orderPersistenceService = new OrderPersistenceService(
+                orderRepository,
+                outboxRepository,
+                portfolioRepository,
+                new InMemoryOrderOutboxTransactionAdapter(orderRepository, outboxRepository, portfolioRepository),
+                clock,
+                serializer()
+        );
+        List<String> exchangeCalls = new ArrayList<>();
+        ExchangeTradingPort exchangeTradingPort = new ExchangeTradingPort() {
+            @Override
+            public Order placeOrder(Order order) {
+                exchangeCalls.add("place " + order.quantity().toPlainString());
+                order.bindExchangeOrderId("upbit-uuid-2");
+                order.acceptByExchange();
+                return order;
+            }
+
+            @Override
+            public Order refreshOrder(Order order) {
+                exchangeCalls.add("refresh " + order.exchangeOrderId());
+                order.requestCancel();
+                order.cancel();
+                return order;
+            }
+
+            @Override
+            public void cancelOrder(String orderId) {
+                exchangeCalls.add("cancel " + orderId);
+                throw new IllegalStateException("read timed out");
+            }
+        };
+        OrderCommandExecutionService service = new OrderCommandExecutionService(
+                inactiveKillSwitch(),
+                exchangeTradingPort,
+                orderRepository,
+                orderPersistenceService,
+                new ObjectMapper(),
+                new OrderLatencyTracker(clock)
+        );
+        Order existing = restingOrder(orderRepository, clock.now());
+
+        service.execute(replaceMessage(existing.id(), clock.now()));
+
+        assertThat(exchangeCalls).containsExactly("cancel upbit-uuid-1", "refresh upbit-uuid-1", "place 0.00200000");
+        assertThat(orderRepository.findById(existing.id()).orElseThrow().status()).isEqualTo(OrderStatus.CANCELED);
+        assertThat(orderRepository.findAll())
+                .anyMatch(order -> "upbit-uuid-2".equals(order.exchangeOrderId()) && order.status() == OrderStatus.OPEN);
+    }
+
+    @Test
+    void retriedReplaceOfACanceledOrderPlacesOnlyWhatWasLeftOpen() {
+        // Verifies the retry leg after a failed placement sizes the new order from the old order's unfilled quantity.
+        InMemoryOrderRepository orderRepository = new InMemoryOrderRepository();
+        InMemoryOutboxRepository outboxRepository = new InMemoryOutboxRepository();
+        InMemoryPortfolioRepository portfolioRepository = new InMemoryPortfolioRepository();
+        ClockPort clock = () -> Instant.parse("2026-03-27T12:00:00Z");
+        OrderPersistenceService orderPersistenceService = new OrderPersistenceService(
+                orderRepository,
+                outboxRepository,
+                portfolioRepository,
+                new InMemoryOrderOutboxTransactionAdapter(orderRepository, outboxRepository, portfolioRepository),
+                clock,
+                serializer()
+        );
+        List<String> placed = new ArrayList<>();
+        ExchangeTradingPort exchangeTradingPort = new ExchangeTradingPort() {
+            @Override
+            public Order placeOrder(Order order) {
+                placed.add(order.quantity().toPlainString());
+                order.bindExchangeOrderId("upbit-uuid-2");
+                order.acceptByExchange();
+                return order;
+            }
+
+            @Override
+            public Order refreshOrder(Order order) {
+                throw new AssertionError("a canceled order needs no refresh");
+            }
+
+            @Override
+            public void cancelOrder(String orderId) {
+                throw new AssertionError("the old order is already canceled");
+            }
+        };
+        OrderCommandExecutionService service = new OrderCommandExecutionService(
+                inactiveKillSwitch(),
+                exchangeTradingPort,
+                orderRepository,
+                orderPersistenceService,
+                new ObjectMapper(),
+                new OrderLatencyTracker(clock)
+        );
+        Order existing = restingOrder(orderRepository, clock.now());
+        existing.execute(new ExecutionTrade(
+                "trade-1",
+                Money.krw(new BigDecimal("50000000")),
+                Quantity.of(new BigDecimal("0.00050000")),
+                Money.krw(BigDecimal.ZERO),
+                clock.now()
+        ));
+        existing.requestCancel();
+        existing.cancel();
+        orderRepository.save(existing);
+
+        service.execute(replaceMessage(existing.id(), clock.now(), 1));
+
+        assertThat(placed).containsExactly("0.00150000");
+    }
+
     @Test
     void blocksCreateCommandsWhileKillSwitchIsActive() {
         // Verifies kill switch protection blocks CREATE commands before they reach the exchange adapter.
@@ -141,7 +394,8 @@ class OrderCommandExecutionServiceTest {
                 new PaperExchangeTradingAdapter(clock, tradingProperties()),
                 orderRepository,
                 orderPersistenceService,
-                new ObjectMapper()
+                new ObjectMapper(),
+                new OrderLatencyTracker(clock)
         );
 
         org.junit.jupiter.api.Assertions.assertThrows(
@@ -256,7 +510,64 @@ class OrderCommandExecutionServiceTest {
                 0,
                 null,
                 now,
-                null
+                null,
+                null,
+                null,
+                OutboxPriority.COMMAND
+        );
+    }
+
+    private Order restingOrder(InMemoryOrderRepository orderRepository, Instant now) {
+        Order existing = Order.create(
+                Market.of("KRW-BTC"),
+                Side.BUY,
+                new BigDecimal("0.00200000"),
+                Money.krw(new BigDecimal("50000000")),
+                now
+        );
+        existing.acceptByExchange();
+        existing.bindExchangeOrderId("upbit-uuid-1");
+        return orderRepository.save(existing);
+    }
+
+    private OutboxMessage replaceMessage(String targetOrderId, Instant now) {
+        return replaceMessage(targetOrderId, now, 0);
+    }
+
+    private OutboxMessage replaceMessage(String targetOrderId, Instant now, int attemptCount) {
+        return new OutboxMessage(
+                "msg-replace-1",
+                "TradingCycle",
+                "cycle-3",
+                "OrderCommandRequested",
+                """
+                {
+                  "cycleId":"cycle-3",
+                  "strategyId":"MovingAverageCrossStrategy",
+                  "dataTimestamp":"2026-03-27T12:00:00Z",
+                  "decision":"PLACE",
+                  "reason":"price or quantity changed",
+                  "commandType":"REPLACE",
+                  "targetOrderId":"%s",
+                  "market":"KRW-BTC",
+                  "side":"BUY",
+                  "orderType":"LIMIT",
+                  "price":"49000000",
+                  "quantity":"0.00200000",
+                  "clientOrderId":"client-3"
+                }
+                """.formatted(targetOrderId),
+                1,
+                now,
+                now,
+                null,
+                attemptCount,
+                null,
+                now,
+                null,
+                null,
+                null,
+                OutboxPriority.COMMAND
         );
     }
 
@@ -290,7 +601,10 @@ class OrderCommandExecutionServiceTest {
                 0,
                 null,
                 now,
-                null
+                null,
+                null,
+                null,
+                OutboxPriority.CRITICAL
         );
     }
 
@@ -0,0 +1,198 @@
+package com.vaulttradebot.application.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vaulttradebot.adapter.out.InMemoryOrderRepository;
+import com.vaulttradebot.application.outbox.OutboxMessage;
+import com.vaulttradebot.config.VaultCircuitBreakerProperties;
+import com.vaulttradebot.domain.common.vo.Market;
+import com.vaulttradebot.domain.common.vo.Money;
+import com.vaulttradebot.domain.common.vo.Side;
+import com.vaulttradebot.domain.execution.Order;
+import com.vaulttradebot.domain.ops.KillSwitchActiveException;
+import com.vaulttradebot.domain.resilience.BulkheadFullException;
+import com.vaulttradebot.domain.resilience.CircuitBreakerOpenException;
+import com.vaulttradebot.domain.resilience.CircuitBreakerState;
+import com.vaulttradebot.domain.resilience.InMemoryCircuitBreaker;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+
+class OrderCommandRelayExecutorTest {
+    private final VaultCircuitBreakerProperties breakerProperties = breakerProperties();
+    private final InMemoryCircuitBreaker circuitBreaker = new InMemoryCircuitBreaker(() -> Instant.EPOCH, breakerProperties);
+    private final List<String> notifications = Collections.synchronizedList(new ArrayList<>());
+    private final InMemoryOrderRepository orderRepository = new InMemoryOrderRepository();
+
+    @Test
+    void runsMarketsInParallelButKeepsOrderWithinEachMarket() throws Exception {
+        // Verifies two markets overlap on separate threads while each market's commands keep outbox order.
+        CountDownLatch ethStarted = new CountDownLatch(1);
+        List<String> executed = Collections.synchronizedList(new ArrayList<>());
+        List<Boolean> overlapped = Collections.synchronizedList(new ArrayList<>());
+        OrderCommandRelayExecutor executor = executor(2, message -> {
+            if (message.id().equals("btc-1")) {
+                // Only completes promptly if the ETH partition runs at the same time on another thread.
+                overlapped.add(await(ethStarted));
+            }
+            if (message.id().equals("eth-1")) {
+                ethStarted.countDown();
+            }
+            executed.add(message.id());
+        });
+
+        List<OrderCommandRelayExecutor.Result> results = executor.executeAll(List.of(
+                OrderCommandConflatorTest.command("btc-1", 1, "CREATE", null, "KRW-BTC", "strategy-a"),
+                OrderCommandConflatorTest.command("eth-1", 2, "CREATE", null, "KRW-ETH", "strategy-a"),
+                OrderCommandConflatorTest.command("btc-2", 3, "CREATE", null, "KRW-BTC", "strategy-a"),
+                OrderCommandConflatorTest.command("eth-2", 4, "CREATE", null, "KRW-ETH", "strategy-a")
+        ));
+
+        assertThat(results).allMatch(OrderCommandRelayExecutor.Result::succeeded);
+        assertThat(results).extracting(result -> result.message().id()).containsExactly("btc-1", "eth-1", "btc-2", "eth-2");
+        assertThat(overlapped).containsExactly(true);
+        assertThat(executed.indexOf("btc-1")).isLessThan(executed.indexOf("btc-2"));
+        assertThat(executed.indexOf("eth-1")).isLessThan(executed.indexOf("eth-2"));
+        executor.shutdown();
+    }
+
+    @Test
+    void opensItsOwnBreakerButIgnoresKillSwitchRefusals() {
+        // Verifies exchange failures open the command breaker while kill switch refusals never count against it.
+        OrderCommandRelayExecutor executor = executor(1, message -> {
+            if (message.id().startsWith("blocked")) {
+                throw new KillSwitchActiveException("manual stop");
+            }
+            throw new IllegalStateException("exchange unavailable");
+        });
+
+        List<OrderCommandRelayExecutor.Result> refused = executor.executeAll(List.of(
+                OrderCommandConflatorTest.command("blocked-1", 1, "CREATE", null, "KRW-BTC", "strategy-a"),
+                OrderCommandConflatorTest.command("blocked-2", 2, "CREATE", null, "KRW-BTC", "strategy-a")
+        ));
+        assertThat(refused).allMatch(result -> result.error() instanceof KillSwitchActiveException);
+        assertThat(executor.breakerState()).isEqualTo(CircuitBreakerState.CLOSED);
+
+        List<OrderCommandRelayExecutor.Result> failed = executor.executeAll(List.of(
+                OrderCommandConflatorTest.command("fail-1", 3, "CREATE", null, "KRW-BTC", "strategy-a"),
+                OrderCommandConflatorTest.command("fail-2", 4, "CREATE", null, "KRW-BTC", "strategy-a"),
+                OrderCommandConflatorTest.command("fail-3", 5, "CREATE", null, "KRW-BTC", "strategy-a")
+        ));
+
+        assertThat(failed.get(2).error()).isInstanceOf(CircuitBreakerOpenException.class);
+        assertThat(executor.breakerState()).isEqualTo(CircuitBreakerState.OPEN);
+        assertThat(circuitBreaker.snapshot("outbox-event-publisher").state()).isEqualTo(CircuitBreakerState.CLOSED);
+        assertThat(notifications).anyMatch(message -> message.contains("CLOSED -> OPEN"));
+        executor.shutdown();
+    }
+
+    @Test
+    void bulkheadRejectionsNeverCountAgainstTheBreaker() {
+        // Verifies commands turned away by a full trading bulkhead reach the relay unchanged and leave the breaker closed.
+        OrderCommandRelayExecutor executor = executor(1, message -> {
+            throw new BulkheadFullException("upbit-trading");
+        });
+
+        List<OrderCommandRelayExecutor.Result> rejected = executor.executeAll(List.of(
+                OrderCommandConflatorTest.command("rejected-1", 1, "CREATE", null, "KRW-BTC", "strategy-a"),
+                OrderCommandConflatorTest.command("rejected-2", 2, "CREATE", null, "KRW-BTC", "strategy-a"),
+                OrderCommandConflatorTest.command("rejected-3", 3, "CREATE", null, "KRW-BTC", "strategy-a"),
+                OrderCommandConflatorTest.command("rejected-4", 4, "CREATE", null, "KRW-BTC", "strategy-a")
+        ));
+
+        assertThat(rejected).allMatch(result -> result.error() instanceof BulkheadFullException);
+        assertThat(executor.breakerState()).isEqualTo(CircuitBreakerState.CLOSED);
+        assertThat(notifications).isEmpty();
+        executor.shutdown();
+    }
+
+    @Test
+    void sendsBatchedCancelsAsOneMassCancelBeforeOtherCommands() {
+        // Verifies several cancels in one batch become a single mass cancel that runs ahead of queued creates.
+        List<String> executed = Collections.synchronizedList(new ArrayList<>());
+        List<List<String>> massCancels = new ArrayList<>();
+        MassCancelService massCancelService = new MassCancelService(null, null, null, null, null, null) {
+            @Override
+            public Map<String, RuntimeException> cancelAll(List<OutboxMessage> cancels) {
+                massCancels.add(cancels.stream().map(OutboxMessage::id).toList());
+                executed.add("mass-cancel");
+                return Map.of("cancel-2", new IllegalStateException("order already done"));
+            }
+        };
+        Order first = liveOrder("ex-1");
+        Order second = liveOrder("ex-2");
+        OrderCommandRelayExecutor executor = executor(1, message -> executed.add(message.id()), massCancelService);
+
+        List<OrderCommandRelayExecutor.Result> results = executor.executeAll(List.of(
+                OrderCommandConflatorTest.command("create-1", 1, "CREATE", null, "KRW-BTC", "strategy-a"),
+                OrderCommandConflatorTest.command("cancel-1", 2, "CANCEL", first.id(), "", "KillSwitch"),
+                OrderCommandConflatorTest.command("cancel-2", 3, "CANCEL", second.id(), "", "KillSwitch")
+        ));
+
+        assertThat(massCancels).containsExactly(List.of("cancel-1", "cancel-2"));
+        assertThat(executed).containsExactly("mass-cancel", "create-1");
+        assertThat(results).extracting(OrderCommandRelayExecutor.Result::succeeded).containsExactly(true, true, false);
+        assertThat(results.get(2).error()).hasMessage("order already done");
+        assertThat(executor.breakerState()).isEqualTo(CircuitBreakerState.CLOSED);
+        executor.shutdown();
+    }
+
+    private OrderCommandRelayExecutor executor(int concurrency, Consumer<OutboxMessage> exchange) {
+        return executor(concurrency, exchange, new MassCancelService(null, null, null, null, null, null));
+    }
+
+    private OrderCommandRelayExecutor executor(int concurrency, Consumer<OutboxMessage> exchange, MassCancelService massCancelService) {
+        OrderCommandExecutionService executionService = new OrderCommandExecutionService(null, null, null, null, null, null) {
+            @Override
+            public void execute(OutboxMessage message) {
+                exchange.accept(message);
+            }
+        };
+        return new OrderCommandRelayExecutor(
+                executionService,
+                new OrderCommandConflator(orderRepository, new ObjectMapper()),
+                massCancelService,
+                circuitBreaker,
+                notifications::add,
+                breakerProperties,
+                concurrency,
+                2
+        );
+    }
+
+    private Order liveOrder(String exchangeOrderId) {
+        Order order = Order.create(
+                Market.of("KRW-BTC"),
+                Side.BUY,
+                new BigDecimal("0.00200000"),
+                Money.krw(new BigDecimal("50000000")),
+                Instant.EPOCH
+        );
+        order.bindExchangeOrderId(exchangeOrderId);
+        order.acceptByExchange();
+        return orderRepository.save(order);
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static VaultCircuitBreakerProperties breakerProperties() {
+        VaultCircuitBreakerProperties properties = new VaultCircuitBreakerProperties();
+        properties.setFailureThreshold(2);
+        return properties;
+    }
+}
@@ -6,9 +6,12 @@ import com.vaulttradebot.adapter.out.InMemoryOrderOutboxTransactionAdapter;
 import com.vaulttradebot.adapter.out.InMemoryOrderRepository;
 import com.vaulttradebot.adapter.out.InMemoryOutboxRepository;
 import com.vaulttradebot.adapter.out.InMemoryPortfolioRepository;
+import com.vaulttradebot.adapter.out.StaticMarketDataAdapter;
 import com.vaulttradebot.application.port.out.ClockPort;
 import com.vaulttradebot.application.port.out.ExchangeTradingPort;
 import com.vaulttradebot.application.port.out.OutboxPayloadSerializer;
+import com.vaulttradebot.application.query.OrderSyncSnapshot;
+import com.vaulttradebot.config.VaultOrderSyncProperties;
 import com.vaulttradebot.domain.common.vo.Market;
 import com.vaulttradebot.domain.common.vo.Money;
 import com.vaulttradebot.domain.common.vo.Quantity;
@@ -17,8 +20,12 @@ import com.vaulttradebot.domain.execution.Order;
 import com.vaulttradebot.domain.execution.event.OrderDomainEvent;
 import com.vaulttradebot.domain.execution.vo.ExecutionTrade;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
 
 class OrderFillSyncServiceTest {
@@ -83,7 +90,11 @@ class OrderFillSyncServiceTest {
         OrderFillSyncService service = new OrderFillSyncService(
                 orderRepository,
                 exchangeTradingPort,
-                orderPersistenceService
+                orderPersistenceService,
+                new StaticMarketDataAdapter(),
+                clock,
+                new VaultOrderSyncProperties(),
+                new OrderLatencyTracker(clock)
         );
 
         service.syncActiveOrders();
@@ -145,7 +156,11 @@ class OrderFillSyncServiceTest {
         OrderFillSyncService service = new OrderFillSyncService(
                 orderRepository,
                 exchangeTradingPort,
-                orderPersistenceService
+                orderPersistenceService,
+                new StaticMarketDataAdapter(),
+                clock,
+                new VaultOrderSyncProperties(),
+                new OrderLatencyTracker(clock)
         );
 
         service.syncActiveOrders();
@@ -155,6 +170,138 @@ class OrderFillSyncServiceTest {
         assertThat(portfolioRepository.findAll()).isEmpty();
     }
 
+    @Test
+    void adaptiveSyncRefreshesNearTouchOrdersMoreOftenThanFarOnes() {
+        // Verifies a resting order far below the last price is skipped on later polls while a near-touch order is re-checked.
+        InMemoryOrderRepository orderRepository = new InMemoryOrderRepository();
+        InMemoryOutboxRepository outboxRepository = new InMemoryOutboxRepository();
+        InMemoryPortfolioRepository portfolioRepository = new InMemoryPortfolioRepository();
+        Instant placedAt = Instant.parse("2026-03-27T12:00:00Z");
+        AtomicReference<Instant> now = new AtomicReference<>(placedAt.plus(Duration.ofMinutes(10)));
+        ClockPort clock = now::get;
+        OrderPersistenceService orderPersistenceService = new OrderPersistenceService(
+                orderRepository,
+                outboxRepository,
+                portfolioRepository,
+                new InMemoryOrderOutboxTransactionAdapter(orderRepository, outboxRepository, portfolioRepository),
+                clock,
+                serializer()
+        );
+        Order nearTouch = restingBuy(orderRepository, "49000000", "upbit-near", placedAt);
+        Order farFromTouch = restingBuy(orderRepository, "45000000", "upbit-far", placedAt);
+        Map<String, Integer> refreshes = new HashMap<>();
+        ExchangeTradingPort exchangeTradingPort = new ExchangeTradingPort() {
+            @Override
+            public Order placeOrder(Order current) {
+                return current;
+            }
+
+            @Override
+            public Order refreshOrder(Order current) {
+                refreshes.merge(current.exchangeOrderId(), 1, Integer::sum);
+                return current;
+            }
+
+            @Override
+            public void cancelOrder(String orderId) {
+            }
+        };
+        OrderFillSyncService service = new OrderFillSyncService(
+                orderRepository,
+                exchangeTradingPort,
+                orderPersistenceService,
+                new StaticMarketDataAdapter(),
+                clock,
+                new VaultOrderSyncProperties(),
+                new OrderLatencyTracker(clock)
+        );
+
+        for (int poll = 0; poll < 3; poll++) {
+            service.syncActiveOrders();
+            now.set(now.get().plusSeconds(1));
+        }
+
+        assertThat(refreshes).containsEntry(nearTouch.exchangeOrderId(), 3).containsEntry(farFromTouch.exchangeOrderId(), 1);
+        OrderSyncSnapshot snapshot = service.orderSync();
+        assertThat(snapshot.polls()).isEqualTo(3);
+        assertThat(snapshot.refreshCalls()).isEqualTo(4);
+        assertThat(snapshot.skippedChecks()).isEqualTo(2);
+        assertThat(snapshot.trackedOrders()).isEqualTo(2);
+    }
+
+    @Test
+    void failedRefreshDoesNotStopTheBatchAndIsRetriedAtTheMinimumInterval() {
+        // Verifies a refresh that throws still lets the other due orders sync and brings the failed order back next poll.
+        InMemoryOrderRepository orderRepository = new InMemoryOrderRepository();
+        InMemoryOutboxRepository outboxRepository = new InMemoryOutboxRepository();
+        InMemoryPortfolioRepository portfolioRepository = new InMemoryPortfolioRepository();
+        Instant placedAt = Instant.parse("2026-03-27T12:00:00Z");
+        AtomicReference<Instant> now = new AtomicReference<>(placedAt.plus(Duration.ofMinutes(10)));
+        ClockPort clock = now::get;
+        OrderPersistenceService orderPersistenceService = new OrderPersistenceService(
+                orderRepository,
+                outboxRepository,
+                portfolioRepository,
+                new InMemoryOrderOutboxTransactionAdapter(orderRepository, outboxRepository, portfolioRepository),
+                clock,
+                serializer()
+        );
+        Order flaky = restingBuy(orderRepository, "45000000", "upbit-flaky", placedAt);
+        Order healthy = restingBuy(orderRepository, "45000000", "upbit-healthy", placedAt);
+        Map<String, Integer> refreshes = new HashMap<>();
+        ExchangeTradingPort exchangeTradingPort = new ExchangeTradingPort() {
+            @Override
+            public Order placeOrder(Order current) {
+                return current;
+            }
+
+            @Override
+            public Order refreshOrder(Order current) {
+                int calls = refreshes.merge(current.exchangeOrderId(), 1, Integer::sum);
+                if (current.exchangeOrderId().equals("upbit-flaky") && calls == 1) {
+                    throw new IllegalStateException("upbit order lookup timed out");
+                }
+                return current;
+            }
+
+            @Override
+            public void cancelOrder(String orderId) {
+            }
+        };
+        OrderFillSyncService service = new OrderFillSyncService(
+                orderRepository,
+                exchangeTradingPort,
+                orderPersistenceService,
+                new StaticMarketDataAdapter(),
+                clock,
+                new VaultOrderSyncProperties(),
+                new OrderLatencyTracker(clock)
+        );
+
+        service.syncActiveOrders();
+        now.set(now.get().plusSeconds(1));
+        service.syncActiveOrders();
+
+        // The far-from-touch healthy order is not due again; only the failed one is retried after the minimum interval.
+        assertThat(refreshes).containsEntry(flaky.exchangeOrderId(), 2).containsEntry(healthy.exchangeOrderId(), 1);
+        OrderSyncSnapshot snapshot = service.orderSync();
+        assertThat(snapshot.refreshFailures()).isEqualTo(1);
+        assertThat(snapshot.trackedOrders()).isEqualTo(2);
+    }
+
+    private Order restingBuy(InMemoryOrderRepository orderRepository, String price, String exchangeOrderId, Instant placedAt) {
+        Order order = Order.create(
+                Market.of("KRW-BTC"),
+                Side.BUY,
+                new BigDecimal("0.01000000"),
+                Money.krw(new BigDecimal(price)),
+                placedAt
+        );
+        order.bindExchangeOrderId(exchangeOrderId);
+        order.acceptByExchange();
+        return orderRepository.save(order);
+    }
+
     private OutboxPayloadSerializer serializer() {
         return new OutboxPayloadSerializer() {
             @Override
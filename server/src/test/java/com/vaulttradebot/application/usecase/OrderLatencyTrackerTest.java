@@ -0,0 +1,127 @@
+package com.vaulttradebot.application.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vaulttradebot.application.outbox.OutboxMessage;
+import com.vaulttradebot.application.outbox.OutboxPriority;
+import com.vaulttradebot.application.query.LatencyStageSnapshot;
+import com.vaulttradebot.application.query.OrderLatencySnapshot;
+import com.vaulttradebot.application.query.OrderLatencyTrace;
+import com.vaulttradebot.domain.common.vo.Market;
+import com.vaulttradebot.domain.common.vo.Money;
+import com.vaulttradebot.domain.common.vo.Quantity;
+import com.vaulttradebot.domain.common.vo.Side;
+import com.vaulttradebot.domain.execution.Order;
+import com.vaulttradebot.domain.execution.vo.ExecutionTrade;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class OrderLatencyTrackerTest {
+    private static final Instant SIGNAL_AT = Instant.parse("2026-03-27T12:00:00Z");
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(SIGNAL_AT);
+    private final OrderLatencyTracker tracker = new OrderLatencyTracker(now::get);
+
+    @Test
+    void joinsStageTimestampsIntoOneTraceAndHistograms() {
+        // Verifies signal, enqueue, dispatch, acknowledgement and first fill are correlated and bucketed per stage.
+        OutboxMessage message = command("msg-1", SIGNAL_AT.plusMillis(40));
+        now.set(SIGNAL_AT.plusMillis(240));
+        tracker.dispatched(message, "cycle-1", SIGNAL_AT);
+        now.set(SIGNAL_AT.plusMillis(320));
+        tracker.dispatched(message, "cycle-1", SIGNAL_AT);
+        now.set(SIGNAL_AT.plusMillis(1_240));
+        Order placed = order();
+        placed.acceptByExchange();
+        tracker.acknowledged(message.id(), placed);
+        execute(placed, SIGNAL_AT.plusSeconds(5));
+        tracker.filled(placed);
+        execute(placed, SIGNAL_AT.plusSeconds(9));
+        tracker.filled(placed);
+
+        OrderLatencyTrace trace = tracker.slowestOrders(5).getFirst();
+        assertThat(trace.orderId()).isEqualTo(placed.id());
+        assertThat(trace.cycleId()).isEqualTo("cycle-1");
+        assertThat(trace.signalToEnqueueMs()).isEqualTo(40L);
+        assertThat(trace.enqueueToPublishMs()).isEqualTo(200L);
+        assertThat(trace.publishToAckMs()).isEqualTo(1_000L);
+        assertThat(trace.ackToFillMs()).isEqualTo(3_760L);
+        assertThat(trace.totalMs()).isEqualTo(5_000L);
+
+        OrderLatencySnapshot snapshot = tracker.orderLatency();
+        assertThat(snapshot.acknowledgedOrders()).isEqualTo(1);
+        assertThat(snapshot.filledOrders()).isEqualTo(1);
+        Map<String, LatencyStageSnapshot> stages = snapshot.stages().stream()
+                .collect(Collectors.toMap(LatencyStageSnapshot::stage, Function.identity()));
+        assertThat(stages.get("signalToEnqueue").buckets()).containsEntry("50ms", 1L);
+        assertThat(stages.get("enqueueToPublish").count()).isEqualTo(1);
+        assertThat(stages.get("publishToAck").p99Ms()).isEqualTo(1_000L);
+        assertThat(stages.get("ackToFill").p50Ms()).isEqualTo(3_760L);
+        assertThat(stages.get("ackToFill").buckets()).containsEntry("5000ms", 1L);
+    }
+
+    @Test
+    void ranksSlowestOrdersAndDropsCommandsThatPlacedNothing() {
+        // Verifies the slowest view orders traces by end-to-end latency and ignores commands without a placed order.
+        OutboxMessage fast = command("msg-fast", SIGNAL_AT);
+        OutboxMessage slow = command("msg-slow", SIGNAL_AT);
+        OutboxMessage noop = command("msg-noop", SIGNAL_AT);
+        tracker.dispatched(fast, "cycle-fast", SIGNAL_AT);
+        tracker.dispatched(slow, "cycle-slow", SIGNAL_AT);
+        tracker.dispatched(noop, "cycle-noop", SIGNAL_AT);
+        now.set(SIGNAL_AT.plusMillis(100));
+        tracker.acknowledged(fast.id(), order());
+        now.set(SIGNAL_AT.plus(Duration.ofSeconds(3)));
+        tracker.acknowledged(slow.id(), order());
+        tracker.acknowledged(noop.id(), null);
+
+        List<OrderLatencyTrace> slowest = tracker.slowestOrders(10);
+
+        assertThat(slowest).extracting(OrderLatencyTrace::cycleId).containsExactly("cycle-slow", "cycle-fast");
+        assertThat(slowest.getFirst().ackToFillMs()).isNull();
+        assertThat(tracker.slowestOrders(1)).hasSize(1);
+        assertThat(tracker.orderLatency().trackedOrders()).isEqualTo(2);
+    }
+
+    private Order order() {
+        return Order.create(Market.of("KRW-BTC"), Side.BUY, new BigDecimal("0.01000000"), Money.krw(new BigDecimal("50000000")), SIGNAL_AT);
+    }
+
+    private void execute(Order order, Instant executedAt) {
+        order.execute(new ExecutionTrade(
+                "trade-" + executedAt.toEpochMilli(),
+                Money.krw(new BigDecimal("50000000")),
+                Quantity.of(new BigDecimal("0.00100000")),
+                Money.krw(BigDecimal.ZERO),
+                executedAt
+        ));
+    }
+
+    private OutboxMessage command(String id, Instant createdAt) {
+        return new OutboxMessage(
+                id,
+                "TradingCycle",
+                "cycle",
+                "OrderCommandRequested",
+                "{}",
+                1,
+                createdAt,
+                createdAt,
+                null,
+                0,
+                null,
+                createdAt,
+                null,
+                null,
+                null,
+                OutboxPriority.COMMAND
+        );
+    }
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.vaulttradebot.adapter.out.InMemoryOutboxRepository;
 import com.vaulttradebot.application.outbox.OutboxMessage;
+import com.vaulttradebot.application.outbox.OutboxPriority;
 import com.vaulttradebot.application.port.out.ClockPort;
 import java.time.Instant;
 import org.junit.jupiter.api.Test;
@@ -30,7 +31,10 @@ class OutboxRedriveServiceTest {
                 5,
                 "broker down",
                 null,
-                now.minusSeconds(60)
+                now.minusSeconds(60),
+                null,
+                null,
+                OutboxPriority.EVENT
         ));
 
         OutboxRedriveService redriveService = new OutboxRedriveService(repository, clock, 100);
@@ -52,8 +56,8 @@ class OutboxRedriveServiceTest {
         Instant now = Instant.parse("2026-02-15T10:00:00Z");
         ClockPort clock = () -> now;
 
-        repository.save(new OutboxMessage("msg-1", "Order", "order-1", "OrderCreated", "{}", 1, now, now, null, 5, "e1", null, now));
-        repository.save(new OutboxMessage("msg-2", "Order", "order-2", "OrderCreated", "{}", 1, now, now, null, 5, "e2", null, now));
+        repository.save(new OutboxMessage("msg-1", "Order", "order-1", "OrderCreated", "{}", 1, now, now, null, 5, "e1", null, now, null, null, OutboxPriority.EVENT));
+        repository.save(new OutboxMessage("msg-2", "Order", "order-2", "OrderCreated", "{}", 1, now, now, null, 5, "e2", null, now, null, null, OutboxPriority.EVENT));
 
         OutboxRedriveService redriveService = new OutboxRedriveService(repository, clock, 100);
         int redriven = redriveService.redriveBatch(1);
@@ -1,11 +1,19 @@
 package com.vaulttradebot.application.usecase;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vaulttradebot.adapter.out.InMemoryOrderRepository;
 import com.vaulttradebot.adapter.out.InMemoryOutboxRepository;
 import com.vaulttradebot.application.outbox.OutboxMessage;
+import com.vaulttradebot.application.outbox.OutboxPriority;
 import com.vaulttradebot.application.port.out.ClockPort;
 import com.vaulttradebot.application.port.out.OutboxEventPublisher;
+import com.vaulttradebot.application.query.OutboxRelaySnapshot;
+import com.vaulttradebot.application.query.OutboxRouteSnapshot;
+import com.vaulttradebot.config.VaultCircuitBreakerProperties;
+import com.vaulttradebot.domain.resilience.InMemoryCircuitBreaker;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -20,7 +28,7 @@ class OutboxRelayServiceTest {
         Instant now = Instant.parse("2026-02-15T10:00:00Z");
         ClockPort clock = () -> now;
         RecordingPublisher publisher = new RecordingPublisher();
-        OutboxRelayService relayService = new OutboxRelayService(outboxRepository, publisher, clock, 5, 500, 30000, 100);
+        OutboxRelayService relayService = new OutboxRelayService(outboxRepository, publisher, clock, conflator(), commandExecutor(publisher), 5, 500, 30000, 100, 100, 100, 100);
 
         outboxRepository.save(message("msg-1", now));
 
@@ -38,7 +46,7 @@ class OutboxRelayServiceTest {
         Instant now = Instant.parse("2026-02-15T10:00:00Z");
         ClockPort clock = () -> now;
         RecordingPublisher publisher = new RecordingPublisher();
-        OutboxRelayService relayService = new OutboxRelayService(outboxRepository, publisher, clock, 5, 500, 30000, 100);
+        OutboxRelayService relayService = new OutboxRelayService(outboxRepository, publisher, clock, conflator(), commandExecutor(publisher), 5, 500, 30000, 100, 100, 100, 100);
 
         outboxRepository.save(message("msg-1", now));
         outboxRepository.save(message("msg-2", now));
@@ -62,9 +70,14 @@ class OutboxRelayServiceTest {
                     throw new IllegalStateException("temporary network");
                 },
                 clock,
+                conflator(),
+                commandExecutor(new RecordingPublisher()),
                 3,
                 1000,
                 8000,
+                100,
+                100,
+                100,
                 100
         );
 
@@ -92,9 +105,14 @@ class OutboxRelayServiceTest {
                     throw new IllegalStateException("broker down");
                 },
                 clock,
+                conflator(),
+                commandExecutor(new RecordingPublisher()),
                 1,
                 1000,
                 8000,
+                100,
+                100,
+                100,
                 100
         );
 
@@ -108,6 +126,142 @@ class OutboxRelayServiceTest {
         assertThat(deadLettered.lastError()).contains("broker down");
     }
 
+    @Test
+    void dropsSupersededOrderCommandsBeforePublishing() {
+        // Verifies a queued CREATE superseded by a newer CREATE is marked dropped with a reason and never published.
+        InMemoryOutboxRepository outboxRepository = new InMemoryOutboxRepository();
+        Instant now = Instant.parse("2026-03-27T12:01:00Z");
+        ClockPort clock = () -> now;
+        RecordingPublisher publisher = new RecordingPublisher();
+        OutboxRelayService relayService = new OutboxRelayService(outboxRepository, publisher, clock, conflator(), commandExecutor(publisher), 5, 500, 30000, 100, 100, 100, 100);
+
+        outboxRepository.save(OrderCommandConflatorTest.command("cmd-1", 1, "CREATE", null, "KRW-BTC", "strategy-a"));
+        outboxRepository.save(OrderCommandConflatorTest.command("cmd-2", 2, "CREATE", null, "KRW-BTC", "strategy-a"));
+
+        int published = relayService.relayBatch(10);
+        OutboxMessage dropped = outboxRepository.findAll().getFirst();
+
+        assertThat(published).isEqualTo(1);
+        assertThat(publisher.published()).extracting(OutboxMessage::id).containsExactly("cmd-2");
+        assertThat(dropped.isDropped()).isTrue();
+        assertThat(dropped.isPublished()).isFalse();
+        assertThat(dropped.droppedAt()).isEqualTo(now);
+        assertThat(dropped.dropReason()).isEqualTo("superseded by newer CREATE cmd-2");
+        assertThat(outboxRepository.findReadyToPublish(10, now)).isEmpty();
+    }
+
+    @Test
+    void relaysCancelsAheadOfEventBacklog() {
+        // Verifies a cancel queued behind routine events is still sent first when the batch cannot take everything.
+        InMemoryOutboxRepository outboxRepository = new InMemoryOutboxRepository();
+        Instant now = Instant.parse("2026-03-27T12:01:00Z");
+        ClockPort clock = () -> now;
+        RecordingPublisher publisher = new RecordingPublisher();
+        OutboxRelayService relayService = new OutboxRelayService(outboxRepository, publisher, clock, conflator(), commandExecutor(publisher), 5, 500, 30000, 100, 100, 100, 100);
+
+        for (int i = 0; i < 5; i++) {
+            outboxRepository.save(message("event-" + i, now.minusSeconds(120)));
+        }
+        outboxRepository.save(OrderCommandConflatorTest.command("cancel-1", 1, "CANCEL", "order-9", "", "KillSwitch"));
+
+        int published = relayService.relayBatch(2);
+
+        assertThat(published).isEqualTo(2);
+        assertThat(publisher.published()).extracting(OutboxMessage::id).containsExactly("cancel-1", "event-0");
+        assertThat(outboxRepository.findReadyToPublish(10, now).getFirst().priority()).isEqualTo(OutboxPriority.EVENT);
+    }
+
+    @Test
+    void criticalTickRelaysOnlyTheCriticalLane() {
+        // Verifies the fast critical tick sends pending cancels and leaves commands and events for the full relay.
+        InMemoryOutboxRepository outboxRepository = new InMemoryOutboxRepository();
+        Instant now = Instant.parse("2026-03-27T12:01:00Z");
+        ClockPort clock = () -> now;
+        RecordingPublisher publisher = new RecordingPublisher();
+        OutboxRelayService relayService = new OutboxRelayService(outboxRepository, publisher, clock, conflator(), commandExecutor(publisher), 5, 500, 30000, 100, 100, 100, 100);
+
+        outboxRepository.save(message("event-1", now));
+        outboxRepository.save(OrderCommandConflatorTest.command("create-1", 1, "CREATE", null, "KRW-BTC", "strategy-a"));
+        outboxRepository.save(OrderCommandConflatorTest.command("cancel-1", 2, "CANCEL", "order-9", "", "KillSwitch"));
+
+        relayService.relayCritical();
+
+        assertThat(publisher.published()).extracting(OutboxMessage::id).containsExactly("cancel-1");
+        assertThat(outboxRepository.findReadyToPublish(10, now)).extracting(OutboxMessage::id)
+                .containsExactlyInAnyOrder("create-1", "event-1");
+    }
+
+    @Test
+    void capsEachLaneAtItsOwnCapacity() {
+        // Verifies a command burst only takes its lane capacity and leaves the rest of the batch to events.
+        InMemoryOutboxRepository outboxRepository = new InMemoryOutboxRepository();
+        Instant now = Instant.parse("2026-03-27T12:01:00Z");
+        ClockPort clock = () -> now;
+        RecordingPublisher publisher = new RecordingPublisher();
+        OutboxRelayService relayService = new OutboxRelayService(outboxRepository, publisher, clock, conflator(), commandExecutor(publisher), 5, 500, 30000, 100, 100, 1, 100);
+
+        outboxRepository.save(OrderCommandConflatorTest.command("create-btc", 1, "CREATE", null, "KRW-BTC", "strategy-a"));
+        outboxRepository.save(OrderCommandConflatorTest.command("create-eth", 2, "CREATE", null, "KRW-ETH", "strategy-a"));
+        outboxRepository.save(message("event-1", now));
+        outboxRepository.save(message("event-2", now));
+
+        int published = relayService.relayBatch(10);
+
+        assertThat(published).isEqualTo(3);
+        assertThat(publisher.published()).extracting(OutboxMessage::id).containsExactly("create-btc", "event-1", "event-2");
+        assertThat(outboxRepository.findReadyToPublish(10, now)).extracting(OutboxMessage::id).containsExactly("create-eth");
+    }
+
+    @Test
+    void routesOrderCommandsToExchangeExecutorAndEventsToPublisher() {
+        // Verifies commands never reach event subscribers, events never reach the exchange, and each route is metered.
+        InMemoryOutboxRepository outboxRepository = new InMemoryOutboxRepository();
+        Instant now = Instant.parse("2026-03-27T12:01:00Z");
+        ClockPort clock = () -> now;
+        RecordingPublisher exchange = new RecordingPublisher();
+        RecordingPublisher subscribers = new RecordingPublisher();
+        OutboxRelayService relayService = new OutboxRelayService(outboxRepository, subscribers, clock, conflator(), commandExecutor(exchange), 5, 500, 30000, 100, 100, 100, 100);
+
+        outboxRepository.save(message("event-1", now));
+        outboxRepository.save(OrderCommandConflatorTest.command("create-1", 1, "CREATE", null, "KRW-BTC", "strategy-a"));
+        outboxRepository.save(message("event-2", now));
+
+        int published = relayService.relayBatch(10);
+        OutboxRelaySnapshot snapshot = relayService.outboxRelay();
+
+        assertThat(published).isEqualTo(3);
+        assertThat(exchange.published()).extracting(OutboxMessage::id).containsExactly("create-1");
+        assertThat(subscribers.published()).extracting(OutboxMessage::id).containsExactly("event-1", "event-2");
+        assertThat(snapshot.routes()).extracting(OutboxRouteSnapshot::route, OutboxRouteSnapshot::relayed)
+                .containsExactly(tuple("order-commands", 1L), tuple("domain-events", 2L));
+        assertThat(snapshot.orderCommandBreakerState()).isEqualTo("CLOSED");
+    }
+
+    private OrderCommandRelayExecutor commandExecutor(OutboxEventPublisher exchange) {
+        OrderCommandExecutionService executionService = new OrderCommandExecutionService(null, null, null, null, null, null) {
+            @Override
+            public void execute(OutboxMessage message) {
+                exchange.publish(message);
+            }
+        };
+        VaultCircuitBreakerProperties breakerProperties = new VaultCircuitBreakerProperties();
+        return new OrderCommandRelayExecutor(
+                executionService,
+                conflator(),
+                new MassCancelService(null, null, null, null, null, null),
+                new InMemoryCircuitBreaker(() -> Instant.EPOCH, breakerProperties),
+                message -> {
+                },
+                breakerProperties,
+                1,
+                2
+        );
+    }
+
+    private OrderCommandConflator conflator() {
+        return new OrderCommandConflator(new InMemoryOrderRepository(), new ObjectMapper());
+    }
+
     private OutboxMessage message(String id, Instant now) {
         return new OutboxMessage(
                 id,
@@ -122,7 +276,10 @@ class OutboxRelayServiceTest {
                 0,
                 null,
                 now,
-                null
+                null,
+                null,
+                null,
+                OutboxPriority.EVENT
         );
     }
 
@@ -6,6 +6,7 @@ import com.vaulttradebot.application.port.in.RunTradingCycleUseCase;
 import com.vaulttradebot.application.port.out.ClockPort;
 import com.vaulttradebot.application.query.SchedulerStatusSnapshot;
 import com.vaulttradebot.config.ApiTimeSupport;
+import com.vaulttradebot.config.VaultOrderSyncProperties;
 import com.vaulttradebot.config.VaultSchedulerProperties;
 import java.time.Instant;
 import java.util.ArrayDeque;
@@ -15,7 +16,7 @@ import java.util.Queue;
 import org.junit.jupiter.api.Test;
 
 class TradingCycleSchedulerServiceTest {
-    private final OrderFillSyncService noOpFillSyncService = new OrderFillSyncService(null, null, null) {
+    private final OrderFillSyncService noOpFillSyncService = new OrderFillSyncService(null, null, null, null, null, new VaultOrderSyncProperties(), null) {
         @Override
         public void syncActiveOrders() {
         }
@@ -139,6 +140,41 @@ class TradingCycleSchedulerServiceTest {
         assertThat(useCase.invocations()).isEqualTo(1);
     }
 
+    @Test
+    void barCloseTriggerRunsCycleButNeverSchedulesRetryOrRunsWhilePaused() {
+        // Verifies bar close dispatches honour pause and leave failures to the next bar instead of retrying.
+        MutableClock clock = new MutableClock(Instant.parse("2026-03-14T01:00:01Z"));
+        StubTradingCycleUseCase useCase = new StubTradingCycleUseCase(
+                new CycleResult(true, false, "cycle failed: stale"),
+                new CycleResult(true, false, "ok")
+        );
+        List<String> notifications = new ArrayList<>();
+        TradingCycleSchedulerService service = new TradingCycleSchedulerService(
+                useCase,
+                noOpFillSyncService,
+                clock,
+                notifications::add,
+                schedulerProperties()
+        );
+
+        CycleResult failed = service.triggerBarClose();
+        SchedulerStatusSnapshot failedStatus = service.schedulerStatus();
+        assertThat(failed.failed()).isTrue();
+        assertThat(failedStatus.lastTrigger()).isEqualTo("BAR_CLOSE");
+        assertThat(failedStatus.totalFailures()).isEqualTo(1);
+        assertThat(failedStatus.pendingRetryAt()).isNull();
+        assertThat(notifications).isEmpty();
+
+        service.pause();
+        CycleResult paused = service.triggerBarClose();
+        assertThat(paused.executed()).isFalse();
+        assertThat(useCase.invocations()).isEqualTo(1);
+
+        service.resume();
+        assertThat(service.triggerBarClose().message()).isEqualTo("ok");
+        assertThat(service.schedulerStatus().totalSuccesses()).isEqualTo(1);
+    }
+
     private VaultSchedulerProperties schedulerProperties() {
         VaultSchedulerProperties properties = new VaultSchedulerProperties();
         properties.setCron("*/5 * * * * *");
@@ -0,0 +1,75 @@
+package com.vaulttradebot.domain.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vaulttradebot.domain.common.vo.Market;
+import com.vaulttradebot.domain.common.vo.Side;
+import com.vaulttradebot.domain.common.vo.TopOfBook;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class L2OrderBookTest {
+    private static final Market MARKET = Market.of("KRW-BTC");
+    private static final Instant NOW = Instant.parse("2026-03-14T09:00:00Z");
+
+    @Test
+    void snapshotReplacementKeepsSidesSortedWithTouchFirst() {
+        // Verifies unordered snapshot levels land best-first and depth sums every tracked level.
+        L2OrderBook book = new L2OrderBook(MARKET, 5);
+
+        book.replaceBids(scaled(99, 100, 98), scaled(1, 2, 3), 3);
+        book.replaceAsks(scaled(102, 101, 103), scaled(4, 5, 6), 3);
+
+        TopOfBook top = book.topOfBook(NOW).orElseThrow();
+        assertThat(top.bestBid().amount()).isEqualByComparingTo("100");
+        assertThat(top.bestAsk().amount()).isEqualByComparingTo("101");
+        assertThat(top.touchQty(Side.BUY)).isEqualByComparingTo("5");
+        assertThat(top.touchQty(Side.SELL)).isEqualByComparingTo("2");
+        assertThat(top.bidDepthQty()).isEqualByComparingTo("6");
+        assertThat(top.askDepthQty()).isEqualByComparingTo("15");
+    }
+
+    @Test
+    void incrementalUpdatesInsertRemoveAndDropBeyondCapacity() {
+        // Verifies zero size removes a level and a full book drops its worst level for a better price.
+        L2OrderBook book = new L2OrderBook(MARKET, 2);
+        book.updateBid(scaled(100), scaled(1));
+        book.updateBid(scaled(99), scaled(1));
+
+        book.updateBid(scaled(98), scaled(1));
+        assertThat(book.bidLevels()).isEqualTo(2);
+
+        book.updateBid(scaled(101), scaled(1));
+        assertThat(book.bestBidPrice()).isEqualTo(scaled(101));
+        assertThat(book.bidLevels()).isEqualTo(2);
+
+        book.updateBid(scaled(101), 0L);
+        assertThat(book.bestBidPrice()).isEqualTo(scaled(100));
+        assertThat(book.bidLevels()).isEqualTo(1);
+    }
+
+    @Test
+    void oneSidedOrCrossedBookPublishesNothing() {
+        // Verifies pricing never sees a book missing a side or with bid at or above ask.
+        L2OrderBook book = new L2OrderBook(MARKET, 3);
+        book.updateBid(scaled(100), scaled(1));
+        assertThat(book.topOfBook(NOW)).isEqualTo(Optional.empty());
+
+        book.updateAsk(scaled(100), scaled(1));
+        assertThat(book.topOfBook(NOW)).isEqualTo(Optional.empty());
+    }
+
+    private static long scaled(long value) {
+        return CandleBuffer.toScaled(BigDecimal.valueOf(value));
+    }
+
+    private static long[] scaled(long... values) {
+        long[] scaled = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            scaled[i] = scaled(values[i]);
+        }
+        return scaled;
+    }
+}
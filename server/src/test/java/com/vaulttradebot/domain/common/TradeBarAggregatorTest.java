@@ -0,0 +1,80 @@
+package com.vaulttradebot.domain.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vaulttradebot.domain.common.vo.Asset;
+import com.vaulttradebot.domain.common.vo.Candle;
+import com.vaulttradebot.domain.common.vo.Timeframe;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TradeBarAggregatorTest {
+    private static final long T0 = Instant.parse("2026-03-14T09:00:00Z").toEpochMilli();
+
+    private final List<Candle> closed = new ArrayList<>();
+
+    @Test
+    void tradesFoldIntoEpochAlignedOhlcvBars() {
+        // Verifies trades in one 5s interval become one bar that closes when the next interval trades.
+        TradeBarAggregator aggregator = new TradeBarAggregator(Timeframe.S5, Asset.krw(), 10);
+
+        aggregator.onTrade(T0 + 1_200, scaled("100"), scaled("0.5"), closed::add);
+        aggregator.onTrade(T0 + 2_000, scaled("103"), scaled("0.25"), closed::add);
+        aggregator.onTrade(T0 + 4_999, scaled("98"), scaled("1"), closed::add);
+        aggregator.onTrade(T0 + 4_999, scaled("101"), scaled("0.25"), closed::add);
+        assertThat(closed).isEmpty();
+
+        aggregator.onTrade(T0 + 5_000, scaled("102"), scaled("1"), closed::add);
+
+        assertThat(closed).hasSize(1);
+        Candle bar = closed.get(0);
+        assertThat(bar.openTime()).isEqualTo(Instant.ofEpochMilli(T0));
+        assertThat(bar.open().value()).isEqualByComparingTo("100");
+        assertThat(bar.high().value()).isEqualByComparingTo("103");
+        assertThat(bar.low().value()).isEqualByComparingTo("98");
+        assertThat(bar.close().value()).isEqualByComparingTo("101");
+        assertThat(bar.volume()).isEqualByComparingTo("2");
+    }
+
+    @Test
+    void quietIntervalsCloseFlatAtLastPrice() {
+        // Verifies intervals without trades still close, as zero-volume bars at the previous close.
+        TradeBarAggregator aggregator = new TradeBarAggregator(Timeframe.S1, Asset.krw(), 10);
+        aggregator.onTrade(T0 + 100, scaled("100"), scaled("1"), closed::add);
+
+        int emitted = aggregator.closeThrough(T0 + 3_500, closed::add);
+
+        assertThat(emitted).isEqualTo(3);
+        assertThat(closed).extracting(Candle::openTime).containsExactly(
+                Instant.ofEpochMilli(T0),
+                Instant.ofEpochMilli(T0 + 1_000),
+                Instant.ofEpochMilli(T0 + 2_000)
+        );
+        assertThat(closed.get(2).close().value()).isEqualByComparingTo("100");
+        assertThat(closed.get(2).volume()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(aggregator.closeThrough(T0 + 3_900, closed::add)).isZero();
+    }
+
+    @Test
+    void lateTradeIsRejectedAndLongSilenceIsBounded() {
+        // Verifies a trade before the forming bar is refused and a long gap emits at most the flat-bar bound.
+        TradeBarAggregator aggregator = new TradeBarAggregator(Timeframe.S1, Asset.krw(), 3);
+        aggregator.onTrade(T0 + 5_000, scaled("100"), scaled("1"), closed::add);
+
+        assertThat(aggregator.onTrade(T0 + 4_000, scaled("99"), scaled("1"), closed::add)).isFalse();
+        assertThat(closed).isEmpty();
+
+        aggregator.onTrade(T0 + 60_000, scaled("105"), scaled("1"), closed::add);
+
+        assertThat(closed).hasSize(4);
+        assertThat(closed.get(0).openTime()).isEqualTo(Instant.ofEpochMilli(T0 + 5_000));
+        assertThat(closed.get(3).openTime()).isEqualTo(Instant.ofEpochMilli(T0 + 59_000));
+    }
+
+    private static long scaled(String value) {
+        return CandleBuffer.toScaled(new BigDecimal(value));
+    }
+}
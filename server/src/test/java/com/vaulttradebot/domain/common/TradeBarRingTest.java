@@ -0,0 +1,66 @@
+package com.vaulttradebot.domain.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vaulttradebot.domain.common.vo.Asset;
+import com.vaulttradebot.domain.common.vo.Candle;
+import com.vaulttradebot.domain.common.vo.Price;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class TradeBarRingTest {
+    private static final Instant T0 = Instant.parse("2026-03-14T09:00:00Z");
+    private static final Duration FRAME = Duration.ofSeconds(1);
+
+    @Test
+    void returnsNewestClosedBarsOldestFirstAndForgetsOverwrittenOnes() {
+        // Verifies the ring keeps only its capacity, returns bars in time order and skips unclosed ones.
+        TradeBarRing ring = new TradeBarRing(3);
+        for (int i = 0; i < 5; i++) {
+            ring.append(bar(i));
+        }
+
+        assertThat(ring.appended()).isEqualTo(5);
+        assertThat(ring.recent(10, T0.plusSeconds(10), FRAME)).extracting(Candle::openTime)
+                .containsExactly(T0.plusSeconds(2), T0.plusSeconds(3), T0.plusSeconds(4));
+        assertThat(ring.recent(2, T0.plusSeconds(4), FRAME)).extracting(Candle::openTime)
+                .containsExactly(T0.plusSeconds(2), T0.plusSeconds(3));
+        assertThat(new TradeBarRing(3).recent(5, T0, FRAME)).isEmpty();
+    }
+
+    @Test
+    void concurrentReaderAlwaysSeesContiguousAscendingBars() throws Exception {
+        // Verifies a lock-free reader racing the writer never observes lapped or out-of-order bars.
+        TradeBarRing ring = new TradeBarRing(16);
+        AtomicBoolean done = new AtomicBoolean(false);
+        AtomicReference<String> violation = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            while (!done.get() && violation.get() == null) {
+                List<Candle> bars = ring.recent(16, T0.plusSeconds(1_000_000), FRAME);
+                for (int i = 1; i < bars.size(); i++) {
+                    if (!bars.get(i).openTime().equals(bars.get(i - 1).openTime().plus(FRAME))) {
+                        violation.set(bars.get(i - 1).openTime() + " -> " + bars.get(i).openTime());
+                    }
+                }
+            }
+        });
+        reader.start();
+        for (int i = 0; i < 200_000; i++) {
+            ring.append(bar(i));
+        }
+        done.set(true);
+        reader.join();
+
+        assertThat(violation.get()).isNull();
+    }
+
+    private static Candle bar(int second) {
+        Price price = Price.of(new BigDecimal("100"), Asset.krw());
+        return new Candle(T0.plusSeconds(second), price, price, price, price, BigDecimal.ONE);
+    }
+}
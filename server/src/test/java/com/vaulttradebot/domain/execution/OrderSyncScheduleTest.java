@@ -0,0 +1,66 @@
+package com.vaulttradebot.domain.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vaulttradebot.domain.common.vo.Market;
+import com.vaulttradebot.domain.common.vo.Money;
+import com.vaulttradebot.domain.common.vo.Side;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class OrderSyncScheduleTest {
+    private static final Instant PLACED_AT = Instant.parse("2026-03-27T12:00:00Z");
+    private static final Money LAST = Money.krw(new BigDecimal("50000000"));
+
+    @Test
+    void checksNewOrdersImmediatelyAndDropsInactiveOnes() {
+        // Verifies unseen orders are due on the first poll and orders missing from the active set stop being tracked.
+        OrderSyncSchedule schedule = schedule();
+        Order first = order(Side.BUY, "49990000");
+        Order second = order(Side.BUY, "45000000");
+
+        assertThat(schedule.due(List.of(first.id(), second.id()), PLACED_AT)).containsExactlyInAnyOrder(first.id(), second.id());
+        schedule.reschedule(first, LAST, false, PLACED_AT);
+        schedule.reschedule(second, LAST, false, PLACED_AT);
+
+        assertThat(schedule.due(List.of(first.id()), PLACED_AT.plusSeconds(1))).containsExactly(first.id());
+        assertThat(schedule.size()).isEqualTo(1);
+    }
+
+    @Test
+    void stretchesIntervalWithDistanceFromTouchAndAge() {
+        // Verifies near-touch and recently filled orders stay on the minimum interval while far, old orders back off.
+        OrderSyncSchedule schedule = schedule();
+        Instant aged = PLACED_AT.plus(Duration.ofMinutes(10));
+        Order nearBuy = order(Side.BUY, "49990000");
+        Order farBuy = order(Side.BUY, "45000000");
+        Order midSell = order(Side.SELL, "50525000");
+
+        assertThat(schedule.nextInterval(farBuy, LAST, null, PLACED_AT.plusSeconds(5))).isEqualTo(Duration.ofSeconds(1));
+        assertThat(schedule.nextInterval(nearBuy, LAST, null, aged)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(schedule.nextInterval(farBuy, LAST, null, aged)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(schedule.nextInterval(farBuy, LAST, null, PLACED_AT.plus(Duration.ofMinutes(5)))).isEqualTo(Duration.ofMillis(22750));
+        assertThat(schedule.nextInterval(midSell, LAST, null, aged)).isEqualTo(Duration.ofMillis(15500));
+        assertThat(schedule.nextInterval(farBuy, LAST, aged.minusSeconds(30), aged)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(schedule.nextInterval(farBuy, null, null, aged)).isEqualTo(Duration.ofMillis(15500));
+    }
+
+    private OrderSyncSchedule schedule() {
+        return new OrderSyncSchedule(
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(30),
+                10,
+                200,
+                Duration.ofSeconds(10),
+                Duration.ofMinutes(1),
+                Duration.ofMinutes(10)
+        );
+    }
+
+    private Order order(Side side, String price) {
+        return Order.create(Market.of("KRW-BTC"), side, new BigDecimal("0.01000000"), Money.krw(new BigDecimal(price)), PLACED_AT);
+    }
+}
@@ -0,0 +1,107 @@
+package com.vaulttradebot.domain.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class BulkheadTest {
+
+    @Test
+    void rejectsImmediatelyOnceConcurrencyAndQueueAreFull() throws Exception {
+        // Verifies a saturated bulkhead fails fast instead of piling callers up behind a slow dependency.
+        Bulkhead bulkhead = new Bulkhead("upbit-quotation", 1, 0, Duration.ofSeconds(5));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> slow = executor.submit(() -> bulkhead.execute(() -> block(started, release)));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            long startedAt = System.nanoTime();
+            assertThatThrownBy(() -> bulkhead.execute(() -> "ok"))
+                    .isInstanceOf(BulkheadFullException.class)
+                    .hasMessage("bulkhead is full: upbit-quotation");
+            assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(1));
+
+            BulkheadSnapshot busy = bulkhead.snapshot();
+            assertThat(busy.activeCalls()).isEqualTo(1);
+            assertThat(busy.occupancyPercent()).isEqualTo(100.0);
+            assertThat(busy.rejectedCalls()).isEqualTo(1);
+
+            release.countDown();
+            assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+            BulkheadSnapshot idle = bulkhead.snapshot();
+            assertThat(idle.activeCalls()).isZero();
+            assertThat(idle.peakActiveCalls()).isEqualTo(1);
+            assertThat(idle.completedCalls()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void queuedCallRunsOnceAPermitFreesWithinTheWait() throws Exception {
+        // Verifies a caller inside the queue bound waits for a permit instead of being rejected.
+        Bulkhead bulkhead = new Bulkhead("upbit-trading", 1, 1, Duration.ofSeconds(5));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executor.submit(() -> bulkhead.execute(() -> block(started, release)));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<String> queued = executor.submit(() -> bulkhead.execute(() -> "queued"));
+            while (bulkhead.snapshot().queuedCalls() == 0) {
+                Thread.onSpinWait();
+            }
+
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("queued");
+            assertThat(bulkhead.snapshot().completedCalls()).isEqualTo(2);
+            assertThat(bulkhead.snapshot().rejectedCalls()).isZero();
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void saturatedBulkheadDoesNotBlockAnotherGroup() throws Exception {
+        // Verifies a stalled quotation group leaves the trading group's permits untouched.
+        Bulkhead quotation = new Bulkhead("upbit-quotation", 1, 0, Duration.ZERO);
+        Bulkhead trading = new Bulkhead("upbit-trading", 1, 0, Duration.ZERO);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> quotation.execute(() -> block(started, release)));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(trading.execute(() -> "placed")).isEqualTo("placed");
+            assertThatThrownBy(() -> quotation.execute(() -> "ticker"))
+                    .isInstanceOf(BulkheadFullException.class);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static String block(CountDownLatch started, CountDownLatch release) {
+        started.countDown();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "done";
+    }
+}
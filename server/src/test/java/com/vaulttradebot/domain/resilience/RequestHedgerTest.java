@@ -0,0 +1,108 @@
+package com.vaulttradebot.domain.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RequestHedgerTest {
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void slowPrimaryIsHedgedAndTheLoserIsInterrupted() throws Exception {
+        // Verifies a call outliving the hedge delay races a second request, the first answer wins and the loser is cancelled.
+        RequestHedger hedger = new RequestHedger("quotation", executor, 95, Duration.ZERO, Duration.ofMillis(20), 1, 100, 1);
+        AtomicInteger attempts = new AtomicInteger(0);
+        CountDownLatch primaryInterrupted = new CountDownLatch(1);
+
+        String result = hedger.execute(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    primaryInterrupted.countDown();
+                    throw new IllegalStateException("aborted", e);
+                }
+                return "primary";
+            }
+            return "hedge";
+        });
+
+        assertThat(result).isEqualTo("hedge");
+        assertThat(primaryInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        HedgeSnapshot snapshot = hedger.snapshot();
+        assertThat(snapshot.calls()).isEqualTo(1);
+        assertThat(snapshot.hedgedCalls()).isEqualTo(1);
+        assertThat(snapshot.hedgeWins()).isEqualTo(1);
+        assertThat(snapshot.budgetTokens()).isZero();
+    }
+
+    @Test
+    void emptyBudgetLetsTheSlowPrimaryFinishAlone() {
+        // Verifies hedges stop once the budget is spent, so hedging can never multiply traffic under load.
+        RequestHedger hedger = new RequestHedger("quotation", executor, 95, Duration.ZERO, Duration.ofMillis(10), 1, 0, 1);
+        AtomicInteger attempts = new AtomicInteger(0);
+
+        String result = hedger.execute(() -> {
+            attempts.incrementAndGet();
+            sleep(60);
+            return "primary";
+        });
+
+        assertThat(result).isEqualTo("primary");
+        assertThat(attempts.get()).isEqualTo(1);
+        assertThat(hedger.snapshot().hedgedCalls()).isZero();
+        assertThat(hedger.snapshot().budgetDeniedCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void hedgeDelayFollowsTheObservedLatencyPercentile() {
+        // Verifies the delay starts at the maximum and drops to the recent percentile, clamped to the minimum.
+        RequestHedger hedger = new RequestHedger("quotation", executor, 95, Duration.ofMillis(5), Duration.ofSeconds(1), 20, 10, 3);
+        assertThat(hedger.hedgeDelay()).isEqualTo(Duration.ofSeconds(1));
+
+        for (int i = 0; i < 20; i++) {
+            hedger.execute(() -> "fast");
+        }
+
+        assertThat(hedger.hedgeDelay()).isEqualTo(Duration.ofMillis(5));
+        assertThat(hedger.snapshot().latencySamples()).isEqualTo(20);
+        assertThat(hedger.snapshot().budgetTokens()).isEqualTo(2.0);
+    }
+
+    @Test
+    void failureBeforeTheDelayIsReturnedWithoutHedging() {
+        // Verifies a fast failure surfaces to the retry layer unchanged instead of triggering a hedge.
+        RequestHedger hedger = new RequestHedger("quotation", executor, 95, Duration.ZERO, Duration.ofSeconds(1), 1, 100, 3);
+        AtomicInteger attempts = new AtomicInteger(0);
+
+        assertThatThrownBy(() -> hedger.execute(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalArgumentException("bad market");
+        }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("bad market");
+        assertThat(attempts.get()).isEqualTo(1);
+        assertThat(hedger.snapshot().hedgedCalls()).isZero();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
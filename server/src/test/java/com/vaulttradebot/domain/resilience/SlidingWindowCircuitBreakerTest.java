@@ -0,0 +1,166 @@
+package com.vaulttradebot.domain.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.vaulttradebot.config.VaultCircuitBreakerProperties;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class SlidingWindowCircuitBreakerTest {
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2026-03-14T00:00:00Z"));
+
+    @Test
+    void opensOnFailureRateEvenWhenFailuresAlternateWithSuccesses() {
+        // Verifies interleaved failures trip the breaker once the window holds enough calls at the failure-rate threshold.
+        SlidingWindowCircuitBreaker circuitBreaker = new SlidingWindowCircuitBreaker(now::get, properties());
+
+        for (int i = 0; i < 2; i++) {
+            circuitBreaker.execute("exchange", () -> "ok");
+            failOnce(circuitBreaker);
+        }
+
+        assertThat(circuitBreaker.snapshot("exchange").state()).isEqualTo(CircuitBreakerState.OPEN);
+        assertThat(circuitBreaker.snapshot("exchange").consecutiveFailures()).isEqualTo(1);
+        assertThatThrownBy(() -> circuitBreaker.execute("exchange", () -> "ok"))
+                .isInstanceOf(CircuitBreakerOpenException.class);
+        CircuitBreakerMetrics metrics = circuitBreaker.metrics().getFirst();
+        assertThat(metrics.windowCalls()).isEqualTo(4);
+        assertThat(metrics.failureRatePercent()).isEqualTo(50.0);
+        assertThat(metrics.rejectedCalls()).isEqualTo(1);
+        assertThat(metrics.stateTransitions()).isEqualTo(1);
+    }
+
+    @Test
+    void opensOnSlowCallsAndClosesAfterASuccessfulProbe() {
+        // Verifies successful but slow calls trip the breaker and a fast probe after the cooldown closes it again.
+        SlidingWindowCircuitBreaker circuitBreaker = new SlidingWindowCircuitBreaker(now::get, properties());
+
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.execute("exchange", () -> {
+                now.set(now.get().plusMillis(600));
+                return "slow";
+            });
+        }
+        assertThat(circuitBreaker.snapshot("exchange").state()).isEqualTo(CircuitBreakerState.OPEN);
+
+        now.set(now.get().plusSeconds(31));
+        assertThat(circuitBreaker.execute("exchange", () -> "fast")).isEqualTo("fast");
+
+        assertThat(circuitBreaker.snapshot("exchange").state()).isEqualTo(CircuitBreakerState.CLOSED);
+        CircuitBreakerMetrics metrics = circuitBreaker.metrics().getFirst();
+        assertThat(metrics.windowCalls()).isZero();
+        assertThat(metrics.slowCalls()).isEqualTo(4);
+        assertThat(metrics.stateTransitions()).isEqualTo(3);
+    }
+
+    @Test
+    void ignoresFailuresOutsideTheWindowAndBypassErrors() {
+        // Verifies old buckets age out and bypassed caller errors never count toward the failure rate.
+        SlidingWindowCircuitBreaker circuitBreaker = new SlidingWindowCircuitBreaker(now::get, properties());
+        failOnce(circuitBreaker);
+        failOnce(circuitBreaker);
+        now.set(now.get().plusSeconds(11));
+
+        failOnce(circuitBreaker);
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> circuitBreaker.execute("exchange", () -> {
+                throw new CircuitBreakerBypassException(new IllegalStateException("kill switch"));
+            })).isInstanceOf(CircuitBreakerBypassException.class);
+            circuitBreaker.execute("exchange", () -> "ok");
+        }
+
+        assertThat(circuitBreaker.snapshot("exchange").state()).isEqualTo(CircuitBreakerState.CLOSED);
+        assertThat(circuitBreaker.metrics().getFirst().windowCalls()).isEqualTo(4);
+    }
+
+    @Test
+    void opensOnConsecutiveFailuresBeforeTheWindowHoldsMinimumCalls() {
+        // Verifies a low-rate dependency that is simply down still trips on the consecutive rule, whichever fires first.
+        VaultCircuitBreakerProperties properties = properties();
+        properties.setMinimumCalls(10);
+        properties.setFailureThreshold(3);
+        SlidingWindowCircuitBreaker circuitBreaker = new SlidingWindowCircuitBreaker(now::get, properties);
+
+        failOnce(circuitBreaker);
+        failOnce(circuitBreaker);
+        assertThat(circuitBreaker.snapshot("exchange").state()).isEqualTo(CircuitBreakerState.CLOSED);
+        failOnce(circuitBreaker);
+
+        assertThat(circuitBreaker.snapshot("exchange").state()).isEqualTo(CircuitBreakerState.OPEN);
+        assertThat(circuitBreaker.metrics().getFirst().windowCalls()).isEqualTo(3);
+    }
+
+    @Test
+    void countsEveryCallUnderConcurrentLoad() throws Exception {
+        // Verifies concurrent callers update the shared window without losing outcomes.
+        SlidingWindowCircuitBreaker circuitBreaker = new SlidingWindowCircuitBreaker(now::get, properties());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int call = 0; call < 1_000; call++) {
+                        circuitBreaker.execute("exchange", () -> "ok");
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        CircuitBreakerMetrics metrics = circuitBreaker.metrics().getFirst();
+        assertThat(metrics.totalCalls()).isEqualTo(8_000);
+        assertThat(metrics.windowCalls()).isEqualTo(8_000);
+        assertThat(metrics.state()).isEqualTo(CircuitBreakerState.CLOSED);
+    }
+
+    @Test
+    void errorDuringAHalfOpenProbeHandsThePermitBack() {
+        // Verifies a probe that dies with an Error frees its half-open permit, so the next probe can still close the breaker.
+        SlidingWindowCircuitBreaker circuitBreaker = new SlidingWindowCircuitBreaker(now::get, properties());
+        for (int i = 0; i < 4; i++) {
+            failOnce(circuitBreaker);
+        }
+        now.set(now.get().plusSeconds(31));
+
+        assertThatThrownBy(() -> circuitBreaker.execute("exchange", () -> {
+            throw new AssertionError("probe crashed");
+        })).isInstanceOf(AssertionError.class);
+
+        assertThat(circuitBreaker.snapshot("exchange").state()).isEqualTo(CircuitBreakerState.HALF_OPEN);
+        assertThat(circuitBreaker.execute("exchange", () -> "ok")).isEqualTo("ok");
+        assertThat(circuitBreaker.snapshot("exchange").state()).isEqualTo(CircuitBreakerState.CLOSED);
+    }
+
+    private void failOnce(SlidingWindowCircuitBreaker circuitBreaker) {
+        assertThatThrownBy(() -> circuitBreaker.execute("exchange", () -> {
+            throw new IllegalStateException("temporary");
+        })).isInstanceOf(IllegalStateException.class);
+    }
+
+    private VaultCircuitBreakerProperties properties() {
+        VaultCircuitBreakerProperties properties = new VaultCircuitBreakerProperties();
+        properties.setType(VaultCircuitBreakerProperties.Type.SLIDING_WINDOW);
+        properties.setOpenDurationMs(30_000L);
+        properties.setHalfOpenMaxCalls(1);
+        properties.setWindowMs(10_000L);
+        properties.setWindowBuckets(10);
+        properties.setMinimumCalls(4);
+        properties.setFailureRateThresholdPercent(50);
+        properties.setSlowCallRateThresholdPercent(100);
+        properties.setSlowCallDurationMs(500L);
+        // High enough that the rate scenarios above never reach the consecutive-failure rule.
+        properties.setFailureThreshold(5);
+        return properties;
+    }
+}
@@ -0,0 +1,116 @@
+package com.vaulttradebot.domain.trading.exit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.vaulttradebot.domain.common.CandleBuffer;
+import com.vaulttradebot.domain.common.vo.Market;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class ExitTriggerIndexTest {
+    private static final Market MARKET = Market.of("KRW-BTC");
+
+    private final List<ExitTrigger> fired = new ArrayList<>();
+
+    @Test
+    void stopsAndTargetsFireOnlyWhenCrossedAndCancelTheirGroup() {
+        // Verifies a crossed stop fires once and takes its take-profit sibling with it, leaving other groups resting.
+        ExitTriggerIndex index = new ExitTriggerIndex(MARKET);
+        index.add(trigger("a-sl", "a", ExitTriggerType.STOP_LOSS, 95), scaled(100));
+        index.add(trigger("a-tp", "a", ExitTriggerType.TAKE_PROFIT, 110), scaled(100));
+        index.add(trigger("b-sl", "b", ExitTriggerType.STOP_LOSS, 90), scaled(100));
+
+        assertThat(index.onPrice(scaled(96), fired::add)).isZero();
+        assertThat(index.onPrice(scaled(95), fired::add)).isEqualTo(1);
+
+        assertThat(fired).extracting(ExitTrigger::id).containsExactly("a-sl");
+        assertThat(index.contains("a-tp")).isFalse();
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.onPrice(scaled(200), fired::add)).isZero();
+        assertThat(index.onPrice(scaled(80), fired::add)).isEqualTo(1);
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void trailingStopsRatchetOnNewHighsAndFireTightestFirst() {
+        // Verifies trails armed at different highs follow a new high together and fire by distance.
+        ExitTriggerIndex index = new ExitTriggerIndex(MARKET);
+        index.add(trigger("t5", "g5", ExitTriggerType.TRAILING_STOP, 5), scaled(100));
+        index.add(trigger("t10", "g10", ExitTriggerType.TRAILING_STOP, 10), scaled(104));
+
+        index.onPrice(scaled(120), fired::add);
+        assertThat(index.onPrice(scaled(116), fired::add)).isZero();
+        assertThat(index.onPrice(scaled(115), fired::add)).isEqualTo(1);
+        assertThat(fired).extracting(ExitTrigger::id).containsExactly("t5");
+
+        assertThat(index.onPrice(scaled(111), fired::add)).isZero();
+        assertThat(index.onPrice(scaled(110), fired::add)).isEqualTo(1);
+        assertThat(fired).extracting(ExitTrigger::id).containsExactly("t5", "t10");
+    }
+
+    @Test
+    void removalAndDuplicateArmingAreHandled() {
+        // Verifies removed triggers never fire and the same id cannot rest twice.
+        ExitTriggerIndex index = new ExitTriggerIndex(MARKET);
+        index.add(trigger("sl", "g", ExitTriggerType.STOP_LOSS, 95), scaled(100));
+        index.add(trigger("trail", "g", ExitTriggerType.TRAILING_STOP, 3), scaled(100));
+
+        assertThatThrownBy(() -> index.add(trigger("sl", "g", ExitTriggerType.STOP_LOSS, 94), scaled(100)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(index.remove("trail")).isTrue();
+        assertThat(index.onPrice(scaled(96), fired::add)).isZero();
+        assertThat(index.removeGroup("g")).isEqualTo(1);
+        assertThat(index.onPrice(scaled(1), fired::add)).isZero();
+    }
+
+    @Test
+    void matchesBruteForceOverRandomPriceWalk() {
+        // Verifies the index fires exactly what a per-trigger scan would on a random walk with thousands of triggers.
+        Random random = new Random(7);
+        ExitTriggerIndex index = new ExitTriggerIndex(MARKET);
+        List<long[]> reference = new ArrayList<>();
+        long price = 10_000;
+        for (int i = 0; i < 3_000; i++) {
+            ExitTriggerType type = ExitTriggerType.values()[random.nextInt(3)];
+            long level = type == ExitTriggerType.TRAILING_STOP ? 1 + random.nextInt(300) : 9_000 + random.nextInt(2_000);
+            index.add(trigger("t" + i, "g" + i, type, level), scaled(price));
+            // {type, level, peak, fired}
+            reference.add(new long[] {type.ordinal(), level, price, 0});
+        }
+        for (int step = 0; step < 5_000; step++) {
+            price = Math.max(1, price + random.nextInt(41) - 20);
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < reference.size(); i++) {
+                long[] ref = reference.get(i);
+                if (ref[3] == 1) {
+                    continue;
+                }
+                ref[2] = Math.max(ref[2], price);
+                boolean fires = switch (ExitTriggerType.values()[(int) ref[0]]) {
+                    case STOP_LOSS -> price <= ref[1];
+                    case TAKE_PROFIT -> price >= ref[1];
+                    case TRAILING_STOP -> price <= ref[2] - ref[1];
+                };
+                if (fires) {
+                    ref[3] = 1;
+                    expected.add("t" + i);
+                }
+            }
+            fired.clear();
+            index.onPrice(scaled(price), fired::add);
+            assertThat(fired).extracting(ExitTrigger::id).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    private static ExitTrigger trigger(String id, String group, ExitTriggerType type, long level) {
+        return new ExitTrigger(id, group, MARKET, type, BigDecimal.valueOf(level), BigDecimal.ONE);
+    }
+
+    private static long scaled(long value) {
+        return CandleBuffer.toScaled(BigDecimal.valueOf(value));
+    }
+}
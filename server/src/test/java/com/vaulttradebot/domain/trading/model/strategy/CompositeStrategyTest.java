@@ -0,0 +1,211 @@
+package com.vaulttradebot.domain.trading.model.strategy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.data.Offset.offset;
+
+import com.vaulttradebot.domain.common.vo.Timeframe;
+import com.vaulttradebot.domain.resilience.Deadline;
+import com.vaulttradebot.domain.trading.model.strategy.vo.SignalDecision;
+import com.vaulttradebot.domain.trading.model.strategy.vo.StrategyContext;
+import com.vaulttradebot.domain.trading.vo.SignalAction;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class CompositeStrategyTest {
+    private static final Instant NOW = Instant.parse("2026-03-14T00:00:00Z");
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void priorityPolicyPicksFirstActionableMember() {
+        // Verifies PRIORITY returns the first non-HOLD member signal in configured order.
+        CompositeStrategy composite = composite(SignalArbitrationPolicy.PRIORITY, Duration.ofSeconds(1),
+                member("hold", fixed(SignalAction.HOLD, 0.0d)),
+                member("sell", fixed(SignalAction.SELL, 0.4d)),
+                member("buy", fixed(SignalAction.BUY, 0.9d)));
+
+        SignalDecision decision = composite.evaluate(context());
+
+        assertThat(decision.action()).isEqualTo(SignalAction.SELL);
+        assertThat(decision.confidence()).isEqualTo(0.4d);
+        assertThat(decision.reason()).contains("policy=PRIORITY").contains("hold:HOLD", "sell:SELL", "buy:BUY");
+    }
+
+    @Test
+    void votingPolicyRequiresStrictMajority() {
+        // Verifies VOTING acts only when a strict majority of members agree on a direction.
+        CompositeStrategy majority = composite(SignalArbitrationPolicy.VOTING, Duration.ofSeconds(1),
+                member("a", fixed(SignalAction.BUY, 0.2d)),
+                member("b", fixed(SignalAction.BUY, 0.4d)),
+                member("c", fixed(SignalAction.SELL, 0.9d)));
+        CompositeStrategy split = composite(SignalArbitrationPolicy.VOTING, Duration.ofSeconds(1),
+                member("a", fixed(SignalAction.BUY, 0.2d)),
+                member("b", fixed(SignalAction.SELL, 0.4d)));
+
+        SignalDecision agreed = majority.evaluate(context());
+        SignalDecision undecided = split.evaluate(context());
+
+        assertThat(agreed.action()).isEqualTo(SignalAction.BUY);
+        assertThat(agreed.confidence()).isCloseTo(0.3d, offset(1e-9));
+        assertThat(undecided.action()).isEqualTo(SignalAction.HOLD);
+        assertThat(undecided.reason()).startsWith("ENSEMBLE_NO_CONSENSUS");
+    }
+
+    @Test
+    void netExposurePolicyUsesWeightsAgainstThreshold() {
+        // Verifies NET_EXPOSURE trades only when the weighted net direction clears the threshold.
+        CompositeStrategy composite = new CompositeStrategy(
+                "Ensemble",
+                List.of(
+                        new StrategyEnsembleMember("heavy", fixed(SignalAction.BUY, 0.6d), 3.0d),
+                        new StrategyEnsembleMember("light", fixed(SignalAction.SELL, 0.6d), 1.0d)
+                ),
+                new SignalArbiter(SignalArbitrationPolicy.NET_EXPOSURE, 0.5d),
+                executor,
+                Duration.ofSeconds(1)
+        );
+        CompositeStrategy balanced = new CompositeStrategy(
+                "Ensemble",
+                List.of(
+                        new StrategyEnsembleMember("heavy", fixed(SignalAction.BUY, 0.6d), 2.0d),
+                        new StrategyEnsembleMember("light", fixed(SignalAction.SELL, 0.6d), 2.0d)
+                ),
+                new SignalArbiter(SignalArbitrationPolicy.NET_EXPOSURE, 0.5d),
+                executor,
+                Duration.ofSeconds(1)
+        );
+
+        assertThat(composite.evaluate(context()).action()).isEqualTo(SignalAction.BUY);
+        assertThat(balanced.evaluate(context()).reason()).startsWith("ENSEMBLE_NET_BELOW_THRESHOLD");
+    }
+
+    @Test
+    void evaluatesMembersConcurrentlyOnSharedContext() {
+        // Verifies members run in parallel: each waits for the other, which would deadlock if run sequentially.
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Strategy rendezvous = context -> {
+            bothStarted.countDown();
+            try {
+                if (!bothStarted.await(1, TimeUnit.SECONDS)) {
+                    return SignalDecision.hold("NOT_PARALLEL", context.now(), context.symbol(), context.timeframe());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new SignalDecision(SignalAction.BUY, 0.5d, "ok", context.now(), context.symbol(), context.timeframe());
+        };
+        CompositeStrategy composite = composite(SignalArbitrationPolicy.VOTING, Duration.ofSeconds(2),
+                member("a", rendezvous),
+                member("b", rendezvous));
+
+        SignalDecision decision = composite.evaluate(context());
+
+        assertThat(decision.action()).isEqualTo(SignalAction.BUY);
+    }
+
+    @Test
+    void slowOrFailingMemberAbstainsInsteadOfBlockingCycle() {
+        // Verifies timed-out and failing members become HOLD votes so the remaining members still decide.
+        Strategy slow = context -> {
+            try {
+                Thread.sleep(5_000L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new SignalDecision(SignalAction.SELL, 1.0d, "late", context.now(), context.symbol(), context.timeframe());
+        };
+        Strategy broken = context -> {
+            throw new IllegalStateException("boom");
+        };
+        CompositeStrategy composite = composite(SignalArbitrationPolicy.PRIORITY, Duration.ofMillis(100),
+                member("slow", slow),
+                member("broken", broken),
+                member("ok", fixed(SignalAction.BUY, 0.7d)));
+
+        long started = System.nanoTime();
+        SignalDecision decision = composite.evaluate(context());
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        assertThat(decision.action()).isEqualTo(SignalAction.BUY);
+        assertThat(decision.reason()).contains("slow:HOLD", "broken:HOLD", "ok:BUY");
+        assertThat(elapsedMs).isLessThan(2_000L);
+    }
+
+    @Test
+    void cycleDeadlineCutsMembersOffBeforeTheirOwnTimeout() {
+        // Verifies a cycle deadline shorter than the evaluation timeout bounds the wait and turns late members into HOLD.
+        Strategy slow = context -> {
+            try {
+                Thread.sleep(5_000L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new SignalDecision(SignalAction.SELL, 1.0d, "late", context.now(), context.symbol(), context.timeframe());
+        };
+        CompositeStrategy composite = composite(SignalArbitrationPolicy.PRIORITY, Duration.ofSeconds(10),
+                member("slow", slow),
+                member("ok", fixed(SignalAction.BUY, 0.7d)));
+
+        long started = System.nanoTime();
+        SignalDecision decision = Deadline.after(Duration.ofMillis(100)).run(() -> composite.evaluate(context()));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        assertThat(decision.action()).isEqualTo(SignalAction.BUY);
+        assertThat(decision.reason()).contains("slow:HOLD", "ok:BUY");
+        assertThat(elapsedMs).isLessThan(2_000L);
+    }
+
+    @Test
+    void exposesConfiguredStrategyIdAndRejectsDuplicateMembers() {
+        // Verifies the ensemble id is stable for cycle ids and member ids must be unique.
+        CompositeStrategy composite = composite(SignalArbitrationPolicy.PRIORITY, Duration.ofSeconds(1),
+                member("a", fixed(SignalAction.HOLD, 0.0d)));
+
+        assertThat(composite.strategyId()).isEqualTo("Ensemble");
+        assertThatThrownBy(() -> composite(SignalArbitrationPolicy.PRIORITY, Duration.ofSeconds(1),
+                member("a", fixed(SignalAction.HOLD, 0.0d)),
+                member("a", fixed(SignalAction.BUY, 0.5d))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private CompositeStrategy composite(
+            SignalArbitrationPolicy policy,
+            Duration timeout,
+            StrategyEnsembleMember... members
+    ) {
+        return new CompositeStrategy("Ensemble", List.of(members), new SignalArbiter(policy, 0.5d), executor, timeout);
+    }
+
+    private StrategyEnsembleMember member(String id, Strategy strategy) {
+        return new StrategyEnsembleMember(id, strategy, 1.0d);
+    }
+
+    private Strategy fixed(SignalAction action, double confidence) {
+        return context -> new SignalDecision(
+                action,
+                confidence,
+                action.name(),
+                context.now(),
+                context.symbol(),
+                context.timeframe()
+        );
+    }
+
+    private StrategyContext context() {
+        return new StrategyContext("KRW-BTC", List.of(), Timeframe.M1, NOW, Optional.empty());
+    }
+}
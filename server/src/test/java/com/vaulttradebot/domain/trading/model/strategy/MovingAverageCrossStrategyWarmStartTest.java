@@ -0,0 +1,89 @@
+package com.vaulttradebot.domain.trading.model.strategy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vaulttradebot.domain.common.vo.Asset;
+import com.vaulttradebot.domain.common.vo.Candle;
+import com.vaulttradebot.domain.common.vo.Price;
+import com.vaulttradebot.domain.common.vo.Timeframe;
+import com.vaulttradebot.domain.trading.model.strategy.snapshot.StrategyStateSnapshot;
+import com.vaulttradebot.domain.trading.model.strategy.vo.SignalDecision;
+import com.vaulttradebot.domain.trading.model.strategy.vo.StrategyContext;
+import com.vaulttradebot.domain.trading.vo.SignalAction;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class MovingAverageCrossStrategyWarmStartTest {
+    private static final Instant START = Instant.parse("2026-03-14T00:00:00Z");
+    private static final StrategyConfig CONFIG = new StrategyConfig("warm", 2, 3, 0, true);
+
+    @Test
+    void restoredStateSuppressesDuplicateSignalAfterRestart() {
+        // Verifies a restored BUY state debounces the same cross when the live window matches the checkpoint.
+        MovingAverageCrossStrategy beforeRestart = new MovingAverageCrossStrategy(CONFIG);
+        assertThat(beforeRestart.evaluate(context("10", "10", "10", "10", "20")).action()).isEqualTo(SignalAction.BUY);
+        List<StrategyStateSnapshot> exported = beforeRestart.exportState();
+
+        MovingAverageCrossStrategy afterRestart = new MovingAverageCrossStrategy(CONFIG);
+        int accepted = afterRestart.restoreState(exported);
+        SignalDecision decision = afterRestart.evaluate(context("10", "10", "10", "10", "20"));
+
+        assertThat(exported).hasSize(1);
+        assertThat(exported.get(0).lastClosedPrice()).isEqualByComparingTo("20");
+        assertThat(accepted).isEqualTo(1);
+        assertThat(decision.action()).isEqualTo(SignalAction.HOLD);
+        assertThat(decision.reason()).isEqualTo("DEBOUNCED_OR_COOLDOWN");
+    }
+
+    @Test
+    void restoredStateIsDiscardedWhenCandlesDisagree() {
+        // Verifies a checkpoint whose pinned candle close differs from live data is not trusted.
+        MovingAverageCrossStrategy beforeRestart = new MovingAverageCrossStrategy(CONFIG);
+        beforeRestart.evaluate(context("10", "10", "10", "10", "20"));
+
+        MovingAverageCrossStrategy afterRestart = new MovingAverageCrossStrategy(CONFIG);
+        afterRestart.restoreState(beforeRestart.exportState());
+        SignalDecision decision = afterRestart.evaluate(context("10", "10", "10", "10", "21"));
+
+        assertThat(decision.action()).isEqualTo(SignalAction.BUY);
+    }
+
+    @Test
+    void ignoresEntriesOwnedByOtherConfigsAndKeepsPendingOnExport() {
+        // Verifies only matching config ids are staged and unvalidated restores survive a checkpoint.
+        MovingAverageCrossStrategy strategy = new MovingAverageCrossStrategy(CONFIG);
+        StrategyStateSnapshot mine = snapshot("warm");
+        StrategyStateSnapshot other = snapshot("other");
+
+        int accepted = strategy.restoreState(List.of(mine, other));
+
+        assertThat(accepted).isEqualTo(1);
+        assertThat(strategy.exportState()).containsExactly(mine);
+    }
+
+    private StrategyStateSnapshot snapshot(String ownerId) {
+        return new StrategyStateSnapshot(
+                ownerId,
+                "KRW-BTC",
+                Timeframe.M1,
+                SignalAction.BUY,
+                null,
+                START,
+                new BigDecimal("20")
+        );
+    }
+
+    private StrategyContext context(String... closes) {
+        List<Candle> candles = new ArrayList<>();
+        for (int i = 0; i < closes.length; i++) {
+            Price price = Price.of(new BigDecimal(closes[i]), Asset.krw());
+            candles.add(new Candle(START.plusSeconds(60L * i), price, price, price, price, BigDecimal.ONE));
+        }
+        Instant now = START.plusSeconds(60L * closes.length);
+        return new StrategyContext("KRW-BTC", candles, Timeframe.M1, now, Optional.empty());
+    }
+}